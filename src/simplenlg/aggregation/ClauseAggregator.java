@@ -58,6 +58,8 @@ package simplenlg.aggregation;
 import java.util.ArrayList;
 import java.util.List;
 
+import simplenlg.metrics.Metric;
+import simplenlg.metrics.MetricsRecorder;
 import simplenlg.realiser.CoordinateSPhraseSpec;
 import simplenlg.realiser.SPhraseSpec;
 
@@ -141,6 +143,10 @@ public class ClauseAggregator {
 				if (result == null) {
 					result = rule.apply(sentences);
 
+					if (result != null) {
+						countApplication(rule);
+					}
+
 				} else if (result instanceof CoordinateSPhraseSpec) {
 					SPhraseSpec intermediateResult = rule
 							.apply((CoordinateSPhraseSpec) result);
@@ -148,6 +154,7 @@ public class ClauseAggregator {
 					if (intermediateResult != null
 							&& intermediateResult instanceof CoordinateSPhraseSpec) {
 						result = intermediateResult;
+						countApplication(rule);
 					}
 				}
 			}
@@ -160,4 +167,16 @@ public class ClauseAggregator {
 		return apply(sentences.toArray(new SPhraseSpec[sentences.size()]));
 	}
 
+	/*
+	 * Counts a successful application of a rule as Metric.AGGREGATION.
+	 */
+	private static void countApplication(AggregationRule rule) {
+		MetricsRecorder metrics = MetricsRecorder.getCurrent();
+
+		if (metrics.isEnabled()) {
+			metrics.increment(Metric.AGGREGATION, rule.getClass()
+					.getSimpleName());
+		}
+	}
+
 }
@@ -142,13 +142,69 @@ public abstract class Formatter {
 	 */
 	public String addDocumentMarkup(String text, String header) {
 
-		String result = text;
+		String result = addDocumentHeaderMarkup(header) + text;
+
+		return addMarkups(getDocStart(), result, getDocEnd());
+	}
+
+	// methods for documents which are written in parts. The result of
+	// addDocumentMarkup(text, header) is the concatenation of
+	// addDocumentStartMarkup() applied to the start of
+	// addDocumentHeaderMarkup(header) + text, and addDocumentEndMarkup()
+	// applied to its end, as long as the start and the end are at least
+	// getMarkupLookahead() characters long (or the whole text).
+
+	/**
+	 * apply document header markup to the title of a document
+	 * 
+	 * @param header
+	 *            title of document
+	 * @return the title with markup added, or an empty string if there is no
+	 *         title
+	 */
+	public String addDocumentHeaderMarkup(String header) {
 		if (header != null && header.length() > 0) {
-			result = addMarkups(getDocHeaderStart(), header, getDocHeaderEnd())
-					+ text;
+			return addMarkups(getDocHeaderStart(), header, getDocHeaderEnd());
 		}
 
-		return addMarkups(getDocStart(), result, getDocEnd());
+		return "";
+	}
+
+	/**
+	 * apply the start markup of a document to the start of its text
+	 * 
+	 * @param start
+	 *            the start of the document (including the title markup)
+	 * @return text with markup added
+	 */
+	public String addDocumentStartMarkup(String start) {
+		return addStartMarkup(start, getDocStart());
+	}
+
+	/**
+	 * apply the end markup of a document to the end of its text
+	 * 
+	 * @param end
+	 *            the end of the document
+	 * @return text with markup added
+	 */
+	public String addDocumentEndMarkup(String end) {
+		return addEndMarkup(end, getDocEnd());
+	}
+
+	/**
+	 * @return the number of characters at the start or end of a text which
+	 *         determine how a start or end markup is added to it
+	 */
+	public int getMarkupLookahead() {
+		int lookahead = 0;
+		for (String markup : getAbsorbableStartMarkups()) {
+			lookahead = Math.max(lookahead, markup.length());
+		}
+		for (String markup : getAbsorbableEndMarkups()) {
+			lookahead = Math.max(lookahead, markup.length());
+		}
+		return lookahead;
 	}
 
 	/**
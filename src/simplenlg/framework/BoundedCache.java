@@ -0,0 +1,359 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.framework;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache which holds a bounded number of entries, evicting those which have
+ * not been used for the longest time when it is full. It counts how many
+ * lookups it answered (hits) and how many it could not (misses), so that its
+ * size can be tuned. It is used for the items a
+ * {@link simplenlg.lexicon.Lexicon} derives or makes up, the failed lookups
+ * of a {@link simplenlg.lexicon.DBLexicon} and the phrases remembered by a
+ * {@link simplenlg.realiser.Realiser}.
+ * 
+ * <P>
+ * The entries are kept in a concurrent map, so that a cache can be shared by
+ * several threads without a lock: lookups, additions and the counters never
+ * block each other. Eviction is approximately least recently used. Each entry
+ * is stamped with the number of additions made when it was last used, and
+ * when the cache has grown beyond its capacity, one thread drops a batch of
+ * the entries with the oldest stamps (about a sixteenth of the capacity), so
+ * that the entries are not sorted on every addition. While it does so, other
+ * threads may add a few more entries than the capacity allows.
+ * 
+ * <P>
+ * Subclasses may let entries expire by overriding
+ * {@link #isStale(Object, Object)}.
+ * 
+ * @param <K>
+ *            the type of the keys
+ * @param <V>
+ *            the type of the values
+ */
+public class BoundedCache<K, V> {
+
+	/** default maximum number of entries */
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	private ConcurrentMap<K, Entry<V>> entries;
+
+	private volatile int capacity;
+
+	// incremented by each addition; entries are stamped with it when used
+	private AtomicLong clock;
+
+	private AtomicLong hits, misses;
+
+	// set while a thread evicts entries
+	private AtomicBoolean evicting;
+
+	/**
+	 * Constructs an empty cache with the default capacity.
+	 */
+	public BoundedCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty cache.
+	 * 
+	 * @param capacity
+	 *            the maximum number of entries; 0 disables the cache
+	 */
+	public BoundedCache(int capacity) {
+		this.entries = new ConcurrentHashMap<K, Entry<V>>();
+		this.clock = new AtomicLong();
+		this.hits = new AtomicLong();
+		this.misses = new AtomicLong();
+		this.evicting = new AtomicBoolean();
+		setCapacity(capacity);
+	}
+
+	/**
+	 * Looks up an entry. This counts as a hit if there is one, and as a miss
+	 * otherwise. A stale entry is removed and counts as a miss.
+	 * 
+	 * @param key
+	 *            the key
+	 * @return the value, or <code>null</code> if there is none
+	 */
+	public V get(K key) {
+		V value = lookup(key);
+
+		if (value != null) {
+			this.hits.incrementAndGet();
+		} else {
+			this.misses.incrementAndGet();
+		}
+
+		return value;
+	}
+
+	/**
+	 * Adds or replaces an entry, unless the cache is disabled.
+	 * 
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value, which must not be <code>null</code>
+	 */
+	public void put(K key, V value) {
+		if (this.capacity > 0) {
+			this.entries.put(key, new Entry<V>(value, this.clock
+					.incrementAndGet()));
+			evictIfFull();
+		}
+	}
+
+	/**
+	 * Adds an entry unless there already is one for the key. This is not
+	 * counted as a hit or miss. If several threads intern a value for the same
+	 * key at once, all of them are given the same one.
+	 * 
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value, which must not be <code>null</code>
+	 * @return the value already in the cache, or <code>value</code> if there
+	 *         was none or the cache is disabled
+	 */
+	public V intern(K key, V value) {
+		if (this.capacity == 0) {
+			return value;
+		}
+
+		Entry<V> entry = new Entry<V>(value, this.clock.incrementAndGet());
+
+		while (true) {
+			V cached = lookup(key);
+
+			if (cached != null) {
+				return cached;
+			} else if (this.entries.putIfAbsent(key, entry) == null) {
+				evictIfFull();
+				return value;
+			}
+
+			// another thread was first, or its entry is stale
+		}
+	}
+
+	/**
+	 * Removes an entry.
+	 * 
+	 * @param key
+	 *            the key
+	 * @return the value, or <code>null</code> if there was none
+	 */
+	public V remove(K key) {
+		Entry<V> entry = this.entries.remove(key);
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * Removes all entries. The counters are not affected.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * @return the number of entries, including stale ones which have not been
+	 *         removed yet
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * @return the maximum number of entries
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Sets the maximum number of entries, evicting the least recently used
+	 * ones if there are more.
+	 * 
+	 * @param capacity
+	 *            the maximum number of entries; 0 disables the cache
+	 */
+	public void setCapacity(int capacity) {
+		this.capacity = Math.max(capacity, 0);
+
+		if (this.capacity == 0) {
+			this.entries.clear();
+		} else {
+			evictIfFull();
+		}
+	}
+
+	/**
+	 * @return the number of lookups which found an entry
+	 */
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	/**
+	 * @return the number of lookups which found no entry
+	 */
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+	/**
+	 * Checks whether an entry should no longer be used. It may be called by
+	 * several threads at once. By default, entries never become stale.
+	 * 
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 * @return <code>true</code> if the entry is to be removed
+	 */
+	protected boolean isStale(K key, V value) {
+		return false;
+	}
+
+	/*
+	 * Gets an entry without counting it, removing it if it is stale.
+	 */
+	private V lookup(K key) {
+		Entry<V> entry = this.entries.get(key);
+
+		if (entry == null) {
+			return null;
+		} else if (isStale(key, entry.value)) {
+			this.entries.remove(key, entry);
+			return null;
+		}
+
+		entry.used = this.clock.get();
+		return entry.value;
+	}
+
+	/*
+	 * Drops the least recently used entries if there are more than the
+	 * capacity allows, leaving room for a sixteenth of the capacity. Only one
+	 * thread evicts at a time; the others carry on.
+	 */
+	private void evictIfFull() {
+		while (this.entries.size() > this.capacity
+				&& this.evicting.compareAndSet(false, true)) {
+			try {
+				evict(this.capacity - this.capacity / 16);
+			} finally {
+				this.evicting.set(false);
+			}
+		}
+	}
+
+	/*
+	 * Drops the entries used longest ago, until at most the given number are
+	 * left.
+	 */
+	private void evict(int size) {
+		long[] stamps = new long[this.entries.size()];
+		int count = 0;
+
+		for (Entry<V> entry : this.entries.values()) {
+			if (count == stamps.length) {
+				break;
+			}
+			stamps[count++] = entry.used;
+		}
+
+		int excess = count - size;
+
+		if (excess <= 0) {
+			return;
+		}
+
+		// the stamp of the last entry to go
+		Arrays.sort(stamps, 0, count);
+		long oldest = stamps[excess - 1];
+		Iterator<Entry<V>> entries = this.entries.values().iterator();
+
+		while (excess > 0 && entries.hasNext()) {
+			if (entries.next().used <= oldest) {
+				entries.remove();
+				excess--;
+			}
+		}
+	}
+
+	/*
+	 * A value, and when it was last used.
+	 */
+	private static class Entry<V> {
+		final V value;
+		volatile long used;
+
+		Entry(V value, long used) {
+			this.value = value;
+			this.used = used;
+		}
+	}
+}
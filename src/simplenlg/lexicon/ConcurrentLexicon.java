@@ -0,0 +1,496 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import simplenlg.exception.LexiconException;
+import simplenlg.features.Category;
+import simplenlg.lexicon.db.DBAccessor;
+import simplenlg.lexicon.db.ThreadSafeAccessor;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.lexicon.morph.MorphologicalRule;
+
+/**
+ * A version of the {@link simplenlg.lexicon.DBLexicon} which can be shared by
+ * any number of threads.
+ * 
+ * <P>
+ * Lexical items are stored in concurrent maps, so that retrieving an item which
+ * is already in the lexicon never blocks, not even while another thread is
+ * adding items. Items which are not yet in the lexicon are retrieved via the
+ * {@link simplenlg.lexicon.db.DBAccessor}, as in <code>DBLexicon</code>. Since
+ * accessors are not thread-safe, only one thread at a time talks to the
+ * accessor, unless it is a {@link simplenlg.lexicon.db.ThreadSafeAccessor}
+ * which declares itself thread-safe (e.g. an
+ * {@link simplenlg.lexicon.db.SQLAccessor} with a data source); loading all
+ * the data is always done by one thread at a time. If several threads ask for
+ * the same missing item at once, only one of them retrieves it and the others
+ * wait for its result, rather than querying the database again.
+ * 
+ * <P>
+ * IDs for items which are added without one are drawn from a counter, so that
+ * two threads adding items at the same time never receive the same ID.
+ * 
+ * <P>
+ * A <code>ConcurrentLexicon</code> should be set up (accessor, rules, lexical
+ * classes, and {@link #loadData()} if required) by a single thread, and then
+ * published to the others, e.g. via a <code>final</code> field. After that,
+ * retrieval and addition of items may happen from any thread.
+ */
+public class ConcurrentLexicon extends DBLexicon {
+
+	// items currently being retrieved via the accessor, by lookup key
+	private ConcurrentMap<String, FutureTask<Object>> pendingLoads;
+
+	// guards the accessor, unless it is thread-safe
+	private Object accessorLock;
+
+	// the lookup the current thread is running via the accessor, if any
+	private ThreadLocal<AccessorCall> currentCall;
+
+	// counter for self-generated IDs
+	private AtomicInteger nextID;
+
+	/**
+	 * Instantiates a new (empty) <code>ConcurrentLexicon</code>.
+	 */
+	public ConcurrentLexicon() {
+		super(false);
+		this.itemsByID = new ConcurrentSkipListMap<String, LexicalItem>();
+		this.itemsByBaseform = new ConcurrentSkipListMap<String, Set<String>>();
+		this.itemsByCategory = new ConcurrentSkipListMap<Category, Set<String>>();
+		this.rules = new ConcurrentSkipListMap<String, MorphologicalRule<?>>();
+		this.lexicalClasses = new ConcurrentSkipListMap<String, LexicalClass<?>>();
+		this.pendingLoads = new ConcurrentHashMap<String, FutureTask<Object>>();
+		this.accessorLock = new Object();
+		this.currentCall = new ThreadLocal<AccessorCall>();
+		this.nextID = new AtomicInteger(0);
+		loadConstants();
+	}
+
+	/**
+	 * Instantiates a new (empty) <code>ConcurrentLexicon</code> with the
+	 * specified <code>DBAccessor</code>.
+	 * 
+	 * @param accessor
+	 *            the accessor
+	 */
+	public ConcurrentLexicon(DBAccessor accessor) {
+		this();
+		setAccessor(accessor);
+	}
+
+	// ****************************************************************
+	// ADDITION
+	// ****************************************************************
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * simplenlg.lexicon.Lexicon#addItem(simplenlg.lexicon.lexicalitems.LexicalItem
+	 * )
+	 */
+	@Override
+	public void addItem(LexicalItem lex) {
+		String id = lex.getID();
+		forgetDerivedItems(lex);
+
+		if (id == null) {
+			id = putWithNewID(lex);
+			lex.setID(id);
+		} else {
+			this.itemsByID.put(id, lex);
+		}
+
+		addToIndex(this.itemsByBaseform, lex.getBaseForm(), id);
+		addToIndex(this.itemsByCategory, lex.getCategory(), id);
+		forgetFailedLookups(lex);
+	}
+
+	// ****************************************************************
+	// RETRIEVAL
+	// ****************************************************************
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.lexicon.DBLexicon#getItemByID(java.lang.String)
+	 */
+	@Override
+	public LexicalItem getItemByID(final String id) throws LexiconException {
+		LexicalItem item = this.itemsByID.get(id);
+		countLookup(item != null, ID_LOOKUP);
+
+		if (item == null && !this.allDataLoaded
+				&& !this.failedLookups.contains(idKey(id))) {
+			item = (LexicalItem) load(idKey(id), new Callable<Object>() {
+				public Object call() {
+					// it may have been added while waiting for the accessor
+					LexicalItem added = ConcurrentLexicon.this.itemsByID.get(id);
+					return added != null ? added : retrieveItemByID(id);
+				}
+			});
+		}
+
+		return item;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.lexicon.DBLexicon#getItems(java.lang.String)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Collection<LexicalItem> getItems(final String baseform)
+			throws LexiconException {
+		Collection<LexicalItem> items = findItems(baseform);
+		countLookup(!items.isEmpty(), BASEFORM_LOOKUP);
+
+		if (items.isEmpty() && !this.allDataLoaded
+				&& !this.failedLookups.contains(baseformKey(baseform))) {
+			items = (Collection<LexicalItem>) load(baseformKey(baseform),
+					new Callable<Object>() {
+						public Object call() {
+							Collection<LexicalItem> added = findItems(baseform);
+							return !added.isEmpty() ? added
+									: retrieveItems(baseform);
+						}
+					});
+		}
+
+		return items;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.lexicon.DBLexicon#getItem(simplenlg.features.Category,
+	 * java.lang.String)
+	 */
+	@Override
+	public LexicalItem getItem(final Category cat, final String baseform)
+			throws LexiconException {
+
+		if (cat == null || baseform == null) {
+			return null;
+		}
+
+		LexicalItem item = findItem(cat, baseform);
+		countLookup(item != null, cat.name());
+
+		if (item == null && !this.allDataLoaded
+				&& !this.failedLookups.contains(itemKey(cat, baseform))) {
+			item = (LexicalItem) load(itemKey(cat, baseform),
+					new Callable<Object>() {
+						public Object call() {
+							LexicalItem added = findItem(cat, baseform);
+							return added != null ? added : retrieveItem(cat,
+									baseform);
+						}
+					});
+		}
+
+		return item;
+	}
+
+	// ****************************************************************
+	// DB - RELATED METHODS
+	// ****************************************************************
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.lexicon.DBLexicon#loadData()
+	 */
+	@Override
+	public void loadData() throws LexiconException {
+		synchronized (this.accessorLock) {
+			super.loadData();
+		}
+	}
+
+	/*
+	 * Holds the accessor lock while the items are added, so that lookups
+	 * which miss an item not yet added wait, and then find it, rather than
+	 * loading it again; with a thread-safe accessor, they load it themselves.
+	 * 
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.lexicon.DBLexicon#addLoadedItems(java.util.List, boolean)
+	 */
+	@Override
+	void addLoadedItems(List<List<LexicalItem>> parts, boolean allData) {
+		synchronized (this.accessorLock) {
+			super.addLoadedItems(parts, allData);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.lexicon.DBLexicon#loadItemByID(java.lang.String)
+	 */
+	@Override
+	public void loadItemByID(String id) throws LexiconException {
+		if (isAccessorThreadSafe()) {
+			super.loadItemByID(id);
+		} else {
+			synchronized (this.accessorLock) {
+				super.loadItemByID(id);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.lexicon.DBLexicon#loadItemsByBaseform(java.lang.String)
+	 */
+	@Override
+	public void loadItemsByBaseform(String baseform) throws LexiconException {
+		if (isAccessorThreadSafe()) {
+			super.loadItemsByBaseform(baseform);
+		} else {
+			synchronized (this.accessorLock) {
+				super.loadItemsByBaseform(baseform);
+			}
+		}
+	}
+
+	// ****************************************************************
+	// UTILS
+	// ****************************************************************
+
+	/*
+	 * Runs a lookup which may have to go to the accessor. Concurrent lookups
+	 * with the same key share a single task; the task is forgotten once it has
+	 * finished, so that items added or removed later are seen by the next
+	 * lookup. Lookups made by the accessor while it retrieves an item (e.g.
+	 * of related items) run directly, since waiting for the task of another
+	 * thread, which may be waiting for this one, could deadlock.
+	 */
+	private Object load(String key, Callable<Object> lookup) {
+		if (this.currentCall.get() != null) {
+			try {
+				return new AccessorCall(lookup).call();
+			} catch (Exception e) {
+				throw loadError(e);
+			}
+		}
+
+		FutureTask<Object> task = this.pendingLoads.get(key);
+
+		if (task == null) {
+			FutureTask<Object> newTask = new FutureTask<Object>(
+					new AccessorCall(lookup));
+			task = this.pendingLoads.putIfAbsent(key, newTask);
+
+			if (task == null) {
+				task = newTask;
+
+				try {
+					task.run();
+				} finally {
+					this.pendingLoads.remove(key, task);
+				}
+			}
+		}
+
+		try {
+			return task.get();
+
+		} catch (ExecutionException e) {
+			throw loadError(e.getCause());
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new LexiconException(
+					"Interrupted while waiting for item to be retrieved: " + key);
+		}
+	}
+
+	/*
+	 * The exception thrown for a lookup which failed with the given cause
+	 */
+	private LexiconException loadError(Throwable cause) {
+		if (cause instanceof LexiconException) {
+			return (LexiconException) cause;
+		}
+
+		LexiconException ex = new LexiconException(
+				"Failed to retrieve item. Database access resulted in exception: "
+						+ cause.getClass() + " with message: "
+						+ cause.getMessage());
+		ex.setStackTrace(cause.getStackTrace());
+		return ex;
+	}
+
+	/*
+	 * Checks whether the accessor can be used without holding the lock
+	 */
+	private boolean isAccessorThreadSafe() {
+		return this.accessor instanceof ThreadSafeAccessor
+				&& ((ThreadSafeAccessor) this.accessor).isThreadSafe();
+	}
+
+	/*
+	 * Wraps a lookup so that it holds the accessor lock while it runs, unless
+	 * the accessor is thread-safe, and marks the thread as running it.
+	 */
+	private class AccessorCall implements Callable<Object> {
+
+		private Callable<Object> lookup;
+
+		AccessorCall(Callable<Object> lookup) {
+			this.lookup = lookup;
+		}
+
+		public Object call() throws Exception {
+			ThreadLocal<AccessorCall> current = ConcurrentLexicon.this.currentCall;
+			AccessorCall outer = current.get();
+			current.set(this);
+
+			try {
+				if (isAccessorThreadSafe()) {
+					return this.lookup.call();
+				}
+
+				synchronized (ConcurrentLexicon.this.accessorLock) {
+					return this.lookup.call();
+				}
+
+			} finally {
+				if (outer == null) {
+					current.remove();
+				} else {
+					current.set(outer);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Stores an item under a fresh ID. IDs already taken (e.g. by items which
+	 * came with their own ID) are skipped.
+	 */
+	@SuppressWarnings("unchecked")
+	private String putWithNewID(LexicalItem lex) {
+		ConcurrentMap<String, LexicalItem> byID = (ConcurrentMap<String, LexicalItem>) this.itemsByID;
+		String id;
+
+		do {
+			id = this.idPrefix + this.nextID.getAndIncrement();
+		} while (byID.putIfAbsent(id, lex) != null);
+
+		return id;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.lexicon.Lexicon#makeID()
+	 */
+	@Override
+	String makeID() {
+		String id;
+
+		do {
+			id = this.idPrefix + this.nextID.getAndIncrement();
+		} while (this.itemsByID.containsKey(id));
+
+		return id;
+	}
+
+	/*
+	 * Adds an ID to the set stored under the given key, creating the set if
+	 * necessary.
+	 */
+	@SuppressWarnings("unchecked")
+	private <K> void addToIndex(SortedMap<K, Set<String>> index, K key,
+			String id) {
+		ConcurrentMap<K, Set<String>> map = (ConcurrentMap<K, Set<String>>) index;
+		Set<String> ids = map.get(key);
+
+		if (ids == null) {
+			Set<String> newIDs = newIDSet();
+			ids = map.putIfAbsent(key, newIDs);
+
+			if (ids == null) {
+				ids = newIDs;
+			}
+		}
+
+		ids.add(id);
+	}
+
+	private static Set<String> newIDSet() {
+		return Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	}
+}
@@ -56,6 +56,8 @@
 package simplenlg.lexicon;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -68,6 +70,8 @@ import simplenlg.lexicon.lexicalitems.Constants;
 import simplenlg.lexicon.lexicalitems.LexicalItem;
 import simplenlg.lexicon.lexicalitems.Verb;
 import simplenlg.lexicon.verbnet.VerbnetClass;
+import simplenlg.metrics.Metric;
+import simplenlg.metrics.MetricsRecorder;
 
 /**
  * An extension of the {@link simplenlg.lexicon.Lexicon} class, implementing the
@@ -101,21 +105,42 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 	DBAccessor accessor;
 
 	// all data loaded flag -- set to true if loadData() is called
-	boolean allDataLoaded;
+	volatile boolean allDataLoaded;
 
 	Map<String, VerbnetClass> verbnetClasses;
 
+	// lookups which recently failed to find anything in the database
+	NegativeLookupCache failedLookups;
+
+	// metric labels of the lookups by id and by baseform; lookups by
+	// category and baseform are labelled with the category
+	static final String ID_LOOKUP = "ID";
+	static final String BASEFORM_LOOKUP = "BASEFORM";
+
 	/**
 	 * Instantiates a new (empty) <code>DBLexicon</code>.
 	 */
 	public DBLexicon() {
+		this(true);
+	}
+
+	/*
+	 * Instantiates a new (empty) DBLexicon. Subclasses which store items
+	 * differently pass false, and load the constants themselves once their
+	 * maps are set up.
+	 */
+	DBLexicon(boolean loadConstants) {
+		this.failedLookups = new NegativeLookupCache();
 		this.verbnetClasses = new TreeMap<String, VerbnetClass>();
 		this.itemsByID = new TreeMap<String, LexicalItem>();
 		this.itemsByBaseform = new TreeMap<String, Set<String>>();
 		this.itemsByCategory = new TreeMap<Category, Set<String>>();
 		this.idPrefix = "I";
 		this.allDataLoaded = false;
-		this.loadConstants();
+
+		if (loadConstants) {
+			this.loadConstants();
+		}
 	}
 
 	/**
@@ -215,6 +240,8 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 			throw new LexiconException("Cannot load data: No accessor set");
 		}
 
+		long start = startLoad();
+
 		try {
 			this.accessor.loadData();
 			this.allDataLoaded = true;
@@ -225,7 +252,75 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 							+ e.getClass() + " with message: " + e.getMessage());
 			le.setStackTrace(e.getStackTrace());
 			throw le;
+
+		} finally {
+			endLoad("loadData", start);
+		}
+	}
+
+	/*
+	 * Adds the items loaded by a ParallelLoader, part by part, keeping the
+	 * items which are already in the lexicon: those with the same ID, or, for
+	 * items without an ID, those of the same category and baseform which were
+	 * looked up before (other than the constant verbs every lexicon has). The items are added one by one, so a thread reading
+	 * the lexicon meanwhile may find some of them and not others; those it
+	 * misses are looked up in the database as before. Only once all items
+	 * have been added is the lexicon marked as holding all data, if all data
+	 * were loaded, so that the database is no longer consulted, as after
+	 * loadData().
+	 */
+	void addLoadedItems(List<List<LexicalItem>> parts, boolean allData) {
+		// the category and baseform of the items without ID added here
+		Set<String> added = new HashSet<String>();
+
+		for (List<LexicalItem> items : parts) {
+			for (LexicalItem item : items) {
+				if (item.getID() != null) {
+					if (!this.itemsByID.containsKey(item.getID())) {
+						addItem(item);
+					}
+					continue;
+				}
+
+				String key = itemKey(item.getCategory(), item.getBaseForm());
+
+				if (added.contains(key)
+						|| !hasLoadedItem(item.getCategory(), item.getBaseForm())) {
+					added.add(key);
+					addItem(item);
+				}
+			}
+		}
+
+		if (allData) {
+			this.allDataLoaded = true;
+		}
+	}
+
+	/*
+	 * Checks whether an item of the given category and baseform has been
+	 * loaded into the lexicon, rather than added by loadConstants()
+	 */
+	private boolean hasLoadedItem(Category cat, String baseform) {
+
+		for (LexicalItem item : findItems(baseform)) {
+			if (item.getCategory() == cat && !isConstant(item)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isConstant(LexicalItem item) {
+
+		for (Verb v : Constants.ALL_VERBS) {
+			if (v == item) {
+				return true;
+			}
 		}
+
+		return false;
 	}
 
 	/*
@@ -235,6 +330,7 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 	 * simplenlg.lexicon.DatabaseBackedLexicon#loadItemByID(java.lang.String)
 	 */
 	public void loadItemByID(String id) throws LexiconException {
+		long start = startLoad();
 
 		try {
 			this.accessor.loadItemByID(id);
@@ -245,6 +341,9 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 							+ e.getClass() + " with message: " + e.getMessage());
 			ex.setStackTrace(e.getStackTrace());
 			throw ex;
+
+		} finally {
+			endLoad("loadItemByID", start);
 		}
 	}
 
@@ -256,6 +355,7 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 	 * .String)
 	 */
 	public void loadItemsByBaseform(String baseform) throws LexiconException {
+		long start = startLoad();
 
 		try {
 			this.accessor.loadItemsByBaseform(baseform);
@@ -266,6 +366,9 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 							+ e.getClass() + " with message: " + e.getMessage());
 			ex.setStackTrace(e.getStackTrace());
 			throw ex;
+
+		} finally {
+			endLoad("loadItemsByBaseform", start);
 		}
 	}
 
@@ -289,23 +392,41 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 	@Override
 	public LexicalItem getItemByID(String id) throws LexiconException {
 		LexicalItem item = super.getItemByID(id);
+		countLookup(item != null, ID_LOOKUP);
 
-		if (item == null && !this.allDataLoaded) {
-			try {
-				loadItemByID(id);
+		if (item == null && !this.allDataLoaded
+				&& !this.failedLookups.contains(idKey(id))) {
+			item = retrieveItemByID(id);
+		}
 
-				if (this.itemsByID.containsKey(id)) {
-					item = this.itemsByID.get(id);
-				}
+		return item;
+	}
 
-			} catch (Exception e) {
-				LexiconException ex = new LexiconException(
-						"Failed to retrieve item. Database access resulted in exception: "
-								+ e.getClass() + " with message: "
-								+ e.getMessage());
-				ex.setStackTrace(e.getStackTrace());
-				throw ex;
+	/*
+	 * Retrieves the item with the given id via the accessor, remembering the
+	 * id if there is no such item.
+	 */
+	LexicalItem retrieveItemByID(String id) throws LexiconException {
+		LexicalItem item = null;
+
+		try {
+			loadItemByID(id);
+
+			if (this.itemsByID.containsKey(id)) {
+				item = this.itemsByID.get(id);
 			}
+
+		} catch (Exception e) {
+			LexiconException ex = new LexiconException(
+					"Failed to retrieve item. Database access resulted in exception: "
+							+ e.getClass() + " with message: "
+							+ e.getMessage());
+			ex.setStackTrace(e.getStackTrace());
+			throw ex;
+		}
+
+		if (item == null) {
+			this.failedLookups.add(idKey(id));
 		}
 
 		return item;
@@ -332,25 +453,39 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 	public Collection<LexicalItem> getItems(String baseform)
 			throws LexiconException {
 		Collection<LexicalItem> items = super.getItems(baseform);
+		countLookup(!items.isEmpty(), BASEFORM_LOOKUP);
 
-		if (items.isEmpty() && !this.allDataLoaded) {
-			try {
-				loadItemsByBaseform(baseform);
+		if (items.isEmpty() && !this.allDataLoaded
+				&& !this.failedLookups.contains(baseformKey(baseform))) {
+			items = retrieveItems(baseform);
+		}
 
-				if (this.itemsByBaseform.containsKey(baseform)) {
-					for (String id : this.itemsByBaseform.get(baseform)) {
-						items.add(this.itemsByID.get(id));
-					}
-				}
+		return items;
+	}
 
-			} catch (Exception e) {
-				LexiconException ex = new LexiconException(
-						"Failed to retrieve item. Database access resulted in exception: "
-								+ e.getClass() + " with message: "
-								+ e.getMessage());
-				ex.setStackTrace(e.getStackTrace());
-				throw ex;
-			}
+	/*
+	 * Retrieves the items with the given baseform via the accessor,
+	 * remembering the baseform if there are none.
+	 */
+	Collection<LexicalItem> retrieveItems(String baseform)
+			throws LexiconException {
+		Collection<LexicalItem> items;
+
+		try {
+			loadItemsByBaseform(baseform);
+			items = findItems(baseform);
+
+		} catch (Exception e) {
+			LexiconException ex = new LexiconException(
+					"Failed to retrieve item. Database access resulted in exception: "
+							+ e.getClass() + " with message: "
+							+ e.getMessage());
+			ex.setStackTrace(e.getStackTrace());
+			throw ex;
+		}
+
+		if (items.isEmpty()) {
+			this.failedLookups.add(baseformKey(baseform));
 		}
 
 		return items;
@@ -381,36 +516,192 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 		}
 
 		LexicalItem item = super.getItem(cat, baseform);
+		countLookup(item != null, cat.name());
 
-		if (item == null && !this.allDataLoaded) {
-			try {
-				this.accessor.loadItem(cat, baseform);
+		if (item == null && !this.allDataLoaded
+				&& !this.failedLookups.contains(itemKey(cat, baseform))) {
+			item = retrieveItem(cat, baseform);
+		}
 
-				if (this.itemsByBaseform.containsKey(baseform)) {
-					for (String id : this.itemsByBaseform.get(baseform)) {
-						if (this.itemsByID.get(id).getCategory() == cat) {
-							item = this.itemsByID.get(id);
-						}
+		return item;
+	}
+
+	/*
+	 * Retrieves the item with the given category and baseform via the
+	 * accessor, remembering the pair if there is no such item.
+	 */
+	LexicalItem retrieveItem(Category cat, String baseform)
+			throws LexiconException {
+		LexicalItem item = null;
+		long start = startLoad();
+
+		try {
+			this.accessor.loadItem(cat, baseform);
+
+			if (this.itemsByBaseform.containsKey(baseform)) {
+				for (String id : this.itemsByBaseform.get(baseform)) {
+					if (this.itemsByID.get(id).getCategory() == cat) {
+						item = this.itemsByID.get(id);
 					}
 				}
-
-			} catch (Exception e) {
-				LexiconException ex = new LexiconException(
-						"Failed to retrieve item. Database access resulted in exception: "
-								+ e.getClass() + " with message: "
-								+ e.getMessage());
-				ex.setStackTrace(e.getStackTrace());
-				throw ex;
 			}
+
+		} catch (Exception e) {
+			LexiconException ex = new LexiconException(
+					"Failed to retrieve item. Database access resulted in exception: "
+							+ e.getClass() + " with message: "
+							+ e.getMessage());
+			ex.setStackTrace(e.getStackTrace());
+			throw ex;
+
+		} finally {
+			endLoad("loadItem", start);
+		}
+
+		if (item == null) {
+			this.failedLookups.add(itemKey(cat, baseform));
 		}
 
 		return item;
 	}
 
+	/*
+	 * Adds the item and forgets any failed lookups which would now find it.
+	 * 
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * simplenlg.lexicon.Lexicon#addItem(simplenlg.lexicon.lexicalitems.LexicalItem
+	 * )
+	 */
+	@Override
+	public void addItem(LexicalItem lex) {
+		super.addItem(lex);
+		forgetFailedLookups(lex);
+	}
+
+	// ****************************************************************
+	// NEGATIVE LOOKUP CACHE
+	// ****************************************************************
+
+	/**
+	 * Sets the maximum number of failed lookups (by category and baseform, by
+	 * baseform, or by id) which this lexicon remembers. As long as a failed
+	 * lookup is remembered, looking up the same item again does not access the
+	 * database. When the limit is reached, the entries used least recently are
+	 * dropped. A size of 0 switches this off. The default is
+	 * {@value simplenlg.framework.BoundedCache#DEFAULT_CAPACITY}.
+	 * 
+	 * @param size
+	 *            the maximum number of failed lookups to remember
+	 */
+	public void setFailedLookupCacheSize(int size) {
+		this.failedLookups.setCapacity(size);
+	}
+
+	/**
+	 * @return the maximum number of failed lookups remembered by this lexicon
+	 */
+	public int getFailedLookupCacheSize() {
+		return this.failedLookups.getCapacity();
+	}
+
+	/**
+	 * Sets the time after which a failed lookup is forgotten, so that items
+	 * added to the database in the meantime are found. The default is ten
+	 * minutes.
+	 * 
+	 * @param millis
+	 *            the time in milliseconds
+	 */
+	public void setFailedLookupExpiry(long millis) {
+		this.failedLookups.setExpiry(millis);
+	}
+
+	/**
+	 * @return the time in milliseconds after which a failed lookup is
+	 *         forgotten
+	 */
+	public long getFailedLookupExpiry() {
+		return this.failedLookups.getExpiry();
+	}
+
+	/**
+	 * @return the number of lookups which were answered from the cache of
+	 *         failed lookups, without accessing the database
+	 */
+	public long getFailedLookupCacheHits() {
+		return this.failedLookups.getHits();
+	}
+
+	/**
+	 * @return the number of lookups which were not in the cache of failed
+	 *         lookups, and were passed on to the database
+	 */
+	public long getFailedLookupCacheMisses() {
+		return this.failedLookups.getMisses();
+	}
+
+	/*
+	 * Forgets the failed lookups for the category and baseform, the baseform
+	 * and the id of an item which has just been added.
+	 */
+	void forgetFailedLookups(LexicalItem lex) {
+		this.failedLookups.remove(itemKey(lex.getCategory(), lex.getBaseForm()));
+		this.failedLookups.remove(baseformKey(lex.getBaseForm()));
+		this.failedLookups.remove(idKey(lex.getID()));
+	}
+
+	/*
+	 * Keys for the three kinds of lookup. Category names are upper case, so
+	 * these never clash.
+	 */
+	static String itemKey(Category cat, String baseform) {
+		return cat + ":" + baseform;
+	}
+
+	static String baseformKey(String baseform) {
+		return "base:" + baseform;
+	}
+
+	static String idKey(String id) {
+		return "id:" + id;
+	}
+
+	/*
+	 * Counts a lookup as Metric.LEXICON_HIT if it was answered from memory,
+	 * and as Metric.LEXICON_MISS otherwise.
+	 */
+	static void countLookup(boolean hit, String label) {
+		MetricsRecorder.getCurrent().increment(
+				hit ? Metric.LEXICON_HIT : Metric.LEXICON_MISS, label);
+	}
+
+	/*
+	 * Gets the time at which a call to the accessor starts, or 0 if no
+	 * metrics are taken.
+	 */
+	static long startLoad() {
+		return (MetricsRecorder.getCurrent().isEnabled() ? System.nanoTime() : 0);
+	}
+
+	/*
+	 * Records the time taken by a call to the accessor as
+	 * Metric.LEXICON_LOAD, labelled with the accessor class and the method.
+	 */
+	void endLoad(String method, long start) {
+		MetricsRecorder metrics = MetricsRecorder.getCurrent();
+
+		if (start != 0 && metrics.isEnabled()) {
+			metrics.recordTime(Metric.LEXICON_LOAD, this.accessor.getClass()
+					.getSimpleName() + "." + method, System.nanoTime() - start);
+		}
+	}
+
 	/**
 	 * Loads lexical items defined in {@link simplenlg.lexicon.lexicalitems.Constants}.
 	 */
-	private void loadConstants() {
+	void loadConstants() {
 		for (Verb v : Constants.ALL_VERBS) {
 			v.setParentLexicon(this);
 		}
@@ -449,6 +740,7 @@ public class DBLexicon extends Lexicon implements DatabaseBackedLexicon {
 	public void reset() {
 		super.reset();
 		this.allDataLoaded = false;
+		this.failedLookups.clear();
 	}
 
 	/*
@@ -60,6 +60,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 
 import simplenlg.exception.LexiconException;
@@ -73,6 +74,7 @@ import simplenlg.features.Person;
 import simplenlg.features.Quantification;
 import simplenlg.features.Tense;
 import simplenlg.features.VerbType;
+import simplenlg.framework.BoundedCache;
 import simplenlg.lexicon.lexicalitems.Adjective;
 import simplenlg.lexicon.lexicalitems.Conjunction;
 import simplenlg.lexicon.lexicalitems.Constants;
@@ -136,23 +138,32 @@ import simplenlg.realiser.SPhraseSpec;
 public class Lexicon implements LexiconInterface {
 
 	// map from unique ID to a lexical item
-	TreeMap<String, LexicalItem> itemsByID;
+	SortedMap<String, LexicalItem> itemsByID;
 
 	// map from baseform to set of lexical items
-	TreeMap<String, Set<String>> itemsByBaseform;
+	SortedMap<String, Set<String>> itemsByBaseform;
 
 	// map from category to set of lexical items
-	TreeMap<Category, Set<String>> itemsByCategory;
+	SortedMap<Category, Set<String>> itemsByCategory;
 
 	// morphological rules
-	TreeMap<String, MorphologicalRule<?>> rules;
+	SortedMap<String, MorphologicalRule<?>> rules;
 
 	// lexical classes
-	TreeMap<String, LexicalClass<?>> lexicalClasses;
+	SortedMap<String, LexicalClass<?>> lexicalClasses;
 
 	// prefix to use for self-generated IDs
 	String idPrefix;
 
+	// counter for self-generated IDs
+	int idCounter;
+
+	// complex verbs and compound nouns, by lookup key
+	BoundedCache<String, LexicalItem> derivedItems;
+
+	// items made up for unknown words, by lookup key
+	BoundedCache<String, LexicalItem> learnedItems;
+
 	/**
 	 * Creates a new instance of <code>Lexicon</code>. The constructor loads a
 	 * list of verb exceptions and symbols at construction time. These are found
@@ -165,6 +176,8 @@ public class Lexicon implements LexiconInterface {
 		this.rules = new TreeMap<String, MorphologicalRule<?>>();
 		this.lexicalClasses = new TreeMap<String, LexicalClass<?>>();
 		this.idPrefix = "I";
+		this.derivedItems = new BoundedCache<String, LexicalItem>();
+		this.learnedItems = new BoundedCache<String, LexicalItem>();
 
 		// now, add stuff
 //		addAuxVerbs();
@@ -253,6 +266,8 @@ public class Lexicon implements LexiconInterface {
 		String word = lex.getBaseForm();
 		String id = lex.getID();
 
+		forgetDerivedItems(lex);
+
 		if (id == null) {
 			id = makeID();
 			lex.setID(id);
@@ -289,6 +304,14 @@ public class Lexicon implements LexiconInterface {
 	 * @see simplenlg.lexicon.LexiconInterface#getItems(java.lang.String)
 	 */
 	public Collection<LexicalItem> getItems(String base) {
+		return findItems(base);
+	}
+
+	/*
+	 * Looks up the items with the given baseform in the maps of this lexicon,
+	 * without trying to retrieve them from anywhere else.
+	 */
+	Collection<LexicalItem> findItems(String base) {
 		List<LexicalItem> items = new ArrayList<LexicalItem>();
 
 		if (this.itemsByBaseform.containsKey(base)) {
@@ -313,6 +336,15 @@ public class Lexicon implements LexiconInterface {
 			return null;
 		}
 
+		return findItem(cat, base);
+	}
+
+	/*
+	 * Looks up the item with the given category and baseform in the maps of
+	 * this lexicon, without trying to retrieve it from anywhere else.
+	 */
+	LexicalItem findItem(Category cat, String base) {
+
 		if (this.itemsByBaseform.containsKey(base)) {
 			for (String id : this.itemsByBaseform.get(base)) {
 				LexicalItem lex = this.itemsByID.get(id);
@@ -345,12 +377,23 @@ public class Lexicon implements LexiconInterface {
 	 * be separated using the "|" character, while additional elements separated by 
 	 * a whitespace are automatically recognized.
 	 * 
+	 * <p>The verb is interned (see {@link #setDerivedItemCacheSize(int)}), so it is
+	 * shared by all callers asking for the same complex verb. It is therefore
+	 * frozen (see {@link simplenlg.lexicon.lexicalitems.Word#freeze()}), and
+	 * must be cloned to be changed.</p>
+	 * 
 	 * @param base
 	 * 				The complex verb cluster (e.g. "Gassi gehen" or "herbei|führen")
 	 * @return
 	 * 				The corresponding verb object
 	 */
 	public Verb getComplexVerb(String base) {
+		String key = Category.VERB + ":" + base;
+		Verb interned = (Verb) this.derivedItems.get(key);
+		if (interned != null) {
+			return interned;
+		}
+
 		Verb verb;
 		String mainVerb = base;
 		String prefix = "";
@@ -374,11 +417,31 @@ public class Lexicon implements LexiconInterface {
 		}
 		Verb cloneVerb = (Verb) verb.clone();
 		cloneVerb.setVerbPrefix(prefix);
+		cloneVerb.freeze();
 		
-		return cloneVerb;
+		return (Verb) this.derivedItems.intern(key, cloneVerb);
 	}
 	
+	/**
+	 * Builds a compound noun, e.g. "Wetterbericht", from an existing lexicon
+	 * entry for its head (e.g. "Bericht"). The parts of the compound must be
+	 * separated using the "|" character (e.g. "Wetter|bericht").
+	 * 
+	 * <p>Like a complex verb (see {@link #getComplexVerb(String)}), the noun is
+	 * interned and frozen, and must be cloned to be changed.</p>
+	 * 
+	 * @param compound
+	 * 				The compound (e.g. "Wetter|bericht")
+	 * @return
+	 * 				The corresponding noun object
+	 */
 	public Noun getCompoundNoun(String compound) {
+		String key = Category.NOUN + ":" + compound;
+		Noun interned = (Noun) this.derivedItems.get(key);
+		if (interned != null) {
+			return interned;
+		}
+
 		Noun noun;
 		String mainNoun = compound;
 		String prefix = "";
@@ -393,8 +456,61 @@ public class Lexicon implements LexiconInterface {
 		noun = (Noun) getNoun(mainNoun);
 		Noun cloneNoun = (Noun) noun.clone();
 		cloneNoun.makeCompound(prefix);
+		cloneNoun.freeze();
 		
-		return cloneNoun;
+		return (Noun) this.derivedItems.intern(key, cloneNoun);
+	}
+	
+	/**
+	 * Sets the maximum number of complex verbs and compound nouns which this
+	 * lexicon interns, so that looking up the same compound again returns the
+	 * same item rather than a new copy of its base entry. When the limit is
+	 * reached, the items used least recently are dropped. A size of 0 switches this off, so
+	 * that every lookup returns a new item. The default is
+	 * {@value simplenlg.framework.BoundedCache#DEFAULT_CAPACITY}.
+	 * 
+	 * @param size
+	 *            the maximum number of items to intern
+	 */
+	public void setDerivedItemCacheSize(int size) {
+		this.derivedItems.setCapacity(size);
+	}
+
+	/**
+	 * @return the maximum number of complex verbs and compound nouns interned
+	 *         by this lexicon
+	 */
+	public int getDerivedItemCacheSize() {
+		return this.derivedItems.getCapacity();
+	}
+
+	/**
+	 * @return the number of lookups of complex verbs and compound nouns which
+	 *         returned an interned item
+	 */
+	public long getDerivedItemCacheHits() {
+		return this.derivedItems.getHits();
+	}
+
+	/**
+	 * @return the number of lookups of complex verbs and compound nouns which
+	 *         had to build a new item
+	 */
+	public long getDerivedItemCacheMisses() {
+		return this.derivedItems.getMisses();
+	}
+
+	/*
+	 * Forgets the interned complex verbs and compound nouns if an item is
+	 * added which may replace an entry they were derived from, i.e. one with
+	 * an id or a category and baseform which is already in the lexicon.
+	 */
+	void forgetDerivedItems(LexicalItem lex) {
+		if (this.derivedItems.size() > 0
+				&& ((lex.getID() != null && this.itemsByID.containsKey(lex.getID()))
+						|| findItem(lex.getCategory(), lex.getBaseForm()) != null)) {
+			this.derivedItems.clear();
+		}
 	}
 	
 	/*
@@ -512,8 +628,8 @@ public class Lexicon implements LexiconInterface {
 	 * <code>word</code>. If that is the case, it returns the plural form by
 	 * calling {@link simplenlg.lexicon.lexicalitems.Noun#getPlural()} from the
 	 * <code>Noun</code>. If not, it creates a new instance of <code>Noun</code>
-	 * , which gets stored in this instance of <code>Lexicon</code>, returning
-	 * the plural form.
+	 * , which is kept among the learned items of this <code>Lexicon</code>
+	 * (see {@link #setLearnedItemCacheSize(int)}), returning the plural form.
 	 * 
 	 * @param word
 	 *            The baseform of some word that needs to be pluralised
@@ -524,8 +640,7 @@ public class Lexicon implements LexiconInterface {
 		Noun n = (Noun) getItem(Category.NOUN, word);
 
 		if (n == null) {
-			n = new Noun(word);
-			addItem(n);
+			n = (Noun) learnItem(Category.NOUN, word);
 		}
 
 		return n.getForm(Case.NOMINATIVE, NumberAgr.PLURAL);
@@ -538,7 +653,7 @@ public class Lexicon implements LexiconInterface {
 	 * the case, it returns the comparative form by calling
 	 * {@link simplenlg.lexicon.lexicalitems.Adjective#getComparative()} from
 	 * the <code>Adjective</code>. If not, it creates a new instance of
-	 * <code>Adjective</code>, which gets stored in this instance of
+	 * <code>Adjective</code>, which is kept among the learned items of this
 	 * <code>Lexicon</code>, returning the comparative form.
 	 * 
 	 * <br>
@@ -556,8 +671,7 @@ public class Lexicon implements LexiconInterface {
 		Adjective a = (Adjective) getItem(Category.ADJECTIVE, word);
 
 		if (a == null) {
-			a = new Adjective(word);
-			addItem(a);
+			a = (Adjective) learnItem(Category.ADJECTIVE, word);
 		}
 
 		return a.getComparative();
@@ -570,7 +684,7 @@ public class Lexicon implements LexiconInterface {
 	 * the case, it returns the superlative form by calling
 	 * {@link simplenlg.lexicon.lexicalitems.Adjective#getSuperlative()} from
 	 * the <code>Adjective</code>. If not, it creates a new instance of
-	 * <code>Adjective</code>, which gets stored in this instance of
+	 * <code>Adjective</code>, which is kept among the learned items of this
 	 * <code>Lexicon</code>, returning the superlative form.
 	 * 
 	 * <BR>
@@ -588,8 +702,7 @@ public class Lexicon implements LexiconInterface {
 		Adjective a = (Adjective) getItem(Category.ADJECTIVE, word);
 
 		if (a == null) {
-			a = new Adjective(word);
-			addItem(a);
+			a = (Adjective) learnItem(Category.ADJECTIVE, word);
 		}
 
 		return a.getSuperlative();
@@ -603,8 +716,8 @@ public class Lexicon implements LexiconInterface {
 	 * case, it returns the past participle by calling
 	 * {@link simplenlg.lexicon.lexicalitems.Verb#getPastParticiple()} from the
 	 * <code>Verb</code>. If not, it creates a new instance of <code>Verb</code>
-	 * , which gets stored in this instance of <code>Lexicon</code>, and returns
-	 * the past participle form.
+	 * , which is kept among the learned items of this <code>Lexicon</code>,
+	 * and returns the past participle form.
 	 * 
 	 * @param word
 	 *            The baseform of some verb
@@ -616,8 +729,7 @@ public class Lexicon implements LexiconInterface {
 		Verb v = (Verb) getItem(Category.VERB, word);
 
 		if (v == null) {
-			v = new Verb(word);
-			addItem(v);
+			v = (Verb) learnItem(Category.VERB, word);
 		}
 
 		return v.getPastParticiple();
@@ -631,7 +743,7 @@ public class Lexicon implements LexiconInterface {
 	 * case, it returns the "ing" form by calling
 	 * {@link simplenlg.lexicon.lexicalitems.Verb#getPresentParticiple()} from
 	 * the <code>Verb</code>. If not, it creates a new instance of
-	 * <code>Verb</code>, which gets stored in this instance of
+	 * <code>Verb</code>, which is kept among the learned items of this
 	 * <code>Lexicon</code>, and returns the "ing" form.
 	 * 
 	 * @param word
@@ -644,8 +756,7 @@ public class Lexicon implements LexiconInterface {
 		Verb v = (Verb) getItem(Category.VERB, word);
 
 		if (v == null) {
-			v = new Verb(word);
-			addItem(v);
+			v = (Verb) learnItem(Category.VERB, word);
 		}
 
 		return v.getPresentParticiple();
@@ -675,6 +786,75 @@ public class Lexicon implements LexiconInterface {
 		return getPresentParticiple(word);
 	}
 
+	/*
+	 * Gets the item made up for a word of the given category which is not in
+	 * the lexicon, creating it if necessary. The item gets an ID, but is not
+	 * added to the lexicon.
+	 */
+	LexicalItem learnItem(Category cat, String word) {
+		String key = cat + ":" + word;
+		LexicalItem item = this.learnedItems.get(key);
+
+		if (item == null) {
+			if (cat == Category.ADJECTIVE) {
+				item = new Adjective(word);
+			} else {
+				item = Lexicon.makeLexicalItem(cat, word);
+			}
+
+			item.setID(makeID());
+			item = this.learnedItems.intern(key, item);
+		}
+
+		return item;
+	}
+
+	/**
+	 * Sets the maximum number of items which this lexicon makes up for unknown
+	 * words, e.g. in {@link #getPlural(String)}, and keeps for later use. These
+	 * items are not added to the lexicon, so that it does not grow with every
+	 * new word. When the limit is reached, the items used least recently are
+	 * dropped. A size of 0 switches this off, so that an item is made up every
+	 * time. The default is
+	 * {@value simplenlg.framework.BoundedCache#DEFAULT_CAPACITY}.
+	 * 
+	 * @param size
+	 *            the maximum number of learned items to keep
+	 */
+	public void setLearnedItemCacheSize(int size) {
+		this.learnedItems.setCapacity(size);
+	}
+
+	/**
+	 * @return the maximum number of learned items kept by this lexicon
+	 */
+	public int getLearnedItemCacheSize() {
+		return this.learnedItems.getCapacity();
+	}
+
+	/**
+	 * @return the number of learned items currently kept by this lexicon
+	 */
+	public int getNumberOfLearnedItems() {
+		return this.learnedItems.size();
+	}
+
+	/**
+	 * @return the number of lookups of unknown words which were answered by a
+	 *         learned item
+	 */
+	public long getLearnedItemCacheHits() {
+		return this.learnedItems.getHits();
+	}
+
+	/**
+	 * @return the number of lookups of unknown words for which a new item had
+	 *         to be made up
+	 */
+	public long getLearnedItemCacheMisses() {
+		return this.learnedItems.getMisses();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -755,8 +935,7 @@ public class Lexicon implements LexiconInterface {
 		if (hasItem(Category.VERB, v)) {
 			verb = (Verb) getItem(Category.VERB, v);
 		} else {
-			verb = new Verb(v);
-			addItem(verb);
+			verb = (Verb) learnItem(Category.VERB, v);
 		}
 
 		// mmb:
@@ -792,6 +971,8 @@ public class Lexicon implements LexiconInterface {
 		this.itemsByBaseform.clear();
 		this.itemsByID.clear();
 		this.itemsByCategory.clear();
+		this.derivedItems.clear();
+		this.learnedItems.clear();
 	}
 
 	public void addLexicalClass(LexicalClass<?> lexClass) {
@@ -844,10 +1025,17 @@ public class Lexicon implements LexiconInterface {
 	
 	/*
 	 * Constructs an ID for a lexical entry, just in case it doesn't have one.
+	 * IDs already taken (e.g. by items which came with their own ID) are
+	 * skipped, and an ID is never handed out twice.
 	 */
-	private String makeID() {
-		String number = String.valueOf(getNumberOfItems());
-		return this.idPrefix + number;
+	String makeID() {
+		String id;
+
+		do {
+			id = this.idPrefix + this.idCounter++;
+		} while (this.itemsByID.containsKey(id));
+
+		return id;
 	}
 
 }
@@ -0,0 +1,145 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon;
+
+import simplenlg.framework.BoundedCache;
+
+/**
+ * Remembers lookups for which the database of a
+ * {@link simplenlg.lexicon.DBLexicon} returned nothing, so that a word which
+ * is not in the database (a proper name, a number, a product code) does not
+ * cause a new database query every time it is looked up.
+ * 
+ * <P>
+ * The cache holds a bounded number of entries, evicting the least recently
+ * used ones when it is full, and an entry expires after a fixed time,
+ * so that items added to the database later on are eventually found. It also
+ * counts how many lookups it answered (hits) and how many it had to pass on to
+ * the database (misses).
+ * 
+ * <P>
+ * Like any {@link simplenlg.framework.BoundedCache}, it can be used by several
+ * threads at once, as it is by the {@link simplenlg.lexicon.ConcurrentLexicon}.
+ */
+class NegativeLookupCache extends BoundedCache<String, Long> {
+
+	/** default time after which an entry expires (ten minutes) */
+	static final long DEFAULT_EXPIRY = 10 * 60 * 1000L;
+
+	private volatile long expiryNanos;
+
+	/**
+	 * Constructs an empty cache with the default capacity and expiry time.
+	 */
+	NegativeLookupCache() {
+		this(DEFAULT_CAPACITY, DEFAULT_EXPIRY);
+	}
+
+	/**
+	 * Constructs an empty cache.
+	 * 
+	 * @param capacity
+	 *            the maximum number of entries; 0 disables the cache
+	 * @param expiry
+	 *            the time in milliseconds after which an entry expires
+	 */
+	NegativeLookupCache(int capacity, long expiry) {
+		super(capacity);
+		setExpiry(expiry);
+	}
+
+	/**
+	 * Checks whether a lookup is known to have failed recently. This counts as
+	 * a hit if it is, and as a miss otherwise.
+	 * 
+	 * @param key
+	 *            the lookup key
+	 * @return <code>true</code> if the lookup failed less than the expiry time
+	 *         ago
+	 */
+	boolean contains(String key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Records a failed lookup.
+	 * 
+	 * @param key
+	 *            the lookup key
+	 */
+	void add(String key) {
+		put(key, Long.valueOf(System.nanoTime()));
+	}
+
+	long getExpiry() {
+		return this.expiryNanos / 1000000L;
+	}
+
+	void setExpiry(long expiry) {
+		this.expiryNanos = expiry * 1000000L;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.framework.BoundedCache#isStale(java.lang.Object,
+	 * java.lang.Object)
+	 */
+	@Override
+	protected boolean isStale(String key, Long recorded) {
+		return System.nanoTime() - recorded.longValue() >= this.expiryNanos;
+	}
+}
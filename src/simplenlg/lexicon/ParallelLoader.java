@@ -0,0 +1,328 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import simplenlg.exception.LexiconException;
+import simplenlg.features.Category;
+import simplenlg.lexicon.db.DBAccessor;
+import simplenlg.lexicon.db.DataPartition;
+import simplenlg.lexicon.db.PartitionedAccessor;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+
+/**
+ * Loads the data of a {@link simplenlg.lexicon.DBLexicon} with several
+ * threads, rather than one category after another.
+ * 
+ * <P>
+ * The accessor of the lexicon splits the data into parts (see
+ * {@link simplenlg.lexicon.db.PartitionedAccessor}): the
+ * {@link simplenlg.lexicon.db.SQLAccessor} loads each category over a
+ * connection of its own, and the {@link simplenlg.lexicon.db.XMLAccessor} and
+ * {@link simplenlg.lexicon.db.BinaryAccessor} split the items of the file into
+ * ranges which are parsed separately. Each part is loaded into a private
+ * lexicon by one of the threads. Once all parts have been loaded, their items
+ * are added to the lexicon, in the order of the parts, so that the result is
+ * the same as loading the data with a single thread. If any part fails,
+ * nothing is added. Items which are already in the lexicon are kept.
+ * 
+ * <P>
+ * The items are added one after another, not all at once: a thread reading
+ * the lexicon meanwhile may find some of them but not yet others, and looks
+ * the others up in the database, as it would before the load. A
+ * {@link simplenlg.lexicon.ConcurrentLexicon} with an accessor which is not
+ * thread-safe makes such lookups wait until all items have been added.
+ * 
+ * <P>
+ * If the accessor cannot split its data, it is loaded by the calling thread.
+ * 
+ * <P>
+ * Example:
+ * 
+ * <pre>
+ * DBLexicon lexicon = new DBLexicon(new XMLAccessor(file));
+ * new ParallelLoader(4).loadData(lexicon);
+ * </pre>
+ */
+public class ParallelLoader {
+
+	// the pool to run the parts in, or null to create one for every load
+	private ExecutorService executor;
+
+	private int threads;
+
+	/**
+	 * Instantiates a new <code>ParallelLoader</code>, which loads data with
+	 * the given number of threads. The threads are started for every load,
+	 * and stopped once it has finished.
+	 * 
+	 * @param threads
+	 *            the number of threads, at least 1
+	 */
+	public ParallelLoader(int threads) {
+		this(null, threads);
+	}
+
+	/**
+	 * Instantiates a new <code>ParallelLoader</code>, which loads data with
+	 * the threads of an existing pool. The pool is not shut down by the loader.
+	 * 
+	 * @param executor
+	 *            the pool
+	 * @param threads
+	 *            the number of threads of the pool which should be used, at
+	 *            least 1; this determines how many parts the data are split
+	 *            into
+	 */
+	public ParallelLoader(ExecutorService executor, int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException(
+					"Number of threads must be positive: " + threads);
+		}
+
+		this.executor = executor;
+		this.threads = threads;
+	}
+
+	/**
+	 * @return the number of threads used to load data
+	 */
+	public int getThreads() {
+		return this.threads;
+	}
+
+	/**
+	 * Loads all the data in the database of the lexicon, as
+	 * {@link simplenlg.lexicon.DBLexicon#loadData()} does.
+	 * 
+	 * @param lexicon
+	 *            the lexicon
+	 * @throws LexiconException
+	 *             if the lexicon has no accessor, or the accessor encounters
+	 *             an error during loading
+	 */
+	public void loadData(DBLexicon lexicon) throws LexiconException {
+		loadData(lexicon, new Category[0]);
+	}
+
+	/**
+	 * Loads the data of the given categories in the database of the lexicon.
+	 * 
+	 * @param lexicon
+	 *            the lexicon
+	 * @param categories
+	 *            the categories to load, or none for all the data
+	 * @throws LexiconException
+	 *             if the lexicon has no accessor, or the accessor encounters
+	 *             an error during loading
+	 */
+	public void loadData(DBLexicon lexicon, Category... categories)
+			throws LexiconException {
+
+		if (!lexicon.hasAccessor()) {
+			throw new LexiconException("Cannot load data: No accessor set");
+		}
+
+		DBAccessor accessor = lexicon.getAccessor();
+
+		if (!(accessor instanceof PartitionedAccessor)) {
+			loadSequentially(lexicon, categories);
+			return;
+		}
+
+		List<List<LexicalItem>> items;
+
+		try {
+			items = loadParts(((PartitionedAccessor) accessor).partition(
+					this.threads, categories));
+
+		} catch (ExecutionException e) {
+			throw loadError(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw loadError(e);
+		} catch (Exception e) {
+			throw loadError(e);
+		}
+
+		lexicon.addLoadedItems(items, categories.length == 0);
+	}
+
+	/*
+	 * Loads each part into a lexicon of its own, and returns the items of the
+	 * parts once all of them have been loaded.
+	 */
+	private List<List<LexicalItem>> loadParts(List<DataPartition> parts)
+			throws InterruptedException, ExecutionException {
+		List<List<LexicalItem>> items = new ArrayList<List<LexicalItem>>();
+
+		if (parts.isEmpty()) {
+			return items;
+		}
+
+		ExecutorService pool = this.executor;
+
+		if (pool == null) {
+			pool = Executors.newFixedThreadPool(Math.min(this.threads, parts
+					.size()));
+		}
+
+		List<Future<List<LexicalItem>>> results = new ArrayList<Future<List<LexicalItem>>>();
+
+		try {
+			for (final DataPartition part : parts) {
+				results.add(pool.submit(new Callable<List<LexicalItem>>() {
+					public List<LexicalItem> call() throws Exception {
+						StagingLexicon staging = new StagingLexicon();
+						part.loadInto(staging);
+						return staging.loadedItems;
+					}
+				}));
+			}
+
+			for (Future<List<LexicalItem>> result : results) {
+				items.add(result.get());
+			}
+
+		} finally {
+			// stop the remaining parts if one of them failed
+			for (Future<List<LexicalItem>> result : results) {
+				result.cancel(true);
+			}
+
+			if (pool != this.executor) {
+				pool.shutdownNow();
+			}
+		}
+
+		return items;
+	}
+
+	/*
+	 * Loads the data via the accessor of the lexicon, with the calling thread
+	 */
+	private void loadSequentially(DBLexicon lexicon, Category... categories)
+			throws LexiconException {
+
+		if (categories.length == 0) {
+			lexicon.loadData();
+			return;
+		}
+
+		try {
+			lexicon.getAccessor().loadData(categories);
+
+		} catch (Exception e) {
+			throw loadError(e);
+		}
+	}
+
+	private static LexiconException loadError(Throwable e) {
+		LexiconException le = new LexiconException(
+				"Cannot load data. DBAccessor threw the following exception: "
+						+ e.getClass() + " with message: " + e.getMessage());
+		le.setStackTrace(e.getStackTrace());
+		return le;
+	}
+
+	/*
+	 * The lexicon a part is loaded into, which remembers the items added to it
+	 * in order. Items without an ID are not given one here, since the IDs are
+	 * only assigned by the lexicon the items are finally added to.
+	 */
+	private static class StagingLexicon extends DBLexicon {
+
+		List<LexicalItem> loadedItems;
+
+		StagingLexicon() {
+			super(false);
+			this.loadedItems = new ArrayList<LexicalItem>();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see
+		 * simplenlg.lexicon.DBLexicon#addItem(simplenlg.lexicon.lexicalitems
+		 * .LexicalItem)
+		 */
+		@Override
+		public void addItem(LexicalItem lex) {
+			String id = lex.getID();
+
+			if (id == null) {
+				this.loadedItems.add(lex);
+				return;
+			}
+
+			LexicalItem old = this.itemsByID.get(id);
+			super.addItem(lex);
+
+			if (old == null) {
+				this.loadedItems.add(lex);
+			} else if (old != lex) {
+				this.loadedItems.set(this.loadedItems.indexOf(old), lex);
+			}
+		}
+	}
+}
@@ -0,0 +1,334 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import simplenlg.exception.LexiconException;
+import simplenlg.lexicon.db.SQLAccessor;
+import simplenlg.lexicon.db.XMLAccessor;
+
+/**
+ * Holds the current version of a lexicon whose data are updated while text is
+ * being realised. Rather than resetting and reloading a lexicon in place,
+ * which leaves it empty or half-filled while it is in use, a new version is
+ * loaded into a lexicon of its own, in the background, and then swapped in
+ * as a whole. A version is never changed once it has been published.
+ * 
+ * <P>
+ * Each piece of work takes the current version once, and uses it throughout,
+ * so that it sees the same data from beginning to end:
+ * 
+ * <pre>
+ * Lexicon lexicon = versions.getLexicon();
+ * NLGFactory factory = new NLGFactory(lexicon);
+ * Realiser realiser = new Realiser(lexicon);
+ * </pre>
+ * 
+ * Realisations in progress when a new version is swapped in finish with the
+ * old one, which is dropped once nobody uses it any more; work started later
+ * gets the new one. Getting the current version takes no locks. Loading new
+ * versions is serialised, so versions are published in the order they were
+ * loaded in.
+ * 
+ * <P>
+ * The lexicons of the versions are expected to hold all their data (see
+ * {@link simplenlg.lexicon.DBLexicon#loadData()}). They are still written to
+ * while in use, e.g. when items are made up for unknown words, each with an
+ * ID of its own, so they must be safe for use by several threads:
+ * {@link #fromXML(String)} and
+ * {@link #fromSQL(String, String, String, String)} load
+ * {@link simplenlg.lexicon.ConcurrentLexicon}s, and other sources should do
+ * the same.
+ */
+public class VersionedLexicon {
+
+	/**
+	 * A published version of the lexicon.
+	 */
+	public static final class Version {
+
+		private final Lexicon lexicon;
+
+		private final long number;
+
+		private final long loadTime;
+
+		Version(Lexicon lexicon, long number) {
+			this.lexicon = lexicon;
+			this.number = number;
+			this.loadTime = System.currentTimeMillis();
+		}
+
+		/**
+		 * @return the lexicon of this version
+		 */
+		public Lexicon getLexicon() {
+			return this.lexicon;
+		}
+
+		/**
+		 * @return the number of this version, counting from 1
+		 */
+		public long getNumber() {
+			return this.number;
+		}
+
+		/**
+		 * @return the time this version was published, in milliseconds since
+		 *         the epoch
+		 */
+		public long getLoadTime() {
+			return this.loadTime;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "version " + this.number;
+		}
+	}
+
+	private Callable<? extends Lexicon> source;
+
+	private AtomicReference<Version> current;
+
+	// held while a new version is loaded and published
+	private final Object loadLock = new Object();
+
+	/**
+	 * Constructs a versioned lexicon and loads its first version.
+	 * 
+	 * @param source
+	 *            builds a new lexicon with the current data whenever it is
+	 *            called, e.g. {@link #fromXML(String)}
+	 * @throws LexiconException
+	 *             if the first version cannot be loaded
+	 */
+	public VersionedLexicon(Callable<? extends Lexicon> source) {
+
+		if (source == null) {
+			throw new IllegalArgumentException("No source for the lexicon");
+		}
+
+		this.source = source;
+		this.current = new AtomicReference<Version>();
+		reload();
+	}
+
+	/**
+	 * Makes a source which loads all data from an XML file into a new
+	 * <code>ConcurrentLexicon</code>.
+	 * 
+	 * @param filename
+	 *            the file
+	 * @return the source
+	 */
+	public static Callable<ConcurrentLexicon> fromXML(final String filename) {
+		return new Callable<ConcurrentLexicon>() {
+			public ConcurrentLexicon call() {
+				ConcurrentLexicon lexicon = new ConcurrentLexicon(
+						new XMLAccessor(filename));
+				lexicon.loadData();
+				return lexicon;
+			}
+		};
+	}
+
+	/**
+	 * Makes a source which loads all data from an SQL database into a new
+	 * <code>ConcurrentLexicon</code>, and closes the connection afterwards.
+	 * 
+	 * @param driver
+	 *            The driver
+	 * @param url
+	 *            The database url
+	 * @param user
+	 *            The username
+	 * @param pw
+	 *            The password
+	 * @return the source
+	 */
+	public static Callable<ConcurrentLexicon> fromSQL(final String driver,
+			final String url, final String user, final String pw) {
+		return new Callable<ConcurrentLexicon>() {
+			public ConcurrentLexicon call() throws Exception {
+				SQLAccessor accessor = new SQLAccessor(driver, url, user, pw);
+				ConcurrentLexicon lexicon = new ConcurrentLexicon(accessor);
+
+				try {
+					lexicon.loadData();
+				} finally {
+					accessor.disconnect();
+				}
+
+				return lexicon;
+			}
+		};
+	}
+
+	/**
+	 * Gets the current version.
+	 * 
+	 * @return the version
+	 */
+	public Version getVersion() {
+		return this.current.get();
+	}
+
+	/**
+	 * Gets the lexicon of the current version. A piece of work should call
+	 * this once and keep the lexicon, rather than calling it again for every
+	 * lookup.
+	 * 
+	 * @return the lexicon
+	 */
+	public Lexicon getLexicon() {
+		return this.current.get().getLexicon();
+	}
+
+	/**
+	 * Loads a new version from the source with the calling thread, and
+	 * publishes it once it has been loaded. Until then, the current version
+	 * remains in use; if loading fails, it is kept.
+	 * 
+	 * @return the new version
+	 * @throws LexiconException
+	 *             if the new version cannot be loaded
+	 */
+	public Version reload() {
+		synchronized (this.loadLock) {
+			Lexicon lexicon;
+
+			try {
+				lexicon = this.source.call();
+
+			} catch (LexiconException e) {
+				throw e;
+
+			} catch (Exception e) {
+				LexiconException le = new LexiconException(
+						"Cannot load a new version of the lexicon: "
+								+ e.getClass() + " with message: "
+								+ e.getMessage());
+				le.setStackTrace(e.getStackTrace());
+				throw le;
+			}
+
+			if (lexicon == null) {
+				throw new LexiconException(
+						"Cannot load a new version of the lexicon: no lexicon");
+			}
+
+			return publish(lexicon);
+		}
+	}
+
+	/**
+	 * Loads a new version from the source with a thread of the given
+	 * executor, like {@link #reload()}.
+	 * 
+	 * @param executor
+	 *            the executor
+	 * @return the new version, or the exception thrown while loading it
+	 */
+	public Future<Version> reloadInBackground(ExecutorService executor) {
+		return executor.submit(new Callable<Version>() {
+			public Version call() {
+				return reload();
+			}
+		});
+	}
+
+	/**
+	 * Publishes a lexicon which has been loaded elsewhere as the new version.
+	 * The lexicon must not be changed afterwards, other than by the threads
+	 * using it, and should be a <code>ConcurrentLexicon</code>.
+	 * 
+	 * @param lexicon
+	 *            the lexicon
+	 * @return the new version
+	 */
+	public Version swap(Lexicon lexicon) {
+
+		if (lexicon == null) {
+			throw new IllegalArgumentException("No lexicon to swap in");
+		}
+
+		synchronized (this.loadLock) {
+			return publish(lexicon);
+		}
+	}
+
+	/*
+	 * Publishes a new version; called with the load lock held, so version
+	 * numbers are assigned in order.
+	 */
+	private Version publish(Lexicon lexicon) {
+		Version old = this.current.get();
+		Version version = new Version(lexicon, old == null ? 1
+				: old.getNumber() + 1);
+		this.current.set(version);
+		return version;
+	}
+}
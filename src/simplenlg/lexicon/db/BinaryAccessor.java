@@ -0,0 +1,510 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon.db;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import simplenlg.features.AuxType;
+import simplenlg.features.Category;
+import simplenlg.features.Gender;
+import simplenlg.lexicon.DatabaseBackedLexicon;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+
+/**
+ * An accessor for lexical databases in the binary format written by the
+ * {@link simplenlg.lexicon.db.BinaryWriter}, implementing the
+ * {@link simplenlg.lexicon.db.DBAccessor} interface.
+ * 
+ * The file is memory-mapped when the accessor connects, so that it is
+ * read from the operating system's page cache (which is shared by all
+ * processes using the same file) rather than copied into the heap. Lexical
+ * items are only constructed when they are loaded into the lexicon, and
+ * lookups by stem or ID are binary searches over the sorted indices of the
+ * file. Items are given the IDs stored in the file, so that an item loaded
+ * by its ID is found under that ID in the lexicon.
+ * 
+ * Since all access is read-only, an accessor can be used from several
+ * threads at once, which also load ranges of the records in parallel.
+ */
+public class BinaryAccessor implements PartitionedAccessor,
+		ThreadSafeAccessor {
+
+	// format constants shared with the BinaryWriter
+	static final int MAGIC = 0x534e4c42;
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 11 * 4;
+	static final int RECORD_SIZE = 4 + 10 * 4;
+
+	// layout of a record: four bytes, followed by ints from ID onwards
+	static final int CATEGORY = 0;
+	static final int FLAGS = 1;
+	static final int GENDER = 2;
+	static final int AUX = 3;
+	static final int ID = 4;
+	static final int STEM = 5;
+	static final int FIELDS = 6;
+	static final int RECORD_INTS = FIELDS + 8;
+
+	// fields of adjectives and verbs; nouns use suffixField(case, num)
+	static final int COMP = FIELDS;
+	static final int SUPER = FIELDS + 1;
+	static final int PAST = FIELDS;
+	static final int PART = FIELDS + 1;
+	static final int ALT_SG = FIELDS + 2;
+	static final int SUBJ2 = FIELDS + 3;
+	static final int INFLECTION = FIELDS + 4;
+
+	static final int NOUN = 1;
+	static final int ADJECTIVE = 2;
+	static final int VERB = 3;
+
+	static final int FIXED_PLURAL = 1;
+	static final int ADJECTIVE_FLEXION = 2;
+	static final int ELISION = 4;
+
+	static final int MASCULINE = 0;
+	static final int FEMININE = 1;
+	static final int NEUTER = 2;
+
+	static final int AUX_HABEN = 0;
+	static final int AUX_SEIN = 1;
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	// the full name (including path) of the binary file
+	private String filename;
+
+	private DatabaseBackedLexicon lexicon;
+
+	private ByteBuffer data;
+
+	// section offsets, read from the header
+	private int recordCount, recordsOffset;
+	private int stemCount, stemIndexOffset;
+	private int idCount, idIndexOffset;
+	private int stringCount, stringOffsetsOffset, stringDataOffset;
+
+	/**
+	 * Instantiates a new <code>BinaryAccessor</code>.
+	 */
+	public BinaryAccessor() {
+		super();
+		this.filename = null;
+		this.lexicon = null;
+		this.data = null;
+	}
+
+	/**
+	 * Instantiates a new <code>BinaryAccessor</code> which reads data from
+	 * a given binary lexicon file.
+	 * 
+	 * @param filename
+	 * 			The full path of the file to read from
+	 */
+	public BinaryAccessor(String filename) {
+		this();
+		this.filename = filename;
+	}
+
+	/**
+	 * Instantiates a new <code>BinaryAccessor</code> which reads data from
+	 * a given binary lexicon file.
+	 * 
+	 * @param file
+	 * 			The file to read from
+	 */
+	public BinaryAccessor(File file) {
+		this();
+		this.filename = file.getAbsolutePath();
+	}
+
+	@Override
+	public void setLexicon(DatabaseBackedLexicon lex) {
+		this.lexicon = lex;
+	}
+
+	@Override
+	public boolean hasLexicon() {
+		return this.lexicon != null;
+	}
+
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
+	/**
+	 * Maps the binary file into memory and checks its header.
+	 * 
+	 * @throws IOException
+	 *             if the file cannot be read, or is not a binary lexicon
+	 */
+	@Override
+	public synchronized void connect() throws IOException {
+		if (this.data != null) return;
+
+		RandomAccessFile file = new RandomAccessFile(this.filename, "r");
+		ByteBuffer buffer;
+
+		try {
+			// the mapping stays valid after the file is closed
+			buffer = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0,
+					file.length());
+		} finally {
+			file.close();
+		}
+
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException(this.filename + " is not a binary lexicon");
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new IOException(this.filename
+					+ " has unsupported format version " + buffer.getInt(4));
+		}
+
+		this.recordCount = buffer.getInt(8);
+		this.recordsOffset = buffer.getInt(12);
+		this.stemCount = buffer.getInt(16);
+		this.stemIndexOffset = buffer.getInt(20);
+		this.idCount = buffer.getInt(24);
+		this.idIndexOffset = buffer.getInt(28);
+		this.stringCount = buffer.getInt(32);
+		this.stringOffsetsOffset = buffer.getInt(36);
+		this.stringDataOffset = buffer.getInt(40);
+		this.data = buffer;
+	}
+
+	/**
+	 * Releases the mapped file. The memory itself is released by the
+	 * garbage collector.
+	 */
+	public synchronized void disconnect() {
+		this.data = null;
+	}
+
+	/**
+	 * Checks if the file has been mapped into memory.
+	 * 
+	 * @return true, if is connected
+	 */
+	public synchronized boolean isConnected() {
+		return this.data != null;
+	}
+
+	/**
+	 * Returns the mapped file, connecting first if necessary.
+	 */
+	private synchronized ByteBuffer getData() throws IOException {
+		if (this.data == null) {
+			this.connect();
+		}
+		return this.data;
+	}
+
+	@Override
+	public void loadData() throws Exception {
+		ByteBuffer data = this.getData();
+
+		for (int i = 0; i < this.recordCount; i++) {
+			this.addRecord(data, i);
+		}
+	}
+
+	@Override
+	public void loadData(Category... categories) throws Exception {
+		ByteBuffer data = this.getData();
+
+		for (Category cat : categories) {
+			for (int i = 0; i < this.recordCount; i++) {
+				if (this.hasCategory(data, i, cat)) {
+					this.addRecord(data, i);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void loadItem(Category cat, String baseform) throws Exception {
+		ByteBuffer data = this.getData();
+
+		for (int i : this.find(data, this.stemIndexOffset, this.stemCount, STEM, baseform)) {
+			if (this.hasCategory(data, i, cat)) {
+				this.addRecord(data, i);
+			}
+		}
+	}
+
+	@Override
+	public void loadItemByID(String id) throws Exception {
+		ByteBuffer data = this.getData();
+
+		for (int i : this.find(data, this.idIndexOffset, this.idCount, ID, id)) {
+			this.addRecord(data, i);
+		}
+	}
+
+	@Override
+	public void loadItemsByBaseform(String baseform) throws Exception {
+		ByteBuffer data = this.getData();
+
+		for (int i : this.find(data, this.stemIndexOffset, this.stemCount, STEM, baseform)) {
+			this.addRecord(data, i);
+		}
+	}
+
+	@Override
+	public List<DataPartition> partition(int parts, Category... categories)
+			throws Exception {
+		List<DataPartition> partitions = new ArrayList<DataPartition>();
+		ByteBuffer data = this.getData();
+
+		if (categories.length == 0) {
+			categories = new Category[] { Category.ANY };
+		}
+
+		int size = Math.max(1, (this.recordCount + parts - 1) / Math.max(1, parts));
+
+		for (Category cat : categories) {
+			for (int start = 0; start < this.recordCount; start += size) {
+				partitions.add(new Partition(data, cat, start,
+						Math.min(this.recordCount, start + size)));
+			}
+		}
+		return partitions;
+	}
+
+	/**
+	 * Returns the field number of a noun suffix.
+	 * 
+	 * @param cas
+	 * 			The case (nom, acc, dat or gen)
+	 * @param num
+	 * 			The number (sg or pl)
+	 */
+	static int suffixField(String cas, String num) {
+		return FIELDS + 2 * XMLHandler.getCaseArrayIndex(cas)
+				+ XMLHandler.getNumberArrayIndex(num);
+	}
+
+	// *****************************************************************
+	// Reading the file
+	// *****************************************************************
+
+	/**
+	 * Finds the records whose given field equals a string, by binary search
+	 * in one of the sorted indices.
+	 * 
+	 * @return the record numbers, in lexicon order
+	 */
+	private List<Integer> find(ByteBuffer data, int indexOffset, int count,
+			int field, String key) {
+		List<Integer> result = new ArrayList<Integer>();
+		if (key == null) return result;
+
+		// find the first index entry not less than the key
+		int low = 0;
+		int high = count;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			int record = data.getInt(indexOffset + 4 * mid);
+			if (this.getField(data, record, field).compareTo(key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		for (int i = low; i < count; i++) {
+			int record = data.getInt(indexOffset + 4 * i);
+			if (!key.equals(this.getField(data, record, field))) break;
+			result.add(record);
+		}
+		return result;
+	}
+
+	private boolean hasCategory(ByteBuffer data, int record, Category cat) {
+		if (cat == null || cat == Category.ANY) return true;
+
+		switch (data.get(this.recordsOffset + record * RECORD_SIZE + CATEGORY)) {
+		case NOUN:
+			return cat == Category.NOUN;
+		case ADJECTIVE:
+			return cat == Category.ADJECTIVE;
+		case VERB:
+			return cat == Category.VERB;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Builds the lexical item stored in a record and adds it to the lexicon.
+	 */
+	private void addRecord(ByteBuffer data, int record) {
+		this.addRecord(data, record, this.lexicon);
+	}
+
+	private void addRecord(ByteBuffer data, int record, DatabaseBackedLexicon lexicon) {
+		LexicalItem item = this.buildItem(data, record);
+		if (item != null && lexicon != null) {
+			lexicon.addItem(item);
+		}
+	}
+
+	private LexicalItem buildItem(ByteBuffer data, int record) {
+		int start = this.recordsOffset + record * RECORD_SIZE;
+		int flags = data.get(start + FLAGS);
+		String stem = this.getField(data, record, STEM);
+		String id = this.getField(data, record, ID);
+
+		switch (data.get(start + CATEGORY)) {
+		case NOUN:
+			String[][] suffixList = new String[4][2];
+			for (int i = 0; i < 4; i++) {
+				for (int j = 0; j < 2; j++) {
+					suffixList[i][j] = this.getField(data, record, FIELDS + 2 * i + j);
+				}
+			}
+			return XMLHandler.buildNoun(stem, getGender(data.get(start + GENDER)),
+					suffixList, (flags & FIXED_PLURAL) != 0,
+					(flags & ADJECTIVE_FLEXION) != 0, id);
+
+		case ADJECTIVE:
+			return XMLHandler.buildAdjective(stem, this.getField(data, record, COMP),
+					this.getField(data, record, SUPER), (flags & ELISION) != 0, id);
+
+		case VERB:
+			AuxType aux = data.get(start + AUX) == AUX_SEIN ? AuxType.SEIN : AuxType.HABEN;
+			return XMLHandler.buildVerb(stem, this.getField(data, record, PAST),
+					this.getField(data, record, PART), this.getField(data, record, ALT_SG),
+					this.getField(data, record, SUBJ2), aux,
+					this.getField(data, record, INFLECTION), id);
+
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the string an int field of a record refers to.
+	 */
+	private String getField(ByteBuffer data, int record, int field) {
+		int position = this.recordsOffset + record * RECORD_SIZE + 4 * (field - ID + 1);
+		return this.getString(data, data.getInt(position));
+	}
+
+	/**
+	 * Returns a string from the string pool.
+	 */
+	private String getString(ByteBuffer data, int index) {
+		if (index < 0 || index >= this.stringCount) return null;
+
+		int start = data.getInt(this.stringOffsetsOffset + 4 * index);
+		int end = data.getInt(this.stringOffsetsOffset + 4 * (index + 1));
+		byte[] bytes = new byte[end - start];
+
+		// work on a duplicate, so that concurrent readers don't share a position
+		ByteBuffer view = data.duplicate();
+		view.position(this.stringDataOffset + start);
+		view.get(bytes);
+		return new String(bytes, UTF8);
+	}
+
+	/**
+	 * A range of records, of which those of one category are loaded.
+	 */
+	private class Partition implements DataPartition {
+
+		private ByteBuffer data;
+		private Category cat;
+		private int start, end;
+
+		Partition(ByteBuffer data, Category cat, int start, int end) {
+			this.data = data;
+			this.cat = cat;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public void loadInto(DatabaseBackedLexicon lexicon) {
+			for (int i = this.start; i < this.end; i++) {
+				if (hasCategory(this.data, i, this.cat)) {
+					addRecord(this.data, i, lexicon);
+				}
+			}
+		}
+	}
+
+	private static Gender getGender(int code) {
+		switch (code) {
+		case MASCULINE:
+			return Gender.MASCULINE;
+		case FEMININE:
+			return Gender.FEMININE;
+		default:
+			return Gender.NEUTER;
+		}
+	}
+
+}
@@ -0,0 +1,463 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon.db;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import simplenlg.features.AuxType;
+import simplenlg.features.Case;
+import simplenlg.features.Category;
+import simplenlg.features.Gender;
+import simplenlg.features.NumberAgr;
+import simplenlg.lexicon.Lexicon;
+import simplenlg.lexicon.lexicalitems.Adjective;
+import simplenlg.lexicon.lexicalitems.Constants;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.lexicon.lexicalitems.Noun;
+import simplenlg.lexicon.lexicalitems.Verb;
+import simplenlg.lexicon.morph.VerbInflection;
+import simplenlg.lexicon.morph.VerbInflectionPattern;
+
+/**
+ * This class converts a {@link simplenlg.lexicon.Lexicon} object into the
+ * binary lexicon format read by the {@link simplenlg.lexicon.db.BinaryAccessor}
+ * class. It writes the same data as the {@link simplenlg.lexicon.db.XMLWriter},
+ * so that a lexicon saved in either format yields the same lexical items
+ * when it is loaded again.
+ * 
+ * The format consists of a header followed by these sections:
+ * <UL>
+ * <LI>one fixed-size record per lexical item, holding its category, gender,
+ * auxiliary and flags as bytes, and its ID, stem and remaining strings
+ * (suffixes, comparative and superlative, or verb stems) as references into
+ * the string pool;</LI>
+ * <LI>the record numbers sorted by stem, and the record numbers sorted by ID,
+ * for lookups by binary search;</LI>
+ * <LI>the string pool, in which each distinct string is stored once, as an
+ * offset table followed by the UTF-8 data.</LI>
+ * </UL>
+ * All numbers are big-endian <code>int</code>s, and string references are
+ * indices into the string pool, with -1 standing for <code>null</code>.
+ * 
+ * When saving a {@link simplenlg.lexicon.DBLexicon} object, make
+ * sure to perform {@link simplenlg.lexicon.DBLexicon#loadData()}
+ * before saving, otherwise only the already loaded lexical
+ * items will be saved.
+ */
+public class BinaryWriter {
+
+	private OutputStream out;
+	private Lexicon lexicon;
+	
+	// the items to write and their records, in the same order
+	private List<LexicalItem> items;
+	private List<int[]> records;
+	
+	// the string pool
+	private Map<String, Integer> stringIndex;
+	private List<String> strings;
+	
+	/**
+	 * Instantiates a new <code>BinaryWriter</code>.
+	 */
+	public BinaryWriter() {
+		this.out = null;
+		this.lexicon = null;
+	}
+	
+	/**
+	 * Instantiates a new <code>BinaryWriter</code> which reads data
+	 * from a given lexicon.
+	 * 
+	 * @param lex
+	 * 			The lexicon to be converted
+	 */
+	public BinaryWriter(Lexicon lex) {
+		this();
+		this.lexicon = lex;
+	}
+	
+	/**
+	 * Returns the input lexicon.
+	 * 
+	 * @return
+	 * 			A {@link simplenlg.lexicon.Lexicon} object
+	 */
+	public Lexicon getLexicon() {
+		return lexicon;
+	}
+
+	/**
+	 * Sets the input lexicon.
+	 * 
+	 * @param lexicon
+	 * 			The lexicon to be converted
+	 */
+	public void setLexicon(Lexicon lexicon) {
+		this.lexicon = lexicon;
+	}
+	
+	/**
+	 * Returns the stream to which the binary lexicon will be written.
+	 * 
+	 * @return
+	 * 			A {@link java.io.OutputStream} object
+	 */
+	public OutputStream getOutputStream() {
+		return out;
+	}
+
+	/**
+	 * Sets the stream to which the binary lexicon will be written.
+	 * 
+	 * @param out
+	 * 			The {@link java.io.OutputStream} object
+	 */
+	public void setOutputStream(OutputStream out) {
+		this.out = out;
+	}
+	
+	/**
+	 * Converts the input lexicon specified via {@link #setLexicon(Lexicon)}
+	 * and saves it into a file. This overrides any output stream specified
+	 * via {@link #setOutputStream(OutputStream)}.
+	 * 
+	 * If a lexicon has not been set, this method does nothing.
+	 * 
+	 * @param filename
+	 * 			The full path of the output file
+	 * @throws IOException
+	 */
+	public void saveToFile(String filename) throws IOException {
+		this.out = new BufferedOutputStream(new FileOutputStream(filename));
+		try {
+			this.save();
+		}
+		finally {
+			out.close();
+		}
+	}
+	
+	/**
+	 * Converts the input lexicon specified via {@link #setLexicon(Lexicon)}
+	 * and saves it into a file. This overrides any output stream specified
+	 * via {@link #setOutputStream(OutputStream)}.
+	 * 
+	 * If a lexicon has not been set, this method does nothing.
+	 * 
+	 * @param file
+	 * 			The output file
+	 * @throws IOException
+	 */
+	public void saveToFile(File file) throws IOException {
+		this.saveToFile(file.getAbsolutePath());
+	}
+	
+	/**
+	 * Converts the input lexicon, specified via {@link #setLexicon(Lexicon)},
+	 * and writes it to the output stream, specified via
+	 * {@link #setOutputStream(OutputStream)}.
+	 * 
+	 * If either lexicon or output stream has not been set, the method
+	 * does nothing.
+	 * 
+	 * @throws IOException
+	 */
+	public void save() throws IOException {
+		if (out == null || lexicon == null) return;
+		
+		this.items = new ArrayList<LexicalItem>();
+		this.records = new ArrayList<int[]>();
+		this.stringIndex = new HashMap<String, Integer>();
+		this.strings = new ArrayList<String>();
+		
+		try {
+			this.addItems();
+			this.writeData();
+		}
+		finally {
+			this.items = null;
+			this.records = null;
+			this.stringIndex = null;
+			this.strings = null;
+		}
+	}
+	
+	
+	private void addItems() {
+		for (LexicalItem l : lexicon.getItems(Category.NOUN)) {
+			this.addNoun((Noun) l);
+		}
+		for (LexicalItem l : lexicon.getItems(Category.ADJECTIVE)) {
+			this.addAdjective((Adjective) l);
+		}
+		for (LexicalItem l : lexicon.getItems(Category.VERB)) {
+			if (!Constants.isConstantVerb((Verb) l))
+				this.addVerb((Verb) l);
+		}
+	}
+	
+	private int[] newRecord(LexicalItem item, int category) {
+		int[] record = new int[BinaryAccessor.RECORD_INTS];
+		record[BinaryAccessor.CATEGORY] = category;
+		record[BinaryAccessor.ID] = this.pool(item.getID());
+		for (int i = BinaryAccessor.FIELDS; i < record.length; i++) {
+			record[i] = -1;
+		}
+		this.items.add(item);
+		this.records.add(record);
+		return record;
+	}
+	
+	private void addNoun(Noun n) {
+		int[] record = this.newRecord(n, BinaryAccessor.NOUN);
+		record[BinaryAccessor.STEM] = this.pool(n.getBaseForm());
+		record[BinaryAccessor.GENDER] = getGenderCode(n.getGender());
+		
+		if (n.isFixedPluralNoun()) {
+			record[BinaryAccessor.FLAGS] |= BinaryAccessor.FIXED_PLURAL;
+		}
+		if (n.isAdjectiveInflection()) {
+			record[BinaryAccessor.FLAGS] |= BinaryAccessor.ADJECTIVE_FLEXION;
+		}
+		
+		if (n.isFixedPluralNoun() || n.isAdjectiveInflection()) {
+			// don't write anything
+		} else if (n.isRegular()) {
+			this.addNounSuffix(record, n, Case.GENITIVE, NumberAgr.SINGULAR, "gen", "sg");
+			this.addNounSuffix(record, n, Case.NOMINATIVE, NumberAgr.PLURAL, "nom", "pl");
+		} else {
+			this.addNounSuffix(record, n, Case.ACCUSATIVE, NumberAgr.SINGULAR, "acc", "sg");
+			this.addNounSuffix(record, n, Case.GENITIVE, NumberAgr.SINGULAR, "gen", "sg");
+			this.addNounSuffix(record, n, Case.DATIVE, NumberAgr.SINGULAR, "dat", "sg");
+			this.addNounSuffix(record, n, Case.NOMINATIVE, NumberAgr.PLURAL, "nom", "pl");
+			this.addNounSuffix(record, n, Case.DATIVE, NumberAgr.PLURAL, "dat", "pl");
+		}
+	}
+	
+	private void addNounSuffix(int[] record, Noun n, Case c, NumberAgr num,
+			String cas, String number) {
+		record[BinaryAccessor.suffixField(cas, number)] = this.pool(n.getSuffix(c, num));
+	}
+	
+	private void addAdjective(Adjective a) {
+		int[] record = this.newRecord(a, BinaryAccessor.ADJECTIVE);
+		record[BinaryAccessor.STEM] = this.pool(a.getBaseForm());
+		
+		if (a.isElideFinalE()) {
+			record[BinaryAccessor.FLAGS] |= BinaryAccessor.ELISION;
+		}
+		record[BinaryAccessor.COMP] = this.pool(a.getComparative());
+		record[BinaryAccessor.SUPER] = this.pool(a.getSuperlative());
+	}
+	
+	private void addVerb(Verb v) {
+		int[] record = this.newRecord(v, BinaryAccessor.VERB);
+		record[BinaryAccessor.STEM] = this.pool(v.getInfinitiveStem());
+		
+		if (v.getAuxType().equals(AuxType.SEIN)) {
+			record[BinaryAccessor.AUX] = BinaryAccessor.AUX_SEIN;
+		}
+		VerbInflectionPattern pattern = v.getPattern();
+		if (!pattern.equals(Constants.VERB_INFLECTION_DEFAULT)) {
+			record[BinaryAccessor.INFLECTION] = this.pool(pattern.getName());
+		}
+		
+		// optional values, as written by the XMLWriter
+		String stem = VerbInflection.detectStem(v.getInfinitiveStem());
+		String past = v.getPastStem();
+		String part = v.getPerfectParticiple();
+		String subj = v.getSubjunctiveStem();
+		
+		record[BinaryAccessor.PAST] = this.pool("");
+		record[BinaryAccessor.PART] = this.pool("");
+		record[BinaryAccessor.ALT_SG] = this.pool("");
+		record[BinaryAccessor.SUBJ2] = this.pool("");
+		
+		if (!past.equals(stem.concat("te")) || 
+				!part.equals("ge".concat(stem).concat("t"))) {
+			record[BinaryAccessor.PAST] = this.pool(past);
+			record[BinaryAccessor.PART] = this.pool(part);
+		}
+		if (v.hasAlternatePresentStem()) {
+			record[BinaryAccessor.ALT_SG] = this.pool(v.getAlternatePresentStem());
+		}
+		if (!subj.equals(past)) {
+			record[BinaryAccessor.SUBJ2] = this.pool(subj);
+		}
+	}
+	
+	/**
+	 * Returns the index of a string in the string pool, adding it if
+	 * necessary.
+	 */
+	private int pool(String s) {
+		if (s == null) return -1;
+		
+		Integer index = this.stringIndex.get(s);
+		if (index == null) {
+			index = this.strings.size();
+			this.stringIndex.put(s, index);
+			this.strings.add(s);
+		}
+		return index;
+	}
+	
+	/**
+	 * Returns the record numbers, sorted by the string the given field
+	 * refers to. Records with the same string stay in lexicon order,
+	 * and records without a string are left out.
+	 */
+	private List<Integer> sortedBy(final int field) {
+		List<Integer> sorted = new ArrayList<Integer>();
+		for (int i = 0; i < this.records.size(); i++) {
+			if (this.records.get(i)[field] >= 0) sorted.add(i);
+		}
+		
+		Collections.sort(sorted, new Comparator<Integer>() {
+			public int compare(Integer r1, Integer r2) {
+				return getString(r1, field).compareTo(getString(r2, field));
+			}
+		});
+		return sorted;
+	}
+	
+	private String getString(int record, int field) {
+		return this.strings.get(this.records.get(record)[field]);
+	}
+	
+	private void writeData() throws IOException {
+		List<Integer> byStem = this.sortedBy(BinaryAccessor.STEM);
+		List<Integer> byID = this.sortedBy(BinaryAccessor.ID);
+		
+		// string pool
+		ByteArrayOutputStream stringData = new ByteArrayOutputStream();
+		int[] stringOffsets = new int[this.strings.size() + 1];
+		for (int i = 0; i < this.strings.size(); i++) {
+			stringOffsets[i] = stringData.size();
+			stringData.write(this.strings.get(i).getBytes("UTF-8"));
+		}
+		stringOffsets[this.strings.size()] = stringData.size();
+		
+		// section offsets
+		int recordsOffset = BinaryAccessor.HEADER_SIZE;
+		int stemIndexOffset = recordsOffset + this.records.size() * BinaryAccessor.RECORD_SIZE;
+		int idIndexOffset = stemIndexOffset + byStem.size() * 4;
+		int stringOffsetsOffset = idIndexOffset + byID.size() * 4;
+		int stringDataOffset = stringOffsetsOffset + stringOffsets.length * 4;
+		
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(BinaryAccessor.MAGIC);
+		data.writeInt(BinaryAccessor.VERSION);
+		data.writeInt(this.records.size());
+		data.writeInt(recordsOffset);
+		data.writeInt(byStem.size());
+		data.writeInt(stemIndexOffset);
+		data.writeInt(byID.size());
+		data.writeInt(idIndexOffset);
+		data.writeInt(this.strings.size());
+		data.writeInt(stringOffsetsOffset);
+		data.writeInt(stringDataOffset);
+		
+		for (int[] record : this.records) {
+			data.writeByte(record[BinaryAccessor.CATEGORY]);
+			data.writeByte(record[BinaryAccessor.FLAGS]);
+			data.writeByte(record[BinaryAccessor.GENDER]);
+			data.writeByte(record[BinaryAccessor.AUX]);
+			for (int i = BinaryAccessor.ID; i < record.length; i++) {
+				data.writeInt(record[i]);
+			}
+		}
+		for (int i : byStem) {
+			data.writeInt(i);
+		}
+		for (int i : byID) {
+			data.writeInt(i);
+		}
+		for (int offset : stringOffsets) {
+			data.writeInt(offset);
+		}
+		stringData.writeTo(data);
+		data.flush();
+	}
+	
+	private static int getGenderCode(Gender g) {
+		if (g == null) return BinaryAccessor.NEUTER;
+		
+		switch (g) {
+		case MASCULINE:
+			return BinaryAccessor.MASCULINE;
+		case FEMININE:
+			return BinaryAccessor.FEMININE;
+		case NEUTER:
+		default:
+			return BinaryAccessor.NEUTER;
+		}
+	}
+	
+}
@@ -62,12 +62,19 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.sql.DataSource;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -195,6 +202,20 @@ import simplenlg.lexicon.verbnet.VerbnetSlotType;
  * </P>
  * 
  * <P>
+ * When data are loaded by several threads (see
+ * {@link simplenlg.lexicon.ParallelLoader}), each category is loaded over a
+ * connection of its own, opened with the parameters of this accessor.
+ * </P>
+ * 
+ * <P>
+ * Items can also be looked up by several threads at once, if connections are
+ * taken from a <code>javax.sql.DataSource</code>, typically a connection pool
+ * (see {@link #setDataSource(DataSource)}). Each connection keeps its own
+ * prepared statements, and the number of connections in use at once is
+ * bounded, so that a busy application does not exhaust the database.
+ * </P>
+ * 
+ * <P>
  * Lexical items loaded with the SQLAccessor have several features, which are
  * defined in the database, and which map to values of types defined in
  * {@link simplenlg.features}.
@@ -203,10 +224,27 @@ import simplenlg.lexicon.verbnet.VerbnetSlotType;
  * @author agatt
  * @since Version 3.7
  */
-public class SQLAccessor implements DBAccessor {
+public class SQLAccessor implements PartitionedAccessor, ThreadSafeAccessor {
+
+	/**
+	 * The default maximum number of entry ids bound to a single query when
+	 * loading entries in bulk.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	/**
+	 * The default number of rows fetched from the database at a time when
+	 * loading entries in bulk.
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
+	/**
+	 * The default maximum number of connections taken from a data source which
+	 * are in use at once.
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS = 8;
 
 	// db parameters
-	private Connection con;
 	private String url;
 	private String username;
 	private String password;
@@ -216,7 +254,7 @@ public class SQLAccessor implements DBAccessor {
 	String ppRegex = "pphr\\((\\w+),np(\\([\\w\\s]+\\))?\\)";
 	String cppRegex = "^pphr\\((\\w+),np(\\([\\w\\s]+\\))?," + this.ppRegex
 			+ "\\)$";
-	private Matcher cppMatcher;
+	private Pattern cppPattern;
 
 	// flag whether DB is open or not
 	private boolean connected;
@@ -224,11 +262,28 @@ public class SQLAccessor implements DBAccessor {
 	// the lexicon being populated
 	private DatabaseBackedLexicon lexicon;
 
-	// prepared statements to execute
-	PreparedStatement reset, getEntryByCatBaseform, getEntryByID,
-			getEntryByBaseform, getAllEntries, getEntriesByCategory,
-			/*getVariants, */getDerivations, complement, adjFeature, advFeature,
-			detFeature, conjFeature, proFeature, getVerbFrames;
+	// whether loadData uses a fixed number of set-based queries, the maximum
+	// number of ids bound to a single query, and the fetch size of the
+	// bulk queries (0 leaves it to the driver)
+	private boolean bulkLoading;
+	private int batchSize;
+	private int fetchSize;
+
+	// the connection used unless a data source has been set
+	private Session session;
+
+	// the data source to take connections from, the maximum number of its
+	// connections in use at once, the permits to use one, the connections not
+	// in use, and the connection used by each thread
+	private DataSource dataSource;
+	private int maxConnections;
+	private Semaphore connectionPermits;
+	private LinkedList<Session> idleSessions;
+	private ThreadLocal<Session> currentSession;
+
+	// guards the addition of items loaded on their own, and of derivations,
+	// which may happen on several threads at once
+	private Object itemLock;
 
 	// xml doc builder for parsing verbframe xml
 	DocumentBuilder builder;
@@ -254,14 +309,23 @@ public class SQLAccessor implements DBAccessor {
 					"Could not instantiate an XML document builder!");
 		}
 
-		this.con = null;
+		this.session = null;
+		this.dataSource = null;
+		this.maxConnections = SQLAccessor.DEFAULT_MAX_CONNECTIONS;
+		this.connectionPermits = new Semaphore(this.maxConnections, true);
+		this.idleSessions = new LinkedList<Session>();
+		this.currentSession = new ThreadLocal<Session>();
+		this.itemLock = new Object();
 		this.url = null;
 		this.username = null;
 		this.password = null;
 		this.driver = null;
 		this.connected = false;
 		this.lexicon = null;
-		this.cppMatcher = Pattern.compile(this.cppRegex).matcher("");
+		this.bulkLoading = true;
+		this.batchSize = SQLAccessor.DEFAULT_BATCH_SIZE;
+		this.fetchSize = SQLAccessor.DEFAULT_FETCH_SIZE;
+		this.cppPattern = Pattern.compile(this.cppRegex);
 	}
 
 	/**
@@ -383,14 +447,96 @@ public class SQLAccessor implements DBAccessor {
 		this.driver = driverClass;
 	}
 
+	/**
+	 * Checks whether {@link #loadData(Category...)} loads the entries in bulk.
+	 * 
+	 * @return true, if bulk loading is on (the default)
+	 * @see #setBulkLoading(boolean)
+	 */
+	public boolean isBulkLoading() {
+		return this.bulkLoading;
+	}
+
+	/**
+	 * Sets whether {@link #loadData(Category...)} loads the entries in bulk.
+	 * If so, the entries of each category are retrieved by a single query, and
+	 * their complements, features and derivations by one query per table,
+	 * instead of one query per entry and table; the rows are then assigned to
+	 * the items in memory. Otherwise, the methods for the individual
+	 * categories, such as {@link #loadNouns()}, are called.
+	 * 
+	 * @param bulk
+	 *            whether to load entries in bulk
+	 */
+	public void setBulkLoading(boolean bulk) {
+		this.bulkLoading = bulk;
+	}
+
+	/**
+	 * Gets the maximum number of entry ids bound to a single query when loading
+	 * entries in bulk.
+	 * 
+	 * @return the batch size
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Sets the maximum number of entry ids bound to a single query when loading
+	 * entries in bulk. This applies to the entries which are not of the
+	 * categories being loaded but which are the targets of derivational
+	 * relations, and which are retrieved by their ids. It defaults to
+	 * {@link #DEFAULT_BATCH_SIZE}.
+	 * 
+	 * @param size
+	 *            the batch size, at least 1
+	 */
+	public void setBatchSize(int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Batch size must be positive: "
+					+ size);
+		}
+
+		this.batchSize = size;
+	}
+
+	/**
+	 * Gets the number of rows fetched from the database at a time when loading
+	 * entries in bulk.
+	 * 
+	 * @return the fetch size
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
+	/**
+	 * Sets the number of rows fetched from the database at a time when loading
+	 * entries in bulk; 0 leaves the choice to the JDBC driver. It defaults to
+	 * {@link #DEFAULT_FETCH_SIZE}.
+	 * 
+	 * @param size
+	 *            the fetch size
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	public void setFetchSize(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Fetch size must not be negative: "
+					+ size);
+		}
+
+		this.fetchSize = size;
+	}
+
 	// *****************************************************************
 	// DB Connection and prepare statement methods
 	// *****************************************************************
 
 	/**
 	 * Connects to the lexical database, using pre-set url, driver class,
-	 * username and password (if any are required). This method also initialises
-	 * some prepared SQL statements for data access.
+	 * username and password (if any are required). If a data source has been
+	 * set, connections are taken from it as they are needed instead.
 	 * 
 	 * @throws ClassNotFoundException
 	 *             if the database driver class is not found
@@ -402,37 +548,36 @@ public class SQLAccessor implements DBAccessor {
 	 * @see #setPassword(String)
 	 */
 	public void connect() throws ClassNotFoundException, SQLException {
-		Class.forName(this.driver);
-		this.con = DriverManager.getConnection(this.url, this.username,
-				this.password);
+
+		if (this.dataSource == null) {
+			Class.forName(this.driver);
+			this.session = new Session(DriverManager.getConnection(this.url,
+					this.username, this.password));
+		}
+
 		this.connected = true;
-		this.getEntryByID = this.con.prepareStatement(SQLConfig.entryByID);
-		this.getEntryByBaseform = this.con
-				.prepareStatement(SQLConfig.entryByBaseform);
-		this.getAllEntries = this.con.prepareStatement(SQLConfig.allEntries);
-		this.complement = this.con.prepareStatement(SQLConfig.complementQuery);
-		this.adjFeature = this.con.prepareStatement(SQLConfig.adjFeatureQuery);
-		this.advFeature = this.con.prepareStatement(SQLConfig.advFeatureQuery);
-		this.detFeature = this.con.prepareStatement(SQLConfig.detFeatureQuery);
-		this.conjFeature = this.con
-				.prepareStatement(SQLConfig.conjFeatureQuery);
-		this.proFeature = this.con.prepareStatement(SQLConfig.proFeatureQuery);
-		this.getEntryByCatBaseform = this.con
-				.prepareStatement(SQLConfig.entryByCatBaseform);
-//		this.getVariants = this.con.prepareStatement(SQLConfig.wordVariants);
-		this.getDerivations = this.con.prepareStatement(SQLConfig.derivations);
-		this.getVerbFrames = this.con.prepareStatement(SQLConfig.verbFrames);
 	}
 
 	/**
-	 * Disconnects from the database.
+	 * Disconnects from the database. If a data source has been set, the
+	 * connections taken from it which are not in use are closed.
 	 * 
 	 * @throws SQLException
 	 *             in case the connection cannot be closed
 	 */
 	public void disconnect() throws SQLException {
-		this.con.close();
 		this.connected = false;
+
+		if (this.session != null) {
+			this.session.close();
+			this.session = null;
+		}
+
+		synchronized (this.idleSessions) {
+			while (!this.idleSessions.isEmpty()) {
+				this.idleSessions.removeFirst().close();
+			}
+		}
 	}
 
 	/**
@@ -445,6 +590,224 @@ public class SQLAccessor implements DBAccessor {
 		return this.connected;
 	}
 
+	// *****************************************************************
+	// Connections from a data source
+	// *****************************************************************
+
+	/**
+	 * Gets the data source connections are taken from.
+	 * 
+	 * @return the data source, or <code>null</code> if a single connection is
+	 *         opened with the driver, url, username and password
+	 */
+	public DataSource getDataSource() {
+		return this.dataSource;
+	}
+
+	/**
+	 * Sets a data source to take connections from, typically a connection
+	 * pool. If it is set, every call to a method of this accessor takes a
+	 * connection of its own, so that several threads can look up items at the
+	 * same time, and the accessor can be shared by the threads of a
+	 * {@link simplenlg.lexicon.ConcurrentLexicon}. The connections are kept
+	 * together with their prepared statements once they are no longer used,
+	 * and are reused by later calls; at most {@link #getMaxConnections()} of
+	 * them are in use at once, and further calls wait for one to be
+	 * returned. Otherwise, a single connection is opened with the driver,
+	 * url, username and password, and the accessor must not be used by
+	 * several threads at once.
+	 * 
+	 * <P>
+	 * The data source has to be set before connecting.
+	 * 
+	 * @param source
+	 *            the data source, or <code>null</code> to use a single
+	 *            connection
+	 */
+	public void setDataSource(DataSource source) {
+		this.dataSource = source;
+		this.connectionPermits = new Semaphore(this.maxConnections, true);
+	}
+
+	/**
+	 * Gets the maximum number of connections taken from the data source which
+	 * are in use at once.
+	 * 
+	 * @return the maximum number of connections
+	 */
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	/**
+	 * Sets the maximum number of connections taken from the data source which
+	 * are in use at once. It defaults to {@link #DEFAULT_MAX_CONNECTIONS}, and
+	 * should not exceed the size of the pool behind the data source.
+	 * 
+	 * @param max
+	 *            the maximum number of connections, at least 1
+	 */
+	public void setMaxConnections(int max) {
+		if (max < 1) {
+			throw new IllegalArgumentException(
+					"Maximum number of connections must be positive: " + max);
+		}
+
+		this.maxConnections = max;
+		this.connectionPermits = new Semaphore(max, true);
+	}
+
+	/**
+	 * Checks whether this accessor can be used by several threads at once,
+	 * which is the case if a data source has been set.
+	 * 
+	 * @return true, if a data source has been set
+	 * @see #setDataSource(DataSource)
+	 */
+	public boolean isThreadSafe() {
+		return this.dataSource != null;
+	}
+
+	/*
+	 * A connection, together with the statements prepared on it
+	 */
+	private static class Session {
+		Connection connection;
+		Map<String, PreparedStatement> statements;
+
+		// the permits the connection was taken with, if any, and the number
+		// of calls using it on the current thread
+		Semaphore permits;
+		int depth;
+
+		Session(Connection connection) {
+			this.connection = connection;
+			this.statements = new HashMap<String, PreparedStatement>();
+			this.permits = null;
+			this.depth = 0;
+		}
+
+		/*
+		 * Get the statement for a query, preparing it on first use
+		 */
+		PreparedStatement prepare(String query) throws SQLException {
+			PreparedStatement statement = this.statements.get(query);
+
+			if (statement == null) {
+				statement = this.connection.prepareStatement(query);
+				this.statements.put(query, statement);
+			}
+
+			return statement;
+		}
+
+		void close() throws SQLException {
+			this.statements.clear();
+			this.connection.close();
+		}
+	}
+
+	/*
+	 * Get the connection for a call on the current thread: the single
+	 * connection, the one already used by an enclosing call (e.g. when the
+	 * lexicon loads the related items of an item being loaded), or one from
+	 * the data source. Every session has to be returned by closeSession().
+	 */
+	private Session openSession() throws ClassNotFoundException, SQLException {
+		Session session = this.currentSession.get();
+
+		if (session != null) {
+			session.depth++;
+			return session;
+		}
+
+		checkConnection();
+
+		if (this.dataSource == null) {
+			session = this.session;
+		} else {
+			Semaphore permits = this.connectionPermits;
+
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SQLException(
+						"Interrupted while waiting for a connection", e);
+			}
+
+			try {
+				session = takeIdleSession();
+
+				if (session == null) {
+					session = new Session(this.dataSource.getConnection());
+				}
+			} catch (SQLException e) {
+				permits.release();
+				throw e;
+			}
+
+			session.permits = permits;
+		}
+
+		session.depth = 1;
+		this.currentSession.set(session);
+		return session;
+	}
+
+	/*
+	 * Take a connection which is not in use, closing those which have been
+	 * closed by the data source in the meantime
+	 */
+	private Session takeIdleSession() {
+		synchronized (this.idleSessions) {
+			while (!this.idleSessions.isEmpty()) {
+				Session session = this.idleSessions.removeFirst();
+
+				try {
+					if (!session.connection.isClosed()) {
+						return session;
+					}
+				} catch (SQLException e) {
+					// not usable
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/*
+	 * Return the connection of a call, once the outermost call on the
+	 * current thread is done with it
+	 */
+	private void closeSession(Session session) throws SQLException {
+		if (--session.depth > 0) {
+			return;
+		}
+
+		this.currentSession.remove();
+
+		if (session.permits == null) {
+			return;
+		}
+
+		Semaphore permits = session.permits;
+		session.permits = null;
+
+		try {
+			if (this.connected && this.dataSource != null) {
+				synchronized (this.idleSessions) {
+					this.idleSessions.addLast(session);
+				}
+			} else {
+				session.close();
+			}
+		} finally {
+			permits.release();
+		}
+	}
+
 	// *************************************************************************
 	// METHODS FOR DATA LOAD AND ACCESS
 	// *************************************************************************
@@ -495,6 +858,10 @@ public class SQLAccessor implements DBAccessor {
 	 * This method invokes {@link #connect()} if the lexicon has not connected
 	 * to the DB via an explicit invocation of this method.
 	 * 
+	 * <P>
+	 * If bulk loading is on (see {@link #setBulkLoading(boolean)}), the same
+	 * data are retrieved by a fixed number of queries instead.
+	 * 
 	 * @param categories
 	 *            the categories of entries to load
 	 * @throws SQLException
@@ -508,7 +875,17 @@ public class SQLAccessor implements DBAccessor {
 	public void loadData(Category... categories) throws SQLException,
 			ClassNotFoundException {
 
-		checkConnection();
+		if (this.bulkLoading) {
+			Session session = openSession();
+
+			try {
+				loadInBulk(session, categories);
+			} finally {
+				closeSession(session);
+			}
+
+			return;
+		}
 
 		for (Category c : categories) {
 			switch (c) {
@@ -544,6 +921,488 @@ public class SQLAccessor implements DBAccessor {
 
 	}
 
+	/**
+	 * Splits the data of the given categories into one part per category, each
+	 * of which is loaded by a new <code>SQLAccessor</code> with the same
+	 * database parameters and settings as this one, over its own connection.
+	 * Nouns come first, since their derivations may refer to items of other
+	 * categories, which are then loaded along with them.
+	 * 
+	 * @param parts
+	 *            ignored; the data are split by category
+	 * @param categories
+	 *            the categories to load, or none for all of them
+	 * @return the parts
+	 */
+	public List<DataPartition> partition(int parts, Category... categories) {
+		List<DataPartition> partitions = new ArrayList<DataPartition>();
+		List<Category> cats = new ArrayList<Category>();
+
+		if (categories.length == 0) {
+			categories = Category.values();
+		}
+
+		for (Category c : categories) {
+			if (getDBCategories(c).length > 0 && !cats.contains(c)) {
+				cats.add(c);
+			}
+		}
+
+		if (cats.remove(Category.NOUN)) {
+			cats.add(0, Category.NOUN);
+		}
+
+		for (final Category c : cats) {
+			partitions.add(new DataPartition() {
+				public void loadInto(DatabaseBackedLexicon lex)
+						throws Exception {
+					SQLAccessor accessor = copy();
+					lex.setAccessor(accessor);
+
+					try {
+						accessor.loadData(c);
+					} finally {
+						// the connections of a data source are kept for reuse
+						if (accessor.isConnected()
+								&& accessor.getDataSource() == null) {
+							accessor.disconnect();
+						}
+					}
+				}
+			});
+		}
+
+		return partitions;
+	}
+
+	/*
+	 * A new accessor for the same database, with the same settings
+	 */
+	private SQLAccessor copy() {
+		SQLAccessor accessor = new SQLAccessor(this.driver, this.url,
+				this.username, this.password);
+		accessor.bulkLoading = this.bulkLoading;
+		accessor.batchSize = this.batchSize;
+		accessor.fetchSize = this.fetchSize;
+
+		// share the connections from the data source and their bound
+		accessor.dataSource = this.dataSource;
+		accessor.maxConnections = this.maxConnections;
+		accessor.connectionPermits = this.connectionPermits;
+		accessor.idleSessions = this.idleSessions;
+		return accessor;
+	}
+
+	// *************************************************************************
+	// BULK LOADING
+	// *************************************************************************
+
+	/*
+	 * The rows of the complements, features and derivations tables for a set
+	 * of entries, by euid. Each row holds the columns of the corresponding
+	 * query in SQLConfig, starting with the euid.
+	 */
+	private static class BulkRows {
+		Map<String, List<String[]>> complements = new HashMap<String, List<String[]>>();
+		Map<String, List<String[]>> adjFeatures = new HashMap<String, List<String[]>>();
+		Map<String, List<String[]>> advFeatures = new HashMap<String, List<String[]>>();
+		Map<String, List<String[]>> detFeatures = new HashMap<String, List<String[]>>();
+		Map<String, List<String[]>> conjFeatures = new HashMap<String, List<String[]>>();
+		Map<String, List<String[]>> proFeatures = new HashMap<String, List<String[]>>();
+		Map<String, List<String[]>> derivations = new HashMap<String, List<String[]>>();
+	}
+
+	/*
+	 * Load the entries of the given categories: the entries of each category
+	 * are retrieved by one query, in the order of the categories, and their
+	 * complements, features and derivations by one query per table. As in
+	 * loadNouns(), the derivations of the nouns are added once they are loaded.
+	 */
+	private void loadInBulk(Session session, Category... categories)
+			throws SQLException {
+		List<String> dbCategories = new ArrayList<String>();
+
+		for (Category c : categories) {
+			for (String dbCat : getDBCategories(c)) {
+				if (!dbCategories.contains(dbCat)) {
+					dbCategories.add(dbCat);
+				}
+			}
+		}
+
+		if (dbCategories.isEmpty()) {
+			return;
+		}
+
+		BulkRows rows = fetchRows(session, "e.category in "
+				+ placeholders(dbCategories.size()), dbCategories, dbCategories);
+
+		for (Category c : categories) {
+			List<String> cats = Arrays.asList(getDBCategories(c));
+
+			if (!cats.isEmpty()) {
+				List<LexicalItem> items = loadEntries(session, "e.category in "
+						+ placeholders(cats.size()), cats, rows);
+
+				if (c == Category.NOUN) {
+					addDerivations(session, items, rows);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Add the derivations of the given items. The items they are related to
+	 * are taken from the lexicon; those which are not in it yet are retrieved
+	 * by their ids, in batches, together with their own derivations, and so
+	 * on, as if they had been loaded one by one via loadItemByID().
+	 */
+	private void addDerivations(Session session, List<LexicalItem> items,
+			BulkRows rows) throws SQLException {
+		List<LexicalItem> pending = items;
+
+		while (!pending.isEmpty()) {
+			List<String> missing = new ArrayList<String>();
+			Set<String> seen = new HashSet<String>();
+
+			for (LexicalItem item : pending) {
+				for (String[] row : getRows(rows.derivations, item.getID())) {
+					String relatedItemID = row[1];
+
+					if (parseDerivRelation(row[2]) != null
+							&& !this.lexicon.hasItemID(relatedItemID)
+							&& seen.add(relatedItemID)) {
+						missing.add(relatedItemID);
+					}
+				}
+			}
+
+			List<LexicalItem> loaded = new ArrayList<LexicalItem>();
+
+			for (int i = 0; i < missing.size(); i += this.batchSize) {
+				List<String> ids = missing.subList(i, Math.min(missing.size(),
+						i + this.batchSize));
+				String condition = "e.euid in " + placeholders(ids.size());
+				BulkRows batch = fetchRows(session, condition, ids, null);
+				loaded.addAll(loadEntries(session, condition, ids, batch));
+				rows.derivations.putAll(batch.derivations);
+			}
+
+			for (LexicalItem item : pending) {
+				for (String[] row : getRows(rows.derivations, item.getID())) {
+					DerivationalRelation dr = parseDerivRelation(row[2]);
+
+					// entries which do not exist were not loaded above
+					if (dr != null && this.lexicon.hasItemID(row[1])) {
+						addDerivation(item, dr, this.lexicon.getItemByID(row[1]));
+					}
+				}
+			}
+
+			pending = loaded;
+		}
+	}
+
+	/*
+	 * Retrieve the entries satisfying the condition, construct them with the
+	 * given rows, or reuse the items already in the lexicon, add them to the
+	 * lexicon and return them.
+	 */
+	private List<LexicalItem> loadEntries(Session session, String condition,
+			List<String> params, BulkRows rows) throws SQLException {
+		List<LexicalItem> items = new ArrayList<LexicalItem>();
+		PreparedStatement entries = prepareBulkQuery(session,
+				SQLConfig.entriesWhere + condition, params);
+
+		try {
+			ResultSet results = entries.executeQuery();
+
+			while (results.next()) {
+				String id = results.getString("euid");
+				boolean hasComp = results.getBoolean("hasComp");
+				LexicalItem item = null;
+
+				if (this.lexicon.hasItemID(id)) {
+					item = this.lexicon.getItemByID(id);
+				}
+
+				if (item == null) {
+					item = constructItem(id, results.getString("baseform"),
+							results.getString("category"), results
+									.getString("infl"), results
+									.getString("agr"), rows);
+				}
+
+				if (item != null) {
+					// check if there's a complement at this row
+					if (hasComp && item instanceof ContentWord) {
+						for (String[] row : getRows(rows.complements, id)) {
+							addComplementFrame((ContentWord) item, row[1],
+									row[2], row[3], row[4], row[5], row[6],
+									row[7]);
+						}
+					}
+
+					this.lexicon.addItem(item);
+					items.add(item);
+				}
+			}
+
+		} finally {
+			entries.close();
+		}
+
+		return items;
+	}
+
+	/*
+	 * construct a lexical item with the features in the given rows, as the
+	 * methods for the individual categories do
+	 */
+	private LexicalItem constructItem(String id, String baseform,
+			String category, String infl, String agr, BulkRows rows) {
+		LexicalItem item = null;
+		String[] features;
+
+		if (category.equals("noun")) {
+			item = new Noun(id, baseform);
+			((Noun) item).setAgreement(getAgreementCode(agr));
+
+		} else if (category.equals("verb") || category.equals("aux")
+				|| category.equals("modal")) {
+			item = new Verb(id, baseform);
+			((Verb) item).setVerbType(getVerbType(category));
+
+		} else if (category.equals("adj")) {
+			item = new Adjective(id, baseform);
+			features = getFirstRow(rows.adjFeatures, id);
+
+			if (features != null) {
+				setAdjFeatures((Adjective) item, features[1],
+						isTrue(features[2]));
+			}
+
+		} else if (category.equals("adv")) {
+			item = new Adverb(id, baseform);
+			features = getFirstRow(rows.advFeatures, id);
+
+			if (features != null) {
+				setAdverbFeatures((Adverb) item, features[1], features[2]);
+			}
+
+		} else if (category.equals("prep")) {
+			item = new Preposition(id, baseform);
+
+		} else if (category.equals("pron")) {
+			item = new Pronoun(id, baseform);
+			((Pronoun) item).setAgreement(getAgreementCode(agr));
+			features = getFirstRow(rows.proFeatures, id);
+
+			if (features != null) {
+				setPronounFeatures((Pronoun) item, features[1], features[2],
+						features[3], features[4], features[5]);
+			}
+
+		} else if (category.equals("det")) {
+			item = new Determiner(id, baseform);
+			((Determiner) item).setAgreement(getAgreementCode(agr));
+			features = getFirstRow(rows.detFeatures, id);
+
+			if (features != null) {
+				((Determiner) item).setDeixis(getDeixis(features[1]));
+			}
+
+		} else if (category.equals("compl") || category.equals("comp")) {
+			item = new Complementiser(id, baseform);
+
+		} else if (category.equals("conj")) {
+			item = new Conjunction(id, baseform);
+			features = getFirstRow(rows.conjFeatures, id);
+
+			if (features != null) {
+				setConjFeatures((Conjunction) item, features[1], features[2]);
+			}
+		}
+
+		if (item != null) {
+			item.setInflectionType(getInflectionCode(infl));
+		}
+
+		return item;
+	}
+
+	/*
+	 * Retrieve the rows of the complements, features and derivations tables
+	 * for the entries satisfying the condition. Only the tables relevant to
+	 * the given categories of the entries table are queried, or all of them if
+	 * the categories are null.
+	 */
+	private BulkRows fetchRows(Session session, String condition,
+			List<String> params, List<String> dbCategories) throws SQLException {
+		BulkRows rows = new BulkRows();
+		String subquery = condition + ")";
+
+		if (dbCategories == null || dbCategories.contains("verb")
+				|| dbCategories.contains("aux")
+				|| dbCategories.contains("modal")
+				|| dbCategories.contains("noun")
+				|| dbCategories.contains("adj")
+				|| dbCategories.contains("adv")) {
+			selectRows(session, SQLConfig.complementsWhere + subquery, params,
+					rows.complements);
+		}
+
+		if (dbCategories == null || dbCategories.contains("adj")) {
+			selectRows(session, SQLConfig.adjFeaturesWhere + subquery, params,
+					rows.adjFeatures);
+		}
+
+		if (dbCategories == null || dbCategories.contains("adv")) {
+			selectRows(session, SQLConfig.advFeaturesWhere + subquery, params,
+					rows.advFeatures);
+		}
+
+		if (dbCategories == null || dbCategories.contains("det")) {
+			selectRows(session, SQLConfig.detFeaturesWhere + subquery, params,
+					rows.detFeatures);
+		}
+
+		if (dbCategories == null || dbCategories.contains("conj")) {
+			selectRows(session, SQLConfig.conjFeaturesWhere + subquery, params,
+					rows.conjFeatures);
+		}
+
+		if (dbCategories == null || dbCategories.contains("pron")) {
+			selectRows(session, SQLConfig.proFeaturesWhere + subquery, params,
+					rows.proFeatures);
+		}
+
+		if (dbCategories == null || dbCategories.contains("noun")) {
+			selectRows(session, SQLConfig.derivationsWhere + subquery, params,
+					rows.derivations);
+		}
+
+		return rows;
+	}
+
+	/*
+	 * Execute a bulk query and group its rows by the euid in the first column
+	 */
+	private void selectRows(Session session, String query,
+			List<String> params, Map<String, List<String[]>> rows)
+			throws SQLException {
+		PreparedStatement statement = prepareBulkQuery(session, query, params);
+
+		try {
+			ResultSet results = statement.executeQuery();
+			int columns = results.getMetaData().getColumnCount();
+
+			while (results.next()) {
+				String[] row = new String[columns];
+
+				for (int i = 0; i < columns; i++) {
+					row[i] = results.getString(i + 1);
+				}
+
+				List<String[]> idRows = rows.get(row[0]);
+
+				if (idRows == null) {
+					idRows = new ArrayList<String[]>();
+					rows.put(row[0], idRows);
+				}
+
+				idRows.add(row);
+			}
+
+		} finally {
+			statement.close();
+		}
+	}
+
+	/*
+	 * Prepare a bulk query, binding the parameters in order. Bulk queries
+	 * differ in their number of parameters, so they are not cached.
+	 */
+	private PreparedStatement prepareBulkQuery(Session session, String query,
+			List<String> params) throws SQLException {
+		PreparedStatement statement = session.connection.prepareStatement(query);
+		statement.setFetchSize(this.fetchSize);
+
+		for (int i = 0; i < params.size(); i++) {
+			statement.setString(i + 1, params.get(i));
+		}
+
+		return statement;
+	}
+
+	/*
+	 * Get the codes in the category field of the entries table for a category
+	 */
+	private String[] getDBCategories(Category cat) {
+		switch (cat) {
+		case NOUN:
+			return new String[] { "noun" };
+		case VERB:
+			return new String[] { "verb", "aux", "modal" };
+		case ADJECTIVE:
+			return new String[] { "adj" };
+		case ADVERB:
+			return new String[] { "adv" };
+		case COMPLEMENTISER:
+			return new String[] { "compl" };
+		case CONJUNCTION:
+			return new String[] { "conj" };
+		case DETERMINER:
+			return new String[] { "det" };
+		case PREPOSITION:
+			return new String[] { "prep" };
+		case PRONOUN:
+			return new String[] { "pron" };
+		default:
+			return new String[0];
+		}
+	}
+
+	/*
+	 * A bracketed list of n parameter placeholders
+	 */
+	private static String placeholders(int n) {
+		StringBuilder buffer = new StringBuilder("(");
+
+		for (int i = 0; i < n; i++) {
+			buffer.append(i == 0 ? "?" : ", ?");
+		}
+
+		return buffer.append(")").toString();
+	}
+
+	/*
+	 * The rows for an id, if any
+	 */
+	private static List<String[]> getRows(Map<String, List<String[]>> rows,
+			String id) {
+		List<String[]> idRows = rows.get(id);
+		return idRows == null ? Collections.<String[]> emptyList() : idRows;
+	}
+
+	/*
+	 * The first row for an id, as retrieved by the queries for single items
+	 */
+	private static String[] getFirstRow(Map<String, List<String[]>> rows,
+			String id) {
+		List<String[]> idRows = rows.get(id);
+		return idRows == null ? null : idRows.get(0);
+	}
+
+	/*
+	 * The value of a boolean column retrieved as a string, converted as by
+	 * ResultSet.getBoolean()
+	 */
+	private static boolean isTrue(String value) {
+		return value != null
+				&& (value.equals("1") || value.equalsIgnoreCase("true"));
+	}
+
 	// *************************************************************************
 	// SQL HANDLING
 	// *************************************************************************
@@ -573,39 +1432,46 @@ public class SQLAccessor implements DBAccessor {
 	 *             if the lexicon has not been set
 	 */
 	public void loadVerbs() throws SQLException, ClassNotFoundException {
-		checkConnection();
-		String query = SQLConfig.entriesByCategory
-				+ "where( e.category=\"verb\" or e.category=\"aux\" or e.category=\"modal\" )";
-		PreparedStatement verbs = this.con.prepareStatement(query);
+		Session session = openSession();
 
-		if (verbs.execute()) {
-			ResultSet results = verbs.getResultSet();
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where( e.category=\"verb\" or e.category=\"aux\" or e.category=\"modal\" )";
+			PreparedStatement verbs = session.prepare(query);
 
-			while (results.next()) {
-				String id = results.getString("euid");
-				boolean hasComp = results.getBoolean("hasComp");
-				Verb v = null;
+			if (verbs.execute()) {
+				ResultSet results = verbs.getResultSet();
 
-				if (this.lexicon.hasItemID(id)) {
-					v = (Verb) this.lexicon.getItemByID(id);
-				}
+				while (results.next()) {
+					String id = results.getString("euid");
+					boolean hasComp = results.getBoolean("hasComp");
+					Verb v = null;
 
-				if (v == null) {
-					String baseform = results.getString("baseform");
-					v = new Verb(id, baseform);
-					v.setVerbType(getVerbType(results.getString("category")));
-					v.setInflectionType(getInflectionCode(results
-							.getString("infl")));
-				}
+					if (this.lexicon.hasItemID(id)) {
+						v = (Verb) this.lexicon.getItemByID(id);
+					}
 
-				// check if there's a complement at this row
-				if (hasComp) {
-					v = (Verb) addComplements(v);
-				}
+					if (v == null) {
+						String baseform = results.getString("baseform");
+						v = new Verb(id, baseform);
+						v.setVerbType(getVerbType(results.getString("category")));
+						v.setInflectionType(getInflectionCode(results
+								.getString("infl")));
+					}
+
+					// check if there's a complement at this row
+					if (hasComp) {
+						v = (Verb) addComplements(session, v);
+					}
 
-				//loadVariants(v);
-				this.lexicon.addItem(v);
+					//loadVariants(v);
+					this.lexicon.addItem(v);
+				}
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -634,40 +1500,47 @@ public class SQLAccessor implements DBAccessor {
 	 *             if the lexicon has not been set
 	 */
 	public void loadNouns() throws SQLException, ClassNotFoundException {
-		checkConnection();
-		String query = SQLConfig.entriesByCategory
-				+ "where( e.category=\"noun\" );";
-		PreparedStatement nouns = this.con.prepareStatement(query);
+		Session session = openSession();
 
-		if (nouns.execute()) {
-			ResultSet results = nouns.getResultSet();
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where( e.category=\"noun\" );";
+			PreparedStatement nouns = session.prepare(query);
 
-			while (results.next()) {
-				String id = results.getString("euid");
-				boolean hasComp = results.getBoolean("hasComp");
-				Noun n = null;
+			if (nouns.execute()) {
+				ResultSet results = nouns.getResultSet();
 
-				if (this.lexicon.hasItemID(id)) {
-					n = (Noun) this.lexicon.getItemByID(id);
-				}
+				while (results.next()) {
+					String id = results.getString("euid");
+					boolean hasComp = results.getBoolean("hasComp");
+					Noun n = null;
 
-				if (n == null) {
-					String baseform = results.getString("baseform");
-					n = new Noun(id, baseform);
-					n.setInflectionType(getInflectionCode(results
-							.getString("infl")));
-					n.setAgreement(getAgreementCode(results.getString("agr")));
-				}
+					if (this.lexicon.hasItemID(id)) {
+						n = (Noun) this.lexicon.getItemByID(id);
+					}
 
-				// check if there's a complement at this row
-				if (hasComp) {
-					n = (Noun) addComplements(n);
-				}
+					if (n == null) {
+						String baseform = results.getString("baseform");
+						n = new Noun(id, baseform);
+						n.setInflectionType(getInflectionCode(results
+								.getString("infl")));
+						n.setAgreement(getAgreementCode(results.getString("agr")));
+					}
+
+					// check if there's a complement at this row
+					if (hasComp) {
+						n = (Noun) addComplements(session, n);
+					}
 
-				//loadVariants(n);
-				loadDerivations(n);
-				this.lexicon.addItem(n);
+					//loadVariants(n);
+					loadDerivations(session, n);
+					this.lexicon.addItem(n);
+				}
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -699,40 +1572,47 @@ public class SQLAccessor implements DBAccessor {
 	 *             if the lexicon has not been set
 	 */
 	public void loadAdjectives() throws SQLException, ClassNotFoundException {
-		checkConnection();
-		String query = SQLConfig.entriesByCategory
-				+ "where( e.category=\"adj\" );";
-		PreparedStatement adjectives = this.con.prepareStatement(query);
+		Session session = openSession();
 
-		if (adjectives.execute()) {
-			ResultSet results = adjectives.getResultSet();
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where( e.category=\"adj\" );";
+			PreparedStatement adjectives = session.prepare(query);
 
-			while (results.next()) {
-				String id = results.getString("euid");
-				boolean hasComp = results.getBoolean("hasComp");
-				Adjective a = null;
+			if (adjectives.execute()) {
+				ResultSet results = adjectives.getResultSet();
 
-				if (this.lexicon.hasItemID(id)) {
-					a = (Adjective) this.lexicon.getItemByID(id);
-				}
+				while (results.next()) {
+					String id = results.getString("euid");
+					boolean hasComp = results.getBoolean("hasComp");
+					Adjective a = null;
 
-				if (a == null) {
-					String baseform = results.getString("baseform");
-					InflectionType infl = getInflectionCode(results
-							.getString("infl"));
-					a = new Adjective(id, baseform);
-					a.setInflectionType(infl);
-					a = addAdjFeatures(a);
-				}
+					if (this.lexicon.hasItemID(id)) {
+						a = (Adjective) this.lexicon.getItemByID(id);
+					}
 
-				// check if there's a complement at this row
-				if (hasComp) {
-					a = (Adjective) addComplements(a);
-				}
+					if (a == null) {
+						String baseform = results.getString("baseform");
+						InflectionType infl = getInflectionCode(results
+								.getString("infl"));
+						a = new Adjective(id, baseform);
+						a.setInflectionType(infl);
+						a = addAdjFeatures(session, a);
+					}
+
+					// check if there's a complement at this row
+					if (hasComp) {
+						a = (Adjective) addComplements(session, a);
+					}
 
-				//loadVariants(a);
-				this.lexicon.addItem(a);
+					//loadVariants(a);
+					this.lexicon.addItem(a);
+				}
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -764,37 +1644,44 @@ public class SQLAccessor implements DBAccessor {
 	 *             if the lexicon has not been set
 	 */
 	public void loadAdverbs() throws SQLException, ClassNotFoundException {
-		checkConnection();
-		String query = SQLConfig.entriesByCategory
-				+ "where( e.category=\"adv\" );";
-		PreparedStatement adverbs = this.con.prepareStatement(query);
+		Session session = openSession();
 
-		if (adverbs.execute()) {
-			ResultSet results = adverbs.getResultSet();
-
-			while (results.next()) {
-				String id = results.getString("euid");
-				boolean hasComp = results.getBoolean("hasComp");
-				Adverb a = null;
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where( e.category=\"adv\" );";
+			PreparedStatement adverbs = session.prepare(query);
+
+			if (adverbs.execute()) {
+				ResultSet results = adverbs.getResultSet();
+
+				while (results.next()) {
+					String id = results.getString("euid");
+					boolean hasComp = results.getBoolean("hasComp");
+					Adverb a = null;
+
+					if (this.lexicon.hasItemID(id)) {
+						a = (Adverb) this.lexicon.getItemByID(id);
+					} else {
+						String baseform = results.getString("baseform");
+						a = new Adverb(id, baseform);
+						a.setInflectionType(getInflectionCode(results
+								.getString("infl")));
+						a = addAdverbFeatures(session, a);
+					}
 
-				if (this.lexicon.hasItemID(id)) {
-					a = (Adverb) this.lexicon.getItemByID(id);
-				} else {
-					String baseform = results.getString("baseform");
-					a = new Adverb(id, baseform);
-					a.setInflectionType(getInflectionCode(results
-							.getString("infl")));
-					a = addAdverbFeatures(a);
-				}
+					// check if there's a complement at this row
+					if (hasComp) {
+						a = (Adverb) addComplements(session, a);
+					}
 
-				// check if there's a complement at this row
-				if (hasComp) {
-					a = (Adverb) addComplements(a);
+					//loadVariants(a);
+					this.lexicon.addItem(a);
 				}
-
-				//loadVariants(a);
-				this.lexicon.addItem(a);
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -820,30 +1707,37 @@ public class SQLAccessor implements DBAccessor {
 	 *             if the lexicon has not been set
 	 */
 	public void loadPrepositions() throws SQLException, ClassNotFoundException {
-		checkConnection();
-		String query = SQLConfig.entriesByCategory
-				+ "where e.category=\"prep\";";
-		PreparedStatement prepositions = this.con.prepareStatement(query);
+		Session session = openSession();
 
-		if (prepositions.execute()) {
-			ResultSet results = prepositions.getResultSet();
-
-			while (results.next()) {
-				String id = results.getString(1);
-				Preposition p = null;
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where e.category=\"prep\";";
+			PreparedStatement prepositions = session.prepare(query);
+
+			if (prepositions.execute()) {
+				ResultSet results = prepositions.getResultSet();
+
+				while (results.next()) {
+					String id = results.getString(1);
+					Preposition p = null;
+
+					if (this.lexicon.hasItemID(id)) {
+						p = (Preposition) this.lexicon.getItemByID(id);
+					} else {
+						String baseform = results.getString(2);
+						p = new Preposition(id, baseform);
+						p.setInflectionType(getInflectionCode(results
+								.getString("infl")));
+					}
 
-				if (this.lexicon.hasItemID(id)) {
-					p = (Preposition) this.lexicon.getItemByID(id);
-				} else {
-					String baseform = results.getString(2);
-					p = new Preposition(id, baseform);
-					p.setInflectionType(getInflectionCode(results
-							.getString("infl")));
+					//loadVariants(p);
+					this.lexicon.addItem(p);
 				}
-
-				//loadVariants(p);
-				this.lexicon.addItem(p);
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -870,31 +1764,38 @@ public class SQLAccessor implements DBAccessor {
 	 */
 	public void loadComplementisers() throws SQLException,
 			ClassNotFoundException {
-		checkConnection();
-		String query = SQLConfig.entriesByCategory
-				+ "where e.category=\"compl\";";
-		PreparedStatement complementisers = this.con.prepareStatement(query);
-
-		if (complementisers.execute()) {
-			ResultSet results = complementisers.getResultSet();
+		Session session = openSession();
 
-			// e.euid, e.baseform, e.infl
-			while (results.next()) {
-				String id = results.getString("euid");
-				Complementiser c = null;
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where e.category=\"compl\";";
+			PreparedStatement complementisers = session.prepare(query);
+
+			if (complementisers.execute()) {
+				ResultSet results = complementisers.getResultSet();
+
+				// e.euid, e.baseform, e.infl
+				while (results.next()) {
+					String id = results.getString("euid");
+					Complementiser c = null;
+
+					if (this.lexicon.hasItemID(id)) {
+						c = (Complementiser) this.lexicon.getItemByID(id);
+					} else {
+						String baseform = results.getString("baseform");
+						c = new Complementiser(id, baseform);
+						c.setInflectionType(getInflectionCode(results
+								.getString("infl")));
+					}
 
-				if (this.lexicon.hasItemID(id)) {
-					c = (Complementiser) this.lexicon.getItemByID(id);
-				} else {
-					String baseform = results.getString("baseform");
-					c = new Complementiser(id, baseform);
-					c.setInflectionType(getInflectionCode(results
-							.getString("infl")));
+					//loadVariants(c);
+					this.lexicon.addItem(c);
 				}
-
-				//loadVariants(c);
-				this.lexicon.addItem(c);
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -920,32 +1821,39 @@ public class SQLAccessor implements DBAccessor {
 	 *             if the lexicon has not been set
 	 */
 	public void loadDeterminers() throws SQLException, ClassNotFoundException {
-		checkConnection();
-		String query = SQLConfig.entriesByCategory
-				+ "where e.category=\"det\";";
-		PreparedStatement determiners = this.con.prepareStatement(query);
+		Session session = openSession();
 
-		if (determiners.execute()) {
-			ResultSet results = determiners.getResultSet();
-
-			while (results.next()) {
-				String id = results.getString("euid");
-				Determiner d = null;
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where e.category=\"det\";";
+			PreparedStatement determiners = session.prepare(query);
+
+			if (determiners.execute()) {
+				ResultSet results = determiners.getResultSet();
+
+				while (results.next()) {
+					String id = results.getString("euid");
+					Determiner d = null;
+
+					if (this.lexicon.hasItemID(id)) {
+						d = (Determiner) this.lexicon.getItemByID(id);
+					} else {
+						String baseform = results.getString("baseform");
+						d = new Determiner(id, baseform);
+						d.setInflectionType(getInflectionCode(results
+								.getString("infl")));
+						d.setAgreement(getAgreementCode(results.getString("agr")));
+						d = addDetFeatures(session, d);
+					}
 
-				if (this.lexicon.hasItemID(id)) {
-					d = (Determiner) this.lexicon.getItemByID(id);
-				} else {
-					String baseform = results.getString("baseform");
-					d = new Determiner(id, baseform);
-					d.setInflectionType(getInflectionCode(results
-							.getString("infl")));
-					d.setAgreement(getAgreementCode(results.getString("agr")));
-					d = addDetFeatures(d);
+					//loadVariants(d);
+					this.lexicon.addItem(d);
 				}
-
-				//loadVariants(d);
-				this.lexicon.addItem(d);
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -976,32 +1884,39 @@ public class SQLAccessor implements DBAccessor {
 	 * 
 	 */
 	public void loadConjunctions() throws SQLException, ClassNotFoundException {
-		checkConnection();
-		String query = SQLConfig.entriesByCategory
-				+ "where e.category=\"conj\";";
-		PreparedStatement conjunctions = this.con.prepareStatement(query);
-
-		if (conjunctions.execute()) {
-			ResultSet results = conjunctions.getResultSet();
+		Session session = openSession();
 
-			// e.euid, e.baseform, e.infl, c.conjType, c.argType
-			while (results.next()) {
-				String id = results.getString("euid");
-				Conjunction c = null;
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where e.category=\"conj\";";
+			PreparedStatement conjunctions = session.prepare(query);
+
+			if (conjunctions.execute()) {
+				ResultSet results = conjunctions.getResultSet();
+
+				// e.euid, e.baseform, e.infl, c.conjType, c.argType
+				while (results.next()) {
+					String id = results.getString("euid");
+					Conjunction c = null;
+
+					if (this.lexicon.hasItemID(id)) {
+						c = (Conjunction) this.lexicon.getItemByID(id);
+					} else {
+						String baseform = results.getString("baseform");
+						c = new Conjunction(id, baseform);
+						c.setInflectionType(getInflectionCode(results
+								.getString("infl")));
+						c = addConjFeatures(session, c);
+					}
 
-				if (this.lexicon.hasItemID(id)) {
-					c = (Conjunction) this.lexicon.getItemByID(id);
-				} else {
-					String baseform = results.getString("baseform");
-					c = new Conjunction(id, baseform);
-					c.setInflectionType(getInflectionCode(results
-							.getString("infl")));
-					c = addConjFeatures(c);
+					//loadVariants(c);
+					this.lexicon.addItem(c);
 				}
-
-				//loadVariants(c);
-				this.lexicon.addItem(c);
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -1039,31 +1954,46 @@ public class SQLAccessor implements DBAccessor {
 	 *             if the lexicon has not been set
 	 */
 	public void loadPronouns() throws SQLException {
-		String query = SQLConfig.entriesByCategory
-				+ "where e.category=\"pron\";";
-		PreparedStatement pronouns = this.con.prepareStatement(query);
+		Session session;
 
-		if (pronouns.execute()) {
-			ResultSet results = pronouns.getResultSet();
+		try {
+			session = openSession();
+		} catch (ClassNotFoundException e) {
+			throw new SQLException("Cannot load database driver: "
+					+ e.getMessage(), e);
+		}
 
-			while (results.next()) {
-				String id = results.getString("euid");
-				Pronoun p = null;
+		try {
+			String query = SQLConfig.entriesByCategory
+					+ "where e.category=\"pron\";";
+			PreparedStatement pronouns = session.prepare(query);
+
+			if (pronouns.execute()) {
+				ResultSet results = pronouns.getResultSet();
+
+				while (results.next()) {
+					String id = results.getString("euid");
+					Pronoun p = null;
+
+					if (this.lexicon.hasItemID(id)) {
+						p = (Pronoun) this.lexicon.getItemByID(id);
+					} else {
+						String baseform = results.getString("baseform");
+						p = new Pronoun(id, baseform);
+						p.setInflectionType(getInflectionCode(results
+								.getString("infl")));
+						p.setAgreement(getAgreementCode(results.getString("agr")));
+						p = addPronounFeatures(session, p);
+					}
 
-				if (this.lexicon.hasItemID(id)) {
-					p = (Pronoun) this.lexicon.getItemByID(id);
-				} else {
-					String baseform = results.getString("baseform");
-					p = new Pronoun(id, baseform);
-					p.setInflectionType(getInflectionCode(results
-							.getString("infl")));
-					p.setAgreement(getAgreementCode(results.getString("agr")));
-					p = addPronounFeatures(p);
+					//loadVariants(p);
+					this.lexicon.addItem(p);
 				}
-
-				//loadVariants(p);
-				this.lexicon.addItem(p);
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -1074,27 +2004,35 @@ public class SQLAccessor implements DBAccessor {
 	 */
 	public void loadItemByID(String id) throws SQLException,
 			ClassNotFoundException {
-		checkConnection();
-		this.getEntryByID.setString(1, id);
+		Session session = openSession();
 
-		if (this.getEntryByID.execute()) {
-			ResultSet results = this.getEntryByID.getResultSet();
+		try {
+			PreparedStatement getEntryByID = session
+					.prepare(SQLConfig.entryByID);
+			getEntryByID.setString(1, id);
 
-			if (results.next()) {
-				String baseform = results.getString("baseform");
-				String category = results.getString("category");
-				String infl = results.getString("infl");
-				String agr = results.getString("agr");
-				Boolean hasComp = results.getBoolean("hasComp");
-				LexicalItem item = constructItem(id, baseform, hasComp,
-						category, infl, agr);
+			if (getEntryByID.execute()) {
+				ResultSet results = getEntryByID.getResultSet();
 
-				if (item != null) {
-					this.lexicon.addItem(item);
-					loadDerivations(item);
-					//loadVariants(item);
+				if (results.next()) {
+					String baseform = results.getString("baseform");
+					String category = results.getString("category");
+					String infl = results.getString("infl");
+					String agr = results.getString("agr");
+					Boolean hasComp = results.getBoolean("hasComp");
+					LexicalItem item = constructItem(session, id, baseform,
+							hasComp, category, infl, agr);
+
+					if (item != null && registerItem(item)) {
+						loadDerivations(session, item);
+						//loadVariants(item);
+					}
 				}
 			}
+	
+
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -1107,59 +2045,70 @@ public class SQLAccessor implements DBAccessor {
 	 */
 	public void loadItem(Category cat, String baseform) throws SQLException,
 			ClassNotFoundException {
-		checkConnection();
-		String c;
-
-		switch (cat) {
-		case NOUN:
-		case VERB:
-			c = cat.toString().toLowerCase();
-			break;
-		case PRONOUN:
-			c = "pron";
-			break;
-		case DETERMINER:
-			c = "det";
-			break;
-		case COMPLEMENTISER:
-			c = "comp";
-			break;
-		case CONJUNCTION:
-			c = "conj";
-			break;
-		case ADJECTIVE:
-			c = "adj";
-			break;
-		case ADVERB:
-			c = "adv";
-			break;
-		case PREPOSITION:
-			c = "prep";
-			break;
-		default:
-			return;
+		Session session = openSession();
 
-		}
+		try {
+			String c;
 
-		this.getEntryByCatBaseform.setString(1, c);
-		this.getEntryByCatBaseform.setString(2, baseform);
+			switch (cat) {
+			case NOUN:
+			case VERB:
+				c = cat.toString().toLowerCase();
+				break;
+			case PRONOUN:
+				c = "pron";
+				break;
+			case DETERMINER:
+				c = "det";
+				break;
+			case COMPLEMENTISER:
+				c = "comp";
+				break;
+			case CONJUNCTION:
+				c = "conj";
+				break;
+			case ADJECTIVE:
+				c = "adj";
+				break;
+			case ADVERB:
+				c = "adv";
+				break;
+			case PREPOSITION:
+				c = "prep";
+				break;
+			default:
+				return;
 
-		if (this.getEntryByCatBaseform.execute()) {
-			ResultSet results = this.getEntryByCatBaseform.getResultSet();
+			}
 
-			if (results.next()) {
-				String id = results.getString("euid");
-				String infl = results.getString("infl");
-				String agr = results.getString("agr");
-				Boolean hasComp = results.getBoolean("hasComp");
-				LexicalItem item = constructItem(id, baseform, hasComp, c,
-						infl, agr);
-				loadDerivations(item);
-				//loadVariants(item);
-				this.lexicon.addItem(item);
+			PreparedStatement getEntryByCatBaseform = session
+					.prepare(SQLConfig.entryByCatBaseform);
+			getEntryByCatBaseform.setString(1, c);
+			getEntryByCatBaseform.setString(2, baseform);
+
+			if (getEntryByCatBaseform.execute()) {
+				ResultSet results = getEntryByCatBaseform.getResultSet();
+
+				if (results.next()) {
+					String id = results.getString("euid");
+					String infl = results.getString("infl");
+					String agr = results.getString("agr");
+					Boolean hasComp = results.getBoolean("hasComp");
+					LexicalItem item = constructItem(session, id, baseform,
+							hasComp, c, infl, agr);
+
+					if (item != null && registerItem(item)) {
+						loadDerivations(session, item);
+						//loadVariants(item);
+					}
+				}
 			}
-		}
 
+	
+
+		} finally {
+			closeSession(session);
+		}
 	}
 
 	/*
@@ -1170,26 +2119,37 @@ public class SQLAccessor implements DBAccessor {
 	 */
 	public void loadItemsByBaseform(String baseform) throws SQLException,
 			ClassNotFoundException {
-		checkConnection();
-		this.getEntryByBaseform.setString(1, baseform);
+		Session session = openSession();
 
-		if (this.getEntryByBaseform.execute()) {
-			ResultSet results = this.getEntryByBaseform.getResultSet();
-
-			while (results.next()) {
-				String id = results.getString("euid");
-				String category = results.getString("category");
-				String infl = results.getString("infl");
-				String agr = results.getString("agr");
-				Boolean hasComp = results.getBoolean("hasComp");
-				LexicalItem item = constructItem(id, baseform, hasComp,
-						category, infl, agr);
-				//loadVariants(item);
-				loadDerivations(item);
-				this.lexicon.addItem(item);
+		try {
+			PreparedStatement getEntryByBaseform = session
+					.prepare(SQLConfig.entryByBaseform);
+			getEntryByBaseform.setString(1, baseform);
+
+			if (getEntryByBaseform.execute()) {
+				ResultSet results = getEntryByBaseform.getResultSet();
+
+				while (results.next()) {
+					String id = results.getString("euid");
+					String category = results.getString("category");
+					String infl = results.getString("infl");
+					String agr = results.getString("agr");
+					Boolean hasComp = results.getBoolean("hasComp");
+					LexicalItem item = constructItem(session, id, baseform,
+							hasComp, category, infl, agr);
+
+					if (item != null && registerItem(item)) {
+						//loadVariants(item);
+						loadDerivations(session, item);
+					}
+				}
 			}
-		}
 
+	
+
+		} finally {
+			closeSession(session);
+		}
 	}
 
 	/**
@@ -1217,69 +2177,78 @@ public class SQLAccessor implements DBAccessor {
 	 * @since version 3.8
 	 */
 	public void loadVerbnetData() throws SQLException, ClassNotFoundException {
-		checkConnection();
-		ResultSet result = this.getVerbFrames.executeQuery();
-
-		if (result == null) {
-			return;
-		}
-
-		// record of frames seen -- so XMl parsed only once per frame
-		Map<Integer, VerbnetFrame> seenFrames = new HashMap<Integer, VerbnetFrame>();
+		Session session = openSession();
 
-		while (result.next()) {
-			String verbID = result.getString(1);
-			Verb verb = (Verb) this.lexicon.getItemByID(verbID);
+		try {
+			PreparedStatement getVerbFrames = session
+					.prepare(SQLConfig.verbFrames);
+			ResultSet result = getVerbFrames.executeQuery();
 
-			// ignore data for verbs we don't have (this should never happen)
-			if (verb == null) {
-				continue;
+			if (result == null) {
+				return;
 			}
 
-			String className = result.getString(2);
-			String superclassName = result.getString(3);
-			VerbnetClass vnClass, vnSuperClass;
+			// record of frames seen -- so XMl parsed only once per frame
+			Map<Integer, VerbnetFrame> seenFrames = new HashMap<Integer, VerbnetFrame>();
 
-			// check if vn class is already in lexicon, else create it
-			if (this.lexicon.hasLexicalClass(className)) {
-				vnClass = (VerbnetClass) this.lexicon
-						.getLexicalClass(className);
-			} else {
-				vnClass = new VerbnetClass(className);
-				this.lexicon.addLexicalClass(vnClass);
+			while (result.next()) {
+				String verbID = result.getString(1);
+				Verb verb = (Verb) this.lexicon.getItemByID(verbID);
+
+				// ignore data for verbs we don't have (this should never happen)
+				if (verb == null) {
+					continue;
+				}
 
-				// check if this class has a superclass
-				// (if yes, it's already in the lexicon)
-				if (superclassName != null) {
-					vnSuperClass = (VerbnetClass) this.lexicon
-							.getLexicalClass(superclassName);
+				String className = result.getString(2);
+				String superclassName = result.getString(3);
+				VerbnetClass vnClass, vnSuperClass;
 
-					if (vnSuperClass != null) {
-						vnSuperClass.addSubclass(vnClass);
+				// check if vn class is already in lexicon, else create it
+				if (this.lexicon.hasLexicalClass(className)) {
+					vnClass = (VerbnetClass) this.lexicon
+							.getLexicalClass(className);
+				} else {
+					vnClass = new VerbnetClass(className);
+					this.lexicon.addLexicalClass(vnClass);
+
+					// check if this class has a superclass
+					// (if yes, it's already in the lexicon)
+					if (superclassName != null) {
+						vnSuperClass = (VerbnetClass) this.lexicon
+								.getLexicalClass(superclassName);
+
+						if (vnSuperClass != null) {
+							vnSuperClass.addSubclass(vnClass);
+						}
 					}
 				}
-			}
 
-			int frameid = result.getInt(4);
-			VerbnetFrame frame;
+				int frameid = result.getInt(4);
+				VerbnetFrame frame;
 
-			// check if we've seen the frame already
-			if (seenFrames.containsKey(frameid)) {
-				frame = seenFrames.get(frameid);
-			} else {
-				String syntax = result.getString(7);
-				frame = parseVerbframeSyntax(syntax);
-
-				// verb frame descriptors
-				String desc1 = result.getString(5);
-				String desc2 = result.getString(6);
-				frame.setMainDescription(desc1);
-				frame.setSubDescription(desc2);
-				seenFrames.put(frameid, frame);
+				// check if we've seen the frame already
+				if (seenFrames.containsKey(frameid)) {
+					frame = seenFrames.get(frameid);
+				} else {
+					String syntax = result.getString(7);
+					frame = parseVerbframeSyntax(syntax);
+
+					// verb frame descriptors
+					String desc1 = result.getString(5);
+					String desc2 = result.getString(6);
+					frame.setMainDescription(desc1);
+					frame.setSubDescription(desc2);
+					seenFrames.put(frameid, frame);
+				}
+
+				vnClass.addFrame(frame);
+				vnClass.addMember(verb);
 			}
+	
 
-			vnClass.addFrame(frame);
-			vnClass.addMember(verb);
+		} finally {
+			closeSession(session);
 		}
 	}
 
@@ -1344,8 +2313,8 @@ public class SQLAccessor implements DBAccessor {
 	/*
 	 * construct a lexical item, based on db info
 	 */
-	private LexicalItem constructItem(String id, String baseform,
-			boolean hasComp, String category, String infl, String agr)
+	private LexicalItem constructItem(Session session, String id,
+			String baseform, boolean hasComp, String category, String infl, String agr)
 			throws SQLException {
 		LexicalItem item = null;
 
@@ -1367,29 +2336,29 @@ public class SQLAccessor implements DBAccessor {
 
 		} else if (category.equals("adj")) {
 			item = new Adjective(id, baseform);
-			item = addAdjFeatures((Adjective) item);
+			item = addAdjFeatures(session, (Adjective) item);
 
 		} else if (category.equals("adv")) {
 			item = new Adverb(id, baseform);
-			item = addAdverbFeatures((Adverb) item);
+			item = addAdverbFeatures(session, (Adverb) item);
 
 		} else if (category.equals("prep")) {
 			item = new Preposition(id, baseform);
 		} else if (category.equals("pron")) {
 			item = new Pronoun(id, baseform);
 			((Pronoun) item).setAgreement(getAgreementCode(agr));
-			item = addPronounFeatures((Pronoun) item);
+			item = addPronounFeatures(session, (Pronoun) item);
 
 		} else if (category.equals("det")) {
 			item = new Determiner(id, baseform);
 			((Determiner) item).setAgreement(getAgreementCode(agr));
-			item = addDetFeatures((Determiner) item);
+			item = addDetFeatures(session, (Determiner) item);
 
 		} else if (category.equals("comp")) {
 			item = new Complementiser(id, baseform);
 		} else if (category.equals("conj")) {
 			item = new Conjunction(id, baseform);
-			item = addConjFeatures((Conjunction) item);
+			item = addConjFeatures(session, (Conjunction) item);
 		}
 
 		// finally, add inflection code
@@ -1398,7 +2367,7 @@ public class SQLAccessor implements DBAccessor {
 		}
 
 		if (hasComp) {
-			item = addComplements((ContentWord) item);
+			item = addComplements(session, (ContentWord) item);
 		}
 
 		//loadVariants(item);
@@ -1463,33 +2432,43 @@ public class SQLAccessor implements DBAccessor {
 	 * Retrieve the complements for a single lexical item at a given row of the
 	 * complements table
 	 */
-	private ContentWord addComplements(ContentWord word) throws SQLException {
-		ComplementFrame frame;
+	private ContentWord addComplements(Session session, ContentWord word)
+			throws SQLException {
 		String id = word.getID();
-		this.complement.setString(1, id);
+		PreparedStatement complement = session
+				.prepare(SQLConfig.complementQuery);
+		complement.setString(1, id);
 
-		if (this.complement.execute()) {
-			ResultSet results = this.complement.getResultSet();
+		if (complement.execute()) {
+			ResultSet results = complement.getResultSet();
 
 			while (results.next()) {
+				String t = results.getString("transitivity");
 				String c1 = results.getString("comp1");
 				String cr1 = results.getString("comp1Restr");
 				String c2 = results.getString("comp2");
 				String cr2 = results.getString("comp2Restr");
 				String r1 = results.getString("gRestr1");
 				String r2 = results.getString("gRestr2");
-				frame = makeFrame(c1, cr1, c2, cr2, r1, r2);
-
-				if (frame != null) {
-					frame.setTransitivity(getTrans(results
-							.getString("transitivity")));
-					word.addComplementFrame(frame);
-				}
+				addComplementFrame(word, t, c1, cr1, c2, cr2, r1, r2);
 			}
 		}
 		return word;
 	}
 
+	/*
+	 * Add the complement frame at a single row of the complements table
+	 */
+	private void addComplementFrame(ContentWord word, String trans, String c1,
+			String cr1, String c2, String cr2, String r1, String r2) {
+		ComplementFrame frame = makeFrame(c1, cr1, c2, cr2, r1, r2);
+
+		if (frame != null) {
+			frame.setTransitivity(getTrans(trans));
+			word.addComplementFrame(frame);
+		}
+	}
+
 	/*
 	 * Get transitivity value for a complement
 	 */
@@ -1536,13 +2515,12 @@ public class SQLAccessor implements DBAccessor {
 			}
 		}
 
-		// ppMatcher.reset(c);
-		this.cppMatcher.reset(c1);
+		Matcher cppMatcher = this.cppPattern.matcher(c1);
 
 		// check for PPs first
-		if (this.cppMatcher.matches()) {
-			String restr1 = this.cppMatcher.group(1);
-			String restr2 = this.cppMatcher.group(3);
+		if (cppMatcher.matches()) {
+			String restr1 = cppMatcher.group(1);
+			String restr2 = cppMatcher.group(3);
 			Preposition[] heads = new Preposition[2];
 			heads[0] = new Preposition(restr1);
 
@@ -1756,65 +2734,83 @@ public class SQLAccessor implements DBAccessor {
 	/*
 	 * Add features position and type to adjective
 	 */
-	private Adjective addAdjFeatures(Adjective a) throws SQLException {
+	private Adjective addAdjFeatures(Session session, Adjective a)
+			throws SQLException {
 		String id = a.getID();
-		this.adjFeature.setString(1, id);
+		PreparedStatement adjFeature = session
+				.prepare(SQLConfig.adjFeatureQuery);
+		adjFeature.setString(1, id);
 
-		if (this.adjFeature.execute()) {
-			ResultSet results = this.adjFeature.getResultSet();
+		if (adjFeature.execute()) {
+			ResultSet results = adjFeature.getResultSet();
 
 			if (results.next()) {
-				String positions = results.getString("positions");
-				boolean stat = results.getBoolean("stative");
-
-				for (AdjectivePosition p : getAdjPos(positions)) {
-					a.addPosition(p);
-				}
-
-				if (stat) {
-					a.setType(AdjectiveType.STATIVE);
-				} else {
-					a.setType(AdjectiveType.NON_STATIVE);
-				}
+				setAdjFeatures(a, results.getString("positions"), results
+						.getBoolean("stative"));
 			}
 		}
 
 		return a;
 	}
 
+	/*
+	 * Set the position and type of an adjective
+	 */
+	private void setAdjFeatures(Adjective a, String positions, boolean stat) {
+
+		for (AdjectivePosition p : getAdjPos(positions)) {
+			a.addPosition(p);
+		}
+
+		if (stat) {
+			a.setType(AdjectiveType.STATIVE);
+		} else {
+			a.setType(AdjectiveType.NON_STATIVE);
+		}
+	}
+
 	/*
 	 * Add features to an adverb
 	 */
-	private Adverb addAdverbFeatures(Adverb a) throws SQLException {
+	private Adverb addAdverbFeatures(Session session, Adverb a)
+			throws SQLException {
 		String id = a.getID();
-		this.advFeature.setString(1, id);
+		PreparedStatement advFeature = session
+				.prepare(SQLConfig.advFeatureQuery);
+		advFeature.setString(1, id);
 
-		if (this.advFeature.execute()) {
-			ResultSet results = this.advFeature.getResultSet();
+		if (advFeature.execute()) {
+			ResultSet results = advFeature.getResultSet();
 
 			if (results.next()) {
-				String positions = results.getString("positions");
-				String polarity = results.getString("polarity");
+				setAdverbFeatures(a, results.getString("positions"), results
+						.getString("polarity"));
+			}
+		}
 
-				// set the positions allowed for this adv, and its type
-				for (String s : positions.split(",")) {
-					AdverbPosition p = getAdvPos(s);
-					AdverbType t = getAdvType(s);
+		return a;
+	}
 
-					if (p != null) {
-						a.addPosition(p);
-					}
+	/*
+	 * Set the positions, types and polarity of an adverb
+	 */
+	private void setAdverbFeatures(Adverb a, String positions, String polarity) {
 
-					if (t != null) {
-						a.addAdverbType(t);
-					}
-				}
+		// set the positions allowed for this adv, and its type
+		for (String s : positions.split(",")) {
+			AdverbPosition p = getAdvPos(s);
+			AdverbType t = getAdvType(s);
 
-				a.setPolarity(getPolarity(polarity));
+			if (p != null) {
+				a.addPosition(p);
+			}
+
+			if (t != null) {
+				a.addAdverbType(t);
 			}
 		}
 
-		return a;
+		a.setPolarity(getPolarity(polarity));
 	}
 
 	/*
@@ -1938,11 +2934,14 @@ public class SQLAccessor implements DBAccessor {
 	/*
 	 * Set features for a determiner
 	 */
-	private Determiner addDetFeatures(Determiner d) throws SQLException {
-		this.detFeature.setString(1, d.getID());
+	private Determiner addDetFeatures(Session session, Determiner d)
+			throws SQLException {
+		PreparedStatement detFeature = session
+				.prepare(SQLConfig.detFeatureQuery);
+		detFeature.setString(1, d.getID());
 
-		if (this.detFeature.execute()) {
-			ResultSet results = this.detFeature.getResultSet();
+		if (detFeature.execute()) {
+			ResultSet results = detFeature.getResultSet();
 
 			if (results.next()) {
 				d.setDeixis(getDeixis(results.getString("detType")));
@@ -1955,31 +2954,43 @@ public class SQLAccessor implements DBAccessor {
 	/*
 	 * add features to a conjunction
 	 */
-	private Conjunction addConjFeatures(Conjunction c) throws SQLException {
-		this.conjFeature.setString(1, c.getID());
+	private Conjunction addConjFeatures(Session session, Conjunction c)
+			throws SQLException {
+		PreparedStatement conjFeature = session
+				.prepare(SQLConfig.conjFeatureQuery);
+		conjFeature.setString(1, c.getID());
 
-		if (this.conjFeature.execute()) {
-			ResultSet results = this.conjFeature.getResultSet();
+		if (conjFeature.execute()) {
+			ResultSet results = conjFeature.getResultSet();
 
 			if (results.next()) {
-				String ctype = results.getString("conjType");
-				String atype = results.getString("argType");
-				c.setConjType(getConjType(ctype));
-				c.setCategoryRestriction(getCatRestriction(atype));
+				setConjFeatures(c, results.getString("conjType"), results
+						.getString("argType"));
 			}
 		}
 
 		return c;
 	}
 
+	/*
+	 * Set the type and category restriction of a conjunction
+	 */
+	private void setConjFeatures(Conjunction c, String ctype, String atype) {
+		c.setConjType(getConjType(ctype));
+		c.setCategoryRestriction(getCatRestriction(atype));
+	}
+
 	/*
 	 * Add features to a pronoun
 	 */
-	private Pronoun addPronounFeatures(Pronoun p) throws SQLException {
-		this.proFeature.setString(1, p.getID());
+	private Pronoun addPronounFeatures(Session session, Pronoun p)
+			throws SQLException {
+		PreparedStatement proFeature = session
+				.prepare(SQLConfig.proFeatureQuery);
+		proFeature.setString(1, p.getID());
 
-		if (this.proFeature.execute()) {
-			ResultSet results = this.proFeature.getResultSet();
+		if (proFeature.execute()) {
+			ResultSet results = proFeature.getResultSet();
 
 			if (results.next()) {
 				String gender = results.getString("gender");
@@ -1987,45 +2998,86 @@ public class SQLAccessor implements DBAccessor {
 				String poss = results.getString("possession");
 				String quant = results.getString("quantification");
 				String type = results.getString("pronType");
-				p.setGender(getGender(gender));
-				p.setCaseValue(getCase(cse));
-				p.setPossession(getPoss(poss));
-				p.setQuantification(getQuant(quant));
-				p.setReflexivity(getRefl(type));
-				p.setDeixis(getDeixis(type));
-				p.setPolarity(getPolarity(type));
+				setPronounFeatures(p, gender, cse, poss, quant, type);
 			}
 		}
 
 		return p;
 	}
 
+	/*
+	 * Set the features of a pronoun
+	 */
+	private void setPronounFeatures(Pronoun p, String gender, String cse,
+			String poss, String quant, String type) {
+		p.setGender(getGender(gender));
+		p.setCaseValue(getCase(cse));
+		p.setPossession(getPoss(poss));
+		p.setQuantification(getQuant(quant));
+		p.setReflexivity(getRefl(type));
+		p.setDeixis(getDeixis(type));
+		p.setPolarity(getPolarity(type));
+	}
+
+	/*
+	 * Add an item loaded on its own to the lexicon, unless another thread has
+	 * added an item with the same id in the meantime, in which case that item
+	 * is kept (together with the derivations it is loading). Returns whether
+	 * the item was added.
+	 */
+	private boolean registerItem(LexicalItem item) {
+		synchronized (this.itemLock) {
+			if (this.lexicon.hasItemID(item.getID())) {
+				return false;
+			}
+
+			this.lexicon.addItem(item);
+			return true;
+		}
+	}
+
 	/*
 	 * Load derivations for a lexical item, if any
 	 */
-	private void loadDerivations(LexicalItem lex) throws SQLException {
-		this.getDerivations.setString(1, lex.getID());
+	private void loadDerivations(Session session, LexicalItem lex)
+			throws SQLException {
+		PreparedStatement getDerivations = session
+				.prepare(SQLConfig.derivations);
+		getDerivations.setString(1, lex.getID());
+		List<String[]> rows = new ArrayList<String[]>();
 
-		if (this.getDerivations.execute()) {
-			ResultSet results = this.getDerivations.getResultSet();
+		// read all the rows first: loading a related item may run the same
+		// statement again on this connection
+		if (getDerivations.execute()) {
+			ResultSet results = getDerivations.getResultSet();
 
 			while (results.next()) {
-				String relatedItemID = results.getString(1);
-				String relation = results.getString(2);
-				DerivationalRelation dr = parseDerivRelation(relation);
+				rows.add(new String[] { results.getString(1),
+						results.getString(2) });
+			}
+		}
 
-				if (dr != null) {
-					LexicalItem relatedItem = this.lexicon
-							.getItemByID(relatedItemID);
-					lex.addDerivationalRelation(dr, relatedItem);
+		for (String[] row : rows) {
+			DerivationalRelation dr = parseDerivRelation(row[1]);
 
-					DerivationalRelation inv = dr.getInverse();
+			if (dr != null) {
+				addDerivation(lex, dr, this.lexicon.getItemByID(row[0]));
+			}
+		}
+	}
 
-					if (inv != null) {
-						relatedItem.addDerivationalRelation(inv, lex);
-					}
+	/*
+	 * Add a derivational relation between two items, and its inverse
+	 */
+	private void addDerivation(LexicalItem lex, DerivationalRelation dr,
+			LexicalItem relatedItem) {
+		synchronized (this.itemLock) {
+			lex.addDerivationalRelation(dr, relatedItem);
 
-				}
+			DerivationalRelation inv = dr.getInverse();
+
+			if (inv != null) {
+				relatedItem.addDerivationalRelation(inv, lex);
 			}
 		}
 	}
@@ -110,6 +110,36 @@ public class SQLConfig {
 	// derivations
 	static final String derivations = "select neuid, relation from derivations d where d.euid=?";
 
+	// bulk versions of the queries above, retrieving the rows of many entries
+	// at once (incomplete): the euid comes first, and the condition on the
+	// entries table (by category or by euid) is appended by the SQLAccessor,
+	// which also closes the subquery of the feature tables
+	static final String entriesWhere = SQLConfig.allEntries + " where ";
+
+	static final String complementsWhere = "select c.euid, c.transitivity, "
+			+ "c.comp1, c.comp1Restr, c.comp2, c.comp2Restr, "
+			+ "c.gRestr1, c.gRestr2 from complements c where c.euid in "
+			+ "(select e.euid from entries e where ";
+
+	static final String adjFeaturesWhere = "select a.euid, a.positions, a.stative from adjectives a "
+			+ "where a.euid in (select e.euid from entries e where ";
+
+	static final String advFeaturesWhere = "select a.euid, a.positions, a.polarity from adverbs a "
+			+ "where a.euid in (select e.euid from entries e where ";
+
+	static final String detFeaturesWhere = "select d.euid, d.detType from determiners d "
+			+ "where d.euid in (select e.euid from entries e where ";
+
+	static final String conjFeaturesWhere = "select c.euid, c.conjType, c.argType from conjunctions c "
+			+ "where c.euid in (select e.euid from entries e where ";
+
+	static final String proFeaturesWhere = "select p.euid, p.gender, p.case1, p.possession, "
+			+ "p.quantification, p.pronType from pronouns p "
+			+ "where p.euid in (select e.euid from entries e where ";
+
+	static final String derivationsWhere = "select d.euid, d.neuid, d.relation from derivations d "
+			+ "where d.euid in (select e.euid from entries e where ";
+
 	// retrieve verbframes
 	static final String verbFrames = "select r.euid, c.class, c.superclass, "
 			+ "d.frameid, d.description1, d.description2, d.syntax "
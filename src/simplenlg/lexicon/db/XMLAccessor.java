@@ -56,9 +56,14 @@
 package simplenlg.lexicon.db;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 
 import org.xml.sax.*;
-import org.xml.sax.helpers.*;
 
 import simplenlg.features.Category;
 import simplenlg.lexicon.DatabaseBackedLexicon;
@@ -66,11 +71,21 @@ import simplenlg.lexicon.DatabaseBackedLexicon;
 /**
  * An accessor for lexical databases in XML format, implementing the
  * {@link simplenlg.lexicon.db.DBAccessor} interface.
+ * 
+ * Lookups of single items (and of single categories) use an
+ * {@link simplenlg.lexicon.db.XMLIndex} of the file, so that only the
+ * matching elements are parsed. The index is built when the file is first
+ * accessed and stored next to it. If the file cannot be indexed, or indexing
+ * has been switched off with {@link #setUseIndex(boolean)}, the whole file is
+ * parsed for every lookup.
+ * 
+ * For loading with several threads, the items of the file are split into
+ * ranges of about equal size, each of which is parsed by its own parser.
  *  
  * @author Marcel Bollmann
  *
  */
-public class XMLAccessor implements DBAccessor {
+public class XMLAccessor implements PartitionedAccessor {
 
 	// the full name (including path) of the XML file
 	private String xmlfilename;
@@ -79,6 +94,14 @@ public class XMLAccessor implements DBAccessor {
 	
 	private XMLReader parser;
 	
+	// the index of the XML file, built on first access
+	private XMLIndex index;
+	
+	private boolean useIndex;
+	
+	// true if the file could not be indexed
+	private boolean indexFailed;
+	
 	/**
 	 * Instantiates a new <code>XMLAccessor</code>.
 	 */
@@ -86,11 +109,16 @@ public class XMLAccessor implements DBAccessor {
 		super();
 		this.xmlfilename = null;
 		this.lexicon = null;
+		this.index = null;
+		this.useIndex = true;
+		this.indexFailed = false;
 		
 		try {
-			this.parser = XMLReaderFactory.createXMLReader();
+			this.parser = createParser();
 		} catch (SAXException e) {
 			e.printStackTrace();
+		} catch (ParserConfigurationException e) {
+			e.printStackTrace();
 		}
 		
 	}
@@ -120,6 +148,24 @@ public class XMLAccessor implements DBAccessor {
 	}
 	
 	
+	/**
+	 * Sets whether lookups should use an index of the XML file (the default),
+	 * or parse the whole file.
+	 * 
+	 * @param useIndex
+	 * 			<code>true</code> to use the index
+	 */
+	public void setUseIndex(boolean useIndex) {
+		this.useIndex = useIndex;
+	}
+	
+	/**
+	 * Returns whether lookups use an index of the XML file.
+	 */
+	public boolean isUseIndex() {
+		return this.useIndex;
+	}
+	
 	@Override
 	public void setLexicon(DatabaseBackedLexicon lex) {
 		this.lexicon = lex;
@@ -140,12 +186,19 @@ public class XMLAccessor implements DBAccessor {
 
 	@Override
 	public void loadData(Category... categories) throws Exception {
+		XMLIndex index = getIndex();
+		
 		for (Category cat : categories) {
 			XMLHandler handler = new XMLHandler();
 			handler.setCat(cat);
 			handler.setLexicon(this.lexicon);
-			parser.setContentHandler(handler);
-			parser.parse(xmlfilename);
+			
+			if (index != null) {
+				parse(handler, index, index.getEntries(cat));
+			} else {
+				parser.setContentHandler(handler);
+				parser.parse(xmlfilename);
+			}
 		}
 	}
 
@@ -153,8 +206,14 @@ public class XMLAccessor implements DBAccessor {
 	public void loadItem(Category cat, String baseform) throws Exception {
 		XMLHandler handler = new XMLHandler(cat, baseform);
 		handler.setLexicon(this.lexicon);
-		parser.setContentHandler(handler);
-		parser.parse(xmlfilename);
+		XMLIndex index = getIndex();
+		
+		if (index != null) {
+			parse(handler, index, index.getEntriesByStem(baseform, cat));
+		} else {
+			parser.setContentHandler(handler);
+			parser.parse(xmlfilename);
+		}
 	}
 
 	@Override
@@ -162,16 +221,177 @@ public class XMLAccessor implements DBAccessor {
 		XMLHandler handler = new XMLHandler();
 		handler.setId(id);
 		handler.setLexicon(this.lexicon);
-		parser.setContentHandler(handler);
-		parser.parse(xmlfilename);
+		XMLIndex index = getIndex();
+		
+		if (index != null) {
+			parse(handler, index, index.getEntriesByID(id));
+		} else {
+			parser.setContentHandler(handler);
+			parser.parse(xmlfilename);
+		}
 	}
 
 	@Override
 	public void loadItemsByBaseform(String baseform) throws Exception {
 		XMLHandler handler = new XMLHandler(baseform);
 		handler.setLexicon(this.lexicon);
+		XMLIndex index = getIndex();
+		
+		if (index != null) {
+			parse(handler, index, index.getEntriesByStem(baseform, null));
+		} else {
+			parser.setContentHandler(handler);
+			parser.parse(xmlfilename);
+		}
+	}
+	
+	@Override
+	public List<DataPartition> partition(int parts, Category... categories)
+			throws Exception {
+		List<DataPartition> partitions = new ArrayList<DataPartition>();
+		XMLIndex index = getIndex();
+		
+		if (categories.length == 0) {
+			categories = new Category[] { Category.ANY };
+		}
+		
+		if (index == null) {
+			// each category is parsed from the whole file
+			for (Category cat : categories) {
+				partitions.add(new Partition(cat, null, null));
+			}
+			return partitions;
+		}
+		
+		List<List<XMLIndex.Entry>> entries = new ArrayList<List<XMLIndex.Entry>>();
+		int total = 0;
+		
+		for (Category cat : categories) {
+			List<XMLIndex.Entry> catEntries = index.getEntries(cat);
+			entries.add(catEntries);
+			total += catEntries.size();
+		}
+		
+		int size = Math.max(1, (total + parts - 1) / Math.max(1, parts));
+		
+		for (int i = 0; i < categories.length; i++) {
+			List<XMLIndex.Entry> catEntries = entries.get(i);
+			
+			for (int start = 0; start < catEntries.size(); start += size) {
+				int end = Math.min(catEntries.size(), start + size);
+				partitions.add(new Partition(categories[i], index, catEntries
+						.subList(start, end)));
+			}
+		}
+		
+		return partitions;
+	}
+	
+	/**
+	 * Parses only the given lexical items of the XML file.
+	 * 
+	 * @param handler
+	 * 			The handler to pass the items to
+	 * @param index
+	 * 			The index of the XML file
+	 * @param entries
+	 * 			The items to parse
+	 */
+	private void parse(XMLHandler handler, XMLIndex index,
+			List<XMLIndex.Entry> entries) throws Exception {
+		parse(this.parser, handler, index, entries);
+	}
+	
+	private void parse(XMLReader parser, XMLHandler handler, XMLIndex index,
+			List<XMLIndex.Entry> entries) throws Exception {
+		if (entries.isEmpty()) return;
+		
+		InputSource source = new InputSource(index.openDocument(entries));
+		source.setSystemId(new File(xmlfilename).toURI().toString());
 		parser.setContentHandler(handler);
-		parser.parse(xmlfilename);
+		parser.parse(source);
+	}
+	
+	/**
+	 * A range of the items of one category, parsed by a parser of its own.
+	 */
+	private class Partition implements DataPartition {
+		
+		private Category cat;
+		
+		// the index and the items to parse, or null to parse the whole file
+		private XMLIndex index;
+		
+		private List<XMLIndex.Entry> entries;
+		
+		Partition(Category cat, XMLIndex index, List<XMLIndex.Entry> entries) {
+			this.cat = cat;
+			this.index = index;
+			this.entries = entries;
+		}
+		
+		@Override
+		public void loadInto(DatabaseBackedLexicon lexicon) throws Exception {
+			XMLHandler handler = new XMLHandler();
+			handler.setCat(this.cat);
+			handler.setLexicon(lexicon);
+			XMLReader parser = createParser();
+			
+			if (this.index != null) {
+				parse(parser, handler, this.index, this.entries);
+			} else {
+				parser.setContentHandler(handler);
+				parser.parse(xmlfilename);
+			}
+		}
+	}
+	
+	/**
+	 * Creates a namespace-aware SAX parser. Each parser may only be used by
+	 * one thread at a time, so every partition gets a parser of its own.
+	 * 
+	 * @return
+	 * 			The parser
+	 */
+	static XMLReader createParser() throws SAXException,
+			ParserConfigurationException {
+		SAXParserFactory factory = SAXParserFactory.newInstance();
+		factory.setNamespaceAware(true);
+		return factory.newSAXParser().getXMLReader();
+	}
+	
+	/**
+	 * Returns the index of the XML file, building it first if necessary or if
+	 * the file has changed.
+	 * 
+	 * @return
+	 * 			The index, or <code>null</code> if it is not to be used or
+	 * 			the file cannot be indexed
+	 */
+	private synchronized XMLIndex getIndex() {
+		if (!this.useIndex || this.xmlfilename == null) return null;
+		
+		if (this.index != null && this.index.isStale()) {
+			this.index = null;
+			this.indexFailed = false;
+		}
+		
+		if (this.index == null && !this.indexFailed) {
+			File file = new File(this.xmlfilename);
+			
+			try {
+				if (file.isFile()) {
+					this.index = XMLIndex.open(file);
+				}
+			} catch (IOException e) {
+				this.index = null;
+			}
+			
+			// e.g. the file name is a URL; fall back to parsing it as a whole
+			this.indexFailed = (this.index == null);
+		}
+		
+		return this.index;
 	}
 
 	@Override
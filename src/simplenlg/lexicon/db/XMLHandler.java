@@ -419,6 +419,8 @@ public class XMLHandler extends DefaultHandler {
 	/**
 	 * Gets the suffix value for a given case/number combination.
 	 * 
+	 * @param suffixList
+	 * 			The suffixes
 	 * @param cas
 	 * 			The case of the suffix
 	 * @param num
@@ -426,13 +428,13 @@ public class XMLHandler extends DefaultHandler {
 	 * @return
 	 * 			The suffix
 	 */
-	private String getSuffix(String cas, String num) {
+	private static String getSuffix(String[][] suffixList, String cas, String num) {
 		int arg0 = getCaseArrayIndex(cas);
 		int arg1 = getNumberArrayIndex(num);
-		return this.suffixList[arg0][arg1];
+		return suffixList[arg0][arg1];
 	}
 
-	private static int getCaseArrayIndex(String cas) {
+	static int getCaseArrayIndex(String cas) {
 		if (cas.equalsIgnoreCase("nom"))      return 0;
 		else if (cas.equalsIgnoreCase("acc")) return 1;
 		else if (cas.equalsIgnoreCase("dat")) return 2;
@@ -440,7 +442,7 @@ public class XMLHandler extends DefaultHandler {
 		else return -1;
 	}
 	
-	private static int getNumberArrayIndex(String num) {
+	static int getNumberArrayIndex(String num) {
 		if (num.equalsIgnoreCase("sg"))       return 0;
 		else if (num.equalsIgnoreCase("pl"))  return 1;
 		else return -1;
@@ -454,63 +456,118 @@ public class XMLHandler extends DefaultHandler {
 	 * 			A {@link simplenlg.lexicon.lexicalitems.Noun} object
 	 */
 	private Noun buildNoun() {
+		return buildNoun(this.stem, this.gender, this.suffixList,
+				this.nounPluraleTantum, this.nounAdjectiveFlexion, this.thisId);
+	}
+	
+	/**
+	 * Builds a {@link simplenlg.lexicon.lexicalitems.Adjective} from the
+	 * parsed lexical data.
+	 * 
+	 * @return
+	 * 			A {@link simplenlg.lexicon.lexicalitems.Adjective} object
+	 */
+	private Adjective buildAdjective() {
+		return buildAdjective(this.stem, this.comp, this.sup, this.adjElision, this.thisId);
+	}
+	
+	/**
+	 * Builds a {@link simplenlg.lexicon.lexicalitems.Verb} from the
+	 * parsed lexical data.
+	 * 
+	 * @return
+	 * 			A {@link simplenlg.lexicon.lexicalitems.Verb} object
+	 */
+	private Verb buildVerb() {
+		return buildVerb(this.stem, this.past, this.part, this.altSg, this.subj2,
+				this.aux, this.inflection, this.thisId);
+	}
+	
+	/**
+	 * Builds a {@link simplenlg.lexicon.lexicalitems.Noun} from lexical
+	 * data in the form it takes in an XML lexicon. This is shared with
+	 * other accessors reading the same data from a different format.
+	 * 
+	 * @param stem
+	 * 			The stem
+	 * @param gender
+	 * 			The gender
+	 * @param suffixList
+	 * 			The suffixes, indexed by case (nom, acc, dat, gen) and
+	 * 			number (sg, pl); missing suffixes are <code>null</code>
+	 * @param pluraleTantum
+	 * 			True if the noun only has plural forms
+	 * @param adjectiveFlexion
+	 * 			True if the noun is inflected like an adjective
+	 * @param id
+	 * 			The ID
+	 * @return
+	 * 			A {@link simplenlg.lexicon.lexicalitems.Noun} object
+	 */
+	static Noun buildNoun(String stem, Gender gender, String[][] suffixList,
+			boolean pluraleTantum, boolean adjectiveFlexion, String id) {
 		Noun noun;
 
-		if (this.nounAdjectiveFlexion || this.nounPluraleTantum) {
-			noun = new Noun(this.stem, this.gender, "", "");
+		if (adjectiveFlexion || pluraleTantum) {
+			noun = new Noun(stem, gender, "", "");
 		}
-		else if (this.getSuffix("acc", "sg") == null ||
-				this.getSuffix("dat", "sg") == null ||
-				this.getSuffix("dat", "pl") == null) {
-			noun = new Noun(this.stem, this.gender, this.getSuffix("gen", "sg"), this.getSuffix("nom", "pl"));
+		else if (getSuffix(suffixList, "acc", "sg") == null ||
+				getSuffix(suffixList, "dat", "sg") == null ||
+				getSuffix(suffixList, "dat", "pl") == null) {
+			noun = new Noun(stem, gender, getSuffix(suffixList, "gen", "sg"),
+					getSuffix(suffixList, "nom", "pl"));
 		} else {
-			noun = new Noun(this.stem, this.gender, this.getSuffix("acc", "sg"), this.getSuffix("gen", "sg"),
-					this.getSuffix("dat", "sg"), this.getSuffix("nom", "pl"), this.getSuffix("dat", "pl"));
+			noun = new Noun(stem, gender, getSuffix(suffixList, "acc", "sg"),
+					getSuffix(suffixList, "gen", "sg"), getSuffix(suffixList, "dat", "sg"),
+					getSuffix(suffixList, "nom", "pl"), getSuffix(suffixList, "dat", "pl"));
 		}
 		
-		if (this.nounPluraleTantum) noun.setAgreement(Agreement.FIXED_PLUR);
-		if (this.nounAdjectiveFlexion) noun.setAdjectiveInflection(true);
-		noun.setID(this.thisId);
+		if (pluraleTantum) noun.setAgreement(Agreement.FIXED_PLUR);
+		if (adjectiveFlexion) noun.setAdjectiveInflection(true);
+		noun.setID(id);
 		return noun;
 	}
 	
 	/**
-	 * Builds a {@link simplenlg.lexicon.lexicalitems.Adjective} from the
-	 * parsed lexical data.
+	 * Builds a {@link simplenlg.lexicon.lexicalitems.Adjective} from lexical
+	 * data in the form it takes in an XML lexicon.
 	 * 
 	 * @return
 	 * 			A {@link simplenlg.lexicon.lexicalitems.Adjective} object
 	 */
-	private Adjective buildAdjective() {
-		Adjective adjective = new Adjective(this.stem, this.comp, this.sup, this.adjElision);
-		adjective.setID(this.thisId);
+	static Adjective buildAdjective(String stem, String comp, String sup,
+			boolean elision, String id) {
+		Adjective adjective = new Adjective(stem, comp, sup, elision);
+		adjective.setID(id);
 		return adjective;
 	}
 	
 	/**
-	 * Builds a {@link simplenlg.lexicon.lexicalitems.Verb} from the
-	 * parsed lexical data.
+	 * Builds a {@link simplenlg.lexicon.lexicalitems.Verb} from lexical
+	 * data in the form it takes in an XML lexicon. Empty strings stand
+	 * for elements which are not given.
 	 * 
 	 * @return
 	 * 			A {@link simplenlg.lexicon.lexicalitems.Verb} object
 	 */
-	private Verb buildVerb() {
+	static Verb buildVerb(String stem, String past, String part, String altSg,
+			String subj2, AuxType aux, String inflection, String id) {
 		Verb verb;
 		
 		// determine inflection pattern, if any
 		VerbInflectionPattern pattern = Constants.VERB_INFLECTION_DEFAULT;
-		if (this.inflection != null) {
-			pattern = Constants.getInflectionPatternByName(this.inflection);
+		if (inflection != null) {
+			pattern = Constants.getInflectionPatternByName(inflection);
 		}
 		
-		if (this.past.isEmpty() || this.part.isEmpty()) {
-			verb = new Verb(this.stem, pattern);
-			verb.setAuxType(this.aux);
+		if (past.isEmpty() || part.isEmpty()) {
+			verb = new Verb(stem, pattern);
+			verb.setAuxType(aux);
 		}
 		else {
-			verb = new Verb(this.stem, this.past, this.part, this.altSg, this.subj2, this.aux, pattern);
+			verb = new Verb(stem, past, part, altSg, subj2, aux, pattern);
 		}
-		verb.setID(this.thisId);
+		verb.setID(id);
 		
 		return verb;
 	}
@@ -0,0 +1,750 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon.db;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import simplenlg.features.Category;
+
+/**
+ * An index of the lexical items in an XML lexicon file, mapping the ID and the
+ * stem of each <code>&lt;noun&gt;</code>, <code>&lt;adjective&gt;</code> and
+ * <code>&lt;verb&gt;</code> element to the byte range it occupies in the file.
+ * It is used by the {@link simplenlg.lexicon.db.XMLAccessor} to parse only the
+ * elements it is looking for, rather than the whole file.
+ * 
+ * <P>
+ * The index is built by a single scan of the file the first time it is opened,
+ * and stored next to it (with the extension <code>.idx</code> appended), so
+ * that later runs can read it instead. A stored index is rebuilt whenever the
+ * size or modification time of the XML file no longer match. Files which
+ * are not in an ASCII-compatible encoding (such as UTF-16) cannot be indexed;
+ * the accessor parses them as a whole instead.
+ * 
+ * <P>
+ * The elements are handed to the parser together with the prolog of the file
+ * (the XML declaration and the document type declaration), so that default
+ * attribute values declared in the DTD still apply.
+ */
+class XMLIndex {
+
+	/** the extension appended to the XML file name for the stored index */
+	static final String EXTENSION = ".idx";
+
+	// marks a stored index file, followed by the format version
+	private static final int MAGIC = 0x584c4958;
+
+	private static final int VERSION = 1;
+
+	private static final Pattern ID_ATTRIBUTE = Pattern
+			.compile("\\sid\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+
+	private static final Pattern ENCODING = Pattern
+			.compile("encoding\\s*=\\s*[\"']([A-Za-z0-9._-]+)[\"']");
+
+	/**
+	 * The position of a single lexical item in the XML file.
+	 */
+	static class Entry {
+
+		// the element name, i.e. noun, adjective or verb
+		final String element;
+
+		// the value of the id attribute, or null
+		final String id;
+
+		// the content of the stem element, or null
+		final String stem;
+
+		// first byte of the start tag and first byte after the end tag
+		final long start, end;
+
+		Entry(String element, String id, String stem, long start, long end) {
+			this.element = element;
+			this.id = id;
+			this.stem = stem;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * Checks whether this is an item of the given category.
+		 * 
+		 * @param cat
+		 *            the category; <code>null</code> and
+		 *            <code>Category.ANY</code> match all items
+		 * @return <code>true</code> if the category matches
+		 */
+		boolean hasCategory(Category cat) {
+			return cat == null || cat == Category.ANY
+					|| this.element.equalsIgnoreCase(cat.toString());
+		}
+	}
+
+	private File file;
+
+	private long fileLength, fileModified;
+
+	// the bytes preceding the root element, and the name of the root element
+	private byte[] prolog;
+
+	private String root;
+
+	// all entries in document order
+	private List<Entry> entries;
+
+	private Map<String, List<Entry>> entriesByID;
+
+	private Map<String, List<Entry>> entriesByStem;
+
+	private XMLIndex(File file) {
+		this.file = file;
+		this.fileLength = file.length();
+		this.fileModified = file.lastModified();
+		this.entries = new ArrayList<Entry>();
+	}
+
+	/**
+	 * Opens the index of an XML lexicon file, reading the stored index if
+	 * there is an up-to-date one, and building (and trying to store) it
+	 * otherwise.
+	 * 
+	 * @param file
+	 *            the XML file
+	 * @return the index
+	 * @throws IOException
+	 *             if the XML file cannot be read
+	 */
+	static XMLIndex open(File file) throws IOException {
+		File indexFile = new File(file.getPath() + EXTENSION);
+		XMLIndex index = null;
+
+		if (indexFile.isFile()) {
+			try {
+				index = read(file, indexFile);
+			} catch (IOException e) {
+				// unreadable or stale index, build a new one
+				index = null;
+			}
+		}
+
+		if (index == null) {
+			index = build(file);
+
+			try {
+				index.write(indexFile);
+			} catch (IOException e) {
+				// e.g. the directory is not writable; the index is still
+				// usable for this run
+				indexFile.delete();
+			}
+		}
+
+		index.buildMaps();
+		return index;
+	}
+
+	/**
+	 * @return <code>true</code> if the XML file has changed since this index
+	 *         was built
+	 */
+	boolean isStale() {
+		return this.file.length() != this.fileLength
+				|| this.file.lastModified() != this.fileModified;
+	}
+
+	/**
+	 * Returns the items of the given category, in document order.
+	 * 
+	 * @param cat
+	 *            the category
+	 * @return the entries of all matching items
+	 */
+	List<Entry> getEntries(Category cat) {
+		List<Entry> result = new ArrayList<Entry>();
+
+		for (Entry entry : this.entries) {
+			if (entry.hasCategory(cat)) {
+				result.add(entry);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the items with the given ID.
+	 * 
+	 * @param id
+	 *            the ID
+	 * @return the entries of all matching items
+	 */
+	List<Entry> getEntriesByID(String id) {
+		return lookup(this.entriesByID, id, null);
+	}
+
+	/**
+	 * Returns the items with the given stem and, optionally, category.
+	 * 
+	 * @param stem
+	 *            the stem
+	 * @param cat
+	 *            the category, or <code>null</code> for all categories
+	 * @return the entries of all matching items
+	 */
+	List<Entry> getEntriesByStem(String stem, Category cat) {
+		return lookup(this.entriesByStem, stem, cat);
+	}
+
+	/**
+	 * Returns a stream containing a well-formed XML document which consists of
+	 * the prolog and root element of the XML file and the given items.
+	 * 
+	 * @param items
+	 *            the items to include, in the order they should be parsed
+	 * @return the document
+	 * @throws IOException
+	 *             if the XML file cannot be read
+	 */
+	InputStream openDocument(List<Entry> items) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		RandomAccessFile in = new RandomAccessFile(this.file, "r");
+
+		try {
+			out.write(this.prolog);
+			out.write(("<" + this.root + ">").getBytes("US-ASCII"));
+
+			for (Entry entry : items) {
+				byte[] bytes = new byte[(int) (entry.end - entry.start)];
+				in.seek(entry.start);
+				in.readFully(bytes);
+				out.write(bytes);
+			}
+
+			out.write(("</" + this.root + ">").getBytes("US-ASCII"));
+		} finally {
+			in.close();
+		}
+
+		return new ByteArrayInputStream(out.toByteArray());
+	}
+
+	private static List<Entry> lookup(Map<String, List<Entry>> map,
+			String key, Category cat) {
+		List<Entry> result = new ArrayList<Entry>();
+
+		if (map.containsKey(key)) {
+			for (Entry entry : map.get(key)) {
+				if (entry.hasCategory(cat)) {
+					result.add(entry);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private void buildMaps() {
+		this.entriesByID = new HashMap<String, List<Entry>>();
+		this.entriesByStem = new HashMap<String, List<Entry>>();
+
+		for (Entry entry : this.entries) {
+			if (entry.id != null) {
+				addToMap(this.entriesByID, entry.id, entry);
+			}
+
+			if (entry.stem != null) {
+				addToMap(this.entriesByStem, entry.stem, entry);
+			}
+		}
+
+		this.entries = Collections.unmodifiableList(this.entries);
+	}
+
+	private static void addToMap(Map<String, List<Entry>> map, String key,
+			Entry entry) {
+		List<Entry> list = map.get(key);
+
+		if (list == null) {
+			list = new ArrayList<Entry>(1);
+			map.put(key, list);
+		}
+
+		list.add(entry);
+	}
+
+	// ****************************************************************
+	// SCANNING THE XML FILE
+	// ****************************************************************
+
+	/*
+	 * Scans the XML file for the start and end of each lexical item. This
+	 * works on the raw bytes, which is safe for ASCII-compatible encodings
+	 * since only the markup characters are looked at; the id attribute and
+	 * stem are decoded using the encoding given in the XML declaration.
+	 * Files in other encodings, such as UTF-16, are refused.
+	 */
+	private static XMLIndex build(File file) throws IOException {
+		XMLIndex index = new XMLIndex(file);
+		byte[] data = readFile(file);
+		Charset charset = Charset.forName("UTF-8");
+
+		if (!isAsciiCompatible(data)) {
+			throw new IOException("Cannot index " + file.getPath()
+					+ ", which is not in an ASCII-compatible encoding");
+		}
+
+		String currentElement = null;
+		String currentId = null;
+		String currentStem = null;
+		int currentStart = 0;
+
+		int pos = indexOf(data, "<", 0);
+
+		while (pos >= 0) {
+			int next;
+
+			if (startsWith(data, pos, "<?")) {
+				next = indexOf(data, "?>", pos);
+				String declaration = decode(data, pos, next, charset);
+				Matcher m = ENCODING.matcher(declaration);
+
+				if (pos == 0 && m.find() && Charset.isSupported(m.group(1))) {
+					charset = Charset.forName(m.group(1));
+
+					if (!isAsciiCompatible(charset)) {
+						throw new IOException("Cannot index " + file.getPath()
+								+ ", which is in the encoding " + charset);
+					}
+				}
+
+			} else if (startsWith(data, pos, "<!--")) {
+				next = indexOf(data, "-->", pos);
+
+			} else if (startsWith(data, pos, "<![CDATA[")) {
+				next = indexOf(data, "]]>", pos);
+
+			} else if (startsWith(data, pos, "<!")) {
+				next = endOfDeclaration(data, pos);
+
+			} else if (startsWith(data, pos, "</")) {
+				next = indexOf(data, ">", pos);
+				String name = decode(data, pos + 2, next, charset).trim();
+
+				if (currentElement != null && name.equals(currentElement)) {
+					index.entries.add(new Entry(currentElement, currentId,
+							currentStem, currentStart, next + 1));
+					currentElement = null;
+				}
+
+			} else {
+				next = endOfTag(data, pos);
+
+				if (next < 0) {
+					throw new IOException("Unexpected end of file in "
+							+ file.getPath());
+				}
+
+				String tag = decode(data, pos, next + 1, charset);
+				String name = tagName(tag);
+				boolean empty = tag.endsWith("/>");
+
+				if (index.root == null) {
+					index.root = name;
+					index.prolog = new byte[pos];
+					System.arraycopy(data, 0, index.prolog, 0, pos);
+
+				} else if (currentElement == null && isItemElement(name)) {
+					Matcher m = ID_ATTRIBUTE.matcher(tag);
+					currentId = null;
+
+					if (m.find()) {
+						currentId = unescape(m.group(1) != null ? m.group(1)
+								: m.group(2));
+					}
+
+					currentElement = name;
+					currentStem = null;
+					currentStart = pos;
+
+					if (empty) {
+						index.entries.add(new Entry(currentElement, currentId,
+								null, currentStart, next + 1));
+						currentElement = null;
+					}
+
+				} else if (currentElement != null && currentStem == null
+						&& name.equals("stem") && !empty) {
+					int close = indexOf(data, "</stem", next);
+
+					if (close >= 0) {
+						currentStem = unescape(decode(data, next + 1, close,
+								charset));
+					}
+				}
+			}
+
+			if (next < 0) {
+				throw new IOException("Unexpected end of file in "
+						+ file.getPath());
+			}
+
+			pos = indexOf(data, "<", next);
+		}
+
+		if (currentElement != null) {
+			throw new IOException("Unexpected end of file in "
+					+ file.getPath());
+		}
+
+		if (index.root == null) {
+			throw new IOException("No root element in " + file.getPath());
+		}
+
+		return index;
+	}
+
+	private static boolean isItemElement(String name) {
+		return name.equals("noun") || name.equals("adjective")
+				|| name.equals("verb");
+	}
+
+	private static String tagName(String tag) {
+		int i = 1;
+
+		while (i < tag.length() && !Character.isWhitespace(tag.charAt(i))
+				&& tag.charAt(i) != '/' && tag.charAt(i) != '>') {
+			i++;
+		}
+
+		return tag.substring(1, i);
+	}
+
+	/*
+	 * Returns the position of the closing '>' of a start tag, skipping quoted
+	 * attribute values.
+	 */
+	private static int endOfTag(byte[] data, int pos) {
+		byte quote = 0;
+
+		for (int i = pos + 1; i < data.length; i++) {
+			if (quote != 0) {
+				if (data[i] == quote) {
+					quote = 0;
+				}
+			} else if (data[i] == '"' || data[i] == '\'') {
+				quote = data[i];
+			} else if (data[i] == '>') {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/*
+	 * Returns the position of the closing '>' of a declaration such as
+	 * DOCTYPE, skipping an internal subset in square brackets.
+	 */
+	private static int endOfDeclaration(byte[] data, int pos) {
+		boolean inSubset = false;
+		byte quote = 0;
+
+		for (int i = pos + 2; i < data.length; i++) {
+			if (quote != 0) {
+				if (data[i] == quote) {
+					quote = 0;
+				}
+			} else if (data[i] == '"' || data[i] == '\'') {
+				quote = data[i];
+			} else if (data[i] == '[') {
+				inSubset = true;
+			} else if (data[i] == ']') {
+				inSubset = false;
+			} else if (data[i] == '>' && !inSubset) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static boolean startsWith(byte[] data, int pos, String prefix) {
+		if (pos + prefix.length() > data.length) {
+			return false;
+		}
+
+		for (int i = 0; i < prefix.length(); i++) {
+			if (data[pos + i] != prefix.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static int indexOf(byte[] data, String s, int from) {
+		if (from < 0) {
+			return -1;
+		}
+
+		for (int i = from; i <= data.length - s.length(); i++) {
+			if (startsWith(data, i, s)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/*
+	 * Checks the start of the file for a byte order mark or NUL bytes, as in
+	 * UTF-16 and UTF-32
+	 */
+	private static boolean isAsciiCompatible(byte[] data) {
+		if (data.length >= 2
+				&& ((data[0] == (byte) 0xFE && data[1] == (byte) 0xFF) || (data[0] == (byte) 0xFF && data[1] == (byte) 0xFE))) {
+			return false;
+		}
+
+		for (int i = 0; i < data.length && i < 4; i++) {
+			if (data[i] == 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/*
+	 * Checks that the charset encodes the markup characters as in ASCII
+	 */
+	private static boolean isAsciiCompatible(Charset charset) {
+		String markup = "<?xml version=\"1.0\"?><!-- --></a>";
+
+		try {
+			return Arrays.equals(markup.getBytes("US-ASCII"), markup
+					.getBytes(charset.name()));
+		} catch (UnsupportedEncodingException e) {
+			return false;
+		}
+	}
+
+	private static String decode(byte[] data, int from, int to, Charset charset) {
+		if (to < from) {
+			return "";
+		}
+
+		return new String(data, from, to - from, charset);
+	}
+
+	/*
+	 * Replaces the predefined entities and character references, as the SAX
+	 * parser does.
+	 */
+	private static String unescape(String s) {
+		if (s.indexOf('&') < 0) {
+			return s;
+		}
+
+		StringBuilder result = new StringBuilder(s.length());
+		int i = 0;
+
+		while (i < s.length()) {
+			int semicolon = s.indexOf(';', i);
+
+			if (s.charAt(i) != '&' || semicolon < 0) {
+				result.append(s.charAt(i));
+				i++;
+				continue;
+			}
+
+			String entity = s.substring(i + 1, semicolon);
+
+			if (entity.equals("amp")) {
+				result.append('&');
+			} else if (entity.equals("lt")) {
+				result.append('<');
+			} else if (entity.equals("gt")) {
+				result.append('>');
+			} else if (entity.equals("quot")) {
+				result.append('"');
+			} else if (entity.equals("apos")) {
+				result.append('\'');
+			} else if (entity.startsWith("#x")) {
+				result.appendCodePoint(Integer.parseInt(entity.substring(2),
+						16));
+			} else if (entity.startsWith("#")) {
+				result.appendCodePoint(Integer.parseInt(entity.substring(1)));
+			} else {
+				result.append('&').append(entity).append(';');
+			}
+
+			i = semicolon + 1;
+		}
+
+		return result.toString();
+	}
+
+	private static byte[] readFile(File file) throws IOException {
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+
+		try {
+			byte[] data = new byte[(int) in.length()];
+			in.readFully(data);
+			return data;
+		} finally {
+			in.close();
+		}
+	}
+
+	// ****************************************************************
+	// STORING THE INDEX
+	// ****************************************************************
+
+	private void write(File indexFile) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(indexFile)));
+
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(this.fileLength);
+			out.writeLong(this.fileModified);
+			out.writeUTF(this.root);
+			out.writeInt(this.prolog.length);
+			out.write(this.prolog);
+			out.writeInt(this.entries.size());
+
+			for (Entry entry : this.entries) {
+				out.writeUTF(entry.element);
+				writeString(out, entry.id);
+				writeString(out, entry.stem);
+				out.writeLong(entry.start);
+				out.writeLong(entry.end);
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	private static XMLIndex read(File file, File indexFile) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(indexFile)));
+
+		try {
+			XMLIndex index = new XMLIndex(file);
+
+			if (in.readInt() != MAGIC || in.readInt() != VERSION
+					|| in.readLong() != index.fileLength
+					|| in.readLong() != index.fileModified) {
+				return null;
+			}
+
+			index.root = in.readUTF();
+			index.prolog = new byte[in.readInt()];
+			in.readFully(index.prolog);
+			int size = in.readInt();
+
+			for (int i = 0; i < size; i++) {
+				String element = in.readUTF();
+				String id = readString(in);
+				String stem = readString(in);
+				long start = in.readLong();
+				long end = in.readLong();
+				index.entries.add(new Entry(element, id, stem, start, end));
+			}
+
+			return index;
+		} finally {
+			in.close();
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s)
+			throws IOException {
+		out.writeBoolean(s != null);
+
+		if (s != null) {
+			out.writeUTF(s);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
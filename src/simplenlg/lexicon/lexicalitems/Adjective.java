@@ -70,6 +70,8 @@ import simplenlg.features.Gender;
 import simplenlg.features.InflectionType;
 import simplenlg.features.NumberAgr;
 import simplenlg.lexicon.morph.AdjectiveInflection;
+import simplenlg.metrics.Metric;
+import simplenlg.metrics.MetricsRecorder;
 
 /**
  * This class extends the {@link simplenlg.lexicon.lexicalitems.ContentWord}
@@ -97,6 +99,11 @@ public class Adjective extends ContentWord {
 	// The type.
 	AdjectiveType type;
 
+	// the inflected forms per degree, indexed by inflection type, case,
+	// gender and number (see paradigmIndex)
+	String[][] paradigm;
+	private static final int UNINFLECTED_INDEX = 3 * 4 * 4;
+
 	/**
 	 * Instantiates a new adjective with the given baseform.
 	 * 
@@ -180,6 +187,7 @@ public class Adjective extends ContentWord {
 	 */
 	public void setComparative(String comp) {
 		this.comparativeForm = comp;
+		this.paradigm = null;
 	}
 
 	/**
@@ -208,6 +216,7 @@ public class Adjective extends ContentWord {
 	 */
 	public void setSuperlative(String sup) {
 		this.superlativeForm = sup;
+		this.paradigm = null;
 	}
 
 	public String getPositive() {
@@ -216,6 +225,7 @@ public class Adjective extends ContentWord {
 	
 	public void setPositive(String pos) {
 		this.positiveForm = pos;
+		this.paradigm = null;
 	}
 	
 	
@@ -289,10 +299,80 @@ public class Adjective extends ContentWord {
 
 	public void setElideFinalE(boolean elideFinalE) {
 		this.elideFinalE = elideFinalE;
+		this.paradigm = null;
 	}
 
 	public String getForm(Case c, NumberAgr n, Gender g, AdjectiveType t, AdjectiveDegree d) {
-		return AdjectiveInflection.getForm(this, c, n, g, t, d);
+		MetricsRecorder.getCurrent().increment(Metric.INFLECTION, Category.ADJECTIVE.name());
+
+		if (t == null || d == null) {
+			return AdjectiveInflection.getForm(this, c, n, g, t, d);
+		}
+
+		String[][] degrees = this.paradigm;
+		if (degrees == null) {
+			degrees = new String[AdjectiveDegree.values().length][];
+			this.paradigm = degrees;
+		}
+		String[] forms = degrees[d.ordinal()];
+		if (forms == null) {
+			forms = new String[UNINFLECTED_INDEX + 1];
+			degrees[d.ordinal()] = forms;
+		}
+
+		int index = paradigmIndex(c, n, g, t);
+		String form = forms[index];
+		if (form == null) {
+			form = AdjectiveInflection.getForm(this, c, n, g, t, d);
+			forms[index] = form;
+		}
+		return form;
+	}
+
+	/*
+	 * Returns the position of a form in the paradigm table of its degree,
+	 * folding together the feature values which AdjectiveInflection does not
+	 * distinguish: stative and non-stative adjectives inflect strongly,
+	 * missing or ambiguous cases count as nominative, a missing gender as
+	 * masculine, and plural forms do not depend on the gender.
+	 */
+	private static int paradigmIndex(Case c, NumberAgr n, Gender g, AdjectiveType t) {
+		int typeIndex;
+		switch (t) {
+		case UNINFLECTED:
+			return UNINFLECTED_INDEX;
+		case WEAK:
+			typeIndex = 1;
+			break;
+		case MIXED:
+			typeIndex = 2;
+			break;
+		default:
+			typeIndex = 0;
+			break;
+		}
+
+		int caseIndex = 0;
+		if (c == Case.ACCUSATIVE) {
+			caseIndex = 1;
+		} else if (c == Case.GENITIVE) {
+			caseIndex = 2;
+		} else if (c == Case.DATIVE) {
+			caseIndex = 3;
+		}
+
+		int genderIndex;
+		if (n == NumberAgr.PLURAL) {
+			genderIndex = 3;
+		} else if (g == Gender.FEMININE) {
+			genderIndex = 1;
+		} else if (g == Gender.NEUTER) {
+			genderIndex = 2;
+		} else {
+			genderIndex = 0;
+		}
+
+		return (typeIndex * 4 + caseIndex) * 4 + genderIndex;
 	}
 	
 	/**
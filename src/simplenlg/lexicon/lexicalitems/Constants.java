@@ -672,16 +672,7 @@ public class Constants {
 	public static Pronoun getPronoun(String baseform) {
 
 		if (baseform != null) {
-			for (Pronoun p : Constants.ALL_PRONOUNS) {
-				if (baseform.equals(p.baseForm)) {
-					return p;
-				}
-			}
-			for (Pronoun p : Constants.ALL_PRONOUNS) {
-				if (p.hasForm(baseform)) {
-					return p;
-				}
-			}
+			return FormIndex.getPronoun(baseform);
 		}
 
 		return null;
@@ -699,17 +690,7 @@ public class Constants {
 	public static NumberAgr getPronounNumber(String baseform) {
 
 		if (baseform != null) {
-			for (Pronoun p : Constants.ALL_PRONOUNS) {
-				if (baseform.equals(p.baseForm)) {
-					return NumberAgr.SINGULAR;
-				}
-			}
-			for (Pronoun p : Constants.ALL_PRONOUNS) {
-				if (baseform.equals(p.getForm(Case.NOMINATIVE, NumberAgr.PLURAL))) {
-					return NumberAgr.PLURAL;
-				}
-			}
-
+			return FormIndex.getPronounNumber(baseform);
 		}
 
 		return null;
@@ -833,15 +814,8 @@ public class Constants {
 	 *         <code>word</code>
 	 */
 	public static Determiner getDeterminer(String word) {
-		for (String d : Constants.ALL_DEFINITE) {
-			if (d.equalsIgnoreCase(word)) {
-				return Constants.DEFINITE_DET;
-			}
-		}
-		for (String d : Constants.ALL_INDEFINITE) {
-			if (d.equalsIgnoreCase(word)) {
-				return Constants.INDEFINITE_DET;
-			}
+		if (word != null) {
+			return FormIndex.getDeterminer(word);
 		}
 		
 		return null;
@@ -909,25 +883,8 @@ public class Constants {
 		
 	public static Case getPrepositionCase(String baseform) {
 
-		for (String s : Constants.PREPOSITIONS_DAT_ACC) {
-			if (s.equalsIgnoreCase(baseform)) {
-				return Case.DAT_ACC;
-			}
-		}
-		for (String s : Constants.PREPOSITIONS_ACCUSATIVE) {
-			if (s.equalsIgnoreCase(baseform)) {
-				return Case.ACCUSATIVE;
-			}
-		}
-		for (String s : Constants.PREPOSITIONS_DATIVE) {
-			if (s.equalsIgnoreCase(baseform)) {
-				return Case.DATIVE;
-			}
-		}
-		for (String s : Constants.PREPOSITIONS_GENITIVE) {
-			if (s.equalsIgnoreCase(baseform)) {
-				return Case.GENITIVE;
-			}
+		if (baseform != null) {
+			return FormIndex.getPrepositionCase(baseform);
 		}
 		
 		return null;
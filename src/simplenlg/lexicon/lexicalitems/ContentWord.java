@@ -57,6 +57,7 @@ package simplenlg.lexicon.lexicalitems;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import simplenlg.features.ComplementFrame;
@@ -74,6 +75,13 @@ import simplenlg.features.ComplementType;
  * {@link simplenlg.features.ComplementFrame}s. Utility methods are also
  * provided to check whether a particular content word can take complements of
  * the various types defined in {@link simplenlg.features.ComplementType}.
+ * 
+ * <P>
+ * Each {@link Noun}, {@link Verb} and {@link Adjective} stores a form in its
+ * paradigm table the first time it is inflected for a given combination of
+ * features, and returns the stored form from then on. The table of an item is
+ * discarded whenever one of its stems, suffixes or inflection patterns is
+ * changed through a setter.
  */
 public abstract class ContentWord extends Word {
 
@@ -89,7 +97,7 @@ public abstract class ContentWord extends Word {
 	ContentWord() {
 		super();
 		this.inflectionType = null;
-		this.complementationFrames = new ArrayList<ComplementFrame>();
+		this.complementationFrames = Collections.emptyList();
 		// derivations = new HashMap<LexicalRelation, List<LexicalItem>>();
 	}
 
@@ -152,7 +160,7 @@ public abstract class ContentWord extends Word {
 	 *            the new complementation frames
 	 */
 	public void setComplementationFrames(Collection<ComplementFrame> compFrames) {
-		this.complementationFrames.clear();
+		this.complementationFrames = Collections.emptyList();
 
 		for (ComplementFrame frame : compFrames) {
 			addComplementFrame(frame);
@@ -176,6 +184,10 @@ public abstract class ContentWord extends Word {
 	 *            the new complement frame
 	 */
 	public void addComplementFrame(ComplementFrame complementFrame) {
+		if (this.complementationFrames.isEmpty()) {
+			this.complementationFrames = new ArrayList<ComplementFrame>();
+		}
+
 		this.complementationFrames.add(complementFrame);
 
 		for (ComplementSlot slot : complementFrame.getComplementSlots()) {
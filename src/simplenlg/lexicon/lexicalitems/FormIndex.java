@@ -0,0 +1,205 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon.lexicalitems;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import simplenlg.features.Case;
+import simplenlg.features.Gender;
+import simplenlg.features.NumberAgr;
+import simplenlg.lexicon.morph.InflectionPattern;
+
+/**
+ * Reverse indices from word forms to the function words defined in
+ * {@link Constants}, which replace the linear scans over the arrays in that
+ * class. The indices are built once, when this class is first used, and never
+ * modified afterwards, so they can be read by any number of threads.
+ * 
+ * <P>
+ * Lookups which {@link Constants} performs with <code>equalsIgnoreCase</code>
+ * use keys folded by {@link #foldCase(String)}; the others use the forms as
+ * they are. Where several entries share a form, the one which comes first in
+ * the arrays of {@link Constants} wins, as it did with the scans.
+ */
+final class FormIndex {
+
+	// pronouns by baseform
+	private static final Map<String, Pronoun> PRONOUN_BASEFORMS = new HashMap<String, Pronoun>();
+
+	// pronouns by any of their inflected forms, case-insensitive
+	private static final Map<String, Pronoun> PRONOUN_FORMS = new HashMap<String, Pronoun>();
+
+	// nominative plural forms of the pronouns
+	private static final Set<String> PRONOUN_PLURALS = new HashSet<String>();
+
+	// determiners by form, case-insensitive
+	private static final Map<String, Determiner> DETERMINERS = new HashMap<String, Determiner>();
+
+	// governed case of the prepositions, case-insensitive
+	private static final Map<String, Case> PREPOSITION_CASES = new HashMap<String, Case>();
+
+	static {
+		for (Pronoun p : Constants.ALL_PRONOUNS) {
+			putFirst(PRONOUN_BASEFORMS, p.baseForm, p);
+			PRONOUN_PLURALS.add(p.getForm(Case.NOMINATIVE, NumberAgr.PLURAL));
+			addForms(p, p.articlePattern);
+			addForms(p, p.nounPattern);
+		}
+
+		for (String d : Constants.ALL_DEFINITE) {
+			putFirst(DETERMINERS, foldCase(d), Constants.DEFINITE_DET);
+		}
+		for (String d : Constants.ALL_INDEFINITE) {
+			putFirst(DETERMINERS, foldCase(d), Constants.INDEFINITE_DET);
+		}
+
+		addPrepositions(Constants.PREPOSITIONS_DAT_ACC, Case.DAT_ACC);
+		addPrepositions(Constants.PREPOSITIONS_ACCUSATIVE, Case.ACCUSATIVE);
+		addPrepositions(Constants.PREPOSITIONS_DATIVE, Case.DATIVE);
+		addPrepositions(Constants.PREPOSITIONS_GENITIVE, Case.GENITIVE);
+	}
+
+	private FormIndex() {
+	}
+
+	/*
+	 * Adds all forms a pattern produces for a pronoun, that is, all forms
+	 * checked by Pronoun.hasForm(String).
+	 */
+	private static void addForms(Pronoun p, InflectionPattern<Pronoun> pattern) {
+		if (pattern == null) {
+			return;
+		}
+
+		for (Gender g : Gender.values()) {
+			for (NumberAgr n : NumberAgr.values()) {
+				for (Case c : Case.values()) {
+					putFirst(PRONOUN_FORMS, foldCase(pattern.apply(p.baseForm, c, n, g)), p);
+				}
+			}
+		}
+	}
+
+	private static void addPrepositions(String[] prepositions, Case c) {
+		for (String s : prepositions) {
+			putFirst(PREPOSITION_CASES, foldCase(s), c);
+		}
+	}
+
+	private static <T> void putFirst(Map<String, T> map, String key, T value) {
+		if (!map.containsKey(key)) {
+			map.put(key, value);
+		}
+	}
+
+	/**
+	 * Maps a string to a key which is equal for two strings exactly if they
+	 * are equal according to {@link String#equalsIgnoreCase(String)}.
+	 * 
+	 * @param s
+	 *            the string
+	 * 
+	 * @return the folded key
+	 */
+	static String foldCase(String s) {
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * @see Constants#getPronoun(String)
+	 */
+	static Pronoun getPronoun(String form) {
+		Pronoun p = PRONOUN_BASEFORMS.get(form);
+		if (p == null) {
+			p = PRONOUN_FORMS.get(foldCase(form));
+		}
+		return p;
+	}
+
+	/**
+	 * @see Constants#getPronounNumber(String)
+	 */
+	static NumberAgr getPronounNumber(String form) {
+		if (PRONOUN_BASEFORMS.containsKey(form)) {
+			return NumberAgr.SINGULAR;
+		} else if (PRONOUN_PLURALS.contains(form)) {
+			return NumberAgr.PLURAL;
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * @see Constants#getDeterminer(String)
+	 */
+	static Determiner getDeterminer(String form) {
+		return DETERMINERS.get(foldCase(form));
+	}
+
+	/**
+	 * @see Constants#getPrepositionCase(String)
+	 */
+	static Case getPrepositionCase(String form) {
+		return PREPOSITION_CASES.get(foldCase(form));
+	}
+}
@@ -62,7 +62,10 @@ import simplenlg.features.Case;
 import simplenlg.features.Category;
 import simplenlg.features.Gender;
 import simplenlg.features.NumberAgr;
+import simplenlg.lexicon.morph.BasicPatterns;
 import simplenlg.lexicon.morph.NounInflection;
+import simplenlg.metrics.Metric;
+import simplenlg.metrics.MetricsRecorder;
 
 /**
  * This class extends the {@link simplenlg.lexicon.lexicalitems.ContentWord}
@@ -77,13 +80,8 @@ public class Noun extends ContentWord {
 	NumberAgr number;
 	Case cs;
 	
-	String accSg;
-	String genSg;
-	String datSg;
-	String nomPl;
-	String accPl;
-	String genPl;
-	String datPl;
+	// the case and number suffixes, shared between nouns of the same class
+	NounDeclension declension;
 	
 	// true if noun declines like an adjective 
 	boolean adjectiveInflection;
@@ -98,7 +96,11 @@ public class Noun extends ContentWord {
 	// agreement type
 	Agreement agreement;
 	
-	Boolean regularInflection;
+	boolean regularInflection;
+
+	// the inflected forms, indexed by case and number (see getForm)
+	String[] paradigm;
+	private static final int PARADIGM_SIZE = 2 * Case.values().length;
 
 	/**
 	 * Initialises a noun with the given baseform.
@@ -116,6 +118,7 @@ public class Noun extends ContentWord {
 		this.regularInflection = true;
 		this.adjectiveInflection = false;
 		this.baseAdjective = null;
+		this.declension = NounDeclension.NONE;
 		generateSingularSuffixes("s");
 		generatePluralSuffixes("");
 	}
@@ -147,13 +150,8 @@ public class Noun extends ContentWord {
 	
 	public Noun(String baseform, Gender g, String accSg, String genSg, String datSg, String nondatPl, String datPl) {
 		this(baseform, g);
-		this.accSg = accSg;
-		this.genSg = genSg;
-		this.datSg = datSg;
-		this.nomPl = nondatPl;
-		this.accPl = nondatPl;
-		this.genPl = nondatPl;
-		this.datPl = datPl;
+		this.declension = NounDeclension.of(accSg, genSg, datSg, nondatPl,
+				nondatPl, nondatPl, datPl);
 		this.regularInflection = false;
 	}
 	
@@ -190,26 +188,43 @@ public class Noun extends ContentWord {
 		setCitationForm(citationform);
 	}
 
-	
+	/**
+	 * Gets the suffix or word form for a case and number. Plural suffixes
+	 * which umlaut the baseform (stored as e.g. <code>$er</code>, so that they
+	 * can be shared between nouns) are returned as the full word form.
+	 * 
+	 * @param cas
+	 *            the case
+	 * @param num
+	 *            the number
+	 * @return a word form (beginning with an uppercase letter) or a suffix
+	 */
 	public String getSuffix(Case cas, NumberAgr num) {
-		boolean plural = (num == NumberAgr.PLURAL);
-		
-		switch (cas) {
-		case ACCUSATIVE:
-			return (plural ? this.accPl : this.accSg);
-		case GENITIVE:
-			return (plural ? this.genPl : this.genSg);
-		case DATIVE:
-			return (plural ? this.datPl : this.datSg);
-		case NOMINATIVE:
-		default:
-			// return (plural ? this.nomPl : this.baseForm); 
-			return (plural ? this.nomPl : "");
-		}
+		String suffix = this.declension.get(cas, num == NumberAgr.PLURAL);
+		return expandUmlaut(suffix);
 	}
 	
 	public String getForm(Case cas, NumberAgr num) {
-		return this.createFromBaseForm(this.getSuffix(cas, num));
+		MetricsRecorder.getCurrent().increment(Metric.INFLECTION, Category.NOUN.name());
+
+		if (cas == null) {
+			return this.createFromBaseForm(this.getSuffix(cas, num));
+		}
+
+		// a missing number is treated as singular by getSuffix
+		int index = 2 * cas.ordinal() + (num == NumberAgr.PLURAL ? 1 : 0);
+		String[] forms = this.paradigm;
+		if (forms == null) {
+			forms = new String[PARADIGM_SIZE];
+			this.paradigm = forms;
+		}
+
+		String form = forms[index];
+		if (form == null) {
+			form = this.createFromBaseForm(this.getSuffix(cas, num));
+			forms[index] = form;
+		}
+		return form;
 	}
 
 	public NumberAgr getNumber() {
@@ -244,6 +259,7 @@ public class Noun extends ContentWord {
 	 * 				the new gender
 	 */
 	public void setGender(Gender gen) {
+		checkNotFrozen();
 		this.gender = gen;
 	}
 
@@ -391,21 +407,23 @@ public class Noun extends ContentWord {
 	 * 				The Genitive Singular suffix.
 	 */
 	private void generateSingularSuffixes(String genSg) {
-		this.genSg = genSg;
+		String accSg, datSg;
 		
-		if (this.gender.equals(Gender.MASCULINE) && genSg.matches(".*n")) {
-			this.accSg = this.genSg;
+		if (this.gender.equals(Gender.MASCULINE) && genSg.endsWith("n")) {
+			accSg = genSg;
 		} else {
-			this.accSg = "";
+			accSg = "";
 		}
 		
 		if (genSg.endsWith("n")) {
-			this.datSg = this.genSg;
+			datSg = genSg;
 		} else if (genSg.endsWith("ns")) {
-			this.datSg = this.genSg.substring(0, genSg.length()-1);
+			datSg = genSg.substring(0, genSg.length()-1);
 		} else {
-			this.datSg = "";
+			datSg = "";
 		}
+		
+		this.declension = this.declension.withSingular(accSg, genSg, datSg);
 	}
 	
 	/**
@@ -416,16 +434,23 @@ public class Noun extends ContentWord {
 	 * 
 	 * @param nomPl
 	 * 				The Nominative Plural, treated as a word form if it begins
-	 * 				with an uppercase letter, treated as a suffix otherwise. 
+	 * 				with an uppercase letter, treated as a suffix otherwise;
+	 * 				a leading "$" umlauts the baseform (see getSuffix).
 	 */
 	private void generatePluralSuffixes(String nomPl) {
-		if (nomPl.startsWith("$")) {
-			nomPl = NounInflection.applyUmlaut(this.baseForm).concat(nomPl.substring(1));
+		this.declension = this.declension.withPlural(nomPl, nomPl, nomPl,
+				this.makeDativePluralSuffix(nomPl));
+	}
+
+	/**
+	 * Turns a suffix beginning with "$" into the umlauted baseform followed
+	 * by the rest of the suffix; other suffixes are returned unchanged.
+	 */
+	private String expandUmlaut(String suffix) {
+		if (suffix.startsWith("$")) {
+			return NounInflection.applyUmlaut(this.baseForm).concat(suffix.substring(1));
 		}
-		this.nomPl = nomPl;
-		this.accPl = nomPl;
-		this.genPl = nomPl;
-		this.datPl = this.makeDativePluralSuffix(nomPl);
+		return suffix;
 	}
 	
 	/**
@@ -448,9 +473,9 @@ public class Noun extends ContentWord {
 	}
 
 	private String makeDativePluralSuffix(String plural) {
-		if (plural.isEmpty() && this.baseForm.matches(".*[ainsxz]$")) {
+		if (plural.isEmpty() && BasicPatterns.endsWithOneOf(this.baseForm, "ainsxz")) {
 			return plural;
-		} else if (plural.matches(".*[ainsxz]$")) {
+		} else if (BasicPatterns.endsWithOneOf(this.expandUmlaut(plural), "ainsxz")) {
 			return plural;
 		} else {
 			return (plural + "n");
@@ -459,15 +484,20 @@ public class Noun extends ContentWord {
 	
 	// TODO: this is a HACK
 	public void makeCompound(String prefix) {
-		this.accSg = prefix + this.createFromBaseForm(this.accSg).toLowerCase();
-		this.datSg = prefix + this.createFromBaseForm(this.datSg).toLowerCase();
-		this.genSg = prefix + this.createFromBaseForm(this.genSg).toLowerCase();
-		this.nomPl = prefix + this.createFromBaseForm(this.nomPl).toLowerCase();
-		this.accPl = prefix + this.createFromBaseForm(this.accPl).toLowerCase();
-		this.datPl = prefix + this.createFromBaseForm(this.datPl).toLowerCase();
-		this.genPl = prefix + this.createFromBaseForm(this.genPl).toLowerCase();
+		checkNotFrozen();
+		this.declension = NounDeclension.of(
+				this.makeCompoundForm(prefix, Case.ACCUSATIVE, NumberAgr.SINGULAR),
+				this.makeCompoundForm(prefix, Case.GENITIVE, NumberAgr.SINGULAR),
+				this.makeCompoundForm(prefix, Case.DATIVE, NumberAgr.SINGULAR),
+				this.makeCompoundForm(prefix, Case.NOMINATIVE, NumberAgr.PLURAL),
+				this.makeCompoundForm(prefix, Case.ACCUSATIVE, NumberAgr.PLURAL),
+				this.makeCompoundForm(prefix, Case.GENITIVE, NumberAgr.PLURAL),
+				this.makeCompoundForm(prefix, Case.DATIVE, NumberAgr.PLURAL));
 		this.baseForm = prefix + this.baseForm.toLowerCase();
+		this.paradigm = null;
 	}
 
-	
-}
\ No newline at end of file
+	private String makeCompoundForm(String prefix, Case cas, NumberAgr num) {
+		return prefix + this.createFromBaseForm(this.getSuffix(cas, num)).toLowerCase();
+	}
+}
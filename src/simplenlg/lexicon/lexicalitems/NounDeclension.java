@@ -0,0 +1,213 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.lexicon.lexicalitems;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import simplenlg.features.Case;
+
+/**
+ * The suffixes a {@link Noun} takes in each case and number. A suffix is
+ * appended to the baseform of the noun; a string beginning with an uppercase
+ * letter is a full word form instead, and a suffix beginning with
+ * <code>$</code> is appended to the umlauted baseform (see
+ * {@link Noun#getSuffix(Case, simplenlg.features.NumberAgr)}).
+ * 
+ * <P>
+ * Declensions are immutable. Most nouns fall into one of a few dozen
+ * declension classes, so declensions made up of suffixes only are shared
+ * between all nouns with the same suffixes, through a pool which lives as long
+ * as this class. Declensions containing full word forms belong to a single
+ * noun and are not pooled.
+ */
+final class NounDeclension {
+
+	// declensions made up of suffixes only
+	private static final ConcurrentMap<NounDeclension, NounDeclension> POOL = new ConcurrentHashMap<NounDeclension, NounDeclension>();
+
+	/** The declension without any suffixes. */
+	static final NounDeclension NONE = of("", "", "", "", "", "", "");
+
+	final String accSg, genSg, datSg, nomPl, accPl, genPl, datPl;
+
+	private NounDeclension(String accSg, String genSg, String datSg,
+			String nomPl, String accPl, String genPl, String datPl) {
+		this.accSg = accSg;
+		this.genSg = genSg;
+		this.datSg = datSg;
+		this.nomPl = nomPl;
+		this.accPl = accPl;
+		this.genPl = genPl;
+		this.datPl = datPl;
+	}
+
+	/**
+	 * Gets the declension with the given suffixes, which is shared if it is
+	 * made up of suffixes only.
+	 */
+	static NounDeclension of(String accSg, String genSg, String datSg,
+			String nomPl, String accPl, String genPl, String datPl) {
+		NounDeclension d = new NounDeclension(accSg, genSg, datSg, nomPl,
+				accPl, genPl, datPl);
+
+		if (!d.isShareable()) {
+			return d;
+		}
+
+		NounDeclension shared = POOL.putIfAbsent(d, d);
+		return shared != null ? shared : d;
+	}
+
+	/**
+	 * Gets a declension with the same plural suffixes and the given singular
+	 * ones.
+	 */
+	NounDeclension withSingular(String accSg, String genSg, String datSg) {
+		return of(accSg, genSg, datSg, this.nomPl, this.accPl, this.genPl,
+				this.datPl);
+	}
+
+	/**
+	 * Gets a declension with the same singular suffixes and the given plural
+	 * ones.
+	 */
+	NounDeclension withPlural(String nomPl, String accPl, String genPl,
+			String datPl) {
+		return of(this.accSg, this.genSg, this.datSg, nomPl, accPl, genPl,
+				datPl);
+	}
+
+	/**
+	 * Gets the suffix for a case and number. A missing or unknown case is
+	 * treated as the nominative, whose singular suffix is always empty.
+	 */
+	String get(Case cas, boolean plural) {
+
+		if (cas == null) {
+			return (plural ? this.nomPl : "");
+		}
+
+		switch (cas) {
+		case ACCUSATIVE:
+			return (plural ? this.accPl : this.accSg);
+		case GENITIVE:
+			return (plural ? this.genPl : this.genSg);
+		case DATIVE:
+			return (plural ? this.datPl : this.datSg);
+		case NOMINATIVE:
+		default:
+			return (plural ? this.nomPl : "");
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (!(o instanceof NounDeclension)) {
+			return false;
+		}
+
+		NounDeclension d = (NounDeclension) o;
+		return same(this.accSg, d.accSg) && same(this.genSg, d.genSg)
+				&& same(this.datSg, d.datSg) && same(this.nomPl, d.nomPl)
+				&& same(this.accPl, d.accPl) && same(this.genPl, d.genPl)
+				&& same(this.datPl, d.datPl);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 0;
+
+		for (String s : new String[] { this.accSg, this.genSg, this.datSg,
+				this.nomPl, this.accPl, this.genPl, this.datPl }) {
+			hash = 31 * hash + (s == null ? 0 : s.hashCode());
+		}
+
+		return hash;
+	}
+
+	/*
+	 * Declensions are only shared if all their entries are suffixes, of which
+	 * there are only a few; full word forms would fill the pool with one
+	 * declension per noun.
+	 */
+	private boolean isShareable() {
+		return isSuffix(this.accSg) && isSuffix(this.genSg)
+				&& isSuffix(this.datSg) && isSuffix(this.nomPl)
+				&& isSuffix(this.accPl) && isSuffix(this.genPl)
+				&& isSuffix(this.datPl);
+	}
+
+	private static boolean isSuffix(String s) {
+		return s != null
+				&& (s.isEmpty() || !Character.isUpperCase(s.charAt(0)));
+	}
+
+	private static boolean same(String s1, String s2) {
+		return s1 == null ? s2 == null : s1.equals(s2);
+	}
+}
@@ -55,6 +55,7 @@
  */
 package simplenlg.lexicon.lexicalitems;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -74,6 +75,8 @@ import simplenlg.lexicon.morph.VerbInflection;
 import simplenlg.lexicon.morph.VerbInflectionPattern;
 import simplenlg.lexicon.verbnet.VerbnetClass;
 import simplenlg.lexicon.verbnet.VerbnetFrame;
+import simplenlg.metrics.Metric;
+import simplenlg.metrics.MetricsRecorder;
 
 /**
  * This class extends the {@link simplenlg.lexicon.lexicalitems.ContentWord}
@@ -112,6 +115,12 @@ public class Verb extends ContentWord {
 	String alternatePresentStem;
 	AuxType auxType;
 	VerbInflectionPattern pattern;
+
+	// the finite forms, indexed by form, tense, number and person (see
+	// paradigmIndex)
+	String[] paradigm;
+	private static final int IMPERATIVE_INDEX = 3 * 3 * 2 * 3;
+	private static final int PARADIGM_SIZE = IMPERATIVE_INDEX + 2;
 	
 	// verb type
 	VerbType type;
@@ -186,7 +195,7 @@ public class Verb extends ContentWord {
 		this.type = VerbType.MAIN;
 
 		// init collection of verbnet frames
-		this.verbnetClasses = new HashSet<VerbnetClass>();
+		this.verbnetClasses = Collections.emptySet();
 
 		// init flags to default values
 		this.allowsDative = false;
@@ -406,6 +415,7 @@ public class Verb extends ContentWord {
 	 * @see #Verb(String)
 	 */
 	public void setParticle(String part) {
+		checkNotFrozen();
 		this.particle = part;
 	}
 
@@ -416,6 +426,7 @@ public class Verb extends ContentWord {
 	 *            The <code>LexicalItem</code> particle
 	 */
 	public void setParticle(LexicalItem part) {
+		checkNotFrozen();
 		this.particle = part.getBaseForm();
 	}
 
@@ -437,6 +448,7 @@ public class Verb extends ContentWord {
 	}
 
 	public void setVerbPrefix(String verbPrefix) {
+		checkNotFrozen();
 		this.verbPrefix = verbPrefix;
 	}
 
@@ -454,6 +466,7 @@ public class Verb extends ContentWord {
 
 	public void setPresentStem(String presentStem) {
 		this.presentStem = presentStem;
+		this.paradigm = null;
 	}
 
 	public String getPastStem() {
@@ -462,6 +475,7 @@ public class Verb extends ContentWord {
 
 	public void setPastStem(String pastStem) {
 		this.pastStem = pastStem;
+		this.paradigm = null;
 	}
 
 	public String getSubjunctiveStem() {
@@ -474,6 +488,7 @@ public class Verb extends ContentWord {
 
 	public void setSubjunctiveStem(String subjunctiveStem) {
 		this.subjunctiveStem = subjunctiveStem;
+		this.paradigm = null;
 	}
 	
 	public String getPerfectParticiple() {
@@ -498,6 +513,7 @@ public class Verb extends ContentWord {
 
 	public void setAlternatePresentStem(String alternatePresentStem) {
 		this.alternatePresentStem = alternatePresentStem;
+		this.paradigm = null;
 	}
 
 	public boolean hasAlternatePresentStem() {
@@ -514,6 +530,7 @@ public class Verb extends ContentWord {
 
 	public void setPattern(VerbInflectionPattern pattern) {
 		this.pattern = pattern;
+		this.paradigm = null;
 	}
 
 	public AuxType getAuxType() {
@@ -569,7 +586,58 @@ public class Verb extends ContentWord {
 
 	
 	public String getForm(Person p, NumberAgr n, Tense t, Form f) {
-		return this.pattern.apply(this, p, n, t, f);
+		MetricsRecorder.getCurrent().increment(Metric.INFLECTION, Category.VERB.name());
+
+		int index = paradigmIndex(p, n, t, f);
+		if (index < 0) {
+			return this.pattern.apply(this, p, n, t, f);
+		}
+
+		String[] forms = this.paradigm;
+		if (forms == null) {
+			forms = new String[PARADIGM_SIZE];
+			this.paradigm = forms;
+		}
+
+		String form = forms[index];
+		if (form == null) {
+			form = this.pattern.apply(this, p, n, t, f);
+			forms[index] = form;
+		}
+		return form;
+	}
+
+	/*
+	 * Returns the position of a finite form in the paradigm table, or -1 if
+	 * the form is not kept there. Imperatives only depend on the number, the
+	 * indicative and subjunctive forms on person, number and tense.
+	 */
+	private static int paradigmIndex(Person p, NumberAgr n, Tense t, Form f) {
+		if (n == null || f == null) {
+			return -1;
+		}
+
+		int formIndex;
+		switch (f) {
+		case NORMAL:
+			formIndex = 0;
+			break;
+		case SUBJUNCTIVE:
+			formIndex = 1;
+			break;
+		case SUBJUNCTIVE_II:
+			formIndex = 2;
+			break;
+		case IMPERATIVE:
+			return IMPERATIVE_INDEX + n.ordinal();
+		default:
+			return -1;
+		}
+
+		if (p == null || t == null) {
+			return -1;
+		}
+		return ((formIndex * 3 + t.ordinal()) * 2 + n.ordinal()) * 3 + p.ordinal();
 	}
 	
 	public String getImperativeForm(NumberAgr n) {
@@ -90,6 +90,9 @@ public abstract class Word implements LexicalItem, Cloneable {
 
 	Map<DerivationalRelation, Set<LexicalItem>> derivations;
 
+	// set once the word is shared by all callers looking it up
+	boolean frozen;
+
 	/*
 	 * Implicit constructor: Constructs a new (empty) instance of
 	 * <code>Word</code>.
@@ -98,8 +101,10 @@ public abstract class Word implements LexicalItem, Cloneable {
 		this.baseForm = "";
 		this.parentLexicon = null;
 		this.citationForm = "";
-		this.variants = new HashSet<String>();
-		this.derivations = new HashMap<DerivationalRelation, Set<LexicalItem>>();
+		// most words have no variants besides their baseform and no
+		// derivations, so the collections are only allocated when needed
+		this.variants = Collections.<String> emptySet();
+		this.derivations = Collections.emptyMap();
 	}
 
 	/**
@@ -112,7 +117,7 @@ public abstract class Word implements LexicalItem, Cloneable {
 		this();
 
 		if (baseform != null) {
-			this.variants.add(baseform);
+			this.variants = Collections.singleton(baseform);
 			this.baseForm = baseform;
 			this.citationForm = this.baseForm;
 		}
@@ -335,6 +340,10 @@ public abstract class Word implements LexicalItem, Cloneable {
 	 * simplenlg.lexicon.lexicalitems.LexicalItem#addVariant(java.lang.String)
 	 */
 	public void addVariant(String variant) {
+		if (!(this.variants instanceof HashSet<?>)) {
+			this.variants = new HashSet<String>(this.variants);
+		}
+
 		this.variants.add(variant);
 	}
 
@@ -372,6 +381,11 @@ public abstract class Word implements LexicalItem, Cloneable {
 		} else if (rel.appliesTo(this.category)) {
 			Set<LexicalItem> set = new HashSet<LexicalItem>();
 			set.add(lex);
+
+			if (this.derivations.isEmpty()) {
+				this.derivations = new HashMap<DerivationalRelation, Set<LexicalItem>>();
+			}
+
 			this.derivations.put(rel, set);
 
 		} else {
@@ -447,13 +461,46 @@ public abstract class Word implements LexicalItem, Cloneable {
 	public Word clone() {
 
 		try {
-			return (Word) super.clone();
+			Word copy = (Word) super.clone();
+			copy.frozen = false;
+			return copy;
 
 		} catch (CloneNotSupportedException cnse) {
 			return null;
 		}
 	}
 
+	/**
+	 * Marks this word as shared by all callers which look it up, such as the
+	 * complex verbs and compound nouns interned by a lexicon. The setters
+	 * which would change it for all of them, e.g.
+	 * {@link simplenlg.lexicon.lexicalitems.Verb#setParticle(String)}, then
+	 * throw a <code>LexiconException</code>. A clone of a frozen word is not
+	 * frozen, and may be changed.
+	 */
+	public void freeze() {
+		this.frozen = true;
+	}
+
+	/**
+	 * @return <code>true</code> if this word must not be changed, see
+	 *         {@link #freeze()}
+	 */
+	public boolean isFrozen() {
+		return this.frozen;
+	}
+
+	/*
+	 * Throws an exception if this word is frozen; called by the setters which
+	 * may not be used on a frozen word.
+	 */
+	void checkNotFrozen() {
+		if (this.frozen) {
+			throw new LexiconException("Cannot change " + this
+					+ ", which is shared; change a clone of it instead");
+		}
+	}
+
 	/**
 	 * Returns <code>true</code> if, and only if:
 	 * <UL>
@@ -122,7 +122,7 @@ public class AdjectiveInflection {
 			stem = elideFinalE(stem); 
 		}
 		
-		if (stem.matches(".*e$")) {
+		if (stem.endsWith("e")) {
 			stem = stem.substring(0, stem.length()-1);
 		}
 		
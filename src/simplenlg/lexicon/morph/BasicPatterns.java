@@ -99,16 +99,34 @@ public class BasicPatterns {
 	/** The Constant LAST_VOWEL, used for stem umlaut. */
 	public static final String LAST_VOWEL = "(Au|Aa|au|aa|[aouAOU])[^aouAOU]*$";
 	
+	// compiled once, as Patterns (unlike Matchers) can be shared by threads
+	private static final Pattern LAST_VOWEL_PATTERN = Pattern.compile(BasicPatterns.LAST_VOWEL);
+	
 	public static final String applyStemUmlaut(String word) {
-		Pattern p = Pattern.compile(BasicPatterns.LAST_VOWEL);
-		Matcher m = p.matcher(word);
-		StringBuilder s = new StringBuilder(word);
+		Matcher m = LAST_VOWEL_PATTERN.matcher(word);
 		
 		if (m.find()) {
-			s.replace(m.start(1), m.end(1), createUmlaut(m.group(1)));
+			return word.substring(0, m.start(1)) + createUmlaut(m.group(1))
+					+ word.substring(m.end(1));
 		}
 		
-		return s.toString();
+		return word;
+	}
+	
+	/**
+	 * Checks whether a word ends with one of the given letters, e.g.
+	 * <code>endsWithOneOf(word, "sxz")</code> instead of
+	 * <code>word.matches(".*[sxz]$")</code>.
+	 * 
+	 * @param word
+	 *            the word
+	 * @param letters
+	 *            the possible final letters
+	 * @return <code>true</code> if the last letter of the word is one of the
+	 *         given letters
+	 */
+	public static final boolean endsWithOneOf(String word, String letters) {
+		return !word.isEmpty() && letters.indexOf(word.charAt(word.length() - 1)) >= 0;
 	}
 	
 	private static final String createUmlaut(String vowel) {
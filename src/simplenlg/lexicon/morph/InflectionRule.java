@@ -60,9 +60,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import simplenlg.lexicon.lexicalitems.ContentWord;
@@ -112,8 +110,9 @@ import simplenlg.lexicon.lexicalitems.Verb;
 public class InflectionRule<T extends ContentWord> implements
 		MorphologicalRule<T> {
 
-	// exception rules
-	List<PatternActionRule> patternActionRules;
+	// exception rules, sorted by type; never modified once set, but replaced
+	// by a new list when rules are added, so that apply() needs no locking
+	volatile List<PatternActionRule> patternActionRules;
 
 	// default rule
 	PatternActionRule defaultRule;
@@ -121,9 +120,8 @@ public class InflectionRule<T extends ContentWord> implements
 	// rule name
 	String name;
 
-	// regex matcher for words (non-symbols)
-	Matcher wordMatcher = Pattern.compile(BasicPatterns.ANY_STEM).matcher(
-			"blablabla");
+	// regex for words (non-symbols)
+	static final Pattern WORD_PATTERN = Pattern.compile(BasicPatterns.ANY_STEM);
 
 	// flag indicating if this rule should apply stem umlaut
 	boolean umlaut;
@@ -132,7 +130,7 @@ public class InflectionRule<T extends ContentWord> implements
 	 * Instantiates a new (empty) inflection rule.
 	 */
 	public InflectionRule() {
-		this.patternActionRules = new ArrayList<PatternActionRule>();
+		this.patternActionRules = Collections.emptyList();
 		this.umlaut = false;
 	}
 
@@ -298,9 +296,12 @@ public class InflectionRule<T extends ContentWord> implements
 	 * @param rules
 	 *            the new rules
 	 */
-	public void addExceptionRules(Collection<PatternActionRule> rules) {
-		this.patternActionRules.addAll(rules);
-		Collections.sort(this.patternActionRules);
+	public synchronized void addExceptionRules(Collection<PatternActionRule> rules) {
+		List<PatternActionRule> newRules = new ArrayList<PatternActionRule>(
+				this.patternActionRules);
+		newRules.addAll(rules);
+		Collections.sort(newRules);
+		this.patternActionRules = Collections.unmodifiableList(newRules);
 	}
 
 	/**
@@ -311,8 +312,7 @@ public class InflectionRule<T extends ContentWord> implements
 	 * 
 	 */
 	public void setExceptionRules(PatternActionRule... actionRules) {
-		this.patternActionRules.clear();
-		addExceptionRules(actionRules);
+		setExceptionRules(Arrays.asList(actionRules));
 	}
 
 	/**
@@ -322,8 +322,8 @@ public class InflectionRule<T extends ContentWord> implements
 	 *            the new rules
 	 * 
 	 */
-	public void setExceptionRules(Collection<PatternActionRule> actionRules) {
-		this.patternActionRules.clear();
+	public synchronized void setExceptionRules(Collection<PatternActionRule> actionRules) {
+		this.patternActionRules = Collections.emptyList();
 		addExceptionRules(actionRules);
 	}
 
@@ -408,19 +408,17 @@ public class InflectionRule<T extends ContentWord> implements
 	 * @see simplenlg.lexicon.morph.MorphologicalRule#apply(java.lang.String)
 	 */
 	public String apply(String word) {
-		this.wordMatcher.reset(word);
-
-		if (!this.wordMatcher.matches()) {
+		if (!WORD_PATTERN.matcher(word).matches()) {
 			return word;
 		}
 
-		if (this.appliesUmlaut()) { word = applyUmlaut(word); }
+		if (this.appliesUmlaut()) { word = BasicPatterns.applyStemUmlaut(word); }
 		
 		String result = null;
-		Iterator<PatternActionRule> iter = this.patternActionRules.iterator();
+		List<PatternActionRule> rules = this.patternActionRules;
 
-		while (iter.hasNext()) {
-			PatternActionRule currentRule = iter.next();
+		for (int i = 0; i < rules.size(); i++) {
+			PatternActionRule currentRule = rules.get(i);
 
 			if (currentRule.applies(word)) {
 				result = currentRule.fire(word);
@@ -444,31 +442,4 @@ public class InflectionRule<T extends ContentWord> implements
 		return buffer.toString();
 	}
 
-	private String applyUmlaut(String word) {
-		Pattern p = Pattern.compile(BasicPatterns.LAST_VOWEL);
-		Matcher m = p.matcher(word);
-		StringBuilder s = new StringBuilder(word);
-		
-		if (m.find()) {
-			s.replace(m.start(1), m.end(1), createUmlaut(m.group(1)));
-		}
-		
-		return s.toString();
-	}
-	
-	private String createUmlaut(String vowel) {
-		String umlaut = vowel;
-		if (vowel.equals("a")) { umlaut = "ä"; }
-		else if (vowel.equals("A")) { umlaut = "Ä"; }
-		else if (vowel.equals("o")) { umlaut = "ö"; }
-		else if (vowel.equals("O")) { umlaut = "Ö"; }
-		else if (vowel.equals("u")) { umlaut = "ü"; }
-		else if (vowel.equals("U")) { umlaut = "Ü"; }
-		else if (vowel.equals("au")) { umlaut = "äu"; }
-		else if (vowel.equals("Au")) { umlaut = "Äu"; }
-		else if (vowel.equals("aa")) { umlaut = "ä"; }
-		else if (vowel.equals("Aa")) { umlaut = "Ä"; }
-		
-		return umlaut;
-	}
 }
@@ -56,9 +56,6 @@
 
 package simplenlg.lexicon.morph;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import simplenlg.lexicon.lexicalitems.Noun;
 
 // TODO: Auto-generated Javadoc
@@ -68,31 +65,7 @@ import simplenlg.lexicon.lexicalitems.Noun;
 public class NounInflection {
 
 	public static String applyUmlaut(String word) {
-		Pattern p = Pattern.compile(BasicPatterns.LAST_VOWEL);
-		Matcher m = p.matcher(word);
-		StringBuilder s = new StringBuilder(word);
-		
-		if (m.find()) {
-			s.replace(m.start(1), m.end(1), createUmlaut(m.group(1)));
-		}
-		
-		return s.toString();
-	}
-	
-	private static String createUmlaut(String vowel) {
-		String umlaut = vowel;
-		if (vowel.equals("a")) { umlaut = "ä"; }
-		else if (vowel.equals("A")) { umlaut = "Ä"; }
-		else if (vowel.equals("o")) { umlaut = "ö"; }
-		else if (vowel.equals("O")) { umlaut = "Ö"; }
-		else if (vowel.equals("u")) { umlaut = "ü"; }
-		else if (vowel.equals("U")) { umlaut = "Ü"; }
-		else if (vowel.equals("au")) { umlaut = "äu"; }
-		else if (vowel.equals("Au")) { umlaut = "Äu"; }
-		else if (vowel.equals("aa")) { umlaut = "ä"; }
-		else if (vowel.equals("Aa")) { umlaut = "Ä"; }
-		
-		return umlaut;
+		return BasicPatterns.applyStemUmlaut(word);
 	}
 	
 	public static String convertFinalEszet(String word) {
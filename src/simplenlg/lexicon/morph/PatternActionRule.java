@@ -56,7 +56,6 @@
 
 package simplenlg.lexicon.morph;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 // TODO: Auto-generated Javadoc
@@ -75,7 +74,7 @@ public class PatternActionRule implements Comparable<PatternActionRule> {
 	public static final int DEFAULT = 2;
 
 	/** The left hand side. */
-	private Matcher leftHandSide;
+	private final Pattern leftHandSide;
 
 	/** The left hand string. */
 	private String leftHandString;
@@ -89,6 +88,9 @@ public class PatternActionRule implements Comparable<PatternActionRule> {
 	/** The type. */
 	private Integer type = PatternActionRule.EXCEPTION;
 
+	/** The literal start and end of the left hand side, if any. */
+	private final String requiredPrefix, requiredSuffix;
+
 	/**
 	 * Instantiates a new pattern action rule.
 	 * 
@@ -100,11 +102,12 @@ public class PatternActionRule implements Comparable<PatternActionRule> {
 	 *            the suff
 	 */
 	public PatternActionRule(String regex, int truncate, String suff) {
-		this.leftHandSide = Pattern.compile(regex, Pattern.CASE_INSENSITIVE)
-				.matcher("\\w+");
+		this.leftHandSide = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
 		this.leftHandString = regex;
 		this.offset = truncate;
 		this.suffix = suff;
+		this.requiredPrefix = literalPrefix(regex);
+		this.requiredSuffix = literalSuffix(regex);
 	}
 
 	/**
@@ -132,14 +135,14 @@ public class PatternActionRule implements Comparable<PatternActionRule> {
 							+ "1 (Generic) or 2 (Default)");
 		}
 
-		// set the leftHandSide to a matcher for "word". To be reset
-		// every time the rule is applied. Saves garbage from creation
-		// of new matchers each time
-		this.leftHandSide = Pattern.compile(regex, Pattern.CASE_INSENSITIVE)
-				.matcher("word");
+		// the compiled pattern is immutable, so that a rule can be applied by
+		// several threads at once
+		this.leftHandSide = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
 		this.leftHandString = regex;
 		this.offset = truncate;
 		this.suffix = suff;
+		this.requiredPrefix = literalPrefix(regex);
+		this.requiredSuffix = literalSuffix(regex);
 	}
 
 	/**
@@ -189,8 +192,22 @@ public class PatternActionRule implements Comparable<PatternActionRule> {
 	 */
 	public boolean applies(String word) {
 		word = word.trim();
-		this.leftHandSide = this.leftHandSide.reset(word);
-		return this.leftHandSide.find();
+
+		// most exception rules name a word or an ending, which rules out
+		// nearly all words without running the regex
+		if (this.requiredPrefix != null
+				&& !word.regionMatches(true, 0, this.requiredPrefix, 0,
+						this.requiredPrefix.length())) {
+			return false;
+		}
+		if (this.requiredSuffix != null
+				&& !word.regionMatches(true, word.length()
+						- this.requiredSuffix.length(), this.requiredSuffix, 0,
+						this.requiredSuffix.length())) {
+			return false;
+		}
+
+		return this.leftHandSide.matcher(word).find();
 	}
 
 	/**
@@ -246,14 +263,96 @@ public class PatternActionRule implements Comparable<PatternActionRule> {
 			return word;
 		}
 
-		StringBuffer buffer = new StringBuffer(word);
-		int i = 1;
-		while (i <= this.offset) {
-			buffer.deleteCharAt(buffer.length() - 1);
-			i++;
+		return word.substring(0, word.length() - this.offset);
+	}
+
+	/**
+	 * Returns the literal text at the start of a regex anchored with
+	 * <code>^</code>, e.g. <I>bring</I> for <code>^bring$</code>, or
+	 * <code>null</code> if there is none.
+	 * 
+	 * @param regex
+	 *            the regex
+	 * 
+	 * @return the literal prefix, or <code>null</code>
+	 */
+	static String literalPrefix(String regex) {
+		if (!regex.startsWith("^") || hasTopLevelAlternation(regex)) {
+			return null;
+		}
+
+		int end = 1;
+		while (end < regex.length() && isLiteral(regex.charAt(end))) {
+			end++;
+		}
+		// a quantifier makes the last character optional or repeatable
+		if (end < regex.length() && "?*+{".indexOf(regex.charAt(end)) >= 0) {
+			end--;
 		}
 
-		return buffer.toString();
+		return end > 1 ? regex.substring(1, end) : null;
+	}
+
+	/**
+	 * Returns the literal text at the end of a regex anchored with
+	 * <code>$</code>, e.g. <I>e</I> for <code>[^ie]e$</code>, or
+	 * <code>null</code> if there is none.
+	 * 
+	 * @param regex
+	 *            the regex
+	 * 
+	 * @return the literal suffix, or <code>null</code>
+	 */
+	static String literalSuffix(String regex) {
+		if (!regex.endsWith("$") || regex.endsWith("\\$")
+				|| hasTopLevelAlternation(regex)) {
+			return null;
+		}
+
+		int end = regex.length() - 1;
+		int start = end;
+		while (start > 0 && isLiteral(regex.charAt(start - 1))
+				&& (start < 2 || regex.charAt(start - 2) != '\\')) {
+			start--;
+		}
+
+		return start < end ? regex.substring(start, end) : null;
+	}
+
+	/*
+	 * Checks for characters which stand for themselves in a regex.
+	 */
+	private static boolean isLiteral(char c) {
+		return Character.isLetterOrDigit(c) || c == '-' || c == '\'' || c == ' ';
+	}
+
+	/*
+	 * Checks whether a regex has alternatives outside of any group, in which
+	 * case no single prefix or suffix is required.
+	 */
+	private static boolean hasTopLevelAlternation(String regex) {
+		int depth = 0;
+		boolean inClass = false;
+
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+
+			if (c == '\\') {
+				i++;
+			} else if (inClass) {
+				inClass = (c != ']');
+			} else if (c == '[') {
+				inClass = true;
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			} else if (c == '|' && depth == 0) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 }
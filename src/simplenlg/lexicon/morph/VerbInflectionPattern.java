@@ -219,9 +219,9 @@ public class VerbInflectionPattern {
 	
 	// Adds suffix to a verb form, respects "s contraction"
 	private String addSuffix(String base, String suffix) {
-		if (suffix.startsWith("s") && base.matches(".*[sßzx]$")) {
+		if (suffix.startsWith("s") && BasicPatterns.endsWithOneOf(base, "sßzx")) {
 			return base.concat(suffix.substring(1));
-		} else if (suffix.startsWith("e") && base.matches(".*e$")) {
+		} else if (suffix.startsWith("e") && base.endsWith("e")) {
 			return base.concat(suffix.substring(1));
 		} else if (suffix.startsWith("e") && this.features.contains(WordMorph.STEM_E_ELISION)) {
 			return elideFinalE(base).concat(suffix);
@@ -0,0 +1,157 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.metrics;
+
+/**
+ * This is an enumeration of the measurements taken by SimpleNLG and passed to
+ * the current {@link simplenlg.metrics.MetricsRecorder}. Each measurement
+ * carries a label, such as the type of spec realised or the category of word
+ * inflected, so that a recorder can keep one counter per metric and label.
+ * 
+ * <P>
+ * A metric is either a counter, which is simply incremented, or a timer, for
+ * which the recorder is given the elapsed time in nanoseconds.
+ */
+public enum Metric {
+
+	/**
+	 * The realisation of a spec by
+	 * {@link simplenlg.realiser.Realiser#realise(Object)}, labelled with the
+	 * class of the spec. Nested specs are timed as well, so the time of a
+	 * sentence includes the time of its phrases.
+	 */
+	REALISE("realise", true),
+
+	/**
+	 * The working copy of a spec made by a
+	 * {@link simplenlg.realiser.Realiser} in isolated mode (see
+	 * {@link simplenlg.realiser.Realiser#setIsolatedRealisation(boolean)})
+	 * before the copy is realised, labelled with the class of the spec. This
+	 * time is not included in that of {@link #REALISE}.
+	 */
+	ISOLATION_COPY("realise.copy", true),
+
+	/**
+	 * A lookup in a {@link simplenlg.lexicon.DBLexicon} which was answered
+	 * from memory, labelled with the category looked up, or <code>ID</code>
+	 * or <code>BASEFORM</code>.
+	 */
+	LEXICON_HIT("lexicon.hit", false),
+
+	/**
+	 * A lookup in a {@link simplenlg.lexicon.DBLexicon} which was not
+	 * answered from memory, labelled like {@link #LEXICON_HIT}. This includes
+	 * lookups which have failed before and are not passed on to the database
+	 * again.
+	 */
+	LEXICON_MISS("lexicon.miss", false),
+
+	/**
+	 * A call to the {@link simplenlg.lexicon.db.DBAccessor} of a
+	 * {@link simplenlg.lexicon.DBLexicon}, labelled with the class of the
+	 * accessor and the method called, e.g. <code>XMLAccessor.loadData</code>.
+	 */
+	LEXICON_LOAD("lexicon.load", true),
+
+	/**
+	 * A request for an inflected form of a noun, verb or adjective, labelled
+	 * with its category.
+	 */
+	INFLECTION("inflection", false),
+
+	/**
+	 * The ordering of the modifiers of a phrase, labelled <code>sorted</code>
+	 * if they had to be sorted, and <code>ordered</code> if they already were
+	 * in order.
+	 */
+	CONSTITUENT_SORT("constituent.sort", false),
+
+	/**
+	 * The application of an aggregation rule by a
+	 * {@link simplenlg.aggregation.ClauseAggregator}, labelled with the class
+	 * of the rule. Only applications which produced a result are counted.
+	 */
+	AGGREGATION("aggregation", false);
+
+	private final String name;
+
+	private final boolean timed;
+
+	private Metric(String name, boolean timed) {
+		this.name = name;
+		this.timed = timed;
+	}
+
+	/**
+	 * Gets the name of this metric, as used e.g. in the attribute names of the
+	 * {@link simplenlg.metrics.MetricsExporter}.
+	 * 
+	 * @return the name, e.g. <code>lexicon.hit</code>
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Checks whether this metric is a timer.
+	 * 
+	 * @return <code>true</code> if the recorder is given elapsed times,
+	 *         <code>false</code> if this metric is a counter
+	 */
+	public boolean isTimed() {
+		return this.timed;
+	}
+}
@@ -0,0 +1,356 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+import simplenlg.exception.SimplenlgException;
+
+/**
+ * Exports the measurements of a {@link simplenlg.metrics.StripedMetrics} as a
+ * JMX MBean, so that they can be watched with JConsole or any monitoring tool
+ * which reads JMX.
+ * 
+ * <P>
+ * The MBean has a read-only attribute
+ * <code>&lt;metric&gt;.&lt;label&gt;.count</code> for every metric and label
+ * measured so far, e.g. <code>realise.NPPhraseSpec.count</code> or
+ * <code>inflection.VERB.count</code>. Timers have the attributes
+ * <code>totalNanos</code>, <code>meanNanos</code>, <code>p50Nanos</code>,
+ * <code>p90Nanos</code> and <code>p99Nanos</code> as well (see
+ * {@link simplenlg.metrics.StripedMetrics#getPercentileNanos(Metric, String, double)}).
+ * The operation <code>reset</code> sets all of them back to 0. New labels
+ * appear in the MBean info as they are measured.
+ */
+public class MetricsExporter implements DynamicMBean {
+
+	/** The name under which {@link #register(StripedMetrics)} registers. */
+	public static final String DEFAULT_NAME = "simplenlg:type=Metrics";
+
+	private static final String COUNT = "count";
+
+	private static final String[] TIMES = { "totalNanos", "meanNanos",
+			"p50Nanos", "p90Nanos", "p99Nanos" };
+
+	private static final String RESET = "reset";
+
+	private StripedMetrics metrics;
+
+	private MBeanServer server;
+
+	private ObjectName name;
+
+	/**
+	 * Constructs an MBean for the given measurements, which can be registered
+	 * with any MBean server.
+	 * 
+	 * @param metrics
+	 *            the measurements
+	 */
+	public MetricsExporter(StripedMetrics metrics) {
+
+		if (metrics == null) {
+			throw new IllegalArgumentException("No metrics to export");
+		}
+
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Exports measurements with the platform MBean server under
+	 * {@link #DEFAULT_NAME}.
+	 * 
+	 * @param metrics
+	 *            the measurements
+	 * @return the registered exporter
+	 * @throws SimplenlgException
+	 *             if the MBean cannot be registered, e.g. because another one
+	 *             is registered under the same name
+	 */
+	public static MetricsExporter register(StripedMetrics metrics) {
+		return register(metrics, DEFAULT_NAME);
+	}
+
+	/**
+	 * Exports measurements with the platform MBean server.
+	 * 
+	 * @param metrics
+	 *            the measurements
+	 * @param name
+	 *            the object name of the MBean
+	 * @return the registered exporter
+	 * @throws SimplenlgException
+	 *             if the name is malformed or the MBean cannot be registered
+	 */
+	public static MetricsExporter register(StripedMetrics metrics, String name) {
+		MetricsExporter exporter = new MetricsExporter(metrics);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+		try {
+			exporter.name = server.registerMBean(exporter,
+					new ObjectName(name)).getObjectName();
+			exporter.server = server;
+
+		} catch (JMException e) {
+			SimplenlgException ex = new SimplenlgException(
+					"Cannot register metrics as " + name + ": "
+							+ e.getMessage());
+			ex.initCause(e);
+			throw ex;
+		}
+
+		return exporter;
+	}
+
+	/**
+	 * Removes the MBean from the platform MBean server, if it has been
+	 * registered by {@link #register(StripedMetrics, String)}.
+	 */
+	public void unregister() {
+
+		if (this.server == null) {
+			return;
+		}
+
+		try {
+			this.server.unregisterMBean(this.name);
+
+		} catch (JMException e) {
+			// already unregistered by someone else
+		}
+
+		this.server = null;
+	}
+
+	/**
+	 * Gets the measurements exported.
+	 * 
+	 * @return the measurements
+	 */
+	public StripedMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#getAttribute(java.lang.String)
+	 */
+	public Object getAttribute(String attribute)
+			throws AttributeNotFoundException {
+
+		for (Metric metric : Metric.values()) {
+			String prefix = metric.getName() + ".";
+			int end = attribute.lastIndexOf('.');
+
+			if (attribute.startsWith(prefix) && end >= prefix.length()) {
+				String label = attribute.substring(prefix.length(), end);
+				Long value = getValue(metric, label,
+						attribute.substring(end + 1));
+
+				if (value != null) {
+					return value;
+				}
+			}
+		}
+
+		throw new AttributeNotFoundException("No attribute " + attribute);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#getAttributes(java.lang.String[])
+	 */
+	public AttributeList getAttributes(String[] attributes) {
+		AttributeList list = new AttributeList();
+
+		for (String attribute : attributes) {
+			try {
+				list.add(new Attribute(attribute, getAttribute(attribute)));
+
+			} catch (AttributeNotFoundException e) {
+				// left out, as the interface requires
+			}
+		}
+
+		return list;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * javax.management.DynamicMBean#setAttribute(javax.management.Attribute)
+	 */
+	public void setAttribute(Attribute attribute)
+			throws AttributeNotFoundException {
+		throw new AttributeNotFoundException("Attribute "
+				+ attribute.getName() + " is read-only");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * javax.management.DynamicMBean#setAttributes(javax.management.AttributeList
+	 * )
+	 */
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#invoke(java.lang.String,
+	 * java.lang.Object[], java.lang.String[])
+	 */
+	public Object invoke(String actionName, Object[] params, String[] signature)
+			throws ReflectionException {
+
+		if (RESET.equals(actionName)
+				&& (signature == null || signature.length == 0)) {
+			this.metrics.reset();
+			return null;
+		}
+
+		throw new ReflectionException(new NoSuchMethodException(actionName),
+				"No operation " + actionName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#getMBeanInfo()
+	 */
+	public MBeanInfo getMBeanInfo() {
+		List<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+
+		for (Metric metric : Metric.values()) {
+			for (String label : this.metrics.getLabels(metric)) {
+				String prefix = metric.getName() + "." + label + ".";
+				attributes.add(makeAttributeInfo(prefix + COUNT,
+						"Number of measurements"));
+
+				if (metric.isTimed()) {
+					for (String time : TIMES) {
+						attributes.add(makeAttributeInfo(prefix + time,
+								"Time in nanoseconds"));
+					}
+				}
+			}
+		}
+
+		MBeanOperationInfo reset = new MBeanOperationInfo(RESET,
+				"Sets all measurements back to 0", null, "void",
+				MBeanOperationInfo.ACTION);
+
+		return new MBeanInfo(getClass().getName(),
+				"Measurements of the SimpleNLG realiser and lexicon",
+				attributes.toArray(new MBeanAttributeInfo[attributes.size()]),
+				null, new MBeanOperationInfo[] { reset }, null);
+	}
+
+	/*
+	 * Gets one of the values of a metric and label, or null if there is no
+	 * such value.
+	 */
+	private Long getValue(Metric metric, String label, String value) {
+
+		if (!this.metrics.getLabels(metric).contains(label)) {
+			return null;
+		} else if (COUNT.equals(value)) {
+			return this.metrics.getCount(metric, label);
+		} else if (!metric.isTimed()) {
+			return null;
+		} else if (TIMES[0].equals(value)) {
+			return this.metrics.getTotalNanos(metric, label);
+		} else if (TIMES[1].equals(value)) {
+			long count = this.metrics.getCount(metric, label);
+			return (count == 0 ? 0 : this.metrics.getTotalNanos(metric, label)
+					/ count);
+		} else if (TIMES[2].equals(value)) {
+			return this.metrics.getPercentileNanos(metric, label, 0.5);
+		} else if (TIMES[3].equals(value)) {
+			return this.metrics.getPercentileNanos(metric, label, 0.9);
+		} else if (TIMES[4].equals(value)) {
+			return this.metrics.getPercentileNanos(metric, label, 0.99);
+		} else {
+			return null;
+		}
+	}
+
+	private static MBeanAttributeInfo makeAttributeInfo(String name,
+			String description) {
+		return new MBeanAttributeInfo(name, Long.class.getName(), description,
+				true, false, false);
+	}
+}
@@ -0,0 +1,194 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Receives the measurements which SimpleNLG takes while it realises text (see
+ * {@link simplenlg.metrics.Metric}). Implementations must be thread-safe, and
+ * should be cheap, since they are called on every realisation, lexicon lookup
+ * and inflection.
+ * 
+ * <P>
+ * There is a single current recorder, which is shared by all realisers and
+ * lexicons. By default this is {@link #NONE}, which ignores all
+ * measurements; in that case, no time is taken and no labels are built, so
+ * the measurements cost next to nothing. To collect metrics, install e.g. a
+ * {@link simplenlg.metrics.StripedMetrics}:
+ * 
+ * <pre>
+ * StripedMetrics metrics = new StripedMetrics();
+ * MetricsRecorder.setCurrent(metrics);
+ * MetricsExporter.register(metrics);
+ * </pre>
+ */
+public abstract class MetricsRecorder {
+
+	/**
+	 * The recorder which ignores all measurements.
+	 */
+	public static final MetricsRecorder NONE = new MetricsRecorder() {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void increment(Metric metric, String label) {
+		}
+
+		@Override
+		public void recordTime(Metric metric, String label, long nanos) {
+		}
+	};
+
+	private static volatile MetricsRecorder current = NONE;
+
+	// the innermost open UsageAccount of each thread
+	private static final ThreadLocal<UsageAccount> accounts = new ThreadLocal<UsageAccount>();
+
+	// the number of open accounts in all threads; while there are none, the
+	// thread-local need not be looked at
+	private static final AtomicInteger openAccounts = new AtomicInteger();
+
+	/**
+	 * Gets the current recorder. This is the innermost open
+	 * {@link simplenlg.metrics.UsageAccount} of the current thread, if there
+	 * is one.
+	 * 
+	 * @return the recorder, {@link #NONE} unless another one has been set
+	 */
+	public static MetricsRecorder getCurrent() {
+		if (openAccounts.get() > 0) {
+			UsageAccount account = accounts.get();
+
+			if (account != null) {
+				return account;
+			}
+		}
+
+		return MetricsRecorder.current;
+	}
+
+	/**
+	 * Sets the current recorder, which takes effect immediately for all
+	 * threads. Accounts which are open keep passing their measurements on to
+	 * the recorder which was current when they were opened.
+	 * 
+	 * @param recorder
+	 *            the recorder; <code>null</code> restores {@link #NONE}
+	 */
+	public static void setCurrent(MetricsRecorder recorder) {
+		MetricsRecorder.current = (recorder == null ? NONE : recorder);
+	}
+
+	/*
+	 * Makes an account the current recorder of its thread.
+	 */
+	static void openAccount(UsageAccount account) {
+		accounts.set(account);
+		openAccounts.incrementAndGet();
+	}
+
+	/*
+	 * Closes the innermost account of the current thread, making the given
+	 * outer account current again, or the global recorder if it is null.
+	 */
+	static void closeAccount(UsageAccount outer) {
+		if (outer == null) {
+			accounts.remove();
+		} else {
+			accounts.set(outer);
+		}
+
+		openAccounts.decrementAndGet();
+	}
+
+	/**
+	 * Checks whether this recorder takes measurements at all. Callers check
+	 * this before they take the time or build a label.
+	 * 
+	 * @return <code>true</code>, unless this recorder ignores all
+	 *         measurements
+	 */
+	public boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Increments a counter.
+	 * 
+	 * @param metric
+	 *            the metric
+	 * @param label
+	 *            the label
+	 */
+	public abstract void increment(Metric metric, String label);
+
+	/**
+	 * Records the time taken by an operation.
+	 * 
+	 * @param metric
+	 *            the metric, which should be a timer
+	 * @param label
+	 *            the label
+	 * @param nanos
+	 *            the elapsed time in nanoseconds
+	 */
+	public abstract void recordTime(Metric metric, String label, long nanos);
+}
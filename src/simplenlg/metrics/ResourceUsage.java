@@ -0,0 +1,159 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.metrics;
+
+/**
+ * The resources used by a piece of work which was measured with a
+ * {@link simplenlg.metrics.UsageAccount}, e.g. the realisation of one text by
+ * {@link simplenlg.realiser.Realiser#realiseWithUsage(Object)}. Times and
+ * allocated memory are those of the thread which did the work; the JVM may
+ * not be able to measure the CPU time or the memory, in which case they are
+ * -1.
+ */
+public final class ResourceUsage {
+
+	private final long wallNanos;
+
+	private final long cpuNanos;
+
+	private final long allocatedBytes;
+
+	private final long lookups;
+
+	private final long lookupMisses;
+
+	private final long loads;
+
+	private final long phrasesRealised;
+
+	ResourceUsage(long wallNanos, long cpuNanos, long allocatedBytes,
+			long lookups, long lookupMisses, long loads, long phrasesRealised) {
+		this.wallNanos = wallNanos;
+		this.cpuNanos = cpuNanos;
+		this.allocatedBytes = allocatedBytes;
+		this.lookups = lookups;
+		this.lookupMisses = lookupMisses;
+		this.loads = loads;
+		this.phrasesRealised = phrasesRealised;
+	}
+
+	/**
+	 * @return the elapsed time in nanoseconds
+	 */
+	public long getWallNanos() {
+		return this.wallNanos;
+	}
+
+	/**
+	 * @return the CPU time of the thread in nanoseconds, or -1 if it cannot
+	 *         be measured
+	 */
+	public long getCpuNanos() {
+		return this.cpuNanos;
+	}
+
+	/**
+	 * @return the number of bytes allocated by the thread, or -1 if they
+	 *         cannot be measured
+	 */
+	public long getAllocatedBytes() {
+		return this.allocatedBytes;
+	}
+
+	/**
+	 * @return the number of lookups in a {@link simplenlg.lexicon.DBLexicon}
+	 */
+	public long getLookups() {
+		return this.lookups;
+	}
+
+	/**
+	 * @return the number of lookups which were not answered from memory
+	 */
+	public long getLookupMisses() {
+		return this.lookupMisses;
+	}
+
+	/**
+	 * @return the number of calls to the database or XML accessor of a
+	 *         lexicon
+	 */
+	public long getLoads() {
+		return this.loads;
+	}
+
+	/**
+	 * @return the number of specs realised through
+	 *         {@link simplenlg.realiser.Realiser#realise(Object)}, including
+	 *         the outermost one
+	 */
+	public long getPhrasesRealised() {
+		return this.phrasesRealised;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "wall=" + this.wallNanos + "ns cpu=" + this.cpuNanos
+				+ "ns allocated=" + this.allocatedBytes + "B lookups="
+				+ this.lookups + " misses=" + this.lookupMisses + " loads="
+				+ this.loads + " phrases=" + this.phrasesRealised;
+	}
+}
@@ -0,0 +1,148 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A row of counters which many threads can add to at once without contending
+ * for the same memory. Every counter is split into a number of stripes, and a
+ * thread only adds to the stripe chosen by its id; the value of a counter is
+ * the sum of its stripes. The stripes of different rows are padded apart, so
+ * that threads adding to different stripes do not share a cache line.
+ * 
+ * <P>
+ * Sums are not atomic snapshots: a sum taken while other threads are adding
+ * may include some of their additions and not others.
+ */
+final class StripedCells {
+
+	// number of stripes, a power of two
+	private static final int STRIPES = countStripes();
+
+	// number of longs in a cache line
+	private static final int LINE = 8;
+
+	// distance between the starts of two stripes
+	private final int stride;
+
+	private final AtomicLongArray cells;
+
+	/**
+	 * Constructs a row of counters, all of which are 0.
+	 * 
+	 * @param width
+	 *            the number of counters
+	 */
+	StripedCells(int width) {
+		this.stride = ((width + LINE - 1) / LINE + 1) * LINE;
+		this.cells = new AtomicLongArray(STRIPES * this.stride);
+	}
+
+	/**
+	 * Adds to a counter.
+	 * 
+	 * @param column
+	 *            the index of the counter
+	 * @param delta
+	 *            the value to add
+	 */
+	void add(int column, long delta) {
+		int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+		this.cells.getAndAdd(stripe * this.stride + column, delta);
+	}
+
+	/**
+	 * Gets the value of a counter.
+	 * 
+	 * @param column
+	 *            the index of the counter
+	 * @return the sum of its stripes
+	 */
+	long sum(int column) {
+		long sum = 0;
+
+		for (int i = column; i < this.cells.length(); i += this.stride) {
+			sum += this.cells.get(i);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Sets all counters to 0.
+	 */
+	void reset() {
+		for (int i = 0; i < this.cells.length(); i++) {
+			this.cells.set(i, 0);
+		}
+	}
+
+	/*
+	 * One stripe per processor (at most 64) is enough to keep threads out of
+	 * each other's way most of the time.
+	 */
+	private static int countStripes() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		int stripes = 1;
+
+		while (stripes < processors && stripes < 64) {
+			stripes <<= 1;
+		}
+
+		return stripes;
+	}
+}
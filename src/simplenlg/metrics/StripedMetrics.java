@@ -0,0 +1,274 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link simplenlg.metrics.MetricsRecorder} which keeps a counter for every
+ * metric and label, and for timers, a latency histogram as well. The counters
+ * are striped (see {@link simplenlg.metrics.StripedCells}), so that threads
+ * realising text at the same time hardly ever contend for them.
+ * 
+ * <P>
+ * A histogram has one bucket per power of two nanoseconds, so percentiles are
+ * reported as the upper bound of their bucket and may be up to twice the
+ * actual value. That is precise enough to see where the time goes, and takes
+ * a fixed amount of memory however many measurements there are.
+ */
+public class StripedMetrics extends MetricsRecorder {
+
+	// number of histogram buckets: times from 2^39 ns (about nine minutes)
+	// on all go into the last one
+	private static final int BUCKETS = 40;
+
+	// columns of a stat: the count, the total time and the buckets
+	private static final int COUNT = 0;
+	private static final int TOTAL = 1;
+	private static final int FIRST_BUCKET = 2;
+
+	private EnumMap<Metric, ConcurrentMap<String, StripedCells>> stats;
+
+	/**
+	 * Constructs a recorder without any measurements.
+	 */
+	public StripedMetrics() {
+		this.stats = new EnumMap<Metric, ConcurrentMap<String, StripedCells>>(
+				Metric.class);
+
+		for (Metric metric : Metric.values()) {
+			this.stats.put(metric,
+					new ConcurrentHashMap<String, StripedCells>());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.metrics.MetricsRecorder#increment(simplenlg.metrics.Metric,
+	 * java.lang.String)
+	 */
+	@Override
+	public void increment(Metric metric, String label) {
+		getStat(metric, label).add(COUNT, 1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * simplenlg.metrics.MetricsRecorder#recordTime(simplenlg.metrics.Metric,
+	 * java.lang.String, long)
+	 */
+	@Override
+	public void recordTime(Metric metric, String label, long nanos) {
+		StripedCells stat = getStat(metric, label);
+		stat.add(COUNT, 1);
+
+		if (metric.isTimed()) {
+			nanos = Math.max(nanos, 0);
+			stat.add(TOTAL, nanos);
+			stat.add(FIRST_BUCKET + bucket(nanos), 1);
+		}
+	}
+
+	/**
+	 * Gets the labels which have been measured for a metric.
+	 * 
+	 * @param metric
+	 *            the metric
+	 * @return the labels, in alphabetical order
+	 */
+	public Set<String> getLabels(Metric metric) {
+		return new TreeSet<String>(this.stats.get(metric).keySet());
+	}
+
+	/**
+	 * Gets the number of measurements for a metric and label.
+	 * 
+	 * @param metric
+	 *            the metric
+	 * @param label
+	 *            the label
+	 * @return the count, 0 if the label has not been measured
+	 */
+	public long getCount(Metric metric, String label) {
+		StripedCells stat = this.stats.get(metric).get(label);
+		return (stat == null ? 0 : stat.sum(COUNT));
+	}
+
+	/**
+	 * Gets the number of measurements for a metric, whatever their label.
+	 * 
+	 * @param metric
+	 *            the metric
+	 * @return the count
+	 */
+	public long getCount(Metric metric) {
+		long count = 0;
+
+		for (StripedCells stat : this.stats.get(metric).values()) {
+			count += stat.sum(COUNT);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Gets the total time measured for a metric and label.
+	 * 
+	 * @param metric
+	 *            the metric, which should be a timer
+	 * @param label
+	 *            the label
+	 * @return the time in nanoseconds, 0 if the label has not been measured
+	 */
+	public long getTotalNanos(Metric metric, String label) {
+		StripedCells stat = this.stats.get(metric).get(label);
+		return (stat == null || !metric.isTimed() ? 0 : stat.sum(TOTAL));
+	}
+
+	/**
+	 * Gets a percentile of the times measured for a metric and label, e.g.
+	 * the median for 0.5.
+	 * 
+	 * @param metric
+	 *            the metric, which should be a timer
+	 * @param label
+	 *            the label
+	 * @param fraction
+	 *            the percentile as a fraction between 0 and 1
+	 * @return the upper bound of the histogram bucket in which the percentile
+	 *         falls, in nanoseconds; 0 if there are no measurements
+	 */
+	public long getPercentileNanos(Metric metric, String label,
+			double fraction) {
+		StripedCells stat = this.stats.get(metric).get(label);
+
+		if (stat == null || !metric.isTimed()) {
+			return 0;
+		}
+
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = stat.sum(FIRST_BUCKET + i);
+			total += counts[i];
+		}
+
+		long rank = Math.max((long) Math.ceil(fraction * total), 1);
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+
+			if (seen >= rank) {
+				return (i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (i + 1));
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Sets all counts and times back to 0. The labels measured so far are
+	 * kept.
+	 */
+	public void reset() {
+		for (Map<String, StripedCells> labels : this.stats.values()) {
+			for (StripedCells stat : labels.values()) {
+				stat.reset();
+			}
+		}
+	}
+
+	/*
+	 * Gets the counters for a metric and label, adding them if the label has
+	 * not been measured before.
+	 */
+	private StripedCells getStat(Metric metric, String label) {
+		ConcurrentMap<String, StripedCells> labels = this.stats.get(metric);
+		String key = (label == null ? "" : label);
+		StripedCells stat = labels.get(key);
+
+		if (stat == null) {
+			stat = new StripedCells(metric.isTimed() ? FIRST_BUCKET + BUCKETS
+					: 1);
+			StripedCells existing = labels.putIfAbsent(key, stat);
+
+			if (existing != null) {
+				stat = existing;
+			}
+		}
+
+		return stat;
+	}
+
+	/*
+	 * Bucket i holds the times from 2^i to 2^(i+1) - 1 nanoseconds (bucket 0
+	 * also holds 0).
+	 */
+	private static int bucket(long nanos) {
+		int log = 63 - Long.numberOfLeadingZeros(nanos);
+		return Math.min(Math.max(log, 0), BUCKETS - 1);
+	}
+}
@@ -0,0 +1,248 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+/**
+ * Measures the resources used by the current thread between
+ * {@link #open()} and {@link #close()}: the elapsed and CPU time, the memory
+ * allocated, and the lexicon lookups, database loads and realisations
+ * reported to the {@link simplenlg.metrics.MetricsRecorder} in the meantime.
+ * 
+ * <P>
+ * While an account is open, it is the current recorder of its thread. It
+ * passes every measurement on to the recorder which was current before, so
+ * that global metrics are still taken; accounts can be nested. Work done by
+ * other threads on behalf of this one (e.g. by
+ * {@link simplenlg.realiser.Realiser#realiseAll(java.util.List)}) is not
+ * included.
+ * 
+ * <pre>
+ * UsageAccount account = UsageAccount.open();
+ * try {
+ * 	// ...
+ * } finally {
+ * 	ResourceUsage usage = account.close();
+ * }
+ * </pre>
+ */
+public final class UsageAccount extends MetricsRecorder {
+
+	private static final ThreadMXBean THREADS = ManagementFactory
+			.getThreadMXBean();
+
+	// com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long), which
+	// not every JVM has
+	private static final Method ALLOCATED_BYTES = findAllocatedBytes();
+
+	private final Thread thread;
+
+	private final MetricsRecorder previous;
+
+	private final long startWall, startCpu, startAllocated;
+
+	private long lookups, lookupMisses, loads, phrasesRealised;
+
+	private ResourceUsage usage;
+
+	private UsageAccount(MetricsRecorder previous) {
+		this.thread = Thread.currentThread();
+		this.previous = previous;
+		this.startAllocated = allocatedBytes();
+		this.startCpu = cpuNanos();
+		this.startWall = System.nanoTime();
+	}
+
+	/**
+	 * Opens an account for the current thread, which becomes the current
+	 * recorder of the thread until it is closed.
+	 * 
+	 * @return the account
+	 */
+	public static UsageAccount open() {
+		UsageAccount account = new UsageAccount(MetricsRecorder.getCurrent());
+		MetricsRecorder.openAccount(account);
+		return account;
+	}
+
+	/**
+	 * Closes this account, restoring the recorder which was current before.
+	 * Closing an account again returns the same usage.
+	 * 
+	 * @return the resources used since the account was opened
+	 * @throws IllegalStateException
+	 *             if this account is closed by another thread than the one
+	 *             which opened it, or while an account opened after it is
+	 *             still open
+	 */
+	public ResourceUsage close() {
+
+		if (this.usage != null) {
+			return this.usage;
+		} else if (Thread.currentThread() != this.thread
+				|| MetricsRecorder.getCurrent() != this) {
+			throw new IllegalStateException(
+					"An account must be closed by its thread, innermost first");
+		}
+
+		long wall = System.nanoTime() - this.startWall;
+		long cpu = cpuNanos();
+		long allocated = allocatedBytes();
+		MetricsRecorder.closeAccount(this.previous instanceof UsageAccount
+				? (UsageAccount) this.previous : null);
+
+		this.usage = new ResourceUsage(wall, difference(cpu, this.startCpu),
+				difference(allocated, this.startAllocated), this.lookups,
+				this.lookupMisses, this.loads, this.phrasesRealised);
+		return this.usage;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.metrics.MetricsRecorder#increment(simplenlg.metrics.Metric,
+	 * java.lang.String)
+	 */
+	@Override
+	public void increment(Metric metric, String label) {
+		count(metric);
+
+		if (this.previous.isEnabled()) {
+			this.previous.increment(metric, label);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * simplenlg.metrics.MetricsRecorder#recordTime(simplenlg.metrics.Metric,
+	 * java.lang.String, long)
+	 */
+	@Override
+	public void recordTime(Metric metric, String label, long nanos) {
+		count(metric);
+
+		if (this.previous.isEnabled()) {
+			this.previous.recordTime(metric, label, nanos);
+		}
+	}
+
+	private void count(Metric metric) {
+		switch (metric) {
+		case LEXICON_MISS:
+			this.lookupMisses++;
+			this.lookups++;
+			break;
+		case LEXICON_HIT:
+			this.lookups++;
+			break;
+		case LEXICON_LOAD:
+			this.loads++;
+			break;
+		case REALISE:
+			this.phrasesRealised++;
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static long difference(long end, long start) {
+		return (end < 0 || start < 0 ? -1 : end - start);
+	}
+
+	private static long cpuNanos() {
+		try {
+			return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS
+					.getCurrentThreadCpuTime() : -1;
+
+		} catch (UnsupportedOperationException e) {
+			// supported, but disabled
+			return -1;
+		}
+	}
+
+	private static long allocatedBytes() {
+
+		if (ALLOCATED_BYTES == null) {
+			return -1;
+		}
+
+		try {
+			return ((Long) ALLOCATED_BYTES.invoke(THREADS, Thread
+					.currentThread().getId())).longValue();
+
+		} catch (Exception e) {
+			return -1;
+		}
+	}
+
+	private static Method findAllocatedBytes() {
+		try {
+			Method method = Class.forName("com.sun.management.ThreadMXBean")
+					.getMethod("getThreadAllocatedBytes", long.class);
+			return (method.getDeclaringClass().isInstance(THREADS) ? method
+					: null);
+
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
@@ -247,7 +247,7 @@ public class AdjPhraseSpec extends HeadedPhraseSpec<Adjective> {
 
 	
 	@Override
-	String realise(Realiser r) {
+	void realise(Realiser r, RealisationBuffer out) {
 		String compText = "";
 		String negText = "";
 		
@@ -265,8 +265,12 @@ public class AdjPhraseSpec extends HeadedPhraseSpec<Adjective> {
 			negText = "nicht";
 		}
 		
-		return r.appendSpace(negText, realisePremodifier(r), realiseHead(r),
-				compText, realiseComplement(r), realisePostmodifier(r));
+		out.appendSpace(negText);
+		realisePremodifier(r, out);
+		realiseHead(r, out);
+		out.appendSpace(compText);
+		realiseComplement(r, out);
+		realisePostmodifier(r, out);
 	}
 
 	private void setComplementCase() {
@@ -285,6 +289,23 @@ public class AdjPhraseSpec extends HeadedPhraseSpec<Adjective> {
 		}
 		return this.head.getForm(this.cas, this.number, this.gender, this.adjType, this.adjDegree);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.HeadedPhraseSpec#fingerprint(simplenlg.realiser.Fingerprint)
+	 */
+	@Override
+	boolean fingerprint(Fingerprint f) {
+
+		if (!super.fingerprint(f)) {
+			return false;
+		}
+
+		f.addFeature(this.number).addFeature(this.gender).addFeature(this.cas)
+				.addFeature(this.adjType).addFeature(this.adjDegree);
+		return true;
+	}
 	
 	
 }
@@ -166,14 +166,14 @@ public class CoordinateAdjPhraseSpec extends AdjPhraseSpec implements
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * simplenlg.realiser.HeadedPhraseSpec#realiseHead(simplenlg.realiser.Realiser
-	 * )
+	 * simplenlg.realiser.HeadedPhraseSpec#realiseHead(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realiseHead(Realiser r) {
+	void realiseHead(Realiser r, RealisationBuffer out) {
 		setChildAgreementFeatures();
 		
-		return this.coordinator.realise(r);
+		this.coordinator.realise(r, out);
 	}
 	
 	private void setChildAgreementFeatures() {
@@ -195,4 +195,14 @@ public class CoordinateAdjPhraseSpec extends AdjPhraseSpec implements
 	}
 	
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.coordinator = context.copy(this.coordinator);
+	}
 }
@@ -443,53 +443,60 @@ public class CoordinateNPPhraseSpec extends NPPhraseSpec implements
 	 * 
 	 * @see
 	 * simplenlg.realiser.NPPhraseSpec#realiseSpec(simplenlg.realiser.Realiser,
-	 * java.lang.String)
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realiseSpec(Realiser r, String agreementString) {
+	void realiseSpec(Realiser r, RealisationBuffer out) {
 		if (this.wideScopeSpecifier) {
 			// hack: number of CoordinateNPPhraseSet is temporarily changed to number
 			// 		 of first coordinate for specifier generation
 			NumberAgr thisNum = this.number;
 			this.number = this.getCoordinates().get(0).getNumber();
-			String realisation = super.realiseSpec(r, agreementString);
+			super.realiseSpec(r, out);
 			this.number = thisNum;
-			
-			return realisation;
 		}
-
-		return "";
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see simplenlg.realiser.NPPhraseSpec#realise(simplenlg.realiser.Realiser)
+	 * @see simplenlg.realiser.NPPhraseSpec#realise(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realise(Realiser r) {
+	void realise(Realiser r, RealisationBuffer out) {
 		checkPronoun();
 		calculateNumber();
 		checkPossessive();
 		checkSpecifiers();
-		return super.realise(r);
+		super.realise(r, out);
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * simplenlg.realiser.NPPhraseSpec#realiseHead(simplenlg.realiser.Realiser)
+	 * simplenlg.realiser.HeadedPhraseSpec#realiseHead(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realiseHead(Realiser r) {
+	void realiseHead(Realiser r, RealisationBuffer out) {
 		if (this.pronominal) {
-			return realisePronominalHead(r);
+			out.appendSpace(realisePronominalHead(r));
 		} else {
-			String coord = this.coordinator.realise(r);
-			return coord;
+			this.coordinator.realise(r, out);
 		}
 	}
+
+	/*
+	 * (non-Javadoc) the head of a coordinate NP is made up of its
+	 * coordinates, so it is only pronominal if set to be
+	 * 
+	 * @see simplenlg.realiser.NPPhraseSpec#checkPronominalHead()
+	 */
+	@Override
+	void checkPronominalHead() {
+	}
 	
 	public void setEnforceComma(boolean enforceComma) {
 		this.coordinator.setEnforceComma(enforceComma);
@@ -500,4 +507,14 @@ public class CoordinateNPPhraseSpec extends NPPhraseSpec implements
 	}
 	
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.coordinator = context.copy(this.coordinator);
+	}
 }
@@ -172,11 +172,22 @@ public class CoordinatePPPhraseSpec extends PPPhraseSpec implements
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * simplenlg.realiser.HeadedPhraseSpec#realise(simplenlg.realiser.Realiser)
+	 * simplenlg.realiser.HeadedPhraseSpec#realise(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realise(Realiser r) {
-		return this.coordinator.realise(r);
+	void realise(Realiser r, RealisationBuffer out) {
+		this.coordinator.realise(r, out);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.coordinator = context.copy(this.coordinator);
+	}
 }
@@ -60,6 +60,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import simplenlg.exception.SimplenlgException;
 import simplenlg.lexicon.lexicalitems.Conjunction;
 import simplenlg.lexicon.lexicalitems.Constants;
 
@@ -97,7 +98,7 @@ import simplenlg.lexicon.lexicalitems.Constants;
  * 
  * @author agatt
  */
-public class CoordinatePhraseSet<T extends Phrase> {
+public class CoordinatePhraseSet<T extends Phrase> implements Cloneable {
 
 	/** The coordinates. */
 	List<T> coordinates;
@@ -320,6 +321,41 @@ public class CoordinatePhraseSet<T extends Phrase> {
 		return eq;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * Spec.hashValue(this.conjunction)
+				+ this.coordinates.hashCode();
+	}
+
+	/*
+	 * Returns a field-by-field copy of this set, to be completed by
+	 * copyFields(RealisationContext).
+	 */
+	@SuppressWarnings("unchecked")
+	CoordinatePhraseSet<T> shallowCopy() {
+
+		try {
+			return (CoordinatePhraseSet<T>) super.clone();
+
+		} catch (CloneNotSupportedException cnse) {
+			throw new SimplenlgException("Cannot copy coordinate phrase set");
+		}
+	}
+
+	/*
+	 * Replaces the coordinates and parent of this working copy with their
+	 * working copies in the given context.
+	 */
+	void copyFields(RealisationContext context) {
+		this.coordinates = context.copyList(this.coordinates);
+		this.parentPhrase = context.copy(this.parentPhrase);
+	}
+
 	/**
 	 * Realise.
 	 * 
@@ -329,12 +365,26 @@ public class CoordinatePhraseSet<T extends Phrase> {
 	 * @return the string
 	 */
 	String realise(Realiser r) {
+		RealisationBuffer out = new RealisationBuffer();
+		realise(r, out);
+		return out.toString();
+	}
+
+	/**
+	 * Realise into a buffer.
+	 * 
+	 * @param r
+	 *            the r
+	 * @param out
+	 *            the buffer
+	 */
+	void realise(Realiser r, RealisationBuffer out) {
 		if (enforceComma) {
-			return r.realiseCommaConjunctList(getCoordinates(), this.conjunction
-					.getBaseForm());
+			r.realiseCommaConjunctList(getCoordinates(), this.conjunction
+					.getBaseForm(), out);
 		} else {
-			return r.realiseConjunctList(getCoordinates(), this.conjunction
-					.getBaseForm());
+			r.realiseConjunctList(getCoordinates(), this.conjunction
+					.getBaseForm(), out);
 		}
 	}
 }
@@ -340,6 +340,16 @@ public class CoordinateSPhraseSpec extends SPhraseSpec implements
 		return eq;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.SPhraseSpec#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return this.coordinator.hashCode();
+	}
+
 	// just realise the coordinates
 	/*
 	 * (non-Javadoc)
@@ -362,4 +372,15 @@ public class CoordinateSPhraseSpec extends SPhraseSpec implements
 				.applySentenceOrthography(mainSent);
 	}
 	
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.coordinator = context.copy(this.coordinator);
+	}
 }
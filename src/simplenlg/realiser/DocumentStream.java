@@ -0,0 +1,239 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+
+
+package simplenlg.realiser;
+
+import java.io.IOException;
+
+import simplenlg.formatter.Formatter;
+
+/**
+ * A <code>DocumentStream</code> writes the realisation of a
+ * <code>TextSpec</code> to an <code>Appendable</code> while it is being
+ * realised, rather than building it up as one string. It is used by
+ * {@link simplenlg.realiser.Realiser#realise(Object, Appendable)}.
+ * <P>
+ * Sections and documents are realised child by child, and their children are
+ * joined here the same way {@link simplenlg.realiser.Realiser#realiseList(java.util.List)}
+ * joins them: a child which follows other text is preceded by a space if one
+ * is needed. For a document, the document markup and orthography are applied
+ * as well. Since the start markup may absorb markup at the start of the text,
+ * and the end markup may absorb markup at its end, the first and last few
+ * characters (see {@link simplenlg.formatter.Formatter#getMarkupLookahead()})
+ * are held back until they are known; everything else is written as soon as
+ * it has been realised.
+ */
+class DocumentStream {
+
+	private final Appendable out;
+
+	private final Formatter formatter;
+
+	// true if document markup and orthography are applied
+	private boolean document;
+
+	// text held back for the document start and end markup
+	private final StringBuilder pending;
+
+	private boolean started;
+
+	// true until anything other than a new line has been written
+	private boolean leading;
+
+	private final int lookahead;
+
+	// the last character and the length of the text so far
+	private char lastChar;
+
+	private long length;
+
+	// true if the next text is joined to the preceding one as in a list
+	private boolean joinPending;
+
+	/**
+	 * Creates a stream which writes to the given output.
+	 * 
+	 * @param out
+	 *            the output
+	 * @param formatter
+	 *            the formatter providing the document markup
+	 */
+	DocumentStream(Appendable out, Formatter formatter) {
+		this.out = out;
+		this.formatter = formatter;
+		this.document = false;
+		this.pending = new StringBuilder();
+		this.started = false;
+		this.leading = true;
+		this.lookahead = formatter.getMarkupLookahead();
+		this.length = 0;
+		this.joinPending = false;
+	}
+
+	/**
+	 * Marks the text written from now on as a document, to which document
+	 * markup and orthography are applied. This must be called before
+	 * anything is written.
+	 */
+	void startDocument() {
+		this.document = true;
+	}
+
+	/**
+	 * Writes a piece of text. If it is the first non-empty text after a call
+	 * to {@link #join()}, it is preceded by a space if one is needed.
+	 * 
+	 * @param s
+	 *            the text
+	 * @throws IOException
+	 *             if the output cannot be written
+	 */
+	void write(String s) throws IOException {
+		if (s == null || s.length() == 0) {
+			return;
+		}
+
+		if (this.joinPending && this.length > 0
+				&& RealisationBuffer.spaceNeeded(this.lastChar, s)) {
+			emit(" ");
+			this.length++;
+		}
+
+		this.joinPending = false;
+		emit(s);
+		this.lastChar = s.charAt(s.length() - 1);
+		this.length += s.length();
+	}
+
+	/**
+	 * Joins the next non-empty text to the text written so far, as the next
+	 * element of a list.
+	 */
+	void join() {
+		this.joinPending = true;
+	}
+
+	/**
+	 * @return the number of characters written so far, not counting markup
+	 *         added to the document
+	 */
+	long length() {
+		return this.length;
+	}
+
+	/**
+	 * Writes the text held back, applying the document end markup.
+	 * 
+	 * @throws IOException
+	 *             if the output cannot be written
+	 */
+	void close() throws IOException {
+		if (this.document) {
+			startMarkup();
+			flush(this.formatter.addDocumentEndMarkup(this.pending.toString()));
+			this.pending.setLength(0);
+		}
+	}
+
+	private void emit(String s) throws IOException {
+		if (!this.document) {
+			this.out.append(s);
+			return;
+		}
+
+		this.pending.append(s);
+
+		if (this.pending.length() >= this.lookahead) {
+			startMarkup();
+		}
+
+		// keep the end for the end markup
+		if (this.started && this.pending.length() > this.lookahead) {
+			int end = this.pending.length() - this.lookahead;
+			flush(this.pending.substring(0, end));
+			this.pending.delete(0, end);
+		}
+	}
+
+	private void startMarkup() {
+		if (!this.started) {
+			String start = this.formatter.addDocumentStartMarkup(this.pending
+					.toString());
+			this.pending.setLength(0);
+			this.pending.append(start);
+			this.started = true;
+		}
+	}
+
+	/*
+	 * Writes to the output, leaving out new lines at the start of the
+	 * document as Realiser.applyDocumentOrthography() does.
+	 */
+	private void flush(String s) throws IOException {
+		int start = 0;
+
+		if (this.leading) {
+			String newLine = this.formatter.getNEW_LINE();
+			while (newLine.length() > 0 && s.startsWith(newLine, start)) {
+				start += newLine.length();
+			}
+			this.leading = (start == s.length());
+		}
+
+		this.out.append(s, start, s.length());
+	}
+}
@@ -0,0 +1,378 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.realiser;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.realiser.comparators.OrderDefaults;
+import simplenlg.realiser.comparators.PhraseComparator;
+
+/**
+ * A <code>Fingerprint</code> describes the structure of a phrase: its class,
+ * its features, its lexical items and, recursively, its constituents. Two
+ * phrases with equal fingerprints are realised the same way, which is what
+ * the realisation cache of a {@link Realiser} relies on.
+ * 
+ * <P>
+ * A fingerprint keeps everything that was added to it, and two fingerprints
+ * are only equal if all of it is. A 64-bit hash over the same values is used
+ * to find and compare them quickly, but a collision of the hashes never makes
+ * two different phrases equal.
+ * 
+ * <P>
+ * Only phrases whose realisation depends on nothing but their own features and
+ * constituents can be fingerprinted, that is, noun, prepositional, adjective
+ * and adverb phrases and <code>StringPhraseSpec</code>s whose constituents
+ * are phrases of these kinds or strings. Clauses and coordinate phrases, which
+ * may look at the surrounding text, cannot.
+ * 
+ * <P>
+ * Lexical items are identified by their identity rather than by their
+ * contents, since their inflection depends on much more than their baseform
+ * and category. Phrases built from the same lexicon entries (or constants) have
+ * equal fingerprints, whereas two items created separately, e.g. by
+ * <code>new Noun("Berlin")</code>, or loaded by two versions of a lexicon, are
+ * told apart. A fingerprint holds on to its items, so their identity cannot be
+ * taken over by another item while it is in use. Since the contents of an
+ * item are not compared, a fingerprint no longer describes a phrase correctly
+ * once one of its items has been changed.
+ */
+final class Fingerprint {
+
+	// offset and prime of the 64-bit FNV-1a hash
+	private static final long OFFSET = 0xcbf29ce484222325L;
+	private static final long PRIME = 0x100000001b3L;
+
+	// added in place of null values and default word orders
+	private static final long NULL = 0x9e3779b97f4a7c15L;
+	private static final long DEFAULT_ORDER = 0x632be59bd9b4e019L;
+
+	// added to the values wherever an object is added
+	private static final long REF = 0x85ebca6b27d4eb4fL;
+
+	private long hash;
+
+	// the values added so far, and how many there are
+	private long[] values;
+	private int valueCount;
+
+	// the objects added so far: strings are compared by their contents,
+	// anything else (lexical items, classes, comparators) by identity
+	private Object[] refs;
+	private int refCount;
+
+	/**
+	 * Constructs an empty fingerprint.
+	 */
+	Fingerprint() {
+		this.hash = OFFSET;
+		this.values = new long[32];
+		this.refs = new Object[16];
+	}
+
+	/**
+	 * Computes the fingerprint of a phrase.
+	 * 
+	 * @param phrase
+	 *            the phrase
+	 * @return <code>null</code> if the phrase cannot be fingerprinted
+	 */
+	static Fingerprint of(Object phrase) {
+		Fingerprint f = new Fingerprint();
+
+		if (!f.addConstituent(phrase)) {
+			return null;
+		}
+
+		// it is kept as a cache key, so drop the unused space
+		f.values = Arrays.copyOf(f.values, f.valueCount);
+		f.refs = Arrays.copyOf(f.refs, f.refCount);
+		return f;
+	}
+
+	/**
+	 * Adds a value. The result depends on the order in which values are added.
+	 * 
+	 * @param value
+	 *            the value
+	 * @return this fingerprint
+	 */
+	Fingerprint add(long value) {
+
+		if (this.valueCount == this.values.length) {
+			this.values = Arrays.copyOf(this.values, 2 * this.valueCount);
+		}
+
+		this.values[this.valueCount++] = value;
+		return mixIn(value);
+	}
+
+	Fingerprint addFlag(boolean flag) {
+		return add(flag ? 1 : 0);
+	}
+
+	Fingerprint addFeature(Enum<?> feature) {
+		return add(feature == null ? NULL : feature.ordinal());
+	}
+
+	Fingerprint addString(String s) {
+		return addRef(s, s == null ? NULL : s.hashCode());
+	}
+
+	/**
+	 * Adds a lexical item by its identity and its baseform.
+	 * 
+	 * @param item
+	 *            the item, possibly <code>null</code>
+	 * @return this fingerprint
+	 */
+	Fingerprint addItem(LexicalItem item) {
+
+		if (item == null) {
+			return add(NULL);
+		}
+
+		return addRef(item, System.identityHashCode(item)).addString(
+				item.getBaseForm());
+	}
+
+	/**
+	 * Adds a comparator which orders the constituents of a phrase. A
+	 * {@link PhraseComparator} is added by its orderings, any other comparator
+	 * by its identity.
+	 * 
+	 * @param order
+	 *            the comparator, possibly <code>null</code>
+	 * @return this fingerprint
+	 */
+	Fingerprint addOrder(Comparator<?> order) {
+
+		if (order == null) {
+			return add(NULL);
+		} else if (order == PhraseComparator.DEFAULT) {
+			return add(DEFAULT_ORDER);
+		} else if (order.getClass() != PhraseComparator.class) {
+			return addRef(order, System.identityHashCode(order));
+		}
+
+		PhraseComparator pc = (PhraseComparator) order;
+		addOrder(pc.getCategoryOrder(), OrderDefaults.CATEGORY_ORDER);
+		addOrder(pc.getFunctionOrder(), OrderDefaults.FUNCTION_ORDER);
+		return addOrder(pc.getBaseformOrder(), OrderDefaults.BASEFORM_ORDER);
+	}
+
+	private Fingerprint addOrder(List<?> order, List<?> defaultOrder) {
+
+		if (order == defaultOrder) {
+			return add(DEFAULT_ORDER);
+		} else if (order == null) {
+			return add(NULL);
+		}
+
+		add(order.size());
+		for (Object o : order) {
+			if (o instanceof Enum<?>) {
+				addFeature((Enum<?>) o);
+			} else {
+				addString(o == null ? null : o.toString());
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a constituent of a phrase: a phrase of one of the kinds which can
+	 * be fingerprinted, a lexical item, a string or <code>null</code>.
+	 * 
+	 * @param constituent
+	 *            the constituent
+	 * @return <code>false</code> if the constituent cannot be fingerprinted
+	 */
+	boolean addConstituent(Object constituent) {
+
+		if (constituent == null) {
+			add(NULL);
+			return true;
+		} else if (constituent instanceof String) {
+			addClass(String.class).addString((String) constituent);
+			return true;
+		} else if (constituent instanceof LexicalItem) {
+			addItem((LexicalItem) constituent);
+			return true;
+		}
+
+		// subclasses, such as coordinate phrases, may depend on more
+		Class<?> c = constituent.getClass();
+		if (c == NPPhraseSpec.class || c == PPPhraseSpec.class
+				|| c == AdjPhraseSpec.class || c == AdvPhraseSpec.class
+				|| c == StringPhraseSpec.class) {
+			addClass(c);
+			return ((PhraseSpec) constituent).fingerprint(this);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Adds a list of constituents.
+	 * 
+	 * @param constituents
+	 *            the constituents, possibly <code>null</code>
+	 * @return <code>false</code> if any of them cannot be fingerprinted
+	 */
+	boolean addConstituents(List<?> constituents) {
+
+		if (constituents == null) {
+			add(NULL);
+			return true;
+		}
+
+		add(constituents.size());
+		for (Object constituent : constituents) {
+			if (!addConstituent(constituent)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		} else if (!(o instanceof Fingerprint)) {
+			return false;
+		}
+
+		Fingerprint other = (Fingerprint) o;
+		if (this.hash != other.hash || this.valueCount != other.valueCount
+				|| this.refCount != other.refCount) {
+			return false;
+		}
+
+		for (int i = 0; i < this.valueCount; i++) {
+			if (this.values[i] != other.values[i]) {
+				return false;
+			}
+		}
+
+		for (int i = 0; i < this.refCount; i++) {
+			Object ref = this.refs[i];
+			if (ref != other.refs[i]
+					&& !(ref instanceof String && ref.equals(other.refs[i]))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return (int) (this.hash ^ (this.hash >>> 32));
+	}
+
+	private Fingerprint addClass(Class<?> c) {
+		return addRef(c, c.getName().hashCode());
+	}
+
+	/*
+	 * Adds an object, which is kept for comparison, and its hash code, which
+	 * is only mixed into the hash. A marker is added to the values, so that
+	 * they show where the objects were added.
+	 */
+	private Fingerprint addRef(Object ref, long refHash) {
+		add(REF);
+
+		if (this.refCount == this.refs.length) {
+			this.refs = Arrays.copyOf(this.refs, 2 * this.refCount);
+		}
+
+		this.refs[this.refCount++] = ref;
+		return mixIn(refHash);
+	}
+
+	private Fingerprint mixIn(long value) {
+		this.hash = mix((this.hash ^ value) * PRIME);
+		return this;
+	}
+
+	// the finaliser of MurmurHash3, spreading every bit over the whole hash
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb93fe53ec049L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -58,6 +58,8 @@ package simplenlg.realiser;
 
 import simplenlg.features.DiscourseFunction;
 import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.metrics.Metric;
+import simplenlg.metrics.MetricsRecorder;
 import simplenlg.realiser.comparators.PhraseComparator;
 
 import java.util.ArrayList;
@@ -157,9 +159,9 @@ public abstract class HeadedPhraseSpec<T extends LexicalItem> extends
 		this.postmodifiers = new ArrayList<Phrase>();
 		this.attributiveModifiers = new ArrayList<Phrase>();
 		this.category = null;
-		this.complementComparator = PhraseComparator.defaultInstance();
+		this.complementComparator = PhraseComparator.DEFAULT;
 		this.premodifierComparator = null;
-		this.postmodifierComparator = PhraseComparator.defaultInstance();
+		this.postmodifierComparator = PhraseComparator.DEFAULT;
 	}
 
 	/**
@@ -532,6 +534,20 @@ public abstract class HeadedPhraseSpec<T extends LexicalItem> extends
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int hash = hashValue(this.head);
+		hash = 31 * hash + this.premodifiers.hashCode();
+		hash = 31 * hash + this.complements.hashCode();
+		hash = 31 * hash + this.postmodifiers.hashCode();
+		return 31 * hash + this.attributiveModifiers.hashCode();
+	}
+
 	// ******************************************************************
 	// REALISATION:
 	// this method is split up into components which can be overridden
@@ -540,12 +556,15 @@ public abstract class HeadedPhraseSpec<T extends LexicalItem> extends
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see simplenlg.realiser.Spec#realise(simplenlg.realiser.Realiser)
+	 * @see simplenlg.realiser.Spec#realise(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realise(Realiser r) {
-		return r.appendSpace(realisePremodifier(r), realiseHead(r),
-				realiseComplement(r), realisePostmodifier(r));
+	void realise(Realiser r, RealisationBuffer out) {
+		realisePremodifier(r, out);
+		realiseHead(r, out);
+		realiseComplement(r, out);
+		realisePostmodifier(r, out);
 	}
 
 	/**
@@ -557,14 +576,26 @@ public abstract class HeadedPhraseSpec<T extends LexicalItem> extends
 	 * @return the string
 	 */
 	String realisePremodifier(Realiser r) {
+		RealisationBuffer out = new RealisationBuffer();
+		realisePremodifier(r, out);
+		return out.toString();
+	}
+
+	/**
+	 * Realise premodifier into a buffer.
+	 * 
+	 * @param r
+	 *            the r
+	 * @param out
+	 *            the buffer
+	 */
+	void realisePremodifier(Realiser r, RealisationBuffer out) {
 
 		if (this.premodifierComparator != null) {
-			Collections.sort(this.premodifiers, this.premodifierComparator);
+			sort(this.premodifiers, this.premodifierComparator);
 		}
 
-		String pre = r.realiseList(this.premodifiers);
-
-		return pre == null ? "" : pre;
+		r.realiseList(this.premodifiers, out);
 	}
 
 	/**
@@ -576,23 +607,36 @@ public abstract class HeadedPhraseSpec<T extends LexicalItem> extends
 	 * @return the string
 	 */
 	String realisePostmodifier(Realiser r) {
+		RealisationBuffer out = new RealisationBuffer();
+		realisePostmodifier(r, out);
+		return out.toString();
+	}
+
+	/**
+	 * Realise postmodifier into a buffer. Attributive modifiers follow the
+	 * other postmodifiers, set off by commas.
+	 * 
+	 * @param r
+	 *            the r
+	 * @param out
+	 *            the buffer
+	 */
+	void realisePostmodifier(Realiser r, RealisationBuffer out) {
 
 		if (this.postmodifierComparator != null) {
-			Collections.sort(this.postmodifiers, this.postmodifierComparator);
-			Collections.sort(this.attributiveModifiers,
-					this.postmodifierComparator);
+			sort(this.postmodifiers, this.postmodifierComparator);
+			sort(this.attributiveModifiers, this.postmodifierComparator);
 		}
 
-		String post = r.realiseList(this.postmodifiers);
+		r.realiseList(this.postmodifiers, out);
+
+		// the commas are only written if the attributive modifiers are not
+		// empty, so these have to be realised on their own
 		String post2 = r.realiseList(this.attributiveModifiers);
 
-		if (post2 != null && post2.length() > 0) {
-			StringBuilder builder = (post == null ? new StringBuilder()
-					: new StringBuilder(post));
-			post = builder.append(", ").append(post2).append(", ").toString();
+		if (post2.length() > 0) {
+			out.append(", ").append(post2).append(", ");
 		}
-
-		return post == null ? "" : post;
 	}
 
 	/**
@@ -604,8 +648,21 @@ public abstract class HeadedPhraseSpec<T extends LexicalItem> extends
 	 * @return the string
 	 */
 	String realiseComplement(Realiser r) {
-		String comp = r.realiseAndList(this.complements);
-		return comp == null ? "" : comp;
+		RealisationBuffer out = new RealisationBuffer();
+		realiseComplement(r, out);
+		return out.toString();
+	}
+
+	/**
+	 * Realise complement into a buffer.
+	 * 
+	 * @param r
+	 *            the r
+	 * @param out
+	 *            the buffer
+	 */
+	void realiseComplement(Realiser r, RealisationBuffer out) {
+		r.realiseAndList(this.complements, out);
 	}
 
 	/**
@@ -620,6 +677,55 @@ public abstract class HeadedPhraseSpec<T extends LexicalItem> extends
 		return this.head == null ? "" : this.head.getBaseForm();
 	}
 
+	/**
+	 * Realise head into a buffer. Coordinate phrases override this to write
+	 * their coordinates.
+	 * 
+	 * @param r
+	 *            the r
+	 * @param out
+	 *            the buffer
+	 */
+	void realiseHead(Realiser r, RealisationBuffer out) {
+		out.appendSpace(realiseHead(r));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.complements = context.copyList(this.complements);
+		this.premodifiers = context.copyList(this.premodifiers);
+		this.postmodifiers = context.copyList(this.postmodifiers);
+		this.attributiveModifiers = context.copyList(this.attributiveModifiers);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.PhraseSpec#fingerprint(simplenlg.realiser.Fingerprint)
+	 */
+	@Override
+	boolean fingerprint(Fingerprint f) {
+
+		if (!super.fingerprint(f)) {
+			return false;
+		}
+
+		f.addItem(this.head).addFlag(this.negated)
+				.addOrder(this.complementComparator)
+				.addOrder(this.premodifierComparator)
+				.addOrder(this.postmodifierComparator);
+		return f.addConstituents(this.premodifiers)
+				&& f.addConstituents(this.complements)
+				&& f.addConstituents(this.postmodifiers)
+				&& f.addConstituents(this.attributiveModifiers);
+	}
+
 	// *********************************************************
 	// UTILITY METHODS
 	// *********************************************************
@@ -631,6 +737,27 @@ public abstract class HeadedPhraseSpec<T extends LexicalItem> extends
 		this.complements.clear();
 	}
 
+	/*
+	 * Sorts a list of constituents, unless it is in order already, which is
+	 * usually the case. Collections.sort() would leave such a list as it is,
+	 * but may still copy it to an array and write it back. The check is the
+	 * one the sort makes itself, so the result is the same either way. Lists
+	 * of two or more constituents are counted as Metric.CONSTITUENT_SORT.
+	 */
+	static void sort(List<Phrase> constituents, Comparator<Phrase> order) {
+		for (int i = 1; i < constituents.size(); i++) {
+			if (order.compare(constituents.get(i), constituents.get(i - 1)) < 0) {
+				Collections.sort(constituents, order);
+				MetricsRecorder.getCurrent().increment(Metric.CONSTITUENT_SORT, "sorted");
+				return;
+			}
+		}
+
+		if (constituents.size() > 1) {
+			MetricsRecorder.getCurrent().increment(Metric.CONSTITUENT_SORT, "ordered");
+		}
+	}
+
 	// TODO: Might make this public
 	/**
 	 * Same head.
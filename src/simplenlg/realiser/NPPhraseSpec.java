@@ -57,7 +57,6 @@
 package simplenlg.realiser;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import simplenlg.exception.SimplenlgException;
@@ -167,7 +166,7 @@ public class NPPhraseSpec extends HeadedPhraseSpec<Noun> {
 		this.cs = Case.NOMINATIVE;
 		this.pronoun = null;
 		this.specifier = null;
-		this.premodifierComparator = PhraseComparator.defaultInstance();
+		this.premodifierComparator = PhraseComparator.DEFAULT;
 		this.refering = false;
 		this.refNP = null;
 	}
@@ -931,6 +930,16 @@ public class NPPhraseSpec extends HeadedPhraseSpec<Noun> {
 		return false;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.HeadedPhraseSpec#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + hashValue(this.specifier);
+	}
+
 	// ********************************************
 	// REALISATION
 	// ********************************************
@@ -939,10 +948,11 @@ public class NPPhraseSpec extends HeadedPhraseSpec<Noun> {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * simplenlg.realiser.HeadedPhraseSpec#realise(simplenlg.realiser.Realiser)
+	 * simplenlg.realiser.HeadedPhraseSpec#realise(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realise(Realiser r) {
+	void realise(Realiser r, RealisationBuffer out) {
 
 		if (this.refering) { this.pronominal = true; }
 		
@@ -956,34 +966,49 @@ public class NPPhraseSpec extends HeadedPhraseSpec<Noun> {
 		checkPluralDetFeatures();
 
 		// do nothing if elided
-		if (this.elided) {
-			return "";
-		} else {
+		if (!this.elided) {
+			// the specifier is written first, so whether the head is
+			// realised as a pronoun must be known before
+			checkPronominalHead();
+			
+			if (this.negated) {
+				out.appendSpace("nicht");
+			}
+			realiseSpec(r, out);
+			
 			Case c = this.cs;  // HACK; case might get changed in modifiers
-			String realisation = super.realise(r);
-			String negation = this.negated ? "nicht" : "";
+			super.realise(r, out);
 			this.cs = c;
-			realisation = r.appendSpace(negation,
-					realiseSpec(r, realisation), realisation);
-			return realisation;
 		}
 	}
 
 	/*
 	 * realise the specifier arg0 = the realiser (needed in case specifier is a
-	 * phrase) arg1 = agreement string (needed to compute det form in case of
-	 * indefinite a/an)
+	 * phrase) arg1 = the buffer to write it to
 	 */
-	String realiseSpec(Realiser r, String agreementString) {
+	void realiseSpec(Realiser r, RealisationBuffer out) {
 
 		if (this.specifier == null || this.elideSpecifier || this.pronominal) {
-			return "";
+			return;
 		} else if (this.specifier instanceof Determiner) {
-			return ((Determiner) this.specifier).getForm(this.cs, this.number, this.gender);
+			out.appendSpace(((Determiner) this.specifier).getForm(this.cs, this.number, this.gender));
 		} else if (this.specifier instanceof Pronoun) {
-			return ((Pronoun) this.specifier).getSpecifierForm(this.cs, this.number, this.gender);
+			out.appendSpace(((Pronoun) this.specifier).getSpecifierForm(this.cs, this.number, this.gender));
 		} else {
-			return ((PhraseSpec) this.specifier).realise(r);
+			((PhraseSpec) this.specifier).realise(r, out);
+		}
+	}
+
+	/*
+	 * An NP without a head noun is realised as its pronoun, if it has one
+	 * (see realiseHead)
+	 */
+	void checkPronominalHead() {
+		if ((this.head == null || this.head.getBaseForm() == null
+				|| this.head.getBaseForm().length() == 0)
+				&& this.pronoun != null && this.pronoun.getBaseForm() != null
+				&& this.pronoun.getBaseForm().length() > 0) {
+			this.pronominal = true;
 		}
 	}
 
@@ -1050,15 +1075,16 @@ public class NPPhraseSpec extends HeadedPhraseSpec<Noun> {
 	 * Overriden because pronoun and adjective modifiers need to be realised
 	 * differently, both in regard to inflection and punctuation
 	 * 
-	 * @see simplenlg.realiser.HeadedPhraseSpec#realisePremodifier(simplenlg.realiser.Realiser)
+	 * @see simplenlg.realiser.HeadedPhraseSpec#realisePremodifier(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realisePremodifier(Realiser r) {
+	void realisePremodifier(Realiser r, RealisationBuffer out) {
 		List<Phrase> pronominalModifiers = new ArrayList<Phrase>();
 		List<Phrase> adjectiveModifiers = new ArrayList<Phrase>();
 		
 		if (this.premodifierComparator != null) {
-			Collections.sort(this.premodifiers, this.premodifierComparator);
+			sort(this.premodifiers, this.premodifierComparator);
 		}
 
 		for (Phrase p : this.premodifiers) {
@@ -1075,10 +1101,8 @@ public class NPPhraseSpec extends HeadedPhraseSpec<Noun> {
 			}
 		}
 		
-		String pre = r.realiseList(pronominalModifiers);
-		pre = r.appendSpace(pre, r.realiseConjunctList(adjectiveModifiers, ","));
-
-		return pre == null ? "" : pre;
+		r.realiseList(pronominalModifiers, out);
+		r.realiseConjunctList(adjectiveModifiers, ",", out);
 	}
 
 	
@@ -1091,6 +1115,49 @@ public class NPPhraseSpec extends HeadedPhraseSpec<Noun> {
 		this.raised = raise;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.specifier = context.copy(this.specifier);
+		this.refNP = context.copy(this.refNP);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.HeadedPhraseSpec#fingerprint(simplenlg.realiser.Fingerprint)
+	 */
+	@Override
+	boolean fingerprint(Fingerprint f) {
+
+		if (!super.fingerprint(f)) {
+			return false;
+		}
+
+		f.addFeature(this.person).addFeature(this.number)
+				.addFeature(this.gender).addFeature(this.cs)
+				.addFeature(this.quant).addFlag(this.elideSpecifier)
+				.addItem(this.pronoun).addString(this.pronounForm)
+				.addFlag(this.treatAsPlural).addFlag(this.pronominal)
+				.addFlag(this.possessive).addFlag(this.raised)
+				.addFlag(this.isAcronym).addFlag(this.refering);
+
+		// only the agreement features of the referred NP are used
+		if (this.refNP == null) {
+			f.addFeature(null).addFeature(null);
+		} else {
+			f.addFeature(this.refNP.getNumber()).addFeature(
+					this.refNP.getGender());
+		}
+
+		return f.addConstituent(this.specifier);
+	}
+
 	// ********************************************
 	// UTILITY METHODS
 	// ********************************************
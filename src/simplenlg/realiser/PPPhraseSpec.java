@@ -244,7 +244,7 @@ public class PPPhraseSpec extends HeadedPhraseSpec<Preposition> {
 	 * Realise PP. Overridden to implement postpositions (eg. "wegen").
 	 */
 	@Override
-	String realise(Realiser r) {
+	void realise(Realiser r, RealisationBuffer out) {
 		// TODO: Complement is realized here so that its queryLexicon() method is invoked.
 		// This is important for realiseHead(), which requires a fully specified
 		// complement to work properly.  Unfortunately, complement has to be realized twice
@@ -255,8 +255,12 @@ public class PPPhraseSpec extends HeadedPhraseSpec<Preposition> {
 		String negText = "";
 		if (this.negated) { negText = "nicht"; }
 		
-		return r.appendSpace(negText, realisePremodifier(r), realiseHead(r),
-				realiseComplement(r), realisePostHead(r), realisePostmodifier(r));
+		out.appendSpace(negText);
+		realisePremodifier(r, out);
+		realiseHead(r, out);
+		realiseComplement(r, out);
+		out.appendSpace(realisePostHead(r));
+		realisePostmodifier(r, out);
 	}
 
 	/**
@@ -304,5 +308,20 @@ public class PPPhraseSpec extends HeadedPhraseSpec<Preposition> {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.HeadedPhraseSpec#fingerprint(simplenlg.realiser.Fingerprint)
+	 */
+	@Override
+	boolean fingerprint(Fingerprint f) {
+
+		if (!super.fingerprint(f)) {
+			return false;
+		}
+
+		f.addFlag(this.overrideContractionBehaviour).addFlag(this.contraction);
+		return true;
+	}
 
 }
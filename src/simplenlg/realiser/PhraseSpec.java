@@ -166,6 +166,34 @@ public abstract class PhraseSpec extends Spec implements Phrase {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.parentPhrase = context.copy(this.parentPhrase);
+	}
+
+	/**
+	 * Adds the features and constituents which the realisation of this phrase
+	 * depends on to a fingerprint. This is only called for the kinds of phrase
+	 * accepted by {@link Fingerprint#addConstituent(Object)}. Subclasses which
+	 * have features of their own must override this method and call the
+	 * superclass implementation first.
+	 * 
+	 * @param f
+	 *            the fingerprint
+	 * @return <code>false</code> if a constituent cannot be fingerprinted
+	 */
+	boolean fingerprint(Fingerprint f) {
+		f.addFeature(this.category).addFeature(this.function)
+				.addFeature(this.position).addFlag(this.elided);
+		return true;
+	}
+
 	// utility routine to force a parameter to be a PhraseSpec
 	/**
 	 * Make phrase spec.
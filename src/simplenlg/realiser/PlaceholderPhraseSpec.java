@@ -83,11 +83,10 @@ public class PlaceholderPhraseSpec extends PhraseSpec {
 	}
 
 	/* (non-Javadoc)
-	 * @see simplenlg.realiser.Spec#realise(simplenlg.realiser.Realiser)
+	 * @see simplenlg.realiser.Spec#realise(simplenlg.realiser.Realiser, simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realise(Realiser r) {
-		return null;
+	void realise(Realiser r, RealisationBuffer out) {
 	}
 
 }
@@ -0,0 +1,227 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.realiser;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import simplenlg.exception.SimplenlgException;
+
+/**
+ * Realises a sequence of specs with the threads of an
+ * <code>ExecutorService</code>, and returns the results in the order of the
+ * specs. At most a fixed number of specs (the window) are realised or waiting
+ * to be realised at any time; the next spec is only taken from the sequence
+ * when the result of the first one has been returned, so that a long sequence
+ * need not be held in memory as a whole.
+ * 
+ * <P>
+ * Each spec is realised by a realiser of its own, which has the parameters of
+ * the realiser the batch was started with and realises the spec in
+ * isolation, so that specs which share constituents can be realised at the
+ * same time.
+ */
+class RealisationBatch implements Iterator<RealisationResult> {
+
+	private final Realiser settings;
+
+	private final Iterator<? extends Spec> specs;
+
+	private final ExecutorService executor;
+
+	private final int window;
+
+	// the specs submitted, but not yet returned, and their results, in order
+	private final LinkedList<Spec> pendingSpecs;
+	private final LinkedList<Future<RealisationResult>> pending;
+
+	// the index of the next spec to be submitted
+	private int next;
+
+	/**
+	 * Starts realising a sequence of specs.
+	 * 
+	 * @param settings
+	 *            the realiser whose parameters are used, which must not be
+	 *            changed meanwhile; each spec is realised by a copy of it
+	 * @param specs
+	 *            the specs
+	 * @param executor
+	 *            the threads which realise the specs
+	 * @param window
+	 *            the maximum number of specs submitted at a time, at least 1
+	 */
+	RealisationBatch(Realiser settings, Iterator<? extends Spec> specs,
+			ExecutorService executor, int window) {
+
+		if (window < 1) {
+			throw new IllegalArgumentException("Window must be positive: "
+					+ window);
+		}
+
+		this.settings = settings;
+		this.specs = specs;
+		this.executor = executor;
+		this.window = window;
+		this.pendingSpecs = new LinkedList<Spec>();
+		this.pending = new LinkedList<Future<RealisationResult>>();
+		this.next = 0;
+		fill();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Iterator#hasNext()
+	 */
+	public boolean hasNext() {
+		return !this.pending.isEmpty();
+	}
+
+	/**
+	 * Waits for the next spec to be realised, and returns its result.
+	 * 
+	 * @return the result of the next spec
+	 * @throws SimplenlgException
+	 *             if the calling thread is interrupted while waiting; the
+	 *             remaining specs are cancelled
+	 */
+	public RealisationResult next() {
+
+		if (this.pending.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+
+		int index = this.next - this.pending.size();
+		Spec spec = this.pendingSpecs.removeFirst();
+		Future<RealisationResult> result = this.pending.removeFirst();
+		RealisationResult r;
+
+		try {
+			r = result.get();
+
+		} catch (InterruptedException ie) {
+			cancel();
+			Thread.currentThread().interrupt();
+			throw new SimplenlgException("Interrupted while realising specs");
+
+		} catch (ExecutionException ee) {
+			// Errors are not caught by the task itself
+			r = new RealisationResult(index, spec, null, ee.getCause());
+
+		} catch (CancellationException ce) {
+			r = new RealisationResult(index, spec, null, ce);
+		}
+
+		fill();
+		return r;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Iterator#remove()
+	 */
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Cancels the specs which have not been returned yet. No more specs are
+	 * taken from the sequence.
+	 */
+	void cancel() {
+		for (Future<RealisationResult> result : this.pending) {
+			result.cancel(true);
+		}
+
+		this.pendingSpecs.clear();
+		this.pending.clear();
+	}
+
+	/*
+	 * Submits specs until the window is full or there are no more specs.
+	 */
+	private void fill() {
+		while (this.pending.size() < this.window && this.specs.hasNext()) {
+			final int index = this.next++;
+			final Spec spec = this.specs.next();
+
+			this.pendingSpecs.add(spec);
+			this.pending.add(this.executor
+					.submit(new Callable<RealisationResult>() {
+						public RealisationResult call() {
+							Realiser r = RealisationBatch.this.settings.copy();
+
+							try {
+								return new RealisationResult(index, spec, r
+										.realise(spec), null);
+
+							} catch (RuntimeException e) {
+								return new RealisationResult(index, spec,
+										null, e);
+							}
+						}
+					}));
+		}
+	}
+}
@@ -0,0 +1,240 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+
+
+package simplenlg.realiser;
+
+/**
+ * A <code>RealisationBuffer</code> collects the output of the realiser's
+ * spacing and punctuation code in a single <code>StringBuilder</code>. It
+ * keeps track of the last character written, so that
+ * {@link #appendSpace(String)} can decide whether a space is needed, and
+ * {@link #addPunctuation(char)} can absorb a weaker punctuation mark, without
+ * copying what has been written so far.
+ * <P>
+ * A single buffer is passed down while a spec is realised, and each phrase
+ * writes its constituents into it (see
+ * {@link simplenlg.realiser.Spec#realise(Realiser, RealisationBuffer)}), so
+ * that the realisation of a constituent is not copied into that of its
+ * parent.
+ * <P>
+ * The rules are the same as those of
+ * {@link simplenlg.realiser.Realiser#appendSpace(String...)}: no space is
+ * inserted after whitespace or an opening bracket, or before whitespace or
+ * closing punctuation.
+ */
+class RealisationBuffer implements CharSequence {
+
+	/** Characters which don't need a space after them. */
+	private final static String FOLLOW_NOSPACE = " (";
+
+	/** Characters which don't need a space before them. */
+	private final static String START_NOSPACE = " ;,.!?)";
+
+	/** Punctuation symbols, strongest first (in Nirenburg's sense). */
+	private final static String PUNCTUATION = "!?.:;-,";
+
+	private final StringBuilder buffer;
+
+	/**
+	 * Creates an empty buffer.
+	 */
+	RealisationBuffer() {
+		this.buffer = new StringBuilder();
+	}
+
+	/**
+	 * Creates a buffer containing the given text.
+	 * 
+	 * @param text
+	 *            the initial text
+	 */
+	RealisationBuffer(String text) {
+		this.buffer = new StringBuilder(text);
+	}
+
+	/**
+	 * Appends a string, preceded by a space if one is needed between the text
+	 * written so far and the string. <code>null</code> is ignored.
+	 * 
+	 * @param s
+	 *            the string
+	 * @return this buffer
+	 */
+	RealisationBuffer appendSpace(String s) {
+		if (s != null) {
+			if (this.buffer.length() > 0 && spaceNeeded(lastChar(), s)) {
+				this.buffer.append(' ');
+			}
+			this.buffer.append(s);
+		}
+		return this;
+	}
+
+	/**
+	 * Appends a string as it is.
+	 * 
+	 * @param s
+	 *            the string
+	 * @return this buffer
+	 */
+	RealisationBuffer append(String s) {
+		this.buffer.append(s);
+		return this;
+	}
+
+	/**
+	 * Adds a punctuation symbol unless it is absorbed: if the text ends in a
+	 * stronger or equally strong symbol, nothing is added, and if it ends in a
+	 * weaker one, that symbol is replaced.
+	 * 
+	 * @param punctuation
+	 *            the punctuation symbol
+	 * @return this buffer
+	 */
+	RealisationBuffer addPunctuation(char punctuation) {
+		int last = this.buffer.length() - 1;
+		int lastRank = PUNCTUATION.indexOf(this.buffer.charAt(last));
+
+		if (lastRank < 0) {
+			// does not end in a punct symbol, just append punc
+			appendSpace(Character.toString(punctuation));
+		} else if (lastRank > PUNCTUATION.indexOf(punctuation)) {
+			// drop the weaker punct symbol
+			this.buffer.setLength(last);
+			appendSpace(Character.toString(punctuation));
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the last character written.
+	 * 
+	 * @return the last character, or <code>0</code> if the buffer is empty
+	 */
+	char lastChar() {
+		return this.buffer.length() == 0 ? 0 : this.buffer.charAt(this.buffer
+				.length() - 1);
+	}
+
+	/**
+	 * Checks whether a space is needed between a non-empty text and a string.
+	 * No space is needed if the string is empty, if the text ends with a char
+	 * in FOLLOW_NOSPACE or whitespace, or if the string starts with a char in
+	 * START_NOSPACE or whitespace.
+	 * 
+	 * @param lastChar
+	 *            the last character of the text
+	 * @param s
+	 *            the string
+	 * @return <code>true</code> if a space is needed
+	 */
+	static boolean spaceNeeded(char lastChar, String s) {
+		if (s.length() == 0) {
+			return false;
+		}
+
+		if (Character.isWhitespace(lastChar)
+				|| FOLLOW_NOSPACE.indexOf(lastChar) >= 0) {
+			return false;
+		}
+
+		char firstChar = s.charAt(0);
+		if (Character.isWhitespace(firstChar)
+				|| START_NOSPACE.indexOf(firstChar) >= 0) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.CharSequence#length()
+	 */
+	public int length() {
+		return this.buffer.length();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.CharSequence#charAt(int)
+	 */
+	public char charAt(int index) {
+		return this.buffer.charAt(index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.CharSequence#subSequence(int, int)
+	 */
+	public CharSequence subSequence(int start, int end) {
+		return this.buffer.subSequence(start, end);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return this.buffer.toString();
+	}
+}
@@ -0,0 +1,235 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+
+
+package simplenlg.realiser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A <code>RealisationContext</code> holds the state of a single call to
+ * {@link simplenlg.realiser.Realiser#realise(Object)} when the realiser runs
+ * in isolated mode (see
+ * {@link simplenlg.realiser.Realiser#setIsolatedRealisation(boolean)}).
+ * <P>
+ * During realisation, the phrase classes compute a number of values which they
+ * store in their own fields: the surface subject and passive complement of a
+ * clause, the case and discourse function assigned to its complements, the
+ * verb cluster, the realisations of the individual constituents, the agreement
+ * features of modifiers, and so on. This state is not held by the context
+ * itself: in isolated mode, the whole spec tree is copied at the start of each
+ * call, the phrases write their state to these working copies, which belong
+ * to the context, and the copies are discarded with it. The
+ * <code>Spec</code> passed in by the caller is never modified, so that one
+ * spec tree can be realised by several threads at once, but each call pays
+ * for a deep copy of the tree.
+ * <P>
+ * Working copies are made with {@link #copy(Object)}. Every
+ * <code>Spec</code>, <code>CoordinatePhraseSet</code> and list of
+ * constituents is copied at most once per context, so that constituents which
+ * are shared within the original tree are also shared within the copy. Lexical
+ * items are not copied; they are shared between the original and the working
+ * copy.
+ * 
+ * @see simplenlg.realiser.Spec#copyFields(RealisationContext)
+ */
+class RealisationContext {
+
+	/** Maps original objects onto their working copies. */
+	private Map<Object, Object> copies;
+
+	/**
+	 * Constructs an empty context.
+	 */
+	RealisationContext() {
+		this.copies = new IdentityHashMap<Object, Object>();
+	}
+
+	/**
+	 * Gets the working copy of an object. <code>Spec</code>s and
+	 * <code>CoordinatePhraseSet</code>s are copied; any other object (a
+	 * <code>String</code>, a lexical item, <code>null</code>) is returned
+	 * unchanged.
+	 * 
+	 * @param o
+	 *            the object
+	 * 
+	 * @return the working copy of <code>o</code> in this context
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T copy(T o) {
+		if (o instanceof Spec) {
+			return (T) copySpec((Spec) o);
+		} else if (o instanceof CoordinatePhraseSet<?>) {
+			return (T) copySet((CoordinatePhraseSet<?>) o);
+		} else {
+			return o;
+		}
+	}
+
+	/**
+	 * Makes {@link #copy(Object)} return the given replacement instead of a
+	 * working copy of an object. This must be called before the object is
+	 * copied.
+	 * 
+	 * @param original
+	 *            the object to be replaced
+	 * @param replacement
+	 *            the object to be used in its place
+	 */
+	void substitute(Object original, Object replacement) {
+		this.copies.put(original, replacement);
+	}
+
+	/**
+	 * Gets the working copies made in this context so far, including the
+	 * replacements passed to {@link #substitute(Object, Object)}.
+	 * 
+	 * @return the working copies, in no particular order
+	 */
+	Collection<Object> getCopies() {
+		return this.copies.values();
+	}
+
+	/**
+	 * Gets the working copy of a list, which contains the working copies of
+	 * the list's elements.
+	 * 
+	 * @param list
+	 *            the list
+	 * 
+	 * @return the working copy of <code>list</code>, or <code>null</code> if
+	 *         <code>list</code> is <code>null</code>
+	 */
+	@SuppressWarnings("unchecked")
+	<T> List<T> copyList(List<T> list) {
+		if (list == null) {
+			return null;
+		}
+
+		List<T> copy = (List<T>) this.copies.get(list);
+
+		if (copy == null) {
+			copy = new ArrayList<T>(list.size());
+			this.copies.put(list, copy);
+
+			for (T element : list) {
+				copy.add(copy(element));
+			}
+		}
+
+		return copy;
+	}
+
+	/**
+	 * Gets the working copy of a map of constituent lists, as used by
+	 * {@link simplenlg.realiser.VPPhraseSpec}.
+	 * 
+	 * @param map
+	 *            the map
+	 * 
+	 * @return a new map with the same keys, holding the working copies of the
+	 *         lists in <code>map</code>
+	 */
+	<K extends Enum<K>, T> EnumMap<K, List<T>> copyMap(EnumMap<K, List<T>> map) {
+		if (map == null) {
+			return null;
+		}
+
+		EnumMap<K, List<T>> copy = new EnumMap<K, List<T>>(map);
+
+		for (Map.Entry<K, List<T>> entry : copy.entrySet()) {
+			entry.setValue(copyList(entry.getValue()));
+		}
+
+		return copy;
+	}
+
+	/*
+	 * The copy is registered before its fields are copied, so that cycles
+	 * (parent links) end up pointing at the copy.
+	 */
+	private Spec copySpec(Spec spec) {
+		Spec copy = (Spec) this.copies.get(spec);
+
+		if (copy == null) {
+			copy = spec.shallowCopy();
+			copy.context = this;
+			this.copies.put(spec, copy);
+			copy.copyFields(this);
+		}
+
+		return copy;
+	}
+
+	private CoordinatePhraseSet<?> copySet(CoordinatePhraseSet<?> set) {
+		CoordinatePhraseSet<?> copy = (CoordinatePhraseSet<?>) this.copies
+				.get(set);
+
+		if (copy == null) {
+			copy = set.shallowCopy();
+			this.copies.put(set, copy);
+			copy.copyFields(this);
+		}
+
+		return copy;
+	}
+}
@@ -0,0 +1,142 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.realiser;
+
+/**
+ * The outcome of realising one of the specs of a batch with
+ * {@link simplenlg.realiser.Realiser#realiseAll(java.util.List)}: either the
+ * realisation of the spec or the exception which was thrown while realising
+ * it. A spec which cannot be realised does not stop the rest of the batch.
+ */
+public class RealisationResult {
+
+	private final int index;
+
+	private final Spec spec;
+
+	private final String realisation;
+
+	private final Throwable failure;
+
+	/**
+	 * Constructs a result.
+	 * 
+	 * @param index
+	 *            the position of the spec in the batch
+	 * @param spec
+	 *            the spec
+	 * @param realisation
+	 *            its realisation, <code>null</code> if it failed
+	 * @param failure
+	 *            the exception thrown while realising the spec,
+	 *            <code>null</code> if it succeeded
+	 */
+	RealisationResult(int index, Spec spec, String realisation,
+			Throwable failure) {
+		this.index = index;
+		this.spec = spec;
+		this.realisation = realisation;
+		this.failure = failure;
+	}
+
+	/**
+	 * @return the position of the spec in the batch, starting at 0
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * @return the spec which was realised
+	 */
+	public Spec getSpec() {
+		return this.spec;
+	}
+
+	/**
+	 * @return the realisation of the spec, or <code>null</code> if it could
+	 *         not be realised
+	 */
+	public String getRealisation() {
+		return this.realisation;
+	}
+
+	/**
+	 * @return the exception thrown while realising the spec, or
+	 *         <code>null</code> if it was realised
+	 */
+	public Throwable getFailure() {
+		return this.failure;
+	}
+
+	/**
+	 * @return <code>true</code> if the spec could not be realised
+	 */
+	public boolean isFailed() {
+		return this.failure != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return isFailed() ? "(failed " + this.index + ": " + this.failure + ")"
+				: this.realisation;
+	}
+}
@@ -56,14 +56,24 @@
 
 package simplenlg.realiser;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import simplenlg.exception.SimplenlgException;
 import simplenlg.formatter.Formatter;
 import simplenlg.formatter.HTMLFormatter;
 import simplenlg.formatter.TextFormatter;
+import simplenlg.framework.BoundedCache;
 import simplenlg.lexicon.Lexicon;
 import simplenlg.lexicon.LexiconInterface;
+import simplenlg.metrics.Metric;
+import simplenlg.metrics.MetricsRecorder;
+import simplenlg.metrics.ResourceUsage;
+import simplenlg.metrics.UsageAccount;
 
 // TODO: Auto-generated Javadoc
 /**
@@ -93,18 +103,18 @@ public class Realiser {
 	/** the markups. */
 	private Formatter formatter;
 
-	// constants for knowledge about characters
+	/** realise working copies instead of the specs themselves */
+	private boolean isolatedRealisation = false;
+
+	/** the realisations of recurring phrases */
+	private BoundedCache<Fingerprint, String> realisations;
 
-	/** The Constant FOLLOW_NOSPACE. */
-	private final static String FOLLOW_NOSPACE = " ("; // don't need a space
-	// after this
-	/** The Constant START_NOSPACE. */
-	private final static String START_NOSPACE = " ;,.!?)"; // don't need a
-	// space before this
+	/** maximum number of cached realisations; 0 if caching is off */
+	private int realisationCacheSize = 0;
+
+	// constants for knowledge about characters
 
-	// punctuation symbols, strongest first (in Nirenburg's sense)
-	/** The Constant PUNCTUATION. */
-	private final static String PUNCTUATION = "!?.:;-,";
+	// (spacing and punctuation rules are kept by RealisationBuffer)
 
 	/** The Constant SENTENCE_TERMINATORS. */
 	final static String SENTENCE_TERMINATORS = "!?."; // sentence-end symbols
@@ -128,6 +138,7 @@ public class Realiser {
 		// simplenlg.lexicon
 		this.lexicon = lexicon;
 		this.formatter = new TextFormatter();
+		this.realisations = new BoundedCache<Fingerprint, String>(0);
 	}
 
 	/**
@@ -184,6 +195,111 @@ public class Realiser {
 		return this.lineLength;
 	}
 
+	/**
+	 * Specifies whether specs are realised in isolation. By default, realising
+	 * a <code>Spec</code> changes some of its features (for example, the case
+	 * of the noun phrases in a sentence or the surface subject of a clause),
+	 * so that a spec must not be realised by more than one thread at a time.
+	 * <P>
+	 * In isolated mode, each call to {@link #realise(Object)} or
+	 * {@link #realiseDocument(Spec)} first makes a deep copy of the spec tree
+	 * (see {@link simplenlg.realiser.RealisationContext}) and realises the
+	 * copy, which is discarded afterwards. The phrases still compute their
+	 * features in place, but in the copy, so the spec passed in is left
+	 * unchanged and may be realised by several threads at the same time, as
+	 * long as it is not modified meanwhile and the realiser's parameters are
+	 * not changed.
+	 * <P>
+	 * This is the copy a caller would otherwise have to make, done by the
+	 * realiser; it is not free. Every call copies every spec in the tree, so
+	 * the cost grows with the size of the tree, and it is paid on top of the
+	 * realisation. If a {@link simplenlg.metrics.MetricsRecorder} is set, the
+	 * time taken by the copy is reported as
+	 * {@link simplenlg.metrics.Metric#ISOLATION_COPY}, next to the time of
+	 * the realisation ({@link simplenlg.metrics.Metric#REALISE}). A spec
+	 * which is only realised by one thread at a time is realised faster
+	 * without isolation.
+	 * 
+	 * @param isolated
+	 *            <code>true</code> to realise specs in isolation
+	 */
+	public void setIsolatedRealisation(boolean isolated) {
+		this.isolatedRealisation = isolated;
+	}
+
+	/**
+	 * Checks whether specs are realised in isolation.
+	 * 
+	 * @return <code>true</code> if this realiser realises copies of the specs
+	 *         it is given, leaving them unchanged.
+	 * 
+	 * @see #setIsolatedRealisation(boolean)
+	 */
+	public boolean isIsolatedRealisation() {
+		return this.isolatedRealisation;
+	}
+
+	/**
+	 * Sets the maximum number of phrase realisations which this realiser
+	 * remembers. While caching is on, a noun, prepositional or adjective
+	 * phrase is only realised if no phrase with the same structure (the same
+	 * lexical items, features and constituents) has been realised recently;
+	 * otherwise, the remembered realisation is used. When the limit is
+	 * reached, the realisations used least recently are dropped. A size of 0,
+	 * the default, switches caching off.
+	 * <P>
+	 * A phrase whose realisation is taken from the cache is not changed by
+	 * realising it, which is otherwise the case unless specs are realised in
+	 * isolation (see {@link #setIsolatedRealisation(boolean)}). Clauses,
+	 * coordinate phrases and phrases containing them are always realised.
+	 * <P>
+	 * Lexical items are recognised by their identity, not their contents, and
+	 * the cache holds on to the items of the phrases it remembers. The cache
+	 * must therefore be cleared with {@link #clearRealisationCache()} whenever
+	 * a lexical item which has been realised is changed, e.g. by setting one
+	 * of its forms. Items which are replaced rather than changed, such as the
+	 * items of a reloaded {@link simplenlg.lexicon.VersionedLexicon}, are told
+	 * apart from the old ones, but clearing the cache after switching to a
+	 * new lexicon lets the old items be garbage collected.
+	 * 
+	 * @param size
+	 *            the maximum number of realisations to remember
+	 */
+	public void setRealisationCacheSize(int size) {
+		this.realisations.setCapacity(size);
+		this.realisationCacheSize = this.realisations.getCapacity();
+	}
+
+	/**
+	 * @return the maximum number of realisations remembered by this realiser
+	 */
+	public int getRealisationCacheSize() {
+		return this.realisationCacheSize;
+	}
+
+	/**
+	 * @return the number of phrases whose realisation was taken from the cache
+	 */
+	public long getRealisationCacheHits() {
+		return this.realisations.getHits();
+	}
+
+	/**
+	 * @return the number of phrases which were looked up in the cache, but had
+	 *         to be realised
+	 */
+	public long getRealisationCacheMisses() {
+		return this.realisations.getMisses();
+	}
+
+	/**
+	 * Forgets all remembered realisations. This is necessary after lexical
+	 * items have been changed (see {@link #setRealisationCacheSize(int)}).
+	 */
+	public void clearRealisationCache() {
+		this.realisations.clear();
+	}
+
 	/**
 	 * @return the formatter
 	 */
@@ -192,7 +308,9 @@ public class Realiser {
 	}
 
 	/**
-	 * Realise a <code>Spec</code>.
+	 * Realise a <code>Spec</code>. The time this takes is passed to the
+	 * current {@link simplenlg.metrics.MetricsRecorder} as
+	 * {@link simplenlg.metrics.Metric#REALISE}.
 	 * 
 	 * @param spec
 	 *            The <code>Spec</code> to be realised.
@@ -204,16 +322,215 @@ public class Realiser {
 			return "";
 		} else if (spec instanceof String) {
 			return (String) spec;
-		} else if (spec instanceof PhraseSpec) {
-			return ((PhraseSpec) spec).isElided() ? "" : ((PhraseSpec) spec)
-					.realise(this);
-		} else if (spec instanceof Spec) {
-			return ((Spec) spec).realise(this);
-		} else {
+		}
+
+		RealisationBuffer out = new RealisationBuffer();
+		realise(spec, out);
+		return out.toString();
+	}
+
+	/*
+	 * Realises a String or Spec, like realise(Object), into the given buffer.
+	 * Phrases pass the buffer they are being realised into on to their
+	 * constituents.
+	 */
+	void realise(Object spec, RealisationBuffer out) {
+		if (spec == null) {
+			return;
+		} else if (spec instanceof String) {
+			out.appendSpace((String) spec);
+			return;
+		} else if (!(spec instanceof Spec)) {
 			throw new SimplenlgException("Can only realise Strings or Specs");
+		} else if (mustIsolate((Spec) spec)) {
+			realise(isolate((Spec) spec), out);
+			return;
+		}
+
+		MetricsRecorder metrics = MetricsRecorder.getCurrent();
+
+		if (!metrics.isEnabled()) {
+			realiseSpec((Spec) spec, out);
+			return;
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			realiseSpec((Spec) spec, out);
+		} finally {
+			metrics.recordTime(Metric.REALISE, spec.getClass().getSimpleName(),
+					System.nanoTime() - start);
 		}
 	}
 
+	/**
+	 * Realises a <code>Spec</code>, like {@link #realise(Object)}, and
+	 * measures the resources this takes: the elapsed and CPU time and the
+	 * memory allocated by the calling thread, the lookups in a
+	 * {@link simplenlg.lexicon.DBLexicon} and the loads from its database, and
+	 * the number of specs realised. The measurements are also passed on to
+	 * the current {@link simplenlg.metrics.MetricsRecorder}.
+	 * <P>
+	 * Only the work of the calling thread is measured, as by any
+	 * {@link simplenlg.metrics.UsageAccount}.
+	 * 
+	 * @param spec
+	 *            The <code>Spec</code> to be realised.
+	 * 
+	 * @return The String realisation and the resources used.
+	 * @see simplenlg.metrics.UsageAccount
+	 */
+	public MeasuredRealisation realiseWithUsage(Object spec) {
+		UsageAccount account = UsageAccount.open();
+		String realisation;
+		ResourceUsage usage;
+
+		try {
+			realisation = realise(spec);
+		} finally {
+			usage = account.close();
+		}
+
+		return new MeasuredRealisation(realisation, usage);
+	}
+
+	/*
+	 * Realises a spec which need not be isolated, taking phrases from the
+	 * cache if it is enabled.
+	 */
+	private void realiseSpec(Spec spec, RealisationBuffer out) {
+		if (spec instanceof PhraseSpec) {
+			if (((PhraseSpec) spec).isElided()) {
+				return;
+			} else if (this.realisationCacheSize > 0) {
+				realiseCached((PhraseSpec) spec, out);
+			} else {
+				spec.realise(this, out);
+			}
+		} else {
+			spec.realise(this, out);
+		}
+	}
+
+	/**
+	 * Realises a batch of independent specs, like {@link #realise(Object)},
+	 * with as many threads as there are processors. See
+	 * {@link #realiseAll(List, ExecutorService)}.
+	 * 
+	 * @param specs
+	 *            the specs to be realised
+	 * @return the results, in the order of the specs
+	 */
+	public List<RealisationResult> realiseAll(List<? extends Spec> specs) {
+		return realiseAll(specs, null);
+	}
+
+	/**
+	 * Realises a batch of independent specs, like {@link #realise(Object)},
+	 * with the threads of an executor. The results are returned in the order
+	 * of the specs. A spec which cannot be realised does not stop the batch:
+	 * its result holds the exception thrown instead of the realisation.
+	 * <P>
+	 * Each spec is realised by a copy of this realiser, with a formatter of its
+	 * own, in isolation (see {@link #setIsolatedRealisation(boolean)}), so
+	 * specs may share constituents; each spec is therefore copied before it is
+	 * realised. Changing the parameters of this realiser
+	 * does not affect a batch which has been started. Since the specs are
+	 * realised at the same time, the lexicon must allow concurrent lookups, as a
+	 * {@link simplenlg.lexicon.ConcurrentLexicon} or a lexicon whose data are
+	 * fully loaded does.
+	 * <P>
+	 * Usage accounts (see {@link simplenlg.metrics.UsageAccount}) measure
+	 * their own thread only. The specs are realised by the threads of the
+	 * executor, so an account opened around this call does not count them or
+	 * their lookups: it reports no phrases realised, and only the time spent
+	 * waiting for the results. To measure the specs, realise each of them
+	 * with {@link #realiseWithUsage(Object)} instead.
+	 * 
+	 * @param specs
+	 *            the specs to be realised
+	 * @param executor
+	 *            the threads to realise them with, e.g. a
+	 *            <code>ForkJoinPool</code>; if <code>null</code>, a pool with
+	 *            as many threads as there are processors is used, and shut
+	 *            down afterwards
+	 * @return the results, in the order of the specs
+	 */
+	public List<RealisationResult> realiseAll(List<? extends Spec> specs,
+			ExecutorService executor) {
+		List<RealisationResult> results = new ArrayList<RealisationResult>(
+				specs.size());
+
+		if (specs.isEmpty()) {
+			return results;
+		}
+
+		ExecutorService pool = executor;
+
+		if (pool == null) {
+			pool = Executors.newFixedThreadPool(Math.min(Runtime.getRuntime()
+					.availableProcessors(), specs.size()));
+		}
+
+		RealisationBatch batch = new RealisationBatch(copy(), specs.iterator(),
+				pool, specs.size());
+
+		try {
+			while (batch.hasNext()) {
+				results.add(batch.next());
+			}
+
+		} finally {
+			batch.cancel();
+
+			if (pool != executor) {
+				pool.shutdownNow();
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Realises a sequence of independent specs, like
+	 * {@link #realiseAll(List, ExecutorService)}, but returns the results one
+	 * at a time, as they are asked for. At most <code>window</code> specs are
+	 * taken from the sequence ahead of the result returned last, so that the
+	 * specs can be generated, and their results written out, while the others
+	 * are realised. The <code>next()</code> method of the returned iterator
+	 * waits for the next result; if it is interrupted, the remaining specs are
+	 * cancelled and a <code>SimplenlgException</code> is thrown.
+	 * 
+	 * @param specs
+	 *            the specs to be realised
+	 * @param executor
+	 *            the threads to realise them with
+	 * @param window
+	 *            the maximum number of specs realised ahead, at least 1;
+	 *            usually a small multiple of the number of threads
+	 * @return the results, in the order of the specs
+	 */
+	public Iterator<RealisationResult> realiseAll(
+			Iterator<? extends Spec> specs, ExecutorService executor,
+			int window) {
+		return new RealisationBatch(copy(), specs, executor, window);
+	}
+
+	/*
+	 * Returns a realiser with the lexicon, parameters and realisation cache of
+	 * this one, but a formatter of its own, which realises specs in isolation.
+	 */
+	Realiser copy() {
+		Realiser copy = new Realiser(this.lexicon);
+		copy.setHTML(this.HTML);
+		copy.lineLength = this.lineLength;
+		copy.isolatedRealisation = true;
+		copy.realisations = this.realisations;
+		copy.realisationCacheSize = this.realisationCacheSize;
+		return copy;
+	}
+
 	/**
 	 * Realises a <code>Spec</code> as a document. This makes use of the
 	 * {@link simplenlg.realiser.Spec#promote(DocStructure)} method to promote
@@ -225,9 +542,123 @@ public class Realiser {
 	 * @return The realisation at document level.
 	 */
 	public String realiseDocument(Spec spec) {
+		if (mustIsolate(spec)) {
+			spec = isolate(spec);
+		}
+
 		return realise(spec.promote(DocStructure.DOCUMENT));
 	}
 
+	/**
+	 * Realises a <code>Spec</code> and writes the realisation to the given
+	 * output. A <code>TextSpec</code> above paragraph level (such as a
+	 * section or a document) is written as it is being realised, one
+	 * paragraph or list at a time, so that a large document need not be held
+	 * in memory as a whole; the output is the same as that of
+	 * {@link #realise(Object)}. The output is neither flushed nor closed.
+	 * 
+	 * @param spec
+	 *            The <code>Spec</code> to be realised.
+	 * @param out
+	 *            The output, e.g. a <code>Writer</code> or a
+	 *            <code>StringBuilder</code>.
+	 * @throws IOException
+	 *             if the output cannot be written
+	 */
+	public void realise(Object spec, Appendable out) throws IOException {
+		if (spec instanceof Spec && mustIsolate((Spec) spec)) {
+			realise(isolate((Spec) spec), out);
+		} else if (spec instanceof TextSpec) {
+			DocumentStream stream = new DocumentStream(out, this.formatter);
+			((TextSpec) spec).realise(this, stream, true);
+			stream.close();
+		} else {
+			out.append(realise(spec));
+		}
+	}
+
+	/**
+	 * Realises a <code>Spec</code> as a document, like
+	 * {@link #realiseDocument(Spec)}, and writes the realisation to the given
+	 * output as it is being realised (see
+	 * {@link #realise(Object, Appendable)}).
+	 * 
+	 * @param spec
+	 *            The <code>Spec</code>
+	 * @param out
+	 *            The output, e.g. a <code>Writer</code>
+	 * @throws IOException
+	 *             if the output cannot be written
+	 */
+	public void realiseDocument(Spec spec, Appendable out) throws IOException {
+		if (mustIsolate(spec)) {
+			spec = isolate(spec);
+		}
+
+		realise(spec.promote(DocStructure.DOCUMENT), out);
+	}
+
+	/*
+	 * Takes the realisation of a noun, prepositional or adjective phrase from
+	 * the cache, or realises the phrase and remembers its realisation. Other
+	 * phrases, including coordinate ones, and phrases which cannot be
+	 * fingerprinted are realised as usual.
+	 */
+	private void realiseCached(PhraseSpec phrase, RealisationBuffer out) {
+		Class<?> c = phrase.getClass();
+		Fingerprint fingerprint = null;
+
+		if (c == NPPhraseSpec.class || c == PPPhraseSpec.class
+				|| c == AdjPhraseSpec.class) {
+			fingerprint = Fingerprint.of(phrase);
+		}
+
+		if (fingerprint == null) {
+			phrase.realise(this, out);
+			return;
+		}
+
+		String realisation = this.realisations.get(fingerprint);
+
+		if (realisation == null) {
+			realisation = phrase.realise(this);
+			this.realisations.put(fingerprint, realisation);
+		}
+
+		out.appendSpace(realisation);
+	}
+
+	/*
+	 * In isolated mode, any spec which is not yet a working copy is copied
+	 * before it is realised. Constituents of a working copy are working
+	 * copies themselves, so this happens only once per call.
+	 */
+	private boolean mustIsolate(Spec spec) {
+		return this.isolatedRealisation && !spec.isWorkingCopy();
+	}
+
+	/*
+	 * Makes the working copy of a spec for an isolated call, timing the copy
+	 * as Metric.ISOLATION_COPY, so that its cost can be told apart from that
+	 * of the realisation itself.
+	 */
+	private Spec isolate(Spec spec) {
+		MetricsRecorder metrics = MetricsRecorder.getCurrent();
+
+		if (!metrics.isEnabled()) {
+			return new RealisationContext().copy(spec);
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return new RealisationContext().copy(spec);
+		} finally {
+			metrics.recordTime(Metric.ISOLATION_COPY, spec.getClass()
+					.getSimpleName(), System.nanoTime() - start);
+		}
+	}
+
 	// orthography, layout, spacing code
 	// ********************************************
 
@@ -330,14 +761,15 @@ public class Realiser {
 	 */
 	String applyDocumentOrthography(String body) {
 
-		String result = body;
+		String newLine = this.formatter.getNEW_LINE();
+		int start = 0;
 
 		// get rid of initial NEW_LINE
-		while (result.startsWith(this.formatter.getNEW_LINE())) {
-			result = result.substring(this.formatter.getNEW_LINE().length());
+		while (newLine.length() > 0 && body.startsWith(newLine, start)) {
+			start += newLine.length();
 		}
 
-		return result;
+		return body.substring(start);
 	}
 
 	// spacing and punctuation code
@@ -352,23 +784,12 @@ public class Realiser {
 	 * 
 	 * @return the string
 	 */
-	@SuppressWarnings("unused")
 	String appendSpace(String... strings) {
-		String result = "";
+		RealisationBuffer result = new RealisationBuffer();
 		for (String s : strings) {
-			if (s == null) {
-				continue;
-			} else if (result.length() == 0) {
-				result = s;
-			} else if (s == null) {
-				; // do nothing
-			} else if (spaceNeeded(result, s)) {
-				result = result + " " + s;
-			} else {
-				result = result + s;
-			}
+			result.appendSpace(s);
 		}
-		return result;
+		return result.toString();
 	}
 
 	// convenience method to append a string and a char
@@ -386,70 +807,43 @@ public class Realiser {
 		return appendSpace(body, Character.toString(c));
 	}
 
-	// spaceNeeded - return TRUE if need to add a space between segments
+	// realise lists (with or without conjuncts)
 	/**
-	 * Space needed.
+	 * Realise list.
 	 * 
-	 * @param firstString
-	 *            the first string
-	 * @param secondString
-	 *            the second string
+	 * @param elements
+	 *            the elements
 	 * 
-	 * @return true, if successful
+	 * @return the string
 	 */
-	private boolean spaceNeeded(String firstString, String secondString) {
-		// Don't need a space if either string is empty
-		if (firstString == null || secondString == null
-				|| firstString.length() == 0 | secondString.length() == 0) {
-			return false;
-		}
-
-		// Don't need a space if firstString ends with char in FOLLOW_NOSPACE
-		// or if it is whitespace itself
-		char lastChar = firstString.charAt(firstString.length() - 1);
-		if (Character.isWhitespace(lastChar)
-				|| Realiser.FOLLOW_NOSPACE.indexOf(lastChar) >= 0) {
-			return false;
-		}
-
-		// Don't need a space if secondString starts with a char in
-		// START_NOSPACE
-		// or if it is whitespace itself
-		char firstChar = secondString.charAt(0);
-		if (Character.isWhitespace(firstChar)
-				|| Realiser.START_NOSPACE.indexOf(firstChar) >= 0) {
-			return false;
+	@SuppressWarnings("rawtypes")
+	String realiseList(List elements) {
+		if (elements == null || elements.isEmpty()) {
+			return "";
 		}
 
-		// All tests passed, space needed so return true
-		return true;
+		RealisationBuffer out = new RealisationBuffer();
+		realiseList(elements, out);
+		return out.toString();
 	}
 
-	// realise lists (with or without conjuncts)
 	/**
-	 * Realise list.
+	 * Realise list into a buffer.
 	 * 
 	 * @param elements
 	 *            the elements
-	 * 
-	 * @return the string
+	 * @param out
+	 *            the buffer
 	 */
 	@SuppressWarnings("rawtypes")
-	String realiseList(List elements) {
+	void realiseList(List elements, RealisationBuffer out) {
 		// realise list; concatenate together with spaces as needed
 		// List elements are specs or strings
-		String realisation = null;
-
-		if (elements == null || elements.isEmpty()) {
-			realisation = "";
-		} else if (elements.size() == 1) {
-			realisation = realise(elements.get(0));
-		} else {
-			realisation = appendSpace(realise(elements.get(0)),
-					realiseList(elements.subList(1, elements.size())));
+		if (elements != null) {
+			for (Object element : elements) {
+				realise(element, out);
+			}
 		}
-
-		return realisation == null ? "" : realisation;
 	}
 
 	String realiseIndentedList(List<Spec> elements) {
@@ -457,13 +851,12 @@ public class Realiser {
 			return "";
 		}
 
-		String result = "";
+		StringBuilder result = new StringBuilder();
 		for (Spec spec : elements) {
-			result = result
-					+ this.formatter.addListElementMarkup(realise(spec));
+			result.append(this.formatter.addListElementMarkup(realise(spec)));
 		}
 
-		return this.formatter.addIndentedListMarkup(result);
+		return this.formatter.addIndentedListMarkup(result.toString());
 	}
 
 	// realise a list, including a conjunct before last element
@@ -482,18 +875,44 @@ public class Realiser {
 	 */
 	@SuppressWarnings("rawtypes")
 	protected String realiseConjunctList(List elements, String conjunct) {
+		if (elements == null || elements.isEmpty()) {
+			return "";
+		}
+
+		RealisationBuffer out = new RealisationBuffer();
+		realiseConjunctList(elements, conjunct, out);
+		return out.toString();
+	}
+
+	/**
+	 * Realise conjunct list into a buffer.
+	 * 
+	 * @param elements
+	 *            the elements
+	 * @param conjunct
+	 *            the conjunct
+	 * @param out
+	 *            the buffer
+	 */
+	@SuppressWarnings("rawtypes")
+	void realiseConjunctList(List elements, String conjunct,
+			RealisationBuffer out) {
 
 		if (elements == null) {
-			return "";
+			return;
 		}
 		switch (elements.size()) {
 		case 0:
-			return "";
+			return;
 		case 1:
-			return realise(elements.get(0));
+			realise(elements.get(0), out);
+			return;
 		case 2:
-			return appendSpace(realise(elements.get(0)), conjunct,
-					realise(elements.get(1))); // eg, apples and oranges
+			// eg, apples and oranges
+			realise(elements.get(0), out);
+			out.appendSpace(conjunct);
+			realise(elements.get(1), out);
+			return;
 		default:
 			// large list
 			// eg, pears, apples, and oranges
@@ -510,26 +929,37 @@ public class Realiser {
 				index++;
 			}
 			// now merge together
-			String result = strings[0];
+			out.appendSpace(strings[0]);
 			for (index = 1; index < strings.length - 1; index++) {
-				result = appendSpace(addPunctuation(result, separator),
-						strings[index]);
+				out.addPunctuation(separator).appendSpace(strings[index]);
 			}
-			return appendSpace(result, conjunct, strings[strings.length - 1]);
-
+			out.appendSpace(conjunct).appendSpace(strings[strings.length - 1]);
 		}
 	}
 	
 	@SuppressWarnings("rawtypes")
 	protected String realiseCommaConjunctList(List elements, String conjunct) {
-		if (elements == null) {
+		if (elements == null || elements.isEmpty()) {
 			return "";
 		}
+
+		RealisationBuffer out = new RealisationBuffer();
+		realiseCommaConjunctList(elements, conjunct, out);
+		return out.toString();
+	}
+
+	@SuppressWarnings("rawtypes")
+	void realiseCommaConjunctList(List elements, String conjunct,
+			RealisationBuffer out) {
+		if (elements == null) {
+			return;
+		}
 		if (elements.size() == 2) {
-			return appendSpace(realise(elements.get(0)), ",", 
-					conjunct, realise(elements.get(1)));
+			realise(elements.get(0), out);
+			out.appendSpace(",").appendSpace(conjunct);
+			realise(elements.get(1), out);
 		} else {
-			return realiseConjunctList(elements, conjunct);
+			realiseConjunctList(elements, conjunct, out);
 		}
 	}
 	
@@ -547,6 +977,11 @@ public class Realiser {
 		return realiseConjunctList(elements, "und");
 	}
 
+	@SuppressWarnings("rawtypes")
+	void realiseAndList(List elements, RealisationBuffer out) {
+		realiseConjunctList(elements, "und", out);
+	}
+
 	// punctuation merging code ****************************
 	// this adds a punc symbol unless it is absorbed (as in Nirenburg)
 
@@ -561,22 +996,8 @@ public class Realiser {
 	 * @return the string
 	 */
 	private String addPunctuation(String body, char punctuation) {
-		char lastChar = body.charAt(body.length() - 1);
-
-		// if body does not end in a punct symbol, just append punc
-		if (Realiser.PUNCTUATION.indexOf(lastChar) < 0) {
-			return appendSpace(body, punctuation);
-		}
-
-		// else drop the weaker punct symbol
-		if (Realiser.PUNCTUATION.indexOf(lastChar) <= Realiser.PUNCTUATION
-				.indexOf(punctuation)) {
-			return body;
-		} else {
-			return appendSpace(body.substring(0, body.length() - 1),
-					punctuation);
-		}
-
+		return new RealisationBuffer(body).addPunctuation(punctuation)
+				.toString();
 	}
 
 	// pouring code *****************************************************
@@ -592,20 +1013,31 @@ public class Realiser {
 	 */
 	private String pour(String body, int length) {
 		// pour string into lines of specified length
-
 		if (body.length() <= length) {
 			return body;
 		}
 
-		for (int i = length; i > 0; i--) {
-			if (Character.isWhitespace(body.charAt(i))) {
-				return body.substring(0, i) + this.formatter.getNEW_LINE()
-						+ pour(body.substring(i + 1), length);
+		StringBuilder result = new StringBuilder(body.length() + body.length()
+				/ Math.max(length, 1) * this.formatter.getNEW_LINE().length());
+		int lineStart = 0;
+
+		while (body.length() - lineStart > length) {
+			int i = lineStart + length;
+			while (i > lineStart && !Character.isWhitespace(body.charAt(i))) {
+				i--;
 			}
+
+			if (i == lineStart) {
+				// cannot pour, so just keep the rest and hope for the best...
+				break;
+			}
+
+			result.append(body, lineStart, i).append(
+					this.formatter.getNEW_LINE());
+			lineStart = i + 1;
 		}
 
-		// cannot pour, so just return body and hope for the best...
-		return body;
+		return result.append(body, lineStart, body.length()).toString();
 	}
 
 }
@@ -1812,6 +1812,37 @@ public class SPhraseSpec extends HeadedPhraseSpec<Verb> {
 		return eq;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.HeadedPhraseSpec#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int hash = hashValue(this.cuePhrase);
+		hash = 31 * hash + hashValue(this.verbPhrase);
+		hash = 31 * hash + this.frontModifiers.hashCode();
+		return 31 * hash + this.subjects.hashCode();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.cuePhrase = context.copy(this.cuePhrase);
+		this.subjects = context.copyList(this.subjects);
+		this.frontModifiers = context.copyList(this.frontModifiers);
+		this.frontedElements = context.copyList(this.frontedElements);
+		this.verbPhrase = context.copy(this.verbPhrase);
+		this.passiveComplement = context.copy(this.passiveComplement);
+		this.surfaceSubject = context.copy(this.surfaceSubject);
+		this.complementiser = context.copy(this.complementiser);
+	}
+
 	// ****************************************
 	// Realisation methods
 	// ****************************************
@@ -1836,6 +1867,19 @@ public class SPhraseSpec extends HeadedPhraseSpec<Verb> {
 	 * Realise an Sphrase spec: 1. Compute the surface arguments 2. Compute the
 	 * VP agreement 3. Compute the right Form
 	 * 
+	 * (non-Javadoc) a sentence is realised on its own, since its
+	 * orthography is applied to the whole of its realisation
+	 * 
+	 * @see
+	 * simplenlg.realiser.HeadedPhraseSpec#realise(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
+	 */
+	@Override
+	void realise(Realiser r, RealisationBuffer out) {
+		out.appendSpace(realise(r));
+	}
+
+	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
@@ -0,0 +1,205 @@
+/* ==================================================
+ * SimpleNLG-Ger: An Adaption of SimpleNLG for German
+ * ==================================================
+ * 
+ * Copyright (c) 2013, Marcel Bollmann
+ * All rights reserved.
+ * 
+ * This package is a modification of "SimpleNLG: An API for Natural Language Generation".
+ * The license of the original software is reproduced below and also applies to this
+ * modification.
+ * 
+ * ==================================================
+ * SimpleNLG: An API for Natural Language Generation
+ * ==================================================
+ *
+ * Copyright (c) 2007, the University of Aberdeen
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted FOR RESEARCH PURPOSES ONLY, provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ * 		this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, 
+ *    this list of conditions and the following disclaimer in the documentation and/or 
+ *    other materials provided with the distribution.
+ * 3. Neither the name of the University of Aberdeen nor the names of its contributors 
+ * 	  may be used to endorse or promote products derived from this software without 
+ *    specific prior written permission.
+ *    
+ *    THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ *    AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, 
+ *    THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ *    ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE 
+ *    FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES 
+ *    (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *     LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND 
+ *     ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+ *     (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ *     EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *     
+ *  Redistribution and use for purposes other than research requires special permission by the
+ *  copyright holders and contributors. Please contact Ehud Reiter (ereiter@csd.abdn.ac.uk) for
+ *  more information.
+ *     
+ *	   =================    
+ *     Acknowledgements:
+ *     =================
+ *     This library contains a re-implementation of some rules derived from the MorphG package
+ *     by Guido Minnen, John Carroll and Darren Pearce. You can find more information about MorphG
+ *     in the following reference:
+ *     	Minnen, G., Carroll, J., and Pearce, D. (2001). Applied Morphological Processing of English.
+ *     		Natural Language Engineering 7(3): 207--223.
+ *     Thanks to John Carroll (University of Sussex) for permission to re-use the MorphG rules. 
+ */
+package simplenlg.realiser;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import simplenlg.exception.SimplenlgException;
+
+/**
+ * A <code>SentenceTemplate</code> is a spec which is built once and realised
+ * many times with different fillers. The spec is built as usual, e.g. with
+ * the {@link simplenlg.framework.NLGFactory}, but has a
+ * {@link simplenlg.realiser.SlotPhraseSpec} in place of each constituent that
+ * varies:
+ * 
+ * <pre>
+ * SentenceTemplate t = new SentenceTemplate(factory.createSentence(
+ * 		new SlotPhraseSpec(&quot;wer&quot;), &quot;hören&quot;, new SlotPhraseSpec(&quot;wen&quot;)));
+ * Map&lt;String, Object&gt; values = new HashMap&lt;String, Object&gt;();
+ * values.put(&quot;wer&quot;, factory.createNounPhrase(&quot;die Frau&quot;));
+ * values.put(&quot;wen&quot;, factory.createNounPhrase(&quot;der Mann&quot;));
+ * String s = t.realise(realiser, values);
+ * </pre>
+ * 
+ * The lexicon lookups, the compound nouns and complex verbs, and the
+ * conversion of the arguments into constituents are done once, when the spec
+ * is built. Each time the template is bound, the spec is copied as for an
+ * isolated realisation (see
+ * {@link simplenlg.realiser.Realiser#setIsolatedRealisation(boolean)}), with
+ * the bound phrases in place of the slots, and the copy is realised. The spec
+ * passed to the constructor and the bound phrases are not modified.
+ * <P>
+ * A template may be bound by several threads at once.
+ */
+public class SentenceTemplate {
+
+	/** Working copy of the spec, which is never realised itself. */
+	private final Spec prototype;
+
+	/** The slots of the prototype, by name. */
+	private final Map<String, SlotPhraseSpec> slots;
+
+	/**
+	 * Compiles a template. Later changes to the spec do not affect the
+	 * template.
+	 * 
+	 * @param spec
+	 *            the spec, with a slot for each constituent that varies
+	 * @throws SimplenlgException
+	 *             if two slots have the same name
+	 */
+	public SentenceTemplate(Spec spec) {
+		RealisationContext context = new RealisationContext();
+		this.prototype = context.copy(spec);
+		this.slots = new HashMap<String, SlotPhraseSpec>();
+
+		for (Object copy : context.getCopies()) {
+
+			if (copy instanceof SlotPhraseSpec) {
+				SlotPhraseSpec slot = (SlotPhraseSpec) copy;
+
+				if (this.slots.put(slot.getName(), slot) != null) {
+					throw new SimplenlgException("Duplicate slot "
+							+ slot.getName() + " in template");
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the names of the slots of this template
+	 */
+	public Set<String> getSlotNames() {
+		return Collections.unmodifiableSet(this.slots.keySet());
+	}
+
+	/**
+	 * Binds the slots of this template and returns the resulting spec. Every
+	 * slot must be bound. A value may be a <code>String</code> or a
+	 * {@link simplenlg.realiser.Phrase}, as for any other constituent; it is
+	 * copied, so the same value may be bound to several slots. The returned
+	 * spec is meant to be realised once; bind the template again to realise
+	 * it another time.
+	 * 
+	 * @param values
+	 *            the values of the slots, by name
+	 * @return the spec
+	 * @throws SimplenlgException
+	 *             if a slot is not bound, or a value is given for a name
+	 *             which is not that of a slot
+	 */
+	public Spec bind(Map<String, ?> values) {
+		RealisationContext context = new RealisationContext();
+		Map<SlotPhraseSpec, PhraseSpec> bound = new HashMap<SlotPhraseSpec, PhraseSpec>();
+
+		for (String name : values.keySet()) {
+
+			if (!this.slots.containsKey(name)) {
+				throw new SimplenlgException("Template has no slot " + name);
+			}
+		}
+
+		for (SlotPhraseSpec slot : this.slots.values()) {
+			Object value = values.get(slot.getName());
+
+			if (value == null) {
+				throw new SimplenlgException("Slot " + slot.getName()
+						+ " is not bound");
+			}
+
+			// a fresh context for each value, so that a value bound to two
+			// slots is copied twice
+			PhraseSpec phrase = new RealisationContext().copy(slot
+					.makePhraseSpec(value));
+			context.substitute(slot, phrase);
+			bound.put(slot, phrase);
+		}
+
+		Spec spec = context.copy(this.prototype);
+
+		for (Map.Entry<SlotPhraseSpec, PhraseSpec> entry : bound.entrySet()) {
+			SlotPhraseSpec slot = entry.getKey();
+			Spec parent = context.copy(slot.getParentSpec());
+
+			if (parent instanceof PhraseSpec) {
+				((PhraseSpec) parent).makeConstituent(entry.getValue(),
+						slot.getDiscourseFunction());
+			} else {
+				entry.getValue().setParentSpec(parent);
+			}
+		}
+
+		return spec;
+	}
+
+	/**
+	 * Binds the slots of this template and realises the resulting spec.
+	 * 
+	 * @param r
+	 *            the realiser
+	 * @param values
+	 *            the values of the slots, by name
+	 * @return the realisation
+	 * @see #bind(Map)
+	 */
+	public String realise(Realiser r, Map<String, ?> values) {
+		return r.realise(bind(values));
+	}
+}
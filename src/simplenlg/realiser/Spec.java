@@ -56,17 +56,26 @@
 
 package simplenlg.realiser;
 
+import simplenlg.exception.SimplenlgException;
+import simplenlg.lexicon.lexicalitems.Word;
+
 // TODO: Auto-generated Javadoc
 /**
  * Spec - parent class for all TextSpec and PhraseSpec.
  * 
  * @author ereiter
  */
-public abstract class Spec {
+public abstract class Spec implements Cloneable {
 
 	/** The parent spec. */
 	Spec parentSpec;
 
+	/**
+	 * The realisation context this <code>Spec</code> is a working copy for,
+	 * <code>null</code> if this is not a working copy.
+	 */
+	RealisationContext context;
+
 	/**
 	 * Sets the parent spec of this <code>Spec</code>, that is, the object of
 	 * which this <code>Spec</code> is a constituent. For example,
@@ -100,15 +109,33 @@ public abstract class Spec {
 	}
 
 	// Spec classes must have a realise method
+	/**
+	 * Realises this <code>Spec</code> into the given buffer, which is passed
+	 * on to its constituents, so that they are written where they belong
+	 * rather than realised separately and copied.
+	 *
+	 * @param r
+	 *            the r
+	 * @param out
+	 *            the buffer the realisation is appended to, with a space if
+	 *            needed
+	 */
+	abstract void realise(Realiser r, RealisationBuffer out);
+
 	/**
 	 * Realise.
-	 * 
+	 *
 	 * @param r
 	 *            the r
-	 * 
+	 *
 	 * @return the string
+	 * @see #realise(Realiser, RealisationBuffer)
 	 */
-	abstract String realise(Realiser r);
+	String realise(Realiser r) {
+		RealisationBuffer out = new RealisationBuffer();
+		realise(r, out);
+		return out.toString();
+	}
 
 	// Promote to a specified text spec (or higher)
 	// This is overriden by TextSpec, just deal with other cases here
@@ -121,4 +148,61 @@ public abstract class Spec {
 	 * @return the text spec
 	 */
 	abstract TextSpec promote(DocStructure level);
+
+	/**
+	 * Checks whether this <code>Spec</code> is a working copy made by a
+	 * {@link simplenlg.realiser.RealisationContext}.
+	 * 
+	 * @return <code>true</code> if this is a working copy.
+	 */
+	boolean isWorkingCopy() {
+		return this.context != null;
+	}
+
+	/*
+	 * Returns a field-by-field copy of this spec, to be completed by
+	 * copyFields(RealisationContext).
+	 */
+	Spec shallowCopy() {
+
+		try {
+			return (Spec) super.clone();
+
+		} catch (CloneNotSupportedException cnse) {
+			throw new SimplenlgException("Cannot copy " + getClass().getName());
+		}
+	}
+
+	/**
+	 * Replaces the references to other specs held by this working copy with
+	 * their working copies in the given context. Subclasses which hold
+	 * constituents or other mutable state must override this method and call
+	 * the superclass implementation first.
+	 * 
+	 * @param context
+	 *            the realisation context this working copy belongs to
+	 */
+	void copyFields(RealisationContext context) {
+		this.parentSpec = context.copy(this.parentSpec);
+	}
+
+	/*
+	 * Returns a hash code for a constituent of a spec which is consistent with
+	 * the equals() methods of the specs. Words are equal if they have the same
+	 * baseform and category, but keep the identity hash code of Object, as
+	 * they are kept in hash sets by the lexicon.
+	 */
+	static int hashValue(Object o) {
+
+		if (o == null) {
+			return 0;
+		} else if (o instanceof Word) {
+			Word w = (Word) o;
+			int hash = w.getBaseForm() == null ? 0 : w.getBaseForm().hashCode();
+			return 31 * hash
+					+ (w.getCategory() == null ? 0 : w.getCategory().hashCode());
+		} else {
+			return o.hashCode();
+		}
+	}
 }
@@ -161,11 +161,12 @@ public class StringPhraseSpec extends PhraseSpec {
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see simplenlg.realiser.Spec#realise(simplenlg.realiser.Realiser)
+	 * @see simplenlg.realiser.Spec#realise(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
 	 */
 	@Override
-	String realise(Realiser r) {
-		return this.spec;
+	void realise(Realiser r, RealisationBuffer out) {
+		out.appendSpace(this.spec);
 	}
 
 	/**
@@ -195,6 +196,18 @@ public class StringPhraseSpec extends PhraseSpec {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int hash = this.spec == null ? 0 : this.spec.hashCode();
+		return 31 * hash
+				+ (this.category == null ? 0 : this.category.hashCode());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -236,4 +249,20 @@ public class StringPhraseSpec extends PhraseSpec {
 		return "(StringPhraseSpec " + this.spec + ")";
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.PhraseSpec#fingerprint(simplenlg.realiser.Fingerprint)
+	 */
+	@Override
+	boolean fingerprint(Fingerprint f) {
+
+		if (!super.fingerprint(f)) {
+			return false;
+		}
+
+		f.addString(this.spec).addFlag(this.plural);
+		return true;
+	}
+
 }
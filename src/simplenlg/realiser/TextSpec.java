@@ -56,6 +56,7 @@
 
 package simplenlg.realiser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -359,6 +360,17 @@ public class TextSpec extends Spec {
 	}
 
 	// realise method *************************************************
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#realise(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
+	 */
+	@Override
+	void realise(Realiser r, RealisationBuffer out) {
+		out.appendSpace(realise(r));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -449,6 +461,73 @@ public class TextSpec extends Spec {
 		return result;
 	}
 
+	/**
+	 * Realises this TextSpec into a stream. Paragraph sets, subsections,
+	 * sections and the document itself are realised child by child, with
+	 * each child written as soon as it has been realised; everything else
+	 * (including lists) is realised as a whole by
+	 * {@link #realise(Realiser)}. The result is the same as that of
+	 * {@link #realise(Realiser)}.
+	 * 
+	 * @param r
+	 *            the realiser
+	 * @param out
+	 *            the stream
+	 * @param top
+	 *            <code>true</code> if this is the TextSpec passed to the
+	 *            realiser, rather than one of its descendants
+	 * @throws IOException
+	 *             if the output cannot be written
+	 */
+	void realise(Realiser r, DocumentStream out, boolean top)
+			throws IOException {
+		// increase my doc structure so its higher than my children
+		this.docStructure = this.docStructure.max(maxDSChildren()
+				.lowestParent());
+
+		if (this.docStructure.compareTo(DocStructure.PARAGRAPH) <= 0
+				|| this.listConjunct != null || this.indentedList
+				|| (this.docStructure == DocStructure.DOCUMENT && !top)) {
+			out.write(r.realise(this));
+			return;
+		}
+
+		// heading
+		String header = null;
+		if (this.heading != null) {
+			header = r.realise(this.heading);
+		}
+
+		Formatter formatter = r.getFormatter();
+
+		switch (this.docStructure) {
+		case SUBSECTION:
+			out.write(formatter.addSubSectionMarkup("", header));
+			break;
+		case SECTION:
+			out.write(formatter.addSectionMarkup("", header));
+			break;
+		case DOCUMENT:
+			out.startDocument();
+			out.write(formatter.addDocumentHeaderMarkup(header));
+			break;
+		default:
+			break;
+		}
+
+		// promote children to sentence-level, and write them as a list
+		boolean written = false;
+		for (Spec child : this.children) {
+			if (written) {
+				out.join();
+			}
+
+			long length = out.length();
+			child.promote(DocStructure.SENTENCE).realise(r, out, false);
+			written = written || out.length() > length;
+		}
+	}
+
 	// utility methods ******************************
 
 	/**
@@ -507,6 +586,18 @@ public class TextSpec extends Spec {
 		return getDocStructure().max(maxDSChildren());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.children = context.copyList(this.children);
+		this.heading = context.copy(this.heading);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -108,6 +108,9 @@ import java.util.*;
  */
 public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 
+	/** All positions, in order (Position.values() copies them each time). */
+	private static final Position[] POSITIONS = Position.values();
+
 	/** The realise auxiliary. */
 	boolean perfect, progressive, passive, realiseAuxiliary;
 	boolean mainVerbPerfect;
@@ -148,7 +151,7 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 	List<String> constituentRealisation;
 	String vorfeldRealisation;
 	
-	HashMap<Position, List<Phrase>> constituentMap;
+	EnumMap<Position, List<Phrase>> constituentMap;
 	WordOrder wordOrder;
 	
 	boolean suppressVorfeld;
@@ -206,7 +209,7 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 		// defines default word order:
 		this.wordOrder = WordOrder.SIO;
 		// new way of storing constituents:
-		this.constituentMap = new HashMap<Position, List<Phrase>>();
+		this.constituentMap = new EnumMap<Position, List<Phrase>>(Position.class);
 		this.constituentRealisation = new ArrayList<String>();
 		this.surfaceSubject = new CoordinatePhraseSet<Phrase>(this);
 		this.passiveComplement = null;
@@ -776,7 +779,9 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 
 	/**
 	 * For use in case the head verb is phrasal. (e.g. "get up"). The method
-	 * adds the particle to the main verb of this phrase.
+	 * adds the particle to a copy of the main verb of this phrase, since the
+	 * verb may be shared with other phrases (see
+	 * {@link simplenlg.lexicon.Lexicon#getComplexVerb(String)}).
 	 * 
 	 * @param particle
 	 *            The particle
@@ -785,6 +790,7 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 	 *         specified.
 	 */
 	public void setParticle(String particle) {
+		this.head = (Verb) this.head.clone();
 		this.head.setParticle(particle);
 	}
 
@@ -986,6 +992,20 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 		return eq;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.HeadedPhraseSpec#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int hash = super.hashCode();
+		hash = 31 * hash + (this.tense == null ? 0 : this.tense.hashCode());
+		hash = 31 * hash + (this.perfect ? 1 : 0);
+		hash = 31 * hash + (this.passive ? 1 : 0);
+		return 31 * hash + (this.progressive ? 1 : 0);
+	}
+
 	/*
 	 * OLD TEXT:
 	 * Overload of the realise(Realiser) method, permitting realisation for
@@ -1004,8 +1024,9 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 
 	String realise(Realiser r, boolean subordinate) {
 		
-		// experimental
-		HashMap<Position,List<Phrase>> constituentMapBackup = (HashMap<Position, List<Phrase>>) this.constituentMap.clone();
+		// positions filled during realisation (e.g. an empty subject or the
+		// passive complement) are only used for this realisation
+		int filledPositions = getFilledPositions();
 		
 		computeSurfaceArgs();
 		computeAgreement();
@@ -1014,19 +1035,21 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 		//computeComplementCase(); //now called immediately before each complement realization
 		realiseConstituents(r);
 		
-		// experimental
-		this.constituentMap = constituentMapBackup;
+		clearPositionsExcept(filledPositions);
 
+		// the first constituent(s) make up the Vorfeld, the others the Mittelfeld
 		String vorfeldText = "";
+		int mittelfeld = 0;
 		if (!this.isSuppressVorfeld() && !this.getForm().equals(Form.IMPERATIVE)) {
-			vorfeldText = this.constituentRealisation.remove(0);
+			vorfeldText = this.constituentRealisation.get(mittelfeld++);
 			vorfeldText = (checkIfCommaIsNeeded(vorfeldText));
 			if (vorfeldText.equals(",")) { // vorfeld has sentential constituent
-				vorfeldText = this.constituentRealisation.remove(0);  // the sentence
-				vorfeldText += this.constituentRealisation.remove(0); // the trailing comma
+				vorfeldText = this.constituentRealisation.get(mittelfeld++);  // the sentence
+				vorfeldText += this.constituentRealisation.get(mittelfeld++); // the trailing comma
 			}
 		}
-		String mittelfeldText = r.realiseList(this.constituentRealisation);
+		String mittelfeldText = r.realiseList(this.constituentRealisation
+				.subList(mittelfeld, this.constituentRealisation.size()));
 		
 		// TODO: temporary hack
 		if (this.negated) {
@@ -1056,6 +1079,19 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 		
 	}
 
+	/*
+	 * (non-Javadoc) the Vorfeld and Mittelfeld are realised on their own, to
+	 * be arranged around the verbs
+	 * 
+	 * @see
+	 * simplenlg.realiser.HeadedPhraseSpec#realise(simplenlg.realiser.Realiser,
+	 * simplenlg.realiser.RealisationBuffer)
+	 */
+	@Override
+	void realise(Realiser r, RealisationBuffer out) {
+		out.appendSpace(realise(r));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -1428,8 +1464,7 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 	 * computeComplementRealisation and realiseConstituents are used instead
 	 */
 	@Override
-	String realiseComplement(Realiser r) {
-		return "";
+	void realiseComplement(Realiser r, RealisationBuffer out) {
 	}
 
 	/*
@@ -1500,10 +1535,10 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 			}
 		}
 		
-		for (Position pos : Position.values()) {
+		for (Position pos : POSITIONS) {
 			if (this.constituentMap.containsKey(pos)) {
-				if (pos.isComplementPosition()) {
-					Collections.sort(this.constituentMap.get(pos), this.complementComparator);
+				if (pos.isComplementPosition() && this.complementComparator != null) {
+					sort(this.constituentMap.get(pos), this.complementComparator);
 				}
 				// case used to be set here
 				// this.constituentMap.put(pos, makeConstituentList(this.constituentMap.get(pos), pos));
@@ -1511,8 +1546,34 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 		}
 	}
 	
+	/*
+	 * Returns the positions which hold a list of constituents, one bit per
+	 * position (by ordinal).
+	 */
+	private int getFilledPositions() {
+		int filled = 0;
+		for (Position pos : this.constituentMap.keySet()) {
+			filled |= 1 << pos.ordinal();
+		}
+		return filled;
+	}
+
+	/*
+	 * Drops the lists of constituents of all positions but the given ones
+	 * (see getFilledPositions()). The lists of the given positions are kept
+	 * as they are.
+	 */
+	private void clearPositionsExcept(int filled) {
+		Iterator<Position> positions = this.constituentMap.keySet().iterator();
+		while (positions.hasNext()) {
+			if ((filled & (1 << positions.next().ordinal())) == 0) {
+				positions.remove();
+			}
+		}
+	}
+
 	private void computeComplementCase() {
-		for (Position pos : Position.values()) {
+		for (Position pos : POSITIONS) {
 			if (pos.isComplementPosition() && this.constituentMap.containsKey(pos)) {
 				DiscourseFunction df = pos.mapToFunction();
 				Case cs = df.getCaseValue();
@@ -1608,6 +1669,24 @@ public class VPPhraseSpec extends HeadedPhraseSpec<Verb> {
 	 * return r.realiseAndList(adverbials); }
 	 */
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see simplenlg.realiser.Spec#copyFields(simplenlg.realiser.RealisationContext)
+	 */
+	@Override
+	void copyFields(RealisationContext context) {
+		super.copyFields(context);
+		this.modals = new ArrayList<Verb>(this.modals);
+		this.constituentMap = context.copyMap(this.constituentMap);
+		this.constituentRealisation = new ArrayList<String>(this.constituentRealisation);
+		this.surfaceSubject = context.copy(this.surfaceSubject);
+		this.passiveComplement = context.copy(this.passiveComplement);
+		Stack<String> components = new Stack<String>();
+		components.addAll(this.vgComponents);
+		this.vgComponents = components;
+	}
+
 	// *****************************************************************************
 	// PRIVATE/PROTECTED UTILITY METHODS
 	// *****************************************************************************
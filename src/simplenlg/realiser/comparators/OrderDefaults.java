@@ -57,6 +57,7 @@
 package simplenlg.realiser.comparators;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import simplenlg.features.Category;
@@ -67,6 +68,13 @@ import simplenlg.features.Position;
  * This class defines the default orderings by category, function and baseform
  * for phrase comparators.
  * 
+ * <P>
+ * The orderings are fixed: they are read once, by
+ * {@link PhraseComparator#DEFAULT}, which all phrases share, so the lists
+ * cannot be modified or replaced. To order the constituents of a phrase
+ * differently, give it a comparator of its own (see
+ * {@link PhraseComparator#defaultInstance()}).
+ * 
  * @author agatt
  * 
  */
@@ -75,14 +83,14 @@ public class OrderDefaults {
 	/**
 	 * This list specifies the linear order of phrases by category.
 	 */
-	public static List<Category> CATEGORY_ORDER = Arrays.asList(
-			Category.CLAUSE, Category.NOUN, Category.PREPOSITION, 
-			Category.ADJECTIVE, Category.ADVERB);
+	public static final List<Category> CATEGORY_ORDER = Collections
+			.unmodifiableList(Arrays.asList(Category.CLAUSE, Category.NOUN,
+					Category.PREPOSITION, Category.ADJECTIVE, Category.ADVERB));
 
 	/**
 	 * This list specifies the linear order of phrases by function
 	 */
-	public static List<DiscourseFunction> FUNCTION_ORDER = Arrays.asList(
+	public static final List<DiscourseFunction> FUNCTION_ORDER = Collections.unmodifiableList(Arrays.asList(
 			DiscourseFunction.FRONT_MODIFIER,
 			DiscourseFunction.SUBJECT,
 			DiscourseFunction.PREMODIFIER,
@@ -91,13 +99,14 @@ public class OrderDefaults {
 			DiscourseFunction.OBJECT,
 			DiscourseFunction.PREP_OBJECT,
 			DiscourseFunction.MODIFIER,
-			DiscourseFunction.POSTMODIFIER);
+			DiscourseFunction.POSTMODIFIER));
 
 	/**
 	 * This list specifies the linear order of phrases by head word. This is
 	 * particularly useful for ordering prepositional phrases (e.g. specifying
 	 * that from-phrases occur prior to to-phrases, etc).
 	 */
-	public static List<String> BASEFORM_ORDER = Arrays.asList("ab", "von", "zu", "nach");
+	public static final List<String> BASEFORM_ORDER = Collections
+			.unmodifiableList(Arrays.asList("ab", "von", "zu", "nach"));
 
 }
@@ -56,8 +56,13 @@
 
 package simplenlg.realiser.comparators;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import simplenlg.features.Category;
 import simplenlg.features.DiscourseFunction;
@@ -74,14 +79,32 @@ import simplenlg.realiser.Phrase;
  * obtained: (a) category; (b) function; (c) baseform. In each case, if the
  * relevant item is not in the list, then a zero value is assumed.
  * 
+ * <P>
+ * The orderings are turned into tables of ranks when they are set, so that a
+ * comparison does not search the lists. The lists are copied when they are
+ * set, so that changing a list afterwards has no effect; the lists returned
+ * by the getters cannot be changed.
+ * 
  * @author agatt
  * 
  */
 public class PhraseComparator implements Comparator<Phrase> {
 
+	/**
+	 * A comparator using the predefined orderings in {@link OrderDefaults},
+	 * which is shared by all phrases which are not given an order of their
+	 * own. Its orderings cannot be changed, and neither can those in
+	 * <code>OrderDefaults</code>, which are only read when this class is
+	 * initialised.
+	 */
+	public static final PhraseComparator DEFAULT = new PhraseComparator(
+			OrderDefaults.CATEGORY_ORDER, OrderDefaults.FUNCTION_ORDER,
+			OrderDefaults.BASEFORM_ORDER, true);
+
 	/**
 	 * Convenience method, which creates a new instance of a phrase comparator
-	 * using the predefined orderings in {@link OrderDefaults}.
+	 * using the predefined orderings in {@link OrderDefaults}. Unlike
+	 * {@link #DEFAULT}, its orderings can be changed.
 	 * 
 	 * @return the created <code>PhraseComparator</code>.
 	 */
@@ -94,6 +117,15 @@ public class PhraseComparator implements Comparator<Phrase> {
 	protected List<DiscourseFunction> _funcOrder;
 	protected List<String> _baseOrder;
 
+	// the position of each category, function (by ordinal) and baseform in
+	// the orderings, -1 for those which are not in them
+	private int[] catRanks;
+	private int[] funcRanks;
+	private Map<String, Integer> baseRanks;
+
+	// true for the shared default comparator
+	private boolean fixed;
+
 	/**
 	 * Construct a new PhraseComparatior with the relevant lists.
 	 * 
@@ -106,9 +138,17 @@ public class PhraseComparator implements Comparator<Phrase> {
 	 */
 	public PhraseComparator(List<Category> catOrder,
 			List<DiscourseFunction> functionOrder, List<String> baseformOrder) {
+		this(catOrder, functionOrder, baseformOrder, false);
+	}
+
+	private PhraseComparator(List<Category> catOrder,
+			List<DiscourseFunction> functionOrder, List<String> baseformOrder,
+			boolean fixed) {
+		this.fixed = false;
 		setBaseformOrder(baseformOrder);
 		setCategoryOrder(catOrder);
 		setFunctionOrder(functionOrder);
+		this.fixed = fixed;
 	}
 
 	/*
@@ -119,55 +159,62 @@ public class PhraseComparator implements Comparator<Phrase> {
 	public int compare(Phrase p1, Phrase p2) {
 		Category c1 = p1.getCategory();
 		Category c2 = p2.getCategory();
+
+		if (c1 != c2) {
+			int r1 = rank(this.catRanks, c1);
+			int r2 = rank(this.catRanks, c2);
+
+			if (r1 >= 0 && r2 >= 0) {
+				return compareRanks(r1, r2);
+			}
+		}
+
 		DiscourseFunction f1 = p1.getDiscourseFunction();
 		DiscourseFunction f2 = p2.getDiscourseFunction();
-		int comparison = 0;
 
-		if (c1 != c2 && this._catOrder.contains(c1)
-				&& this._catOrder.contains(c2)) {
-			comparison = ((Integer) this._catOrder.indexOf(c1))
-					.compareTo(this._catOrder.indexOf(c2));
+		if (f1 != f2) {
+			int r1 = rank(this.funcRanks, f1);
+			int r2 = rank(this.funcRanks, f2);
 
-		} else if (f1 != f2 && this._funcOrder.contains(f1)
-				&& this._funcOrder.contains(f2)) {
-			comparison = ((Integer) this._funcOrder.indexOf(f1))
-					.compareTo(this._funcOrder.indexOf(f2));
+			if (r1 >= 0 && r2 >= 0) {
+				return compareRanks(r1, r2);
+			}
+		}
 
-		} else if (p1 instanceof HeadedPhraseSpec
-				&& p2 instanceof HeadedPhraseSpec) {
+		if (p1 instanceof HeadedPhraseSpec && p2 instanceof HeadedPhraseSpec) {
 			LexicalItem head1 = ((HeadedPhraseSpec<?>) p1).getHead();
 			LexicalItem head2 = ((HeadedPhraseSpec<?>) p2).getHead();
 
 			if (head1 != null && head2 != null) {
-				String base1 = head1.getBaseForm();
-				String base2 = head2.getBaseForm();
+				Integer r1 = this.baseRanks.get(head1.getBaseForm());
+				Integer r2 = this.baseRanks.get(head2.getBaseForm());
 
-				if (this._baseOrder.contains(base1)
-						&& this._baseOrder.contains(base2)) {
-					comparison = ((Integer) this._baseOrder.indexOf(base1))
-							.compareTo(this._baseOrder.indexOf(base2));
+				if (r1 != null && r2 != null) {
+					return compareRanks(r1.intValue(), r2.intValue());
 				}
 			}
-
 		}
 
-		return comparison;
+		return 0;
 	}
 
 	/**
-	 * Set the order of phrases by category
+	 * Set the order of phrases by category. The list is copied, so later
+	 * changes to it are ignored.
 	 * 
 	 * @param categories
 	 *            the category order
 	 */
 	public void setCategoryOrder(List<Category> categories) {
-		this._catOrder = categories;
+		checkFixed();
+		this._catOrder = copy(categories, OrderDefaults.CATEGORY_ORDER);
+		this.catRanks = ranks(categories, Category.values().length);
 	}
 
 	/**
 	 * Get the list representing the ordering by category.
 	 * 
-	 * @return the category ordering
+	 * @return the category ordering, which cannot be changed
 	 */
 	public List<Category> getCategoryOrder() {
 		return this._catOrder;
@@ -176,7 +223,7 @@ public class PhraseComparator implements Comparator<Phrase> {
 	/**
 	 * Get the list representing the ordering by function.
 	 * 
-	 * @return the function ordering
+	 * @return the function ordering, which cannot be changed
 	 */
 	public List<DiscourseFunction> getFunctionOrder() {
 		return this._funcOrder;
@@ -185,30 +232,91 @@ public class PhraseComparator implements Comparator<Phrase> {
 	/**
 	 * Get the list representing the ordering by baseform.
 	 * 
-	 * @return the baseform ordering
+	 * @return the baseform ordering, which cannot be changed
 	 */
 	public List<String> getBaseformOrder() {
 		return this._baseOrder;
 	}
 
 	/**
-	 * Set the order of phrases by discourse function
+	 * Set the order of phrases by discourse function. The list is copied, so
+	 * later changes to it are ignored.
 	 * 
 	 * @param functions
 	 *            the function order
 	 */
 	public void setFunctionOrder(List<DiscourseFunction> functions) {
-		this._funcOrder = functions;
+		checkFixed();
+		this._funcOrder = copy(functions, OrderDefaults.FUNCTION_ORDER);
+		this.funcRanks = ranks(functions, DiscourseFunction.values().length);
 	}
 
 	/**
-	 * Set the order of phrases by baseform.
+	 * Set the order of phrases by baseform. The list is copied, so later
+	 * changes to it are ignored.
 	 * 
 	 * @param forms
 	 *            the baseform order
 	 */
 	public void setBaseformOrder(List<String> forms) {
-		this._baseOrder = forms;
+		checkFixed();
+		this._baseOrder = copy(forms, OrderDefaults.BASEFORM_ORDER);
+		this.baseRanks = new HashMap<String, Integer>();
+
+		if (forms != null) {
+			for (int i = forms.size() - 1; i >= 0; i--) {
+				// the first occurrence counts, as with List.indexOf()
+				this.baseRanks.put(forms.get(i), Integer.valueOf(i));
+			}
+		}
 	}
 
+	private void checkFixed() {
+		if (this.fixed) {
+			throw new UnsupportedOperationException(
+					"The default phrase order cannot be changed");
+		}
+	}
+
+	/*
+	 * Returns an unmodifiable copy of an ordering. The orderings in
+	 * OrderDefaults cannot be changed, and are kept as they are, so that they
+	 * can still be recognised.
+	 */
+	private static <T> List<T> copy(List<T> order, List<T> defaultOrder) {
+		if (order == null || order == defaultOrder) {
+			return order;
+		}
+
+		return Collections.unmodifiableList(new ArrayList<T>(order));
+	}
+
+	/*
+	 * Returns the position of each value (by ordinal) in an ordering, -1 for
+	 * those which are not in it.
+	 */
+	private static int[] ranks(List<? extends Enum<?>> order, int values) {
+		int[] ranks = new int[values];
+		Arrays.fill(ranks, -1);
+
+		if (order != null) {
+			for (int i = order.size() - 1; i >= 0; i--) {
+				Enum<?> value = order.get(i);
+
+				if (value != null) {
+					ranks[value.ordinal()] = i;
+				}
+			}
+		}
+
+		return ranks;
+	}
+
+	private static int rank(int[] ranks, Enum<?> value) {
+		return value == null ? -1 : ranks[value.ordinal()];
+	}
+
+	private static int compareRanks(int r1, int r2) {
+		return r1 < r2 ? -1 : (r1 == r2 ? 0 : 1);
+	}
 }
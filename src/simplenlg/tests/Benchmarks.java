@@ -0,0 +1,358 @@
+package simplenlg.tests;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import simplenlg.features.*;
+import simplenlg.framework.NLGFactory;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.Lexicon;
+import simplenlg.lexicon.db.XMLAccessor;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.lexicon.lexicalitems.Noun;
+import simplenlg.lexicon.lexicalitems.Verb;
+import simplenlg.realiser.*;
+
+
+/**
+ * Micro benchmarks for the hot paths of the realiser: sentence and document
+ * realisation, verb and noun inflection, and lexicon lookups. For each
+ * scenario, the throughput (ops/s) and the bytes allocated per operation are
+ * printed. Each realisation scenario is run on new specs with a plain
+ * realiser, and as <code>.isolated</code> on one spec with an isolated
+ * realiser, which copies the spec first.
+ *
+ * Usage: <code>java simplenlg.tests.Benchmarks [lexicon.xml [regex]]</code>,
+ * where the regex selects scenarios by name. The system properties
+ * <code>bench.warmup</code> and <code>bench.time</code> set the warmup and
+ * measurement time per scenario in milliseconds.
+ */
+public class Benchmarks {
+
+    /**
+     * A single benchmark scenario; {@link #op()} is called repeatedly and
+     * should return its result, so that the work cannot be optimised away.
+     * Before every batch of {@link #BATCH} calls, {@link #prepare()} is called
+     * outside the measured time.
+     */
+    static abstract class Scenario {
+        final String name;
+
+        Scenario(String name) {
+            this.name = name;
+        }
+
+        void prepare() {
+        }
+
+        abstract Object op();
+    }
+
+    /**
+     * A scenario which realises a new spec in every operation, as realising a
+     * spec changes it unless the realiser works on copies. The specs are built
+     * in {@link #prepare()}, so that only the realisation is measured.
+     */
+    static abstract class FreshSpecs extends Scenario {
+        final Spec[] specs = new Spec[BATCH];
+        int next;
+
+        FreshSpecs(String name) {
+            super(name);
+        }
+
+        abstract Spec build();
+
+        abstract Object realise(Spec spec);
+
+        void prepare() {
+            for (int i = 0; i < this.specs.length; i++) {
+                this.specs[i] = build();
+            }
+            this.next = 0;
+        }
+
+        Object op() {
+            return realise(this.specs[this.next++]);
+        }
+    }
+
+    // the number of operations between two clock checks
+    static final int BATCH = 16;
+
+    // collects the results of all operations
+    static int sink;
+
+    static long warmupMillis = Long.getLong("bench.warmup", 2000);
+    static long measureMillis = Long.getLong("bench.time", 3000);
+
+    public static void main(String[] args) throws Exception {
+        String file = args.length > 0 ? args[0] : "res/toy-lexicon.xml";
+        Pattern filter = Pattern.compile(args.length > 1 ? args[1] : ".*");
+
+        System.out.printf("%-32s %14s %14s%n", "scenario", "ops/s", "bytes/op");
+        for (Scenario s : scenarios(file)) {
+            if (filter.matcher(s.name).find()) {
+                run(s);
+            }
+        }
+    }
+
+    static List<Scenario> scenarios(String file) throws Exception {
+        List<Scenario> scenarios = new ArrayList<Scenario>();
+
+        DBLexicon dbLex = new DBLexicon(new XMLAccessor(file));
+        final NLGFactory factory = new NLGFactory(dbLex);
+        final Realiser r = new Realiser(dbLex);
+        // realises the same specs over and over, on a copy of each
+        final Realiser isolated = new Realiser(dbLex);
+        isolated.setIsolatedRealisation(true);
+
+        // realisation
+        realisation(scenarios, "realise.simple", r, isolated, false, new Builder() {
+            Spec build() {
+                return factory.createSentence("die Frau", "hören", "der Mann");
+            }
+        });
+
+        // building the same sentence every time, or binding a template
+        scenarios.add(new Scenario("realise.build") {
+            Object op() {
+                return r.realise(factory.createSentence("die Frau", "hören", "der Mann"));
+            }
+        });
+
+        final SentenceTemplate template = new SentenceTemplate(factory.createSentence(
+                new SlotPhraseSpec("wer"), "hören", new SlotPhraseSpec("wen")));
+        final Map<String, Object> values = new HashMap<String, Object>();
+        values.put("wer", factory.createNounPhrase("die Frau"));
+        values.put("wen", factory.createNounPhrase("der Mann"));
+        scenarios.add(new Scenario("realise.template") {
+            Object op() {
+                return template.realise(r, values);
+            }
+        });
+
+        realisation(scenarios, "realise.subordinate", r, isolated, false, new Builder() {
+            Spec build() {
+                SPhraseSpec s = factory.createSentence("der Mann", "glauben");
+                SPhraseSpec sub = factory.createSentence("die Frau", "verstehen", "das Buch");
+                s.addSubordinate(Position.DEFAULT, "dass", sub);
+                return s;
+            }
+        });
+
+        realisation(scenarios, "realise.passive", r, isolated, false, new Builder() {
+            Spec build() {
+                return passiveSentence(factory);
+            }
+        });
+
+        realisation(scenarios, "realise.interrogative", r, isolated, false, new Builder() {
+            Spec build() {
+                SPhraseSpec s = factory.createSentence("die Frau", "hören", "der Mann");
+                s.setInterrogative(InterrogativeType.JA_NEIN);
+                return s;
+            }
+        });
+
+        realisation(scenarios, "realise.coordinated", r, isolated, false, new Builder() {
+            Spec build() {
+                return new CoordinateSPhraseSpec(
+                        factory.createSentence("die Frau", "hören", "der Mann"),
+                        factory.createSentence("der Mann", "verstehen", "das Buch"));
+            }
+        });
+
+        realisation(scenarios, "realise.document", r, isolated, true, new Builder() {
+            Spec build() {
+                TextSpec document = new TextSpec();
+                TextSpec paragraph = new TextSpec(
+                        factory.createSentence("die Frau", "hören", "der Mann"),
+                        passiveSentence(factory),
+                        factory.createSentence("der Mann", "verstehen", "das Buch"));
+                paragraph.setParagraph();
+                document.addChild(paragraph);
+                document.addChild(paragraph);
+                document.setDocument();
+                return document;
+            }
+        });
+
+        // inflection
+        dbLex.loadData();
+        final List<LexicalItem> verbs = dbLex.getItems(Category.VERB);
+        final List<LexicalItem> nouns = dbLex.getItems(Category.NOUN);
+
+        scenarios.add(new Scenario("inflection.verb") {
+            int next = 0;
+
+            Object op() {
+                Verb v = (Verb) verbs.get(next++ % verbs.size());
+                int length = 0;
+                for (Person p : Person.values()) {
+                    for (NumberAgr n : NumberAgr.values()) {
+                        for (Tense t : Tense.values()) {
+                            length += v.getForm(p, n, t, Form.NORMAL).length();
+                            length += v.getForm(p, n, t, Form.SUBJUNCTIVE).length();
+                            length += v.getForm(p, n, t, Form.SUBJUNCTIVE_II).length();
+                        }
+                    }
+                }
+                return length;
+            }
+        });
+
+        scenarios.add(new Scenario("inflection.noun") {
+            int next = 0;
+
+            Object op() {
+                Noun noun = (Noun) nouns.get(next++ % nouns.size());
+                int length = 0;
+                for (Case c : Case.values()) {
+                    for (NumberAgr n : NumberAgr.values()) {
+                        length += noun.getForm(c, n).length();
+                    }
+                }
+                return length;
+            }
+        });
+
+        // lookups
+        final List<String> stems = new ArrayList<String>();
+        for (LexicalItem item : nouns) {
+            stems.add(item.getBaseForm());
+        }
+
+        Lexicon plainLex = new Lexicon();
+        for (Category cat : new Category[] { Category.NOUN, Category.VERB, Category.ADJECTIVE }) {
+            for (LexicalItem item : dbLex.getItems(cat)) {
+                plainLex.addItem(item);
+            }
+        }
+
+        // only loads the items which are looked up
+        DBLexicon xmlLex = new DBLexicon(new XMLAccessor(file));
+
+        scenarios.add(lookup("lookup.lexicon.hit", plainLex, stems, ""));
+        scenarios.add(lookup("lookup.lexicon.miss", plainLex, stems, "xyz"));
+        scenarios.add(lookup("lookup.dblexicon.hit", xmlLex, stems, ""));
+        scenarios.add(lookup("lookup.dblexicon.miss", xmlLex, stems, "xyz"));
+
+        return scenarios;
+    }
+
+    /** Builds a new spec for a realisation scenario. */
+    static abstract class Builder {
+        abstract Spec build();
+    }
+
+    /**
+     * Adds two scenarios for the specs made by the builder: one which
+     * realises a new spec every time with a plain realiser, the path taken by
+     * most callers, and one which realises the same spec every time with an
+     * isolated realiser, and so includes the cost of copying it.
+     */
+    static void realisation(List<Scenario> scenarios, String name, final Realiser plain,
+            final Realiser isolated, final boolean document, final Builder builder) {
+        scenarios.add(new FreshSpecs(name) {
+            Spec build() {
+                return builder.build();
+            }
+
+            Object realise(Spec spec) {
+                return document ? plain.realiseDocument(spec) : plain.realise(spec);
+            }
+        });
+
+        final Spec shared = builder.build();
+        scenarios.add(new Scenario(name + ".isolated") {
+            Object op() {
+                return document ? isolated.realiseDocument(shared) : isolated.realise(shared);
+            }
+        });
+    }
+
+    static SPhraseSpec passiveSentence(NLGFactory factory) {
+        INFPhraseSpec ip = factory.createInfPhrase("mit|nehmen", true);
+        NPPhraseSpec ob = factory.createNounPhrase("Annemarie");
+        ob.setGender(Gender.FEMININE);
+        ip.setObject(factory.createReferentialNounPhrase(ob));
+        SPhraseSpec s = factory.createSentence(ob, "befehlen", "Karl");
+        s.setPassive(true);
+        s.addSubordinate(ip);
+        return s;
+    }
+
+    static Scenario lookup(String name, final Lexicon lex, final List<String> stems,
+            final String suffix) {
+        return new Scenario(name) {
+            int next = 0;
+
+            Object op() {
+                return lex.getItem(Category.NOUN, stems.get(next++ % stems.size()) + suffix);
+            }
+        };
+    }
+
+    /** The operations run by a loop, and the time and memory they took. */
+    static class Measurement {
+        long ops;
+        long nanos;
+        long bytes;
+    }
+
+    /**
+     * Runs a scenario for the warmup time, then measures it for the
+     * measurement time, and prints the results.
+     */
+    static void run(Scenario s) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocation = null;
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            allocation = (com.sun.management.ThreadMXBean) threads;
+        }
+
+        loop(s, warmupMillis, allocation);
+        Measurement m = loop(s, measureMillis, allocation);
+
+        System.out.printf("%-32s %14.1f %14s%n", s.name, m.ops * 1e9 / m.nanos,
+                allocation == null ? "n/a" : String.valueOf(m.bytes / m.ops));
+    }
+
+    /*
+     * Runs batches of operations until the given time has passed. Only the
+     * operations are measured, not the preparation of each batch.
+     */
+    static Measurement loop(Scenario s, long millis,
+            com.sun.management.ThreadMXBean allocation) {
+        long thread = Thread.currentThread().getId();
+        long end = System.nanoTime() + millis * 1000000L;
+        Measurement m = new Measurement();
+        long now;
+        do {
+            s.prepare();
+            long bytes = allocation != null ? allocation.getThreadAllocatedBytes(thread) : 0;
+            long start = System.nanoTime();
+
+            // check the clock every few operations only
+            for (int i = 0; i < BATCH; i++) {
+                Object result = s.op();
+                sink += (result == null ? 0 : result.hashCode());
+            }
+
+            now = System.nanoTime();
+            m.nanos += now - start;
+            if (allocation != null) {
+                m.bytes += allocation.getThreadAllocatedBytes(thread) - bytes;
+            }
+            m.ops += BATCH;
+        } while (now < end);
+        return m;
+    }
+}
@@ -0,0 +1,99 @@
+package simplenlg.tests;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.features.Category;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.db.BinaryAccessor;
+import simplenlg.lexicon.db.BinaryWriter;
+import simplenlg.lexicon.db.XMLAccessor;
+import simplenlg.lexicon.lexicalitems.Constants;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.lexicon.lexicalitems.Verb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the binary lexicon format: a lexicon written by the
+ * <code>BinaryWriter</code> and read back by the <code>BinaryAccessor</code>
+ * has the same items, under the same IDs, with the same forms.
+ */
+public class BinaryAccessorTest {
+
+    static final String XML = "res/toy-lexicon.xml";
+
+    static DBLexicon loadXML() throws Exception {
+        DBLexicon lexicon = new DBLexicon(new XMLAccessor(XML));
+        lexicon.loadData();
+        return lexicon;
+    }
+
+    static File writeBinary(DBLexicon lexicon) throws Exception {
+        File file = File.createTempFile("lexicon", ".bin");
+        file.deleteOnExit();
+        new BinaryWriter(lexicon).saveToFile(file);
+        return file;
+    }
+
+    /*
+     * The nouns, adjectives and verbs which are written to a binary file,
+     * i.e. all but the verbs every lexicon has
+     */
+    static List<LexicalItem> writtenItems(DBLexicon lexicon) {
+        List<LexicalItem> items = new ArrayList<LexicalItem>();
+        items.addAll(lexicon.getItems(Category.NOUN));
+        items.addAll(lexicon.getItems(Category.ADJECTIVE));
+
+        for (LexicalItem verb : lexicon.getItems(Category.VERB)) {
+            if (!Constants.isConstantVerb((Verb) verb)) {
+                items.add(verb);
+            }
+        }
+
+        return items;
+    }
+
+    @Test
+    public void testLookupByID() throws Exception {
+        DBLexicon source = loadXML();
+        List<LexicalItem> items = writtenItems(source);
+        DBLexicon lexicon = new DBLexicon(new BinaryAccessor(
+                writeBinary(source)));
+
+        for (LexicalItem item : items) {
+            LexicalItem copy = lexicon.getItemByID(item.getID());
+            assertNotNull(copy, item.getID());
+            assertEquals(item.getID(), copy.getID());
+            assertEquals(Paradigms.describe(item), Paradigms.describe(copy));
+
+            // found under its ID, rather than loaded again
+            assertSame(copy, lexicon.getItemByID(item.getID()));
+        }
+
+        // and no item was added twice
+        assertEquals(items.size(), writtenItems(lexicon).size());
+    }
+
+    @Test
+    public void testLoadData() throws Exception {
+        DBLexicon source = loadXML();
+        List<LexicalItem> items = writtenItems(source);
+        DBLexicon lexicon = new DBLexicon(new BinaryAccessor(
+                writeBinary(source)));
+        lexicon.loadData();
+
+        for (LexicalItem item : items) {
+            LexicalItem copy = lexicon.getItemByID(item.getID());
+            assertNotNull(copy, item.getID());
+            assertEquals(Paradigms.describe(item), Paradigms.describe(copy));
+        }
+
+        assertEquals(items.size(), writtenItems(lexicon).size());
+    }
+}
@@ -0,0 +1,130 @@
+package simplenlg.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.framework.BoundedCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the <code>BoundedCache</code>: its bound, which entries it
+ * evicts, its counters, and interning by several threads at once.
+ */
+public class BoundedCacheTest {
+
+    @Test
+    public void testBound() {
+        BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(
+                100);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, "v" + i);
+            assertTrue(cache.size() <= 100, "size: " + cache.size());
+        }
+
+        // the entries added last are kept
+        assertEquals("v999", cache.get(999));
+        assertNull(cache.get(0));
+
+        cache.setCapacity(10);
+        assertTrue(cache.size() <= 10, "size: " + cache.size());
+        assertEquals("v999", cache.get(999));
+
+        cache.setCapacity(0);
+        cache.put(1, "v1");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testRecentlyUsedEntriesAreKept() {
+        BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(
+                100);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "v" + i);
+        }
+
+        // keep using the first ten entries while many others are added
+        for (int j = 0; j < 10; j++) {
+            cache.get(j);
+        }
+
+        for (int i = 100; i < 1000; i++) {
+            cache.put(i, "v" + i);
+
+            for (int j = 0; j < 10; j++) {
+                assertNotNull(cache.get(j), "entry " + j + " after " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testCounters() {
+        BoundedCache<String, String> cache = new BoundedCache<String, String>();
+        cache.put("a", "A");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        // interning is not counted
+        assertEquals("A", cache.intern("a", "other"));
+        assertEquals("B", cache.intern("b", "B"));
+
+        assertEquals(2L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+    }
+
+    @Test
+    public void testConcurrentIntern() throws Exception {
+        final BoundedCache<Integer, Object> cache = new BoundedCache<Integer, Object>(
+                50);
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Object[]>> results = new ArrayList<Future<Object[]>>();
+
+            for (int t = 0; t < 8; t++) {
+                results.add(threads.submit(new Callable<Object[]>() {
+                    public Object[] call() throws Exception {
+                        start.await();
+                        Object[] interned = new Object[40];
+
+                        for (int i = 0; i < interned.length; i++) {
+                            interned[i] = cache.intern(i, new Object());
+                        }
+
+                        return interned;
+                    }
+                }));
+            }
+
+            start.countDown();
+            Object[] first = results.get(0).get(60, TimeUnit.SECONDS);
+
+            // every thread was given the value interned first
+            for (Future<Object[]> result : results) {
+                Object[] interned = result.get(60, TimeUnit.SECONDS);
+
+                for (int i = 0; i < interned.length; i++) {
+                    assertSame(first[i], interned[i], "key " + i);
+                }
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package simplenlg.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.features.Category;
+import simplenlg.lexicon.ConcurrentLexicon;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.DatabaseBackedLexicon;
+import simplenlg.lexicon.db.DBAccessor;
+import simplenlg.lexicon.db.XMLAccessor;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the <code>ConcurrentLexicon</code>: when several threads look up
+ * items which are not yet in the lexicon, each item is retrieved via the
+ * accessor only once, and added only once.
+ */
+public class ConcurrentLexiconTest {
+
+    static final String[] NOUNS = { "Mann", "Hund", "Kuchen", "Mutter",
+            "Wald", "Apfel" };
+
+    static final int THREADS = 8;
+
+    /**
+     * An XML accessor which counts the lookups of each item, and makes each
+     * take some time, so that threads get in each other's way.
+     */
+    static class CountingAccessor implements DBAccessor {
+
+        final XMLAccessor xml = new XMLAccessor("res/toy-lexicon.xml");
+
+        final Map<String, AtomicInteger> calls = new ConcurrentHashMap<String, AtomicInteger>();
+
+        int calls(Category cat, String baseform) {
+            AtomicInteger count = this.calls.get(cat + ":" + baseform);
+            return count == null ? 0 : count.get();
+        }
+
+        public void loadItem(Category cat, String baseform) throws Exception {
+            String key = cat + ":" + baseform;
+            this.calls.putIfAbsent(key, new AtomicInteger());
+            this.calls.get(key).incrementAndGet();
+            Thread.sleep(5);
+            this.xml.loadItem(cat, baseform);
+        }
+
+        public void setLexicon(DatabaseBackedLexicon lex) {
+            this.xml.setLexicon(lex);
+        }
+
+        public boolean hasLexicon() {
+            return this.xml.hasLexicon();
+        }
+
+        public void loadData() throws Exception {
+            this.xml.loadData();
+        }
+
+        public void loadData(Category... categories) throws Exception {
+            this.xml.loadData(categories);
+        }
+
+        public void loadItemByID(String id) throws Exception {
+            this.xml.loadItemByID(id);
+        }
+
+        public void loadItemsByBaseform(String baseform) throws Exception {
+            this.xml.loadItemsByBaseform(baseform);
+        }
+
+        public void connect() throws Exception {
+            this.xml.connect();
+        }
+    }
+
+    /*
+     * Runs the lookup with several threads at once, and returns what each of
+     * them found
+     */
+    static List<Object> runConcurrently(final Callable<Object> lookup)
+            throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        List<Object> results = new ArrayList<Object>();
+
+        try {
+            List<Future<Object>> futures = new ArrayList<Future<Object>>();
+
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(threads.submit(new Callable<Object>() {
+                    public Object call() throws Exception {
+                        start.await();
+                        return lookup.call();
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Object> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        return results;
+    }
+
+    @Test
+    public void testSameKey() throws Exception {
+        final CountingAccessor accessor = new CountingAccessor();
+        final ConcurrentLexicon lexicon = new ConcurrentLexicon(accessor);
+
+        List<Object> found = runConcurrently(new Callable<Object>() {
+            public Object call() {
+                return lexicon.getItem(Category.NOUN, "Mann");
+            }
+        });
+
+        assertNotNull(found.get(0));
+        for (Object item : found) {
+            assertSame(found.get(0), item);
+        }
+
+        assertEquals(1, accessor.calls(Category.NOUN, "Mann"));
+        assertEquals(1, lexicon.getItems("Mann").size());
+    }
+
+    @Test
+    public void testDifferentKeys() throws Exception {
+        final CountingAccessor accessor = new CountingAccessor();
+        final ConcurrentLexicon lexicon = new ConcurrentLexicon(accessor);
+        final AtomicInteger next = new AtomicInteger();
+
+        // every thread looks up all nouns, each starting with another one
+        List<Object> found = runConcurrently(new Callable<Object>() {
+            public Object call() {
+                int offset = next.getAndIncrement();
+                List<LexicalItem> items = new ArrayList<LexicalItem>();
+
+                for (int i = 0; i < NOUNS.length; i++) {
+                    items.add(lexicon.getItem(Category.NOUN, NOUNS[(i + offset)
+                            % NOUNS.length]));
+                }
+
+                return items;
+            }
+        });
+
+        for (String noun : NOUNS) {
+            assertEquals(1, accessor.calls(Category.NOUN, noun), noun);
+            assertEquals(1, lexicon.getItems(noun).size(), noun);
+        }
+
+        for (Object items : found) {
+            for (Object item : (List<?>) items) {
+                LexicalItem lex = (LexicalItem) item;
+                assertSame(lexicon.getItem(Category.NOUN, lex.getBaseForm()),
+                        lex);
+            }
+        }
+
+        assertEquals(NOUNS.length, lexicon.getItems(Category.NOUN).size());
+    }
+
+    @Test
+    public void testNestedLookups() throws Exception {
+        // loading "Schöne" loads "schön", and that loads "Frau"; a lookup of
+        // one of them by another thread may be running at the same time,
+        // and there is only one connection
+        StubDataSource db = SQLAccessorTest.createDatabase();
+        db.setDelay(2);
+        final ConcurrentLexicon lexicon = new ConcurrentLexicon(
+                SQLAccessorTest.createAccessor(db, 1));
+        final String[] ids = { "n3", "a1", "n2" };
+        final AtomicInteger next = new AtomicInteger();
+
+        List<Object> found = runConcurrently(new Callable<Object>() {
+            public Object call() {
+                return lexicon.getItemByID(ids[next.getAndIncrement()
+                        % ids.length]);
+            }
+        });
+
+        for (Object item : found) {
+            assertNotNull(item);
+            assertSame(lexicon.getItemByID(((LexicalItem) item).getID()), item);
+        }
+
+        for (String id : ids) {
+            LexicalItem item = lexicon.getItemByID(id);
+            assertEquals(1, lexicon.getItems(item.getBaseForm()).size(), id);
+        }
+
+        // the same items, with the same derivations, as looked up by one
+        // thread
+        DBLexicon sequential = new DBLexicon(SQLAccessorTest.createAccessor(
+                SQLAccessorTest.createDatabase(), 1));
+        for (String id : ids) {
+            sequential.getItemByID(id);
+        }
+
+        assertEquals(SQLAccessorTest.describe(sequential), SQLAccessorTest
+                .describe(lexicon));
+        assertEquals(1, db.getConnectionCount());
+        assertEquals(0, db.getSharedUses());
+    }
+}
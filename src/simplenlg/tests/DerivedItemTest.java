@@ -0,0 +1,116 @@
+package simplenlg.tests;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.exception.LexiconException;
+import simplenlg.features.Gender;
+import simplenlg.framework.NLGFactory;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.Lexicon;
+import simplenlg.lexicon.db.XMLAccessor;
+import simplenlg.lexicon.lexicalitems.Noun;
+import simplenlg.lexicon.lexicalitems.Verb;
+import simplenlg.realiser.Realiser;
+import simplenlg.realiser.SPhraseSpec;
+import simplenlg.realiser.VPPhraseSpec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the complex verbs and compound nouns interned by a lexicon: they
+ * are shared by all callers, and cannot be changed by any of them.
+ */
+public class DerivedItemTest {
+
+    private Lexicon lexicon = new DBLexicon(new XMLAccessor(
+            "res/toy-lexicon.xml"));
+
+    @Test
+    public void testInterning() {
+        Verb verb = this.lexicon.getComplexVerb("zu|hören");
+        assertSame(verb, this.lexicon.getComplexVerb("zu|hören"));
+        assertTrue(verb.isFrozen());
+
+        Noun noun = this.lexicon.getCompoundNoun("Wetter|mann");
+        assertSame(noun, this.lexicon.getCompoundNoun("Wetter|mann"));
+        assertTrue(noun.isFrozen());
+
+        // switched off, every lookup makes a new item
+        this.lexicon.setDerivedItemCacheSize(0);
+        assertNotSame(verb, this.lexicon.getComplexVerb("zu|hören"));
+    }
+
+    @Test
+    public void testSetParticle() {
+        Verb verb = this.lexicon.getComplexVerb("hören");
+        String particle = verb.getParticle();
+
+        VPPhraseSpec vp = new VPPhraseSpec(verb);
+        vp.setParticle("zu");
+        assertEquals("zu", vp.getHead().getParticle());
+        assertEquals(particle, verb.getParticle());
+
+        // and a new sentence with the verb is not changed either
+        NLGFactory factory = new NLGFactory(this.lexicon);
+        Realiser r = new Realiser(this.lexicon);
+        SPhraseSpec s = factory.createSentence("die Frau", "hören", "der Mann");
+        s.setVerbParticle("zu");
+        r.realise(s);
+
+        assertSame(verb, this.lexicon.getComplexVerb("hören"));
+        assertEquals("Die Frau hört den Mann.", r.realise(factory
+                .createSentence("die Frau", "hören", "der Mann")));
+    }
+
+    @Test
+    public void testFrozenItemsAreNotChanged() {
+        Verb verb = this.lexicon.getComplexVerb("zu|hören");
+
+        try {
+            verb.setParticle("an");
+            fail("particle set");
+        } catch (LexiconException e) {
+            // expected
+        }
+
+        try {
+            verb.setVerbPrefix("an");
+            fail("prefix set");
+        } catch (LexiconException e) {
+            // expected
+        }
+
+        Noun noun = this.lexicon.getCompoundNoun("Wetter|mann");
+        Gender gender = noun.getGender();
+
+        try {
+            noun.setGender(Gender.FEMININE);
+            fail("gender set");
+        } catch (LexiconException e) {
+            // expected
+        }
+
+        try {
+            noun.makeCompound("Schnee");
+            fail("compound made");
+        } catch (LexiconException e) {
+            // expected
+        }
+
+        assertEquals("zu", verb.getVerbPrefix());
+        assertEquals(gender, noun.getGender());
+        assertEquals("Wettermann", noun.getBaseForm());
+
+        // a clone can be changed
+        Verb copy = (Verb) verb.clone();
+        assertFalse(copy.isFrozen());
+        copy.setVerbPrefix("an");
+        assertEquals("an", copy.getVerbPrefix());
+        assertEquals("zu", verb.getVerbPrefix());
+    }
+}
@@ -0,0 +1,208 @@
+package simplenlg.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.features.AdjectiveDegree;
+import simplenlg.features.AdjectiveType;
+import simplenlg.features.Case;
+import simplenlg.features.Category;
+import simplenlg.features.Form;
+import simplenlg.features.Gender;
+import simplenlg.features.NumberAgr;
+import simplenlg.features.Person;
+import simplenlg.features.Tense;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.lexicalitems.Adjective;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.lexicon.lexicalitems.Noun;
+import simplenlg.lexicon.lexicalitems.Verb;
+import simplenlg.lexicon.lexicalitems.Word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the paradigm tables in which nouns, verbs and adjectives keep the
+ * forms they have inflected: every combination of features has a place of its
+ * own, or shares it only with combinations which have the same form, so the
+ * forms taken from the tables are the same as those inflected without them.
+ */
+public class ParadigmTableTest {
+
+    /*
+     * Lists the values of an enumeration, followed by null
+     */
+    static <T> List<T> values(T[] values) {
+        List<T> list = new ArrayList<T>(Arrays.asList(values));
+        list.add(null);
+        return list;
+    }
+
+    /*
+     * Lists every combination of features an item of the category can be
+     * inflected for, including missing values
+     */
+    static List<Object[]> combinations(Category cat) {
+        List<Object[]> combinations = new ArrayList<Object[]>();
+
+        if (cat == Category.NOUN) {
+            for (Case c : values(Case.values())) {
+                for (NumberAgr n : values(NumberAgr.values())) {
+                    combinations.add(new Object[] { c, n });
+                }
+            }
+        } else if (cat == Category.VERB) {
+            for (Person p : values(Person.values())) {
+                for (NumberAgr n : values(NumberAgr.values())) {
+                    for (Tense t : values(Tense.values())) {
+                        for (Form f : values(Form.values())) {
+                            combinations.add(new Object[] { p, n, t, f });
+                        }
+                    }
+                }
+            }
+        } else if (cat == Category.ADJECTIVE) {
+            for (Case c : values(Case.values())) {
+                for (NumberAgr n : values(NumberAgr.values())) {
+                    for (Gender g : values(Gender.values())) {
+                        for (AdjectiveType t : values(AdjectiveType.values())) {
+                            for (AdjectiveDegree d : values(AdjectiveDegree
+                                    .values())) {
+                                combinations.add(new Object[] { c, n, g, t, d });
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return combinations;
+    }
+
+    static String inflect(LexicalItem item, Object[] features) {
+        try {
+            if (item instanceof Noun) {
+                return ((Noun) item).getForm((Case) features[0],
+                        (NumberAgr) features[1]);
+            } else if (item instanceof Verb) {
+                return ((Verb) item).getForm((Person) features[0],
+                        (NumberAgr) features[1], (Tense) features[2],
+                        (Form) features[3]);
+            } else {
+                return ((Adjective) item).getForm((Case) features[0],
+                        (NumberAgr) features[1], (Gender) features[2],
+                        (AdjectiveType) features[3],
+                        (AdjectiveDegree) features[4]);
+            }
+        } catch (RuntimeException e) {
+            return "!" + e.getClass().getSimpleName();
+        }
+    }
+
+    /*
+     * Inflects the item for every combination, first to last or last to
+     * first, and lists the forms in the order of the combinations
+     */
+    static List<String> forms(LexicalItem item, List<Object[]> combinations,
+            boolean backwards) {
+        String[] forms = new String[combinations.size()];
+
+        for (int i = 0; i < forms.length; i++) {
+            int index = backwards ? forms.length - 1 - i : i;
+            forms[index] = Arrays.toString(combinations.get(index)) + ": "
+                    + inflect(item, combinations.get(index));
+        }
+
+        return Arrays.asList(forms);
+    }
+
+    /*
+     * Lists the forms of an item which has not been inflected yet, inflecting
+     * a new copy of it for each combination, so that no form is taken from a
+     * table
+     */
+    static List<String> uncachedForms(LexicalItem item,
+            List<Object[]> combinations) {
+        List<String> forms = new ArrayList<String>();
+
+        for (Object[] features : combinations) {
+            forms.add(Arrays.toString(features) + ": "
+                    + inflect(((Word) item).clone(), features));
+        }
+
+        return forms;
+    }
+
+    /*
+     * Inflects the items of the category for every combination, one after
+     * the other and in the opposite order, and compares the forms with those
+     * inflected without a table: if two combinations with different forms
+     * were kept in the same place, one of them would get the form of the
+     * other
+     */
+    static void assertSameForms(Category cat) throws Exception {
+        List<LexicalItem> items = new ArrayList<LexicalItem>(
+                BinaryAccessorTest.loadXML().getItems(cat));
+        List<LexicalItem> copies = new ArrayList<LexicalItem>(
+                BinaryAccessorTest.loadXML().getItems(cat));
+        List<Object[]> combinations = combinations(cat);
+        int compared = 0;
+
+        assertEquals(items.size(), copies.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            LexicalItem item = items.get(i);
+            LexicalItem copy = copies.get(i);
+            assertEquals(item.getBaseForm(), copy.getBaseForm());
+
+            // the verbs every lexicon shares may have been inflected already
+            if (item == copy) {
+                continue;
+            }
+
+            List<String> expected = uncachedForms(copy, combinations);
+            assertEquals(expected, forms(item, combinations, false), item
+                    .getBaseForm());
+            assertEquals(expected, forms(item, combinations, true), item
+                    .getBaseForm());
+            assertEquals(expected, forms(copy, combinations, true), item
+                    .getBaseForm());
+            compared++;
+        }
+
+        assertTrue(compared > 0, cat.toString());
+    }
+
+    @Test
+    public void testNouns() throws Exception {
+        assertSameForms(Category.NOUN);
+    }
+
+    @Test
+    public void testVerbs() throws Exception {
+        assertSameForms(Category.VERB);
+    }
+
+    @Test
+    public void testAdjectives() throws Exception {
+        assertSameForms(Category.ADJECTIVE);
+    }
+
+    @Test
+    public void testChangedItem() throws Exception {
+        DBLexicon lexicon = BinaryAccessorTest.loadXML();
+        Noun noun = lexicon.getNoun("Mann");
+        assertEquals("Männer", noun.getForm(Case.NOMINATIVE, NumberAgr.PLURAL));
+
+        // a compound is inflected from its new base form
+        Noun compound = (Noun) noun.clone();
+        compound.makeCompound("Schnee");
+        assertEquals("Schneemänner", compound.getForm(Case.NOMINATIVE,
+                NumberAgr.PLURAL));
+        assertEquals("Männer", noun.getForm(Case.NOMINATIVE, NumberAgr.PLURAL));
+    }
+}
@@ -0,0 +1,108 @@
+package simplenlg.tests;
+
+import simplenlg.features.AdjectiveDegree;
+import simplenlg.features.AdjectiveType;
+import simplenlg.features.Case;
+import simplenlg.features.Form;
+import simplenlg.features.Gender;
+import simplenlg.features.NumberAgr;
+import simplenlg.features.Person;
+import simplenlg.features.Tense;
+import simplenlg.lexicon.lexicalitems.Adjective;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.lexicon.lexicalitems.Noun;
+import simplenlg.lexicon.lexicalitems.Verb;
+
+/**
+ * Lists every inflected form of a noun, adjective or verb, so that two items
+ * can be compared form by form.
+ */
+final class Paradigms {
+
+    private Paradigms() {
+    }
+
+    /*
+     * Describes an item by its category and base form, followed by all its
+     * forms, one per line. A form which cannot be built is listed by the
+     * exception thrown instead.
+     */
+    static String describe(LexicalItem item) {
+        StringBuilder forms = new StringBuilder();
+        forms.append(item.getCategory()).append(' ')
+                .append(item.getBaseForm()).append('\n');
+
+        if (item instanceof Noun) {
+            for (Case c : Case.values()) {
+                for (NumberAgr n : NumberAgr.values()) {
+                    add(forms, (Noun) item, c, n);
+                }
+            }
+        } else if (item instanceof Adjective) {
+            for (Case c : Case.values()) {
+                for (NumberAgr n : NumberAgr.values()) {
+                    for (Gender g : Gender.values()) {
+                        for (AdjectiveType t : AdjectiveType.values()) {
+                            for (AdjectiveDegree d : AdjectiveDegree.values()) {
+                                add(forms, (Adjective) item, c, n, g, t, d);
+                            }
+                        }
+                    }
+                }
+            }
+        } else if (item instanceof Verb) {
+            for (Person p : Person.values()) {
+                for (NumberAgr n : NumberAgr.values()) {
+                    for (Tense t : Tense.values()) {
+                        for (Form f : Form.values()) {
+                            add(forms, (Verb) item, p, n, t, f);
+                        }
+                    }
+                }
+            }
+        }
+
+        return forms.toString();
+    }
+
+    private static void add(StringBuilder forms, Noun noun, Case c,
+            NumberAgr n) {
+        forms.append(c).append(' ').append(n).append(": ");
+
+        try {
+            forms.append(noun.getForm(c, n));
+        } catch (RuntimeException e) {
+            forms.append('!').append(e.getClass().getSimpleName());
+        }
+
+        forms.append('\n');
+    }
+
+    private static void add(StringBuilder forms, Adjective adj, Case c,
+            NumberAgr n, Gender g, AdjectiveType t, AdjectiveDegree d) {
+        forms.append(c).append(' ').append(n).append(' ').append(g)
+                .append(' ').append(t).append(' ').append(d).append(": ");
+
+        try {
+            forms.append(adj.getForm(c, n, g, t, d));
+        } catch (RuntimeException e) {
+            forms.append('!').append(e.getClass().getSimpleName());
+        }
+
+        forms.append('\n');
+    }
+
+    private static void add(StringBuilder forms, Verb verb, Person p,
+            NumberAgr n, Tense t, Form f) {
+        forms.append(p).append(' ').append(n).append(' ').append(t)
+                .append(' ').append(f).append(": ");
+
+        try {
+            forms.append(verb.getForm(p, n, t, f));
+        } catch (RuntimeException e) {
+            forms.append('!').append(e.getClass().getSimpleName());
+        }
+
+        forms.append('\n');
+    }
+}
@@ -0,0 +1,136 @@
+package simplenlg.tests;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.features.Category;
+import simplenlg.lexicon.ConcurrentLexicon;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.ParallelLoader;
+import simplenlg.lexicon.db.BinaryAccessor;
+import simplenlg.lexicon.db.XMLAccessor;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests for the <code>ParallelLoader</code>: loading the data of a lexicon
+ * with several threads gives the same lexicon as loading it with one.
+ */
+public class ParallelLoaderTest {
+
+    static final String XML = "res/toy-lexicon.xml";
+
+    static final Category[] CATEGORIES = { Category.NOUN, Category.VERB,
+            Category.ADJECTIVE };
+
+    /*
+     * Lists the items of the lexicon with their IDs and forms, category by
+     * category
+     */
+    static List<String> contents(DBLexicon lexicon) {
+        List<String> contents = new ArrayList<String>();
+
+        for (Category cat : CATEGORIES) {
+            for (LexicalItem item : lexicon.getItems(cat)) {
+                contents.add(item.getID() + " " + Paradigms.describe(item));
+            }
+        }
+
+        return contents;
+    }
+
+    static XMLAccessor xml(boolean useIndex) {
+        XMLAccessor accessor = new XMLAccessor(XML);
+        accessor.setUseIndex(useIndex);
+        return accessor;
+    }
+
+    static void assertSameLoad(DBLexicon sequential, DBLexicon parallel) {
+        sequential.loadData();
+        new ParallelLoader(4).loadData(parallel);
+
+        assertEquals(contents(sequential), contents(parallel));
+        assertEquals(sequential.getNumberOfItems(), parallel.getNumberOfItems());
+    }
+
+    @Test
+    public void testXML() {
+        assertSameLoad(new DBLexicon(xml(false)), new DBLexicon(xml(false)));
+    }
+
+    @Test
+    public void testXMLWithIndex() {
+        assertSameLoad(new DBLexicon(xml(true)), new DBLexicon(xml(true)));
+    }
+
+    @Test
+    public void testBinary() throws Exception {
+        File file = BinaryAccessorTest.writeBinary(BinaryAccessorTest.loadXML());
+        assertSameLoad(new DBLexicon(new BinaryAccessor(file)), new DBLexicon(
+                new BinaryAccessor(file)));
+    }
+
+    @Test
+    public void testLookupsDuringLoad() throws Exception {
+        DBLexicon sequential = new DBLexicon(xml(false));
+        sequential.loadData();
+        final List<LexicalItem> nouns = sequential.getItems(Category.NOUN);
+
+        final ConcurrentLexicon lexicon = new ConcurrentLexicon(xml(false));
+        final AtomicBoolean loaded = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<Object>> readers = new ArrayList<Future<Object>>();
+
+            for (int t = 0; t < 3; t++) {
+                readers.add(threads.submit(new Callable<Object>() {
+                    public Object call() throws Exception {
+                        start.await();
+
+                        do {
+                            for (LexicalItem noun : nouns) {
+                                assertNotNull(lexicon.getItem(Category.NOUN,
+                                        noun.getBaseForm()), noun.getBaseForm());
+                            }
+                        } while (!loaded.get());
+
+                        return null;
+                    }
+                }));
+            }
+
+            start.countDown();
+            new ParallelLoader(threads, 4).loadData(lexicon);
+            loaded.set(true);
+
+            for (Future<Object> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        // no noun was added twice, by the loader and by a lookup
+        for (LexicalItem noun : nouns) {
+            assertEquals(sequential.getItems(noun.getBaseForm()).size(),
+                    lexicon.getItems(noun.getBaseForm()).size(),
+                    noun.getBaseForm());
+        }
+
+        assertEquals(nouns.size(), lexicon.getItems(Category.NOUN).size());
+    }
+}
@@ -0,0 +1,215 @@
+package simplenlg.tests;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.features.Case;
+import simplenlg.features.Gender;
+import simplenlg.features.NumberAgr;
+import simplenlg.framework.NLGFactory;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.Lexicon;
+import simplenlg.lexicon.db.XMLAccessor;
+import simplenlg.lexicon.lexicalitems.Noun;
+import simplenlg.realiser.NPPhraseSpec;
+import simplenlg.realiser.Realiser;
+import simplenlg.realiser.Spec;
+import simplenlg.realiser.comparators.OrderDefaults;
+import simplenlg.realiser.comparators.PhraseComparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the realisation cache of the <code>Realiser</code>: phrases are
+ * only taken from the cache if they are realised the same way, so the output
+ * is the same with the cache as without.
+ */
+public class RealisationCacheTest {
+
+    private Lexicon lexicon = new DBLexicon(new XMLAccessor(
+            "res/toy-lexicon.xml"));
+
+    private NLGFactory factory = new NLGFactory(this.lexicon);
+
+    // realises copies, so the specs are not changed before they are cached
+    private Realiser plain = newRealiser(0);
+
+    private Realiser cached = newRealiser(1000);
+
+    private Realiser newRealiser(int cacheSize) {
+        Realiser r = new Realiser(this.lexicon);
+        r.setRealisationCacheSize(cacheSize);
+        r.setIsolatedRealisation(cacheSize == 0);
+        return r;
+    }
+
+    /*
+     * Realises the specs with the cache, checks each realisation against the
+     * one without the cache, and checks that they are all different
+     */
+    private void assertDistinct(Spec... specs) {
+        Set<String> realisations = new HashSet<String>();
+
+        for (Spec spec : specs) {
+            String expected = this.plain.realise(spec);
+            assertEquals(expected, this.cached.realise(spec));
+            assertTrue(realisations.add(expected), "twice: " + expected);
+        }
+    }
+
+    private NPPhraseSpec man(Case c, NumberAgr n) {
+        NPPhraseSpec np = this.factory.createNounPhrase("der", "Mann");
+        np.setCase(c);
+        np.setNumber(n);
+        return np;
+    }
+
+    private NPPhraseSpec smallDog(Gender g) {
+        NPPhraseSpec np = this.factory.createNounPhrase("ein", "Hund");
+        np.addPremodifier(this.factory.createAdjectivePhrase("klein"));
+        np.setGender(g);
+        return np;
+    }
+
+    private NPPhraseSpec niceSmallDog(String... order) {
+        NPPhraseSpec np = this.factory.createNounPhrase("der", "Hund");
+        np.addPremodifier(this.factory.createAdjectivePhrase("klein"));
+        np.addPremodifier(this.factory.createAdjectivePhrase("schön"));
+        np.setPremodifierOrder(new PhraseComparator(
+                OrderDefaults.CATEGORY_ORDER, OrderDefaults.FUNCTION_ORDER,
+                Arrays.asList(order)));
+        return np;
+    }
+
+    @Test
+    public void testCaseAndNumber() {
+        List<Spec> specs = new ArrayList<Spec>();
+
+        for (Case c : new Case[] { Case.NOMINATIVE, Case.ACCUSATIVE,
+                Case.DATIVE, Case.GENITIVE }) {
+            for (NumberAgr n : NumberAgr.values()) {
+                specs.add(man(c, n));
+            }
+        }
+
+        // the plural of the accusative is the same as of the nominative
+        specs.remove(3);
+        assertDistinct(specs.toArray(new Spec[specs.size()]));
+
+        // and each of them is taken from the cache the next time
+        long hits = this.cached.getRealisationCacheHits();
+        assertEquals("den Männern", this.cached.realise(man(Case.DATIVE,
+                NumberAgr.PLURAL)));
+        assertEquals(hits + 1, this.cached.getRealisationCacheHits());
+    }
+
+    @Test
+    public void testGender() {
+        assertDistinct(smallDog(Gender.MASCULINE), smallDog(Gender.FEMININE),
+                smallDog(Gender.NEUTER));
+    }
+
+    @Test
+    public void testComparator() {
+        assertDistinct(niceSmallDog("klein", "schön"), niceSmallDog("schön",
+                "klein"));
+    }
+
+    @Test
+    public void testChangedOrder() {
+        List<String> order = new ArrayList<String>(Arrays.asList("klein",
+                "schön"));
+        NPPhraseSpec np = niceSmallDog();
+        PhraseComparator comparator = new PhraseComparator(
+                OrderDefaults.CATEGORY_ORDER, OrderDefaults.FUNCTION_ORDER,
+                order);
+        np.setPremodifierOrder(comparator);
+        String expected = this.plain.realise(np);
+        assertEquals(expected, this.cached.realise(np));
+
+        // the comparator keeps the order it was given
+        Collections.reverse(order);
+        assertEquals(expected, this.plain.realise(np));
+        assertEquals(expected, this.cached.realise(np));
+
+        try {
+            comparator.getBaseformOrder().add("alt");
+            fail("order changed");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testItems() {
+        // two items with the same baseform and category, inflected differently
+        Noun entry = this.lexicon.getNoun("Mann");
+        Noun madeUp = new Noun("Mann");
+
+        NPPhraseSpec men = this.factory.createNounPhrase("der", entry);
+        men.setNumber(NumberAgr.PLURAL);
+        NPPhraseSpec madeUpMen = this.factory.createNounPhrase("der", madeUp);
+        madeUpMen.setNumber(NumberAgr.PLURAL);
+
+        assertDistinct(men, madeUpMen);
+    }
+
+    @Test
+    public void testTestMainSentences() throws Exception {
+        List<Method> sentences = new ArrayList<Method>();
+
+        for (int i = 1;; i++) {
+            try {
+                sentences.add(TestMain.class.getMethod("sent" + i));
+            } catch (NoSuchMethodException e) {
+                break;
+            }
+        }
+
+        Realiser r = TestMain.r;
+        List<String> expected = new ArrayList<String>();
+        r.setRealisationCacheSize(0);
+
+        try {
+            for (Method sentence : sentences) {
+                expected.add(realise(sentence));
+            }
+
+            r.setRealisationCacheSize(1000);
+
+            // once to fill the cache, once to use it
+            for (int run = 0; run < 2; run++) {
+                for (int i = 0; i < sentences.size(); i++) {
+                    assertEquals(expected.get(i), realise(sentences.get(i)),
+                            sentences.get(i).getName());
+                }
+            }
+
+            assertTrue(r.getRealisationCacheHits() > 0);
+
+        } finally {
+            r.setRealisationCacheSize(0);
+        }
+    }
+
+    /*
+     * Calls one of the sentences of TestMain, which realise themselves
+     */
+    private static String realise(Method sentence) throws Exception {
+        try {
+            return (String) sentence.invoke(null);
+        } catch (InvocationTargetException e) {
+            return "!" + e.getCause();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package simplenlg.tests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.features.Category;
+import simplenlg.features.ComplementFrame;
+import simplenlg.features.ComplementSlot;
+import simplenlg.lexicon.ConcurrentLexicon;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.Lexicon;
+import simplenlg.lexicon.db.SQLAccessor;
+import simplenlg.lexicon.lexicalitems.ContentWord;
+import simplenlg.lexicon.lexicalitems.DerivationalRelation;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the <code>SQLAccessor</code> against a {@link StubDataSource}:
+ * lookups by several threads over a bounded number of connections, and
+ * loading all entries in bulk.
+ */
+public class SQLAccessorTest {
+
+    // the ids of the entries looked up on demand; the complementiser "c1" is
+    // left out, since single entries are only recognised as complementisers
+    // if their category is "comp" rather than "compl"
+    static final String[] IDS = { "n1", "n2", "n3", "v1", "v2", "v3", "a1",
+            "a2", "d1", "p1", "det1", "cj1", "pr1" };
+
+    static void addEntry(StubDataSource db, String id, String baseform,
+            String category, String hasComp, String agr) {
+        db.addRow("entries", "euid", id, "baseform", baseform, "category",
+                category, "hasComp", hasComp, "infl", "reg", "agr", agr);
+    }
+
+    static void addComplement(StubDataSource db, String id,
+            String transitivity, String comp1, String comp2) {
+        db.addRow("complements", "euid", id, "transitivity", transitivity,
+                "comp1", comp1, "comp1Restr", null, "comp2", comp2,
+                "comp2Restr", null, "gRestr1", null, "gRestr2", null);
+    }
+
+    /*
+     * A small database with an entry of each category. The nominalisation
+     * "Schöne" derives from the adjective "schön", which in turn derives the
+     * noun "Frau", so that loading one of them loads the others.
+     */
+    static StubDataSource createDatabase() {
+        StubDataSource db = new StubDataSource();
+        addEntry(db, "n1", "Haus", "noun", "0", "count");
+        addEntry(db, "n2", "Frau", "noun", "1", "count");
+        addEntry(db, "n3", "Schöne", "noun", "0", "uncount");
+        addEntry(db, "v1", "gehen", "verb", "1", null);
+        addEntry(db, "v2", "haben", "aux", "0", null);
+        addEntry(db, "v3", "können", "modal", "0", null);
+        addEntry(db, "a1", "schön", "adj", "1", null);
+        addEntry(db, "a2", "groß", "adj", "0", null);
+        addEntry(db, "d1", "schnell", "adv", "0", null);
+        addEntry(db, "p1", "mit", "prep", "0", null);
+        addEntry(db, "c1", "dass", "compl", "0", null);
+        addEntry(db, "det1", "dies", "det", "0", "count");
+        addEntry(db, "cj1", "und", "conj", "0", null);
+        addEntry(db, "pr1", "er", "pron", "0", "count");
+        addComplement(db, "n2", "tran", "np", null);
+        addComplement(db, "v1", "intran", "advbl", null);
+        addComplement(db, "v1", "ditran", "np", "np");
+        addComplement(db, "a1", "tran", "pphr(fuer,np)", null);
+        db.addRow("adjectives", "euid", "a1", "positions", "attrib(1),pred",
+                "stative", "1");
+        db.addRow("adjectives", "euid", "a2", "positions", "attrib(2)",
+                "stative", "0");
+        db.addRow("adverbs", "euid", "d1", "positions",
+                "sentence_modifier,verb_modifier", "polarity", "positive");
+        db.addRow("determiners", "euid", "det1", "detType", "demonstrative");
+        db.addRow("conjunctions", "euid", "cj1", "conjType", "coord",
+                "argType", "clause");
+        db.addRow("pronouns", "euid", "pr1", "gender", "pers(masc)", "case1",
+                "subj", "possession", "possessive", "quantification", "univ",
+                "pronType", "negative");
+        db.addRow("derivations", "euid", "n3", "neuid", "a1", "relation",
+                "nominalises");
+        db.addRow("derivations", "euid", "a1", "neuid", "n2", "relation",
+                "nominalisation");
+        return db;
+    }
+
+    static SQLAccessor createAccessor(StubDataSource db, int maxConnections) {
+        SQLAccessor accessor = new SQLAccessor();
+        accessor.setDataSource(db);
+        accessor.setMaxConnections(maxConnections);
+        return accessor;
+    }
+
+    /*
+     * Describes the items in a lexicon, with their complements and
+     * derivations, one per line in the order of their ids
+     */
+    static String describe(Lexicon lexicon) {
+        List<String> lines = new ArrayList<String>();
+
+        for (Category cat : Category.values()) {
+            for (LexicalItem item : lexicon.getItems(cat)) {
+                StringBuilder line = new StringBuilder();
+                line.append(item.getID()).append(' ').append(item);
+
+                if (item instanceof ContentWord) {
+                    for (ComplementFrame frame : ((ContentWord) item)
+                            .getComplementationFrames()) {
+                        line.append(' ').append(frame.getTransitivity());
+
+                        for (ComplementSlot slot : frame.getComplementSlots()) {
+                            line.append(':').append(slot.getType());
+                        }
+                    }
+                }
+
+                for (DerivationalRelation rel : DerivationalRelation.values()) {
+                    Collection<LexicalItem> derivations = item
+                            .getDerivations(rel);
+                    List<String> ids = new ArrayList<String>();
+
+                    if (derivations != null) {
+                        for (LexicalItem derived : derivations) {
+                            ids.add(derived.getID());
+                        }
+                    }
+
+                    Collections.sort(ids);
+                    for (String id : ids) {
+                        line.append(' ').append(rel).append('=').append(id);
+                    }
+                }
+
+                lines.add(line.toString());
+            }
+        }
+
+        Collections.sort(lines);
+        StringBuilder description = new StringBuilder();
+
+        for (String line : lines) {
+            description.append(line).append('\n');
+        }
+
+        return description.toString();
+    }
+
+    /*
+     * Looks up every entry, one after the other, in a lexicon which loads
+     * them on demand
+     */
+    static String lookUpSequentially() throws Exception {
+        DBLexicon lexicon = new DBLexicon(createAccessor(createDatabase(),
+                SQLAccessor.DEFAULT_MAX_CONNECTIONS));
+
+        for (String id : IDS) {
+            lexicon.getItemByID(id);
+        }
+
+        return describe(lexicon);
+    }
+
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        StubDataSource db = createDatabase();
+        db.setDelay(1);
+        final ConcurrentLexicon lexicon = new ConcurrentLexicon(
+                createAccessor(db, 3));
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Object>> lookups = new ArrayList<Future<Object>>();
+
+            for (int t = 0; t < 8; t++) {
+                final int offset = t;
+                lookups.add(threads.submit(new Callable<Object>() {
+                    public Object call() {
+                        for (int i = 0; i < IDS.length; i++) {
+                            String id = IDS[(i + offset) % IDS.length];
+                            assertNotNull(lexicon.getItemByID(id), id);
+                            lexicon.getItems("schön");
+                        }
+
+                        return null;
+                    }
+                }));
+            }
+
+            for (Future<Object> lookup : lookups) {
+                lookup.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        assertEquals(lookUpSequentially(), describe(lexicon));
+        assertEquals(0, db.getSharedUses());
+    }
+
+    @Test
+    public void testConnectionBound() throws Exception {
+        StubDataSource db = createDatabase();
+        db.setDelay(2);
+        final SQLAccessor accessor = createAccessor(db, 2);
+        final ConcurrentLexicon lexicon = new ConcurrentLexicon(accessor);
+        ExecutorService threads = Executors.newFixedThreadPool(6);
+
+        try {
+            List<Future<Object>> lookups = new ArrayList<Future<Object>>();
+
+            for (final String id : IDS) {
+                lookups.add(threads.submit(new Callable<Object>() {
+                    public Object call() {
+                        return lexicon.getItemByID(id);
+                    }
+                }));
+            }
+
+            for (Future<Object> lookup : lookups) {
+                assertNotNull(lookup.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        // connections are kept for later calls, so no more than two are
+        // ever opened
+        assertTrue(db.getConnectionCount() <= 2, "connections: "
+                + db.getConnectionCount());
+        assertTrue(db.getMaxBusyConnections() <= 2, "busy connections: "
+                + db.getMaxBusyConnections());
+        assertEquals(0, db.getSharedUses());
+    }
+
+    @Test
+    public void testNestedLookups() throws Exception {
+        StubDataSource db = createDatabase();
+        final DBLexicon lexicon = new DBLexicon(createAccessor(db, 1));
+        ExecutorService thread = Executors.newSingleThreadExecutor();
+
+        try {
+            // loading "Schöne" loads "schön", and that loads "Frau"; with a
+            // single connection, this only finishes if the nested lookups
+            // use the connection of the outer one
+            Future<LexicalItem> lookup = thread.submit(new Callable<LexicalItem>() {
+                public LexicalItem call() {
+                    return lexicon.getItemByID("n3");
+                }
+            });
+            assertNotNull(lookup.get(60, TimeUnit.SECONDS));
+        } finally {
+            thread.shutdownNow();
+        }
+
+        assertTrue(lexicon.hasItemID("a1"));
+        assertTrue(lexicon.hasItemID("n2"));
+        assertEquals(1, db.getConnectionCount());
+    }
+
+    @Test
+    public void testBulkLoading() throws Exception {
+        Category[][] selections = { Category.values(), { Category.NOUN },
+                { Category.ADJECTIVE, Category.VERB } };
+
+        for (Category[] categories : selections) {
+            assertEquals(load(createDatabase(), false, categories), load(
+                    createDatabase(), true, categories));
+        }
+    }
+
+    @Test
+    public void testBulkLoadingQueries() throws Exception {
+        StubDataSource small = createDatabase();
+        load(small, true, Category.values());
+
+        // the same number of queries for many more entries
+        StubDataSource large = createLargeDatabase();
+        load(large, true, Category.values());
+        assertEquals(small.getQueryCount(), large.getQueryCount());
+
+        StubDataSource perItem = createLargeDatabase();
+        load(perItem, false, Category.values());
+        assertTrue(perItem.getQueryCount() > 500, "queries: "
+                + perItem.getQueryCount());
+    }
+
+    /*
+     * The small database with another 500 nouns, each with a complement and
+     * a derivation
+     */
+    static StubDataSource createLargeDatabase() {
+        StubDataSource db = createDatabase();
+
+        for (int i = 0; i < 500; i++) {
+            addEntry(db, "x" + i, "Ding" + i, "noun", "1", "count");
+            addComplement(db, "x" + i, "tran", "np", null);
+            db.addRow("derivations", "euid", "x" + i, "neuid", "a1",
+                    "relation", "nominalises");
+        }
+
+        return db;
+    }
+
+    static String load(StubDataSource db, boolean bulk, Category... categories)
+            throws Exception {
+        SQLAccessor accessor = createAccessor(db,
+                SQLAccessor.DEFAULT_MAX_CONNECTIONS);
+        accessor.setBulkLoading(bulk);
+        accessor.setBatchSize(1);
+        DBLexicon lexicon = new DBLexicon(accessor);
+        accessor.loadData(categories);
+        return describe(lexicon);
+    }
+}
@@ -0,0 +1,401 @@
+package simplenlg.tests;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+/**
+ * An in-memory lexicon database behind a <code>DataSource</code>, so that the
+ * <code>SQLAccessor</code> can be tested without a database server. It holds
+ * the tables described in the documentation of the <code>SQLAccessor</code>
+ * and understands the queries it sends to them, but no other SQL.
+ *
+ * It counts the connections it opened and the queries it ran, and records how
+ * many connections were running a query at once and whether a connection was
+ * ever used by two threads at the same time. Each query can be made to take
+ * some time, so that threads get in each other's way.
+ */
+public class StubDataSource implements DataSource {
+
+    private static final Pattern SELECT = Pattern.compile(
+            "^select (.*?) from (\\w+)(.*)$", Pattern.DOTALL);
+
+    private static final Pattern SUBQUERY = Pattern.compile(
+            "^\\w+\\.euid in \\(select e\\.euid from entries e where (.*)\\)$",
+            Pattern.DOTALL);
+
+    private static final Pattern CATEGORY_LITERAL = Pattern.compile(
+            "e\\.category=\"(\\w+)\"");
+
+    // rows by table; each row maps lower-case column names to values
+    private Map<String, List<Map<String, String>>> tables;
+
+    private long delayMillis;
+
+    private AtomicInteger connections, queries, busy, maxBusy, sharedUses;
+
+    public StubDataSource() {
+        this.tables = new HashMap<String, List<Map<String, String>>>();
+        this.connections = new AtomicInteger();
+        this.queries = new AtomicInteger();
+        this.busy = new AtomicInteger();
+        this.maxBusy = new AtomicInteger();
+        this.sharedUses = new AtomicInteger();
+    }
+
+    /**
+     * Adds a row to a table.
+     *
+     * @param table
+     *            the table, e.g. <code>entries</code>
+     * @param columnsAndValues
+     *            the name of each column, followed by its value
+     */
+    public void addRow(String table, String... columnsAndValues) {
+        Map<String, String> row = new LinkedHashMap<String, String>();
+
+        for (int i = 0; i < columnsAndValues.length; i += 2) {
+            row.put(columnsAndValues[i].toLowerCase(), columnsAndValues[i + 1]);
+        }
+
+        List<Map<String, String>> rows = this.tables.get(table);
+
+        if (rows == null) {
+            rows = new ArrayList<Map<String, String>>();
+            this.tables.put(table, rows);
+        }
+
+        rows.add(row);
+    }
+
+    /**
+     * Makes every query take the given time.
+     */
+    public void setDelay(long millis) {
+        this.delayMillis = millis;
+    }
+
+    /**
+     * @return the number of connections opened so far
+     */
+    public int getConnectionCount() {
+        return this.connections.get();
+    }
+
+    /**
+     * @return the number of queries run so far
+     */
+    public int getQueryCount() {
+        return this.queries.get();
+    }
+
+    /**
+     * @return the largest number of connections which ran a query at once
+     */
+    public int getMaxBusyConnections() {
+        return this.maxBusy.get();
+    }
+
+    /**
+     * @return the number of queries run on a connection while another thread
+     *         was running a query on it
+     */
+    public int getSharedUses() {
+        return this.sharedUses.get();
+    }
+
+    public Connection getConnection() {
+        this.connections.incrementAndGet();
+        return (Connection) proxy(Connection.class, new ConnectionHandler());
+    }
+
+    public Connection getConnection(String username, String password) {
+        return getConnection();
+    }
+
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    public void setLoginTimeout(int seconds) {
+    }
+
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    public Logger getParentLogger() {
+        return Logger.getLogger("simplenlg.tests");
+    }
+
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw new SQLException("Not a wrapper");
+    }
+
+    public boolean isWrapperFor(Class<?> iface) {
+        return false;
+    }
+
+    /*
+     * Runs a query, counting it and checking that no other thread is using
+     * the connection at the same time
+     */
+    private ResultSet execute(AtomicInteger connectionUsers, String sql,
+            Map<Integer, String> params) throws SQLException {
+        this.queries.incrementAndGet();
+
+        if (connectionUsers.incrementAndGet() > 1) {
+            this.sharedUses.incrementAndGet();
+        }
+
+        int running = this.busy.incrementAndGet();
+        int max = this.maxBusy.get();
+
+        while (running > max && !this.maxBusy.compareAndSet(max, running)) {
+            max = this.maxBusy.get();
+        }
+
+        try {
+            if (this.delayMillis > 0) {
+                Thread.sleep(this.delayMillis);
+            }
+
+            return select(sql, new ArrayList<String>(params.values()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted");
+        } finally {
+            this.busy.decrementAndGet();
+            connectionUsers.decrementAndGet();
+        }
+    }
+
+    private ResultSet select(String sql, List<String> params)
+            throws SQLException {
+        Matcher m = SELECT.matcher(sql.trim().replaceAll(";$", ""));
+
+        if (!m.matches()) {
+            throw new SQLException("Unsupported query: " + sql);
+        }
+
+        List<String> columns = new ArrayList<String>();
+
+        for (String column : m.group(1).split(",")) {
+            column = column.trim().toLowerCase();
+            columns.add(column.substring(column.indexOf('.') + 1));
+        }
+
+        List<Map<String, String>> rows = this.tables.get(m.group(2));
+        List<Map<String, String>> result = new ArrayList<Map<String, String>>();
+        int start = m.group(3).indexOf("where");
+        String where = start < 0 ? null : m.group(3).substring(start + 5)
+                .trim();
+
+        if (rows == null) {
+            // e.g. the verbnet tables
+        } else if (where == null) {
+            result.addAll(rows);
+        } else {
+            Matcher sub = SUBQUERY.matcher(where);
+            Set<String> ids = null;
+
+            if (sub.matches()) {
+                ids = selectEntries(sub.group(1), params);
+            } else if (m.group(2).equals("entries")
+                    && !where.contains("=?")) {
+                ids = selectEntries(where, params);
+            }
+
+            for (Map<String, String> row : rows) {
+                if (ids != null ? ids.contains(row.get("euid")) : matches(
+                        row, where, params)) {
+                    result.add(row);
+                }
+            }
+        }
+
+        return (ResultSet) proxy(ResultSet.class, new ResultSetHandler(
+                columns, result));
+    }
+
+    /*
+     * Gets the ids of the entries satisfying a condition on their category or
+     * id, as used by the queries for all entries of some categories
+     */
+    private Set<String> selectEntries(String condition, List<String> params) {
+        Set<String> categories = new HashSet<String>();
+        Matcher literal = CATEGORY_LITERAL.matcher(condition);
+
+        while (literal.find()) {
+            categories.add(literal.group(1));
+        }
+
+        String column = "category";
+
+        if (condition.contains("e.category in")) {
+            categories.addAll(params);
+        } else if (condition.contains("e.euid in")) {
+            column = "euid";
+            categories.addAll(params);
+        }
+
+        Set<String> ids = new HashSet<String>();
+
+        for (Map<String, String> entry : this.tables.get("entries")) {
+            if (categories.contains(entry.get(column))) {
+                ids.add(entry.get("euid"));
+            }
+        }
+
+        return ids;
+    }
+
+    /*
+     * Checks a row against a condition of the form "x.a=? and x.b=?"
+     */
+    private boolean matches(Map<String, String> row, String condition,
+            List<String> params) {
+        String[] terms = condition.split(" and ");
+
+        for (int i = 0; i < terms.length; i++) {
+            String column = terms[i].trim().replaceAll("=\\?$", "");
+            column = column.substring(column.indexOf('.') + 1).toLowerCase();
+
+            if (!params.get(i).equals(row.get(column))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Object proxy(Class<?> type, InvocationHandler handler) {
+        return Proxy.newProxyInstance(StubDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, handler);
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private AtomicInteger users = new AtomicInteger();
+        private boolean closed;
+
+        public Object invoke(Object proxy, Method method, Object[] args)
+                throws SQLException {
+            String name = method.getName();
+
+            if (name.equals("prepareStatement")) {
+                return proxy(PreparedStatement.class, new StatementHandler(
+                        this.users, (String) args[0]));
+            } else if (name.equals("close")) {
+                this.closed = true;
+                return null;
+            } else if (name.equals("isClosed")) {
+                return this.closed;
+            }
+
+            throw new SQLException("Unsupported: " + name);
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private AtomicInteger connectionUsers;
+        private String sql;
+        private Map<Integer, String> params;
+        private ResultSet results;
+
+        StatementHandler(AtomicInteger connectionUsers, String sql) {
+            this.connectionUsers = connectionUsers;
+            this.sql = sql;
+            this.params = new TreeMap<Integer, String>();
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args)
+                throws SQLException {
+            String name = method.getName();
+
+            if (name.equals("setString")) {
+                this.params.put((Integer) args[0], (String) args[1]);
+                return null;
+            } else if (name.equals("setFetchSize") || name.equals("close")) {
+                return null;
+            } else if (name.equals("execute")) {
+                this.results = StubDataSource.this.execute(
+                        this.connectionUsers, this.sql, this.params);
+                return true;
+            } else if (name.equals("executeQuery")) {
+                this.results = StubDataSource.this.execute(
+                        this.connectionUsers, this.sql, this.params);
+                return this.results;
+            } else if (name.equals("getResultSet")) {
+                return this.results;
+            }
+
+            throw new SQLException("Unsupported: " + name);
+        }
+    }
+
+    private static class ResultSetHandler implements InvocationHandler {
+        private List<String> columns;
+        private List<Map<String, String>> rows;
+        private int position;
+
+        ResultSetHandler(List<String> columns, List<Map<String, String>> rows) {
+            this.columns = columns;
+            this.rows = rows;
+            this.position = -1;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args)
+                throws SQLException {
+            String name = method.getName();
+
+            if (name.equals("next")) {
+                return ++this.position < this.rows.size();
+            } else if (name.equals("close")) {
+                return null;
+            } else if (name.equals("getMetaData")) {
+                return proxy(ResultSetMetaData.class, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method,
+                            Object[] args) {
+                        return ResultSetHandler.this.columns.size();
+                    }
+                });
+            } else if (name.equals("getString") || name.equals("getBoolean")) {
+                String column = args[0] instanceof Integer ? this.columns
+                        .get((Integer) args[0] - 1) : ((String) args[0])
+                        .toLowerCase();
+                String value = this.rows.get(this.position).get(column);
+
+                if (name.equals("getBoolean")) {
+                    return "1".equals(value) || "true".equalsIgnoreCase(value);
+                }
+
+                return value;
+            }
+
+            throw new SQLException("Unsupported: " + name);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package simplenlg.tests;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import simplenlg.features.*;
 import simplenlg.framework.NLGFactory;
 import simplenlg.lexicon.DBLexicon;
@@ -484,4 +489,58 @@ public class TestMain {
         return (r.realise(s));
 
     }
+
+    public static  String sent35(){
+        // the passive sentence of sent25, realised twice in isolated mode
+        INFPhraseSpec ip = factory.createInfPhrase("mit|nehmen", true);
+        NPPhraseSpec ob = factory.createNounPhrase("Annemarie");
+        ob.setGender(Gender.FEMININE);
+        NPPhraseSpec ips = factory.createReferentialNounPhrase(ob);
+        ip.setObject(ips);
+        SPhraseSpec s=factory.createSentence (ob, "befehlen", "Karl");
+        s.setPassive(true);
+        s.addSubordinate(ip);
+
+        Realiser isolated = new Realiser(lex);
+        isolated.setIsolatedRealisation(true);
+        isolated.realise(s);
+
+        return (isolated.realise(s));
+    }
+
+    public static  String sent36(){
+        // independent sentences realised as a batch, in their order
+        List<Spec> batch = new ArrayList<Spec>();
+        SPhraseSpec s1 = factory.createSentence("die Frau", "hören", "der Mann");
+        s1.setTense(Tense.PAST);
+        batch.add(s1);
+        batch.add(factory.createSentence("der Mann", "verstehen", "das Buch"));
+        batch.add(new PPPhraseSpec()); // fails, but does not stop the batch
+        batch.add(factory.createSentence("das Kind", "sehen", "die Frau"));
+
+        StringBuilder erg = new StringBuilder();
+        for (RealisationResult result : r.realiseAll(batch)) {
+            erg.append(result.isFailed() ? "-" : result.getRealisation()).append(" ");
+        }
+
+        return (erg.toString().trim());
+    }
+
+    public static  String sent37(){
+        // one template, realised with different fillers
+        SPhraseSpec s = factory.createSentence(new SlotPhraseSpec("wer"), "hören", new SlotPhraseSpec("wen"));
+        s.setTense(Tense.PAST);
+        SentenceTemplate template = new SentenceTemplate(s);
+
+        StringBuilder erg = new StringBuilder();
+        String[][] fillers = { { "die Frau", "der Mann" }, { "das Kind", "die Frau" } };
+        for (String[] filler : fillers) {
+            Map<String, Object> values = new HashMap<String, Object>();
+            values.put("wer", factory.createNounPhrase(filler[0]));
+            values.put("wen", factory.createNounPhrase(filler[1]));
+            erg.append(template.realise(r, values)).append(" ");
+        }
+
+        return (erg.toString().trim());
+    }
 }
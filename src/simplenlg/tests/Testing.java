@@ -368,4 +368,37 @@ public class Testing {
         assertEquals("Karl hoffte drei Tore, zwei Enten und ein Foto zu schießen.", erg);
         System.out.println(erg);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSentence35() {
+        TestMain tester = new TestMain();
+
+        String erg = tester.sent35();
+
+        // assert statements
+        assertEquals("Karl wird von Annemarie befohlen, sie mitzunehmen.", erg);
+        System.out.println(erg);
+    }
+
+    @Test
+    public void testSentence36() {
+        TestMain tester = new TestMain();
+
+        String erg = tester.sent36();
+
+        // assert statements
+        assertEquals("Die Frau hörte den Mann. Der Mann versteht das Buch. - Das Kind sieht die Frau.", erg);
+        System.out.println(erg);
+    }
+
+    @Test
+    public void testSentence37() {
+        TestMain tester = new TestMain();
+
+        String erg = tester.sent37();
+
+        // assert statements
+        assertEquals("Die Frau hörte den Mann. Das Kind hörte die Frau.", erg);
+        System.out.println(erg);
+    }
+}
@@ -0,0 +1,152 @@
+package simplenlg.tests;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.exception.LexiconException;
+import simplenlg.features.Category;
+import simplenlg.framework.NLGFactory;
+import simplenlg.lexicon.ConcurrentLexicon;
+import simplenlg.lexicon.Lexicon;
+import simplenlg.lexicon.VersionedLexicon;
+import simplenlg.lexicon.lexicalitems.LexicalItem;
+import simplenlg.realiser.Realiser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the <code>VersionedLexicon</code>: new versions are swapped in
+ * while other threads realise text with the current one.
+ */
+public class VersionedLexiconTest {
+
+    static final String XML = "res/toy-lexicon.xml";
+
+    static final int READERS = 4;
+
+    @Test
+    public void testReloadWhileReading() throws Exception {
+        final VersionedLexicon versions = new VersionedLexicon(
+                VersionedLexicon.fromXML(XML));
+        final AtomicBoolean stop = new AtomicBoolean();
+        ExecutorService threads = Executors.newFixedThreadPool(READERS + 1);
+
+        try {
+            List<Future<Integer>> readers = new ArrayList<Future<Integer>>();
+
+            for (int t = 0; t < READERS; t++) {
+                final int reader = t;
+                readers.add(threads.submit(new Callable<Integer>() {
+                    public Integer call() {
+                        long seen = 0;
+                        int runs = 0;
+
+                        while (!stop.get() || runs == 0) {
+                            VersionedLexicon.Version version = versions
+                                    .getVersion();
+                            assertTrue(version.getNumber() >= seen,
+                                    version + " after " + seen);
+                            seen = version.getNumber();
+
+                            Lexicon lexicon = version.getLexicon();
+                            NLGFactory factory = new NLGFactory(lexicon);
+                            assertEquals("Die Frau hört den Mann.",
+                                    new Realiser(lexicon).realise(factory
+                                            .createSentence("die Frau",
+                                                    "hören", "der Mann")));
+
+                            // makes up items for unknown words, with new IDs
+                            assertNotNull(lexicon.getPlural("Quux" + reader
+                                    + "x" + runs));
+                            runs++;
+                        }
+
+                        return runs;
+                    }
+                }));
+            }
+
+            List<VersionedLexicon.Version> loaded = new ArrayList<VersionedLexicon.Version>();
+            loaded.add(versions.getVersion());
+
+            for (int i = 0; i < 5; i++) {
+                VersionedLexicon.Version version = versions
+                        .reloadInBackground(threads).get(60, TimeUnit.SECONDS);
+                assertEquals(loaded.get(loaded.size() - 1).getNumber() + 1,
+                        version.getNumber());
+                assertSame(version, versions.getVersion());
+                loaded.add(version);
+            }
+
+            stop.set(true);
+            for (Future<Integer> reader : readers) {
+                assertTrue(reader.get(60, TimeUnit.SECONDS) > 0);
+            }
+
+            for (VersionedLexicon.Version version : loaded) {
+                Lexicon lexicon = version.getLexicon();
+                assertTrue(lexicon instanceof ConcurrentLexicon,
+                        lexicon.getClass().getName());
+                assertUniqueIDs(lexicon);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedReloadKeepsVersion() {
+        final Callable<ConcurrentLexicon> xml = VersionedLexicon.fromXML(XML);
+        final AtomicBoolean broken = new AtomicBoolean();
+        VersionedLexicon versions = new VersionedLexicon(
+                new Callable<Lexicon>() {
+                    public Lexicon call() throws Exception {
+                        if (broken.get()) {
+                            throw new IllegalStateException("unavailable");
+                        }
+                        return xml.call();
+                    }
+                });
+
+        VersionedLexicon.Version first = versions.getVersion();
+        broken.set(true);
+
+        try {
+            versions.reload();
+            fail("reloaded from a failing source");
+        } catch (LexiconException e) {
+            // expected
+        }
+
+        assertSame(first, versions.getVersion());
+    }
+
+    /*
+     * Checks that every item of the lexicon has an ID no other item has, under
+     * which it is found
+     */
+    static void assertUniqueIDs(Lexicon lexicon) {
+        Set<String> ids = new HashSet<String>();
+
+        for (Category cat : Category.values()) {
+            for (LexicalItem item : lexicon.getItems(cat)) {
+                assertTrue(ids.add(item.getID()), "duplicate ID " + item.getID());
+                assertSame(item, lexicon.getItemByID(item.getID()));
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package simplenlg.tests;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import simplenlg.features.Case;
+import simplenlg.features.Category;
+import simplenlg.features.NumberAgr;
+import simplenlg.lexicon.DBLexicon;
+import simplenlg.lexicon.db.XMLAccessor;
+import simplenlg.lexicon.lexicalitems.Noun;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the index the <code>XMLAccessor</code> keeps next to an XML
+ * lexicon file: it is built once and reused, rebuilt when the file changes,
+ * and left out when it cannot be written or the file cannot be indexed. The
+ * lexicon is the same either way.
+ */
+public class XMLIndexTest {
+
+    static final String XML = "res/toy-lexicon.xml";
+
+    static final String NEW_NOUN = "<noun id=\"M999\" gender=\"masculine\">"
+            + "<stem>Quux</stem><suffix case=\"gen\" num=\"sg\">es</suffix>"
+            + "<suffix case=\"nom\" num=\"pl\">e</suffix></noun>";
+
+    /*
+     * Copies the toy lexicon into a new directory, in the given encoding
+     */
+    static File copyLexicon(String encoding) throws IOException {
+        File dir = File.createTempFile("lexicon", "");
+        dir.delete();
+        dir.mkdir();
+
+        File file = new File(dir, "lexicon.xml");
+        writeXML(file, readXML().replace("encoding=\"UTF-8\"", "encoding=\""
+                + encoding + "\""), encoding);
+        return file;
+    }
+
+    static String readXML() throws IOException {
+        InputStream in = new FileInputStream(XML);
+
+        try {
+            byte[] data = new byte[(int) new File(XML).length()];
+            int read = 0;
+
+            while (read < data.length) {
+                read += in.read(data, read, data.length - read);
+            }
+
+            return new String(data, "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    static void writeXML(File file, String xml, String encoding)
+            throws IOException {
+        OutputStream out = new FileOutputStream(file);
+
+        try {
+            out.write(xml.getBytes(encoding));
+        } finally {
+            out.close();
+        }
+    }
+
+    static File indexOf(File file) {
+        return new File(file.getPath() + ".idx");
+    }
+
+    static void delete(File file) {
+        File[] files = file.listFiles();
+
+        if (files != null) {
+            for (File f : files) {
+                delete(f);
+            }
+        }
+
+        file.delete();
+    }
+
+    static XMLAccessor accessor(File file, boolean useIndex) {
+        XMLAccessor accessor = new XMLAccessor(file);
+        accessor.setUseIndex(useIndex);
+        return accessor;
+    }
+
+    /*
+     * Checks that single lookups and loading the whole lexicon from the file
+     * give the same items with and without the index
+     */
+    static void assertSameLexicon(File file) {
+        DBLexicon indexed = new DBLexicon(accessor(file, true));
+        DBLexicon parsed = new DBLexicon(accessor(file, false));
+
+        for (String noun : ConcurrentLexiconTest.NOUNS) {
+            assertEquals(Paradigms.describe(parsed.getItem(Category.NOUN,
+                    noun)), Paradigms.describe(indexed.getItem(Category.NOUN,
+                    noun)), noun);
+        }
+
+        indexed.loadData();
+        parsed.loadData();
+        List<String> contents = ParallelLoaderTest.contents(parsed);
+        assertTrue(contents.size() > ConcurrentLexiconTest.NOUNS.length);
+        assertEquals(contents, ParallelLoaderTest.contents(indexed));
+    }
+
+    @Test
+    public void testBuildAndReuse() throws Exception {
+        File file = copyLexicon("UTF-8");
+        File index = indexOf(file);
+
+        try {
+            assertFalse(index.exists());
+            assertNotNull(new DBLexicon(accessor(file, true)).getItem(
+                    Category.NOUN, "Mann"));
+            assertTrue(index.isFile());
+
+            // read, not written again, by the next accessor
+            assertTrue(index.setLastModified(10000));
+            assertSameLexicon(file);
+            assertEquals(10000, index.lastModified());
+
+        } finally {
+            delete(file.getParentFile());
+        }
+    }
+
+    @Test
+    public void testStaleIndex() throws Exception {
+        File file = copyLexicon("UTF-8");
+        File index = indexOf(file);
+
+        try {
+            XMLAccessor accessor = accessor(file, true);
+            DBLexicon before = new DBLexicon(accessor);
+            assertNotNull(before.getItem(Category.NOUN, "Mann"));
+            assertTrue(index.setLastModified(10000));
+
+            long modified = file.lastModified();
+            writeXML(file, readXML().replace("</Nouns>", NEW_NOUN
+                    + "</Nouns>"), "UTF-8");
+            assertTrue(file.setLastModified(modified + 2000));
+
+            // the accessor which built the index sees the change
+            Noun noun = (Noun) new DBLexicon(accessor).getItem(Category.NOUN,
+                    "Quux");
+            assertNotNull(noun);
+            assertEquals("Quuxe", noun.getForm(Case.NOMINATIVE,
+                    NumberAgr.PLURAL));
+
+            // and the stored index has been rebuilt for the next one
+            assertTrue(index.lastModified() > 10000);
+            assertSameLexicon(file);
+            assertNotNull(new DBLexicon(accessor(file, true)).getItem(
+                    Category.NOUN, "Quux"));
+
+        } finally {
+            delete(file.getParentFile());
+        }
+    }
+
+    @Test
+    public void testIndexNotWritable() throws Exception {
+        File file = copyLexicon("UTF-8");
+        File index = indexOf(file);
+
+        try {
+            // a directory where the index would be written
+            assertTrue(index.mkdir());
+            writeXML(new File(index, "other"), "", "UTF-8");
+
+            assertSameLexicon(file);
+            assertTrue(index.isDirectory());
+            assertEquals(1, index.list().length);
+
+        } finally {
+            delete(file.getParentFile());
+        }
+    }
+
+    @Test
+    public void testEncodingNotIndexed() throws Exception {
+        File file = copyLexicon("UTF-16");
+        File index = indexOf(file);
+
+        try {
+            assertEquals((byte) 0xFE, readBytes(file)[0]);
+
+            // parsed as a whole instead
+            assertSameLexicon(file);
+            assertFalse(index.exists());
+
+            // with the same items as in UTF-8
+            DBLexicon utf8 = new DBLexicon(accessor(new File(XML), false));
+            DBLexicon utf16 = new DBLexicon(accessor(file, true));
+            utf8.loadData();
+            utf16.loadData();
+            assertEquals(ParallelLoaderTest.contents(utf8), ParallelLoaderTest
+                    .contents(utf16));
+
+        } finally {
+            delete(file.getParentFile());
+        }
+    }
+
+    static byte[] readBytes(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+
+        try {
+            byte[] data = new byte[2];
+            in.read(data);
+            return data;
+        } finally {
+            in.close();
+        }
+    }
+}